@@ -15,6 +15,8 @@ import org.cornutum.tcases.io.AbstractFilter;
 import org.cornutum.tcases.io.TestDefToHtmlFilter;
 import org.cornutum.tcases.io.TestDefToJUnitFilter;
 import org.cornutum.tcases.io.TransformFilter;
+import org.cornutum.tcases.openapi.io.ModelCache;
+import org.cornutum.tcases.openapi.io.ShardManifest;
 import org.cornutum.tcases.openapi.io.TcasesOpenApiIO;
 import org.cornutum.tcases.openapi.resolver.RequestCaseConditionNotifier;
 import org.cornutum.tcases.resolve.ResolverContext;
@@ -34,6 +36,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import static java.util.Collections.emptyList;
 
 /**
  * Generates input models and test models for API clients and servers, based on an OpenAPI v3 compliant API definition.
@@ -274,6 +277,52 @@ public class ApiCommand
    * &nbsp;
    * </TD>
    * <TD>
+   * <NOBR>-K <I>cacheDir</I> </NOBR>
+   * </TD>
+   * <TD>
+   * If <I>-K</I> is defined, input models are stored in the given <I>cacheDir</I> and reused when the same <I>apiDef</I>
+   * is modelled again with the same options. If relative, the <I>cacheDir</I> path is assumed to be relative to the
+   * current working directory. If omitted, or if the <I>apiDef</I> is read from standard input, no cache is used.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
+   * <NOBR>-shard <I>N/M</I> </NOBR>
+   * </TD>
+   * <TD>
+   * If <I>-shard</I> is defined, the API operations are partitioned into <I>M</I> shards, based on a hash of the path and
+   * operation name, and only the operations in shard <I>N</I> are modelled. The shard is appended to the name of the
+   * default <I>outFile</I>. A manifest that lists the operations modelled is written to a file named
+   * <I>B</I><CODE>-Shard-</CODE><I>N</I><CODE>-of-</CODE><I>M</I><CODE>.json</CODE> in the <I>outDir</I>, where <I>B</I>
+   * is the base name of the <I>apiDef</I>. The manifests for all shards can be verified to show that each operation is
+   * modelled exactly once. If omitted, all operations are modelled.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
+   * <NOBR>-ma <I>maxAlternatives</I> </NOBR>
+   * </TD>
+   * <TD>
+   * If <I>-ma</I> is defined, no more than <I>maxAlternatives</I> alternatives are created when expanding the combinations
+   * of "allOf", "anyOf", "oneOf", and "not" assertions for a schema. When this limit is exceeded, a warning is reported
+   * and the remaining alternatives are ignored, so some invalid inputs for the schema may not be modelled. If omitted,
+   * the number of alternatives is unlimited.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
    * <NOBR>-v </NOBR>
    * </TD>
    * <TD>
@@ -412,6 +461,50 @@ public class ApiCommand
           }
         }
 
+      else if( arg.equals( "-K"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        setCacheDir( new File( args[i]));
+        }
+
+      else if( arg.equals( "-shard"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        try
+          {
+          setShard( Shard.parse( args[i]));
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid shard", e);
+          }
+        }
+
+      else if( arg.equals( "-ma"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        try
+          {
+          setMaxAlternatives( Integer.valueOf( args[i]));
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid max alternatives", e);
+          }
+        }
+
       else if( arg.equals( "-v"))
         {
         setShowVersion( true);
@@ -645,6 +738,21 @@ public class ApiCommand
                "              If the 'apiDef' is read from standard input or does not have a recognized extension, the default",
                "              content type is 'json'.",
                "",
+               "  -K cacheDir If -K is defined, input models are stored in the given cacheDir and reused when the same apiDef",
+               "              is modelled again with the same options. If relative, the cacheDir path is assumed to be relative",
+               "              to the current working directory. If omitted, or if the apiDef is read from standard input, no cache",
+               "              is used.",
+               "",
+               "  -shard N/M  If -shard is defined, the API operations are partitioned into M shards, based on a hash of the",
+               "              path and operation name, and only the operations in shard N are modelled. The shard is appended",
+               "              to the name of the default outFile. A manifest that lists the operations modelled is written to",
+               "              a file named B-Shard-N-of-M.json in the outDir. If omitted, all operations are modelled.",
+               "",
+               "  -ma max     If -ma is defined, no more than max alternatives are created when expanding the",
+               "              combinations of allOf, anyOf, oneOf, and not assertions for a schema. When this limit",
+               "              is exceeded, a warning is reported and the remaining alternatives are ignored, so some",
+               "              invalid inputs may not be modelled. If omitted, the number of alternatives is unlimited.",
+               "",
                "  -l logFile  If -l is defined, log output is written to the given file. If omitted,",
                "              log output is written to a file named tcases-api.log in the current working",
                "              directory. If logFile is 'stdout', log output is written to standard output.",
@@ -847,6 +955,56 @@ public class ApiCommand
       return contentType_;
       }
 
+    /**
+     * Changes the directory used to cache input models.
+     */
+    public void setCacheDir( File cacheDir)
+      {
+      cacheDir_ = cacheDir;
+      }
+
+    /**
+     * Returns the directory used to cache input models.
+     */
+    public File getCacheDir()
+      {
+      return cacheDir_;
+      }
+
+    /**
+     * Changes the shard of API operations that are modelled.
+     */
+    public void setShard( Shard shard)
+      {
+      getModelOptions().setShard( shard);
+      }
+
+    /**
+     * Returns the shard of API operations that are modelled.
+     */
+    public Shard getShard()
+      {
+      return getModelOptions().getShard();
+      }
+
+    /**
+     * Changes the maximum number of alternatives created when expanding the combinations of schema assertions.
+     * If null, the number of alternatives is unlimited.
+     */
+    public void setMaxAlternatives( Integer maxAlternatives)
+      {
+      getModelOptions().setMaxAlternatives( maxAlternatives);
+      }
+
+    /**
+     * Returns the maximum number of alternatives created when expanding the combinations of schema assertions.
+     * If null, the number of alternatives is unlimited.
+     */
+    public Integer getMaxAlternatives()
+      {
+      return getModelOptions().getMaxAlternatives();
+      }
+
     /**
      * Changes the input modelling options.
      */
@@ -1154,6 +1312,21 @@ public class ApiCommand
         builder.append( " -T ").append( getContentType());
         }
 
+      if( getCacheDir() != null)
+        {
+        builder.append( " -K ").append( getCacheDir().getPath());
+        }
+
+      if( getShard() != null)
+        {
+        builder.append( " -shard ").append( getShard());
+        }
+
+      if( getMaxAlternatives() != null)
+        {
+        builder.append( " -ma ").append( getMaxAlternatives());
+        }
+
       if( showVersion())
         {
         builder.append( " -v");
@@ -1172,6 +1345,7 @@ public class ApiCommand
     private File transformDef_;
     private Map<String,Object> transformParams_ = new HashMap<String,Object>();
     private String contentType_;
+    private File cacheDir_;
     private ModelOptions modelOptions_;
     private ResolverContext resolverContext_;
     private File workingDir_;
@@ -1251,6 +1425,24 @@ public class ApiCommand
         return this;
         }
 
+      public Builder cacheDir( File cacheDir)
+        {
+        options_.setCacheDir( cacheDir);
+        return this;
+        }
+
+      public Builder shard( Shard shard)
+        {
+        options_.setShard( shard);
+        return this;
+        }
+
+      public Builder maxAlternatives( Integer maxAlternatives)
+        {
+        options_.setMaxAlternatives( maxAlternatives);
+        return this;
+        }
+
       public Builder inputDef()
         {
         options_.setTests( false);
@@ -1376,13 +1568,41 @@ public class ApiCommand
       ? options.getWorkingDir()
       : apiDefFile.getParentFile();
     
-    // Generate requested input definition
-    logger_.info( "Reading API definition from {}", apiDefFile==null? "standard input" : apiDefFile);
-    logger_.info( "Generating an input model based on API {}", options.getModelOptions().getSource().equals( ModelOptions.Source.EXAMPLES)? "examples" : "schemas");
+    // Use a cached input definition, if available
+    ModelCache cache = getModelCache( options, apiDefFile);
     SystemInputDef inputDef =
-      options.isServerTest()
-      ? TcasesOpenApiIO.getRequestInputModel( apiDefFile, options.getContentType(), options.getModelOptions())
-      : TcasesOpenApiIO.getResponseInputModel( apiDefFile, options.getContentType(), options.getModelOptions());
+      Optional.ofNullable( cache)
+      .flatMap( c -> options.isServerTest()? c.getRequestInputModel() : c.getResponseInputModel())
+      .orElse( null);
+
+    if( inputDef == null)
+      {
+      // Generate requested input definition
+      logger_.info( "Reading API definition from {}", apiDefFile==null? "standard input" : apiDefFile);
+      logger_.info( "Generating an input model based on API {}", options.getModelOptions().getSource().equals( ModelOptions.Source.EXAMPLES)? "examples" : "schemas");
+      inputDef =
+        options.isServerTest()
+        ? TcasesOpenApiIO.getRequestInputModel( apiDefFile, options.getContentType(), options.getModelOptions())
+        : TcasesOpenApiIO.getResponseInputModel( apiDefFile, options.getContentType(), options.getModelOptions());
+
+      if( inputDef != null && cache != null)
+        {
+        if( options.isServerTest())
+          {
+          cache.putRequestInputModel( inputDef);
+          }
+        else
+          {
+          cache.putResponseInputModel( inputDef);
+          }
+        }
+      }
+
+    // Record the operations modelled for this shard, even if there are none.
+    if( options.getShard() != null)
+      {
+      writeShardManifest( options.getShard(), inputDef, Optional.ofNullable( options.getOutDir()).orElse( inputDir), apiDefFile);
+      }
 
     if( inputDef == null)
       {
@@ -1400,11 +1620,12 @@ public class ApiCommand
         outputFile =
           new File(
             String.format(
-              "%s%s-%s-%s.json",
+              "%s%s-%s-%s%s.json",
               Optional.ofNullable( apiDefFile.getParent()).map( p -> p + "/").orElse( ""),
               getBaseName( apiDefFile.getName()),
               requestTestCases? "Request" : options.isServerTest()? "Requests" : "Responses",
-              requestTestCases? "Cases" : options.isTests()? "Test" : "Input"));
+              requestTestCases? "Cases" : options.isTests()? "Test" : "Input",
+              Optional.ofNullable( options.getShard()).map( s -> String.format( "-Shard-%s-of-%s", s.getIndex(), s.getCount())).orElse( "")));
         }
       if( outputFile != null)
         {
@@ -1505,5 +1726,45 @@ public class ApiCommand
       }
     }
 
+  /**
+   * Writes the manifest of the operations modelled for the given shard to the given directory.
+   */
+  private static void writeShardManifest( Shard shard, SystemInputDef inputDef, File dir, File apiDefFile)
+    {
+    ShardManifest manifest =
+      inputDef == null
+      ? new ShardManifest( null, shard, emptyList())
+      : ShardManifest.of( shard, inputDef);
+
+    if( !dir.exists() && !dir.mkdirs())
+      {
+      throw new RuntimeException( "Can't create output directory=" + dir);
+      }
+
+    File manifestFile =
+      new File(
+        dir,
+        ShardManifest.getFileName( Optional.ofNullable( apiDefFile).map( f -> getBaseName( f.getName())).orElse( "tcases-api"), shard));
+
+    logger_.info( "Writing manifest for shard {} to {}", shard, manifestFile);
+    manifest.write( manifestFile);
+    }
+
+  /**
+   * Returns the {@link ModelCache} for the given API definition file. Returns null if no cache is used.
+   */
+  private static ModelCache getModelCache( Options options, File apiDefFile)
+    {
+    File cacheDir = options.getCacheDir();
+    return
+      cacheDir == null || apiDefFile == null
+      ? null
+      : new ModelCache(
+        cacheDir.isAbsolute()? cacheDir : new File( options.getWorkingDir(), cacheDir.getPath()),
+        apiDefFile,
+        options.getContentType(),
+        options.getModelOptions());
+    }
+
   private static final Logger logger_ = LoggerFactory.getLogger( ApiCommand.class);
   }
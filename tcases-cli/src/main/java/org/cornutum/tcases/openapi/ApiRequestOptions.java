@@ -0,0 +1,1115 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.cornutum.tcases.HelpException;
+import org.cornutum.tcases.openapi.resolver.RequestCaseConditionNotifier;
+import org.cornutum.tcases.openapi.resolver.RequestTestDef;
+import org.cornutum.tcases.openapi.testwriter.TestSource;
+import org.cornutum.tcases.resolve.ResolverContext;
+import org.cornutum.tcases.util.Notifier;
+
+import static org.cornutum.tcases.CommandUtils.*;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Represents the command line options used by all commands that create request test cases for an OpenAPI v3
+ * compliant API definition, for example, {@link ApiTestCommand} and {@link ApiRunCommand}.
+ *
+ * Each command accepts the following options, in addition to its own.
+ * <P/>
+ * <BLOCKQUOTE>
+ * <CODE>
+ * <TABLE cellspacing="0" cellpadding="8">
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-X</NOBR>
+ * </TD>
+ * <TD>
+ * If specified, request test cases are generated based on the examples specified in the <I>apiDef</I>.
+ * Otherwise, by default, request test cases are created by generating random request input values.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-P paths </NOBR>
+ * </TD>
+ * <TD>
+ * If defined, tests are created only for the specified API resource paths. <I>paths</I> must be a comma-separated list
+ * of resource paths defined in the <I>apiDef</I>.
+ * If omitted, tests are created for all resource paths.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-O operations </NOBR>
+ * </TD>
+ * <TD>
+ * If defined, tests are created only for the specified HTTP methods. <I>operations</I> must be a comma-separated list
+ * of path operations defined in the <I>apiDef</I>.
+ * If omitted, tests are created for all operations.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-xs</NOBR>
+ * </TD>
+ * <TD>
+ * If specified, success cases are excluded from tests.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-xf</NOBR>
+ * </TD>
+ * <TD>
+ * If specified, failure cases are excluded from tests.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-B <I>server</I> </NOBR>
+ * </TD>
+ * <TD>
+ * If defined, specifies the base URI for the API server used by tests.
+ * The <I>server</I> expression has one of the following forms.
+ * If omitted, the default is <I>index=0</I>.
+ * <P/>
+ * <UL>
+ * <LI> <I>index</I>=<I>&lt;integer&gt;</I>
+ * <P>
+ * From the servers array defined in the <I>apiDef</I>, use the URI of the given element.
+ * </P>
+ * </LI>
+ * <LI> <I>contains</I>=<I>&lt;text&gt;</I>
+ * <P>
+ * From the servers array defined in the <I>apiDef</I>, use the URI of the first element with a description
+ * containing the given text.
+ * </P>
+ * </LI>
+ * <LI> <I>uri</I>=<I>&lt;uri&gt;</I>
+ * <P>
+ * Use the specified <I>&lt;uri&gt;</I>.
+ * </P>
+ * </LI>
+ * </UL>
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-V</NOBR>
+ * </TD>
+ * <TD>
+ * If specified, HTTPS requests will connect to the API server without verifying the server
+ * certificate. Otherwise, by default, the API server must present a trusted certificate.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-T <I>contentType</I> </NOBR>
+ * </TD>
+ * <TD>
+ * Defines the content type of the OpenApi definition. The <I>contentType</I> must be one of "json", "yaml", or "yml".
+ * If omitted, the default content type is derived from the <I>apiDef</I> name. If the <I>apiDef</I> is read from standard
+ * input or does not have a recognized extension, the default content type is "json".
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-c M[,R] </NOBR>
+ * </TD>
+ * <TD>
+ * Defines how input modelling and request case resolution conditions are reported. Both <I>M</I> (for modelling conditions) and <I>R</I> (for
+ * resolution conditions) must be one of "log", "fail", or "ignore".
+ * If "log" is specified, conditions are reported using log messages.
+ * If "fail" is specified, any condition will cause an exception. If "ignore" is specified, all conditions
+ * are silently ignored. If <I>R</I> is omitted, the default is "log". If <I>-c</I> is omitted, the default is "log,log".
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-R </NOBR>
+ * </TD>
+ * <TD>
+ * If specified, request test cases are created assuming that the API will strictly enforce exclusion of "readOnly"
+ * properties from request parameters. If omitted, no strict enforcement is assumed.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-r <I>seed</I> </NOBR>
+ * </TD>
+ * <TD>
+ * If defined, use the given random number seed to generate request test case input values.
+ * If omitted, the default random number seed is derived from the <I>apiDef</I> name.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-m <I>maxTries</I> </NOBR>
+ * </TD>
+ * <TD>
+ * Defines the maximum attempts made to resolve a request test case input value before reporting failure.
+ * If omitted, the default value is 10000.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-jr <I>parallelism</I> </NOBR>
+ * </TD>
+ * <TD>
+ * If <I>-jr</I> is defined, up to <I>parallelism</I> request test cases are resolved concurrently, each using its own
+ * random number generator, so the request test cases are the same for any <I>parallelism</I>. But they differ from the
+ * request test cases created when <I>-jr</I> is omitted, in which case all request test cases are resolved sequentially.
+ * </TD>
+ * </TR>
+ *
+ * <TR valign="top">
+ * <TD>
+ * &nbsp;
+ * </TD>
+ * <TD>
+ * <NOBR>-v </NOBR>
+ * </TD>
+ * <TD>
+ * Prints the current command version identifier to standard output.
+ * </TD>
+ * </TR>
+ *
+ * </TABLE>
+ * </CODE>
+ * </BLOCKQUOTE>
+ */
+public abstract class ApiRequestOptions
+  {
+  /**
+   * Creates a new ApiRequestOptions object.
+   */
+  protected ApiRequestOptions()
+    {
+    setWorkingDir( null);
+    setModelOptions( new ModelOptions());
+
+    setResolverContext(
+      ResolverContext.builder()
+      .notifier( RequestCaseConditionNotifier.log())
+      .build());
+    }
+
+  /**
+   * Updates these options from the given command line arguments.
+   */
+  protected void parseArgs( String[] args)
+    {
+    int i;
+
+    // Handle options
+    for( i = 0; i < args.length && args[i].charAt(0) == '-'; i = handleOption( args, i));
+
+    // Handle additional arguments.
+    handleArgs( args, i);
+    }
+
+  /**
+   * Handles the i'th option and return the index of the next argument.
+   */
+  protected int handleOption( String[] args, int i)
+    {
+    String arg = args[i];
+
+    if( arg.equals( "-help"))
+      {
+      throwHelpException();
+      }
+
+    else if( arg.equals( "-X"))
+      {
+      setSource( ModelOptions.Source.EXAMPLES);
+      }
+
+    else if( arg.equals( "-P"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      setPaths( Arrays.asList( args[i].split( " *, *")));
+      }
+
+    else if( arg.equals( "-O"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      setOperations( Arrays.asList( args[i].split( " *, *")));
+      }
+
+    else if( arg.equals( "-xs"))
+      {
+      setSuccessExcluded( true);
+      }
+
+    else if( arg.equals( "-xf"))
+      {
+      setFailureExcluded( true);
+      }
+
+    else if( arg.equals( "-B"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      try
+        {
+        setServerUri( args[i]);
+        }
+      catch( Exception e)
+        {
+        throwUsageException( "Invalid base URI", e);
+        }
+      }
+
+    else if( arg.equals( "-V"))
+      {
+      setServerTrusted( true);
+      }
+
+    else if( arg.equals( "-c"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      setConditionNotifiers( args[i]);
+      }
+
+    else if( arg.equals( "-R"))
+      {
+      setReadOnlyEnforced( true);
+      }
+
+    else if( arg.equals( "-r"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      try
+        {
+        setRandomSeed( Long.valueOf( args[i]));
+        }
+      catch( Exception e)
+        {
+        throwUsageException( "Invalid random seed", e);
+        }
+      }
+
+    else if( arg.equals( "-m"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      try
+        {
+        setMaxTries( Integer.parseInt( args[i]));
+        }
+      catch( Exception e)
+        {
+        throwUsageException( "Invalid max tries", e);
+        }
+      }
+
+    else if( arg.equals( "-T"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      try
+        {
+        setContentType( args[i]);
+        }
+      catch( Exception e)
+        {
+        throwUsageException( "Invalid content type", e);
+        }
+      }
+
+    else if( arg.equals( "-jr"))
+      {
+      i++;
+      if( i >= args.length)
+        {
+        throwMissingValue( arg);
+        }
+      try
+        {
+        setResolverParallelism( Integer.parseInt( args[i]));
+        }
+      catch( Exception e)
+        {
+        throwUsageException( "Invalid resolver parallelism", e);
+        }
+      }
+
+    else if( arg.equals( "-v"))
+      {
+      setShowVersion( true);
+      }
+
+    else
+      {
+      throwUsageException( String.format( "Unknown option: %s", arg));
+      }
+
+    return i + 1;
+    }
+
+  /**
+   * Handles the non-option arguments i, i+1, ...
+   */
+  protected void handleArgs( String[] args, int i)
+    {
+    int nargs = args.length - i;
+
+    if( nargs > 1)
+      {
+      throwUsageException( String.format( "Unexpected argument: %s", args[i+1]));
+      }
+
+    if( nargs > 0)
+      {
+      setApiDef( new File( args[i]));
+      }
+    }
+
+  /**
+   * Throws a HelpException after printing usage information to standard error.
+   */
+  protected void throwHelpException()
+    {
+    printUsage();
+    throw new HelpException();
+    }
+
+  /**
+   * Prints usage information to standard error.
+   */
+  protected void printUsage()
+    {
+    for( String line : getUsage())
+      {
+      System.err.println( line);
+      }
+
+    for( String line :
+           new String[] {
+             "  -X              If specified, request test cases are generated based on the examples specified in the",
+             "                  apiDef. Otherwise, by default, request test cases are created by generating random",
+             "                  request input values.",
+             "",
+             "  -P paths        If defined, tests are created only for the specified API resource paths. The paths",
+             "                  option must be a comma-separated list of resource paths defined in the apiDef. If",
+             "                  omitted, tests are created for all resource paths.",
+             "",
+             "  -O operations   If defined, tests are created only for the specified HTTP methods. The operations",
+             "                  option must be a comma-separated list of path operations defined in the apiDef. If",
+             "                  omitted, tests are created for all operations.",
+             "",
+             "  -xs             If specified, success cases are excluded from tests.",
+             "",
+             "  -xf             If specified, failure cases are excluded from tests.",
+             "",
+             "  -B server       If defined, specifies the base URI for the API server used by tests. The server",
+             "                  expression has one of the following forms. If omitted, the default is index=0.",
+             "",
+             "                  index=<integer>",
+             "                       From the servers array defined in the apiDef, use the URI of the given element.",
+             "",
+             "                  contains=<text>",
+             "                       From the servers array defined in the apiDef, use the URI of the first element",
+             "                       with a description containing the given text.",
+             "",
+             "                   uri=<uri>",
+             "                       Use the specified <uri>.",
+             "",
+             "  -V              If specified, HTTPS requests will connect to the API server without verifying",
+             "                  the server certificate. Otherwise, by default, the API server must present a trusted",
+             "                  certificate.",
+             "",
+             "  -T contentType  Defines the content type of the OpenApi definition. The contentType must be one",
+             "                  of 'json', 'yaml', or 'yml'. If omitted, the default content type is derived from the",
+             "                  apiDef name. If the apiDef is read from standard input or does not have a recognized",
+             "                  extension, the default content type is 'json'.",
+             "",
+             "  -c M[,R]        Defines how input modelling and request case resolution conditions are reported.",
+             "                  Both M (for modelling conditions) and R (for resolution conditions) must be one of",
+             "                  'log', 'fail', or 'ignore'. If 'log' is specified, conditions are reported using log",
+             "                  messages. If 'fail' is specified, any condition will cause an exception. If 'ignore'",
+             "                  is specified, all conditions are silently ignored. If R is omitted, the default is",
+             "                  'log'. If -c is omitted, the default is 'log,log'.",
+             "",
+             "  -R              If specified, request test cases are created assuming that the API will strictly",
+             "                  enforce exclusion of 'readOnly' properties from request parameters. If omitted, no",
+             "                  strict enforcement is assumed.",
+             "",
+             "  -r seed         If defined, use the given random number seed to generate request test case input",
+             "                  values. If omitted, the default random number seed is derived from the apiDef name.",
+             "",
+             "  -m maxTries     Defines the maximum attempts made to resolve a request test case input value before",
+             "                  reporting failure. If omitted, the default value is 10000.",
+             "",
+             "  -jr parallelism If -jr is defined, up to parallelism request test cases are resolved concurrently, each",
+             "                  using its own random number generator, so the request test cases are the same for any",
+             "                  parallelism. But they differ from the request test cases created when -jr is omitted,",
+             "                  in which case all request test cases are resolved sequentially.",
+             "",
+             "  -l logFile      If -l is defined, log output is written to the given file. If omitted,",
+             String.format( "                  log output is written to a file named %s.log in the current working", getCommandName()),
+             "                  directory. If logFile is 'stdout', log output is written to standard output.",
+             "",
+             "  -L logLevel     Defines the level for log output. If omitted, the default level is INFO.",
+             "                  The configuration and levels used for logging are defined by the Logback system.",
+             "",
+             "  -v              Prints the current command version identifier to standard output."
+           })
+      {
+      System.err.println( line);
+      }
+    }
+
+  /**
+   * Returns the name of the command that uses these options.
+   */
+  protected abstract String getCommandName();
+
+  /**
+   * Returns the usage information that is specific to the command that uses these options, ending with
+   * the description of each command-specific option.
+   */
+  protected abstract String[] getUsage();
+
+  /**
+   * Changes the source of API input definitions.
+   */
+  public void setSource( ModelOptions.Source source)
+    {
+    getModelOptions().setSource( source);
+    }
+
+  /**
+   * Changes the source of API input definitions.
+   */
+  public void setSource( String source)
+    {
+    setSource( ModelOptions.Source.valueOf( String.valueOf( source).toUpperCase()));
+    }
+
+  /**
+   * Returns the source of API input definitions.
+   */
+  public ModelOptions.Source getSource()
+    {
+    return getModelOptions().getSource();
+    }
+
+  /**
+   * Changes request paths for which tests are created.
+   */
+  public void setPaths( Iterable<String> paths)
+    {
+    getModelOptions().setPaths( paths);
+    }
+
+  /**
+   * Returns request paths for which tests are created.
+   */
+  public Set<String> getPaths()
+    {
+    return getModelOptions().getPaths();
+    }
+
+  /**
+   * Changes request path operations for which tests are created.
+   */
+  public void setOperations( Iterable<String> operations)
+    {
+    getModelOptions().setOperations( operations);
+    }
+
+  /**
+   * Returns request path operations for which tests are created.
+   */
+  public Set<String> getOperations()
+    {
+    return getModelOptions().getOperations();
+    }
+
+  /**
+   * Changes if success cases are excluded from tests.
+   */
+  public void setSuccessExcluded( boolean excluded)
+    {
+    excludeSuccess_ = excluded;
+    }
+
+  /**
+   * Returns if success cases are excluded from tests.
+   */
+  public boolean isSuccessExcluded()
+    {
+    return excludeSuccess_;
+    }
+
+  /**
+   * Changes if failure cases are excluded from tests.
+   */
+  public void setFailureExcluded( boolean excluded)
+    {
+    excludeFailure_ = excluded;
+    }
+
+  /**
+   * Returns if failure cases are excluded from tests.
+   */
+  public boolean isFailureExcluded()
+    {
+    return excludeFailure_;
+    }
+
+  /**
+   * Changes the expression that identifies the API server URI used by tests.
+   */
+  public void setServerUri( String serverExpr) throws Exception
+    {
+    if( StringUtils.isNotBlank( serverExpr))
+      {
+      Matcher serverMatcher = serverExprPattern_.matcher( serverExpr);
+      if( !serverMatcher.matches())
+        {
+        throw new IllegalArgumentException( String.format( "'%s' is not a valid server expression", serverExpr));
+        }
+
+      String key = serverMatcher.group(1);
+      String value = serverMatcher.group(2);
+      if( "index".equals( key))
+        {
+        getModelOptions().setServerSelector( ServerSelector.atIndex( Integer.valueOf( value)));
+        }
+      else if( "contains".equals( key))
+        {
+        getModelOptions().setServerSelector( ServerSelector.containing( value));
+        }
+      else
+        {
+        getModelOptions().setServerUri( new URI( value));
+        }
+      }
+    }
+
+  /**
+   * Changes if HTTPS requests will connect to the API server without verifying the server certificate.
+   */
+  public void setServerTrusted( boolean trusted)
+    {
+    serverTrusted_ = trusted;
+    }
+
+  /**
+   * Returns if HTTPS requests will connect to the API server without verifying the server certificate.
+   */
+  public boolean isServerTrusted()
+    {
+    return serverTrusted_;
+    }
+
+  /**
+   * Changes the OpenApi definition file content type.
+   */
+  public void setContentType( String option)
+    {
+    String contentType =
+      Optional.ofNullable( option)
+      .map( String::toLowerCase)
+      .filter( type -> "json".equals( type) || "yml".equals( type) || "yaml".equals( type))
+      .orElse( null);
+
+    if( option != null && contentType == null)
+      {
+      throw new IllegalArgumentException( String.format( "'%s' is not a valid content type", option));
+      }
+
+    contentType_ = contentType;
+    }
+
+  /**
+   * Returns the OpenApi definition file content type.
+   */
+  public String getContentType()
+    {
+    return contentType_;
+    }
+
+  /**
+   * Changes the maximum number of request test cases resolved concurrently. If 0, all request test cases
+   * are resolved sequentially.
+   */
+  public void setResolverParallelism( int parallelism)
+    {
+    getResolverContext().setParallelism( parallelism);
+    }
+
+  /**
+   * Returns the maximum number of request test cases resolved concurrently. If 0, all request test cases
+   * are resolved sequentially.
+   */
+  public int getResolverParallelism()
+    {
+    return getResolverContext().getParallelism();
+    }
+
+  /**
+   * Changes the input modelling options.
+   */
+  public void setModelOptions( ModelOptions modelOptions)
+    {
+    modelOptions_ = modelOptions;
+    }
+
+  /**
+   * Returns the input modelling options.
+   */
+  public ModelOptions getModelOptions()
+    {
+    return modelOptions_;
+    }
+
+  /**
+   * Changes the request case resolution options.
+   */
+  public void setResolverContext( ResolverContext resolverContext)
+    {
+    resolverContext_ = resolverContext;
+    }
+
+  /**
+   * Returns the request case resolution options.
+   */
+  public ResolverContext getResolverContext()
+    {
+    return resolverContext_;
+    }
+
+  /**
+   * Changes the random number generator seed for request case resolution.
+   */
+  public void setRandomSeed( Long seed)
+    {
+    randomSeed_ = seed;
+    if( seed != null)
+      {
+      getResolverContext().setRandom( new Random( seed));
+      }
+    }
+
+  /**
+   * Returns the random number generator seed for request case resolution.
+   */
+  public Long getRandomSeed()
+    {
+    return randomSeed_;
+    }
+
+  /**
+   * Returns the default random number generator seed for request case resolution.
+   */
+  public Long getDefaultRandomSeed()
+    {
+    return
+      Optional.ofNullable( getApiDef())
+      .map( def -> (long) def.getName().hashCode())
+      .orElse( new Random().nextLong());
+    }
+
+  /**
+   * Changes the maximum attempts made to resolve a request test case input value before reporting failure..
+   */
+  public void setMaxTries( int maxTries)
+    {
+    getResolverContext().setMaxTries( maxTries);
+    }
+
+  /**
+   * Returns the maximum attempts made to resolve a request test case input value before reporting failure..
+   */
+  public int getMaxTries()
+    {
+    return getResolverContext().getMaxTries();
+    }
+
+  /**
+   * Changes condition notifiers for input modelling and request case resolution conditions.
+   */
+  public void setConditionNotifiers( String notifierList)
+    {
+    String[] notifiers = notifierList.split( ",", -1);
+
+    String modelNotifier = notifiers.length > 0? StringUtils.trimToNull( notifiers[0]) : null;
+    setOnModellingCondition( modelNotifier);
+
+    String resolveNotifier = notifiers.length > 1? StringUtils.trimToNull( notifiers[1]) : null;
+    setOnResolverCondition( resolveNotifier);
+    }
+
+  /**
+   * Changes the input modelling condition notifier.
+   */
+  public void setOnModellingCondition( String notifier)
+    {
+    getModelOptions().setConditionNotifier(
+      Optional.ofNullable(
+        notifier == null || "log".equals( notifier)?
+        ModelConditionNotifier.log() :
+
+        "fail".equals( notifier)?
+        ModelConditionNotifier.fail() :
+
+        "ignore".equals( notifier)?
+        Notifier.ignore() :
+
+        null)
+
+      .orElseThrow( () -> getUsageException( "Unknown condition notifier: " + notifier, null)));
+    }
+
+  /**
+   * Changes the request case resolution condition notifier.
+   */
+  public void setOnResolverCondition( String notifier)
+    {
+    getResolverContext().setNotifier(
+      Optional.ofNullable(
+        notifier == null || "log".equals( notifier)?
+        RequestCaseConditionNotifier.log() :
+
+        "fail".equals( notifier)?
+        RequestCaseConditionNotifier.fail() :
+
+        "ignore".equals( notifier)?
+        Notifier.ignore() :
+
+        null)
+
+      .orElseThrow( () -> getUsageException( "Unknown condition notifier: " + notifier, null)));
+    }
+
+  /**
+   * Changes if "readOnly" properties are strictly enforced.
+   */
+  public void setReadOnlyEnforced( boolean enforced)
+    {
+    getModelOptions().setReadOnlyEnforced( enforced);
+    }
+
+  /**
+   * Changes the Open API v3 API definition file
+   */
+  public void setApiDef( File apiDef)
+    {
+    apiDef_ = apiDef;
+    }
+
+  /**
+   * Returns the Open API v3 API definition file
+   */
+  public File getApiDef()
+    {
+    return apiDef_;
+    }
+
+  /**
+   * Changes the current working directory used to complete relative path names.
+   */
+  public void setWorkingDir( File workingDir)
+    {
+    workingDir_ =
+      workingDir == null
+      ? new File( ".")
+      : workingDir;
+    }
+
+  /**
+   * Returns the current working directory used to complete relative path names.
+   */
+  public File getWorkingDir()
+    {
+    return workingDir_;
+    }
+
+  /**
+   * Changes if the current version should be shown.
+   */
+  public void setShowVersion( boolean showVersion)
+    {
+    showVersion_ = showVersion;
+    }
+
+  /**
+   * Returns if the current version should be shown.
+   */
+  public boolean showVersion()
+    {
+    return showVersion_;
+    }
+
+  /**
+   * Returns the {@link TestSource} defined by these options for the given request cases.
+   */
+  public TestSource getTestSource( RequestTestDef testDef)
+    {
+    TestSource testSource = new TestSource( testDef);
+    testSource.setPaths( getPaths());
+    testSource.setOperations( getOperations());
+    testSource.setSuccessIncluded( !isSuccessExcluded());
+    testSource.setFailureIncluded( !isFailureExcluded());
+    return testSource;
+    }
+
+  /**
+   * Appends the command line arguments for the options that are specific to the command that uses these options.
+   */
+  protected abstract void appendOptions( StringBuilder builder);
+
+  @Override
+  public String toString()
+    {
+    StringBuilder builder = new StringBuilder();
+
+    Optional.of( getSource()).filter( s -> ModelOptions.Source.EXAMPLES.equals( s)).ifPresent( g -> builder.append( " -X"));
+    appendOptions( builder);
+    Optional.ofNullable( getPaths()).ifPresent( paths -> builder.append( " -P ").append( paths.stream().collect( joining( ","))));
+    Optional.ofNullable( getOperations()).ifPresent( operations -> builder.append( " -O ").append( operations.stream().collect( joining( ","))));
+    if( isSuccessExcluded()) builder.append( " -xs");
+    if( isFailureExcluded()) builder.append( " -xf");
+    if( isServerTrusted()) builder.append( " -V");
+    builder.append( " -c ").append( String.format( "%s,%s", getModelOptions().getConditionNotifier(), getResolverContext().getNotifier()));
+    Optional.of( getModelOptions()).filter( ModelOptions::isReadOnlyEnforced).ifPresent( o -> builder.append( " -R"));
+    builder.append( " -m ").append( getMaxTries());
+    Optional.ofNullable( getRandomSeed()).ifPresent( seed -> builder.append( " -r ").append( seed));
+    Optional.ofNullable( getContentType()).ifPresent( content -> builder.append( " -T ").append( content));
+    Optional.of( getResolverParallelism()).filter( parallelism -> parallelism > 0).ifPresent( parallelism -> builder.append( " -jr ").append( parallelism));
+
+    if( showVersion())
+      {
+      builder.append( " -v");
+      }
+
+    Optional.ofNullable( getApiDef()).ifPresent( apiDef -> builder.append( " ").append( apiDef.getPath()));
+
+    return builder.toString();
+    }
+
+  private File apiDef_;
+  private String contentType_;
+  private ModelOptions modelOptions_;
+  private ResolverContext resolverContext_;
+  private File workingDir_;
+  private boolean showVersion_;
+  private Long randomSeed_;
+  private boolean serverTrusted_;
+  private boolean excludeSuccess_;
+  private boolean excludeFailure_;
+
+  private static final Pattern serverExprPattern_ = Pattern.compile( "(index|contains|uri)=(.+)");
+
+  /**
+   * Builds the options common to all commands that create request test cases.
+   */
+  @SuppressWarnings("unchecked")
+  public static abstract class BaseBuilder<T extends BaseBuilder<T>>
+    {
+    /**
+     * Returns the {@link ApiRequestOptions} instance for this builder.
+     */
+    protected abstract ApiRequestOptions getOptions();
+
+    public T apiDef( File apiDef)
+      {
+      getOptions().setApiDef( apiDef);
+      return (T) this;
+      }
+
+    public T source( ModelOptions.Source source)
+      {
+      getOptions().setSource( source);
+      return (T) this;
+      }
+
+    public T paths( String... paths)
+      {
+      getOptions().setPaths( Arrays.asList( paths));
+      return (T) this;
+      }
+
+    public T operations( String... operations)
+      {
+      getOptions().setOperations( Arrays.asList( operations));
+      return (T) this;
+      }
+
+    public T successExcluded( boolean excluded)
+      {
+      getOptions().setSuccessExcluded( excluded);
+      return (T) this;
+      }
+
+    public T failureExcluded( boolean excluded)
+      {
+      getOptions().setFailureExcluded( excluded);
+      return (T) this;
+      }
+
+    public T serverUri( String serverExpr) throws Exception
+      {
+      getOptions().setServerUri( serverExpr);
+      return (T) this;
+      }
+
+    public T serverTrusted( boolean trusted)
+      {
+      getOptions().setServerTrusted( trusted);
+      return (T) this;
+      }
+
+    public T serverTrusted()
+      {
+      return serverTrusted( true);
+      }
+
+    public T contentType( String type)
+      {
+      getOptions().setContentType( type);
+      return (T) this;
+      }
+
+    public T resolverParallelism( int parallelism)
+      {
+      getOptions().setResolverParallelism( parallelism);
+      return (T) this;
+      }
+
+    public T onModellingCondition( String notifier)
+      {
+      getOptions().setOnModellingCondition( notifier);
+      return (T) this;
+      }
+
+    public T onResolverCondition( String notifier)
+      {
+      getOptions().setOnResolverCondition( notifier);
+      return (T) this;
+      }
+
+    public T enforceReadOnly()
+      {
+      getOptions().setReadOnlyEnforced( true);
+      return (T) this;
+      }
+
+    public T random( Long seed)
+      {
+      getOptions().setRandomSeed( seed);
+      return (T) this;
+      }
+
+    public T maxTries( int maxTries)
+      {
+      getOptions().setMaxTries( maxTries);
+      return (T) this;
+      }
+
+    public T workingDir( File workingDir)
+      {
+      getOptions().setWorkingDir( workingDir);
+      return (T) this;
+      }
+    }
+  }
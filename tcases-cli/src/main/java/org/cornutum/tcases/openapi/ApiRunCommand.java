@@ -0,0 +1,608 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.cornutum.tcases.HelpException;
+import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.Tcases;
+import org.cornutum.tcases.openapi.io.TcasesOpenApiIO;
+import org.cornutum.tcases.openapi.resolver.*;
+import org.cornutum.tcases.openapi.resolver.io.RequestTestDefReader;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
+import org.cornutum.tcases.openapi.testrunner.ApiTestReport;
+import org.cornutum.tcases.openapi.testrunner.ApiTestReportWriter;
+import org.cornutum.tcases.openapi.testrunner.ApiTestRunner;
+import org.cornutum.tcases.openapi.testwriter.TestSource;
+
+import static org.cornutum.tcases.CommandUtils.*;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.apache.commons.io.FilenameUtils.getExtension;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.Objects;
+import java.util.Optional;
+import static java.util.Collections.emptyList;
+
+/**
+ * Runs tests for API servers, based on an OpenAPI v3 compliant API definition. Request test cases are executed
+ * directly, without generating test source code.
+ */
+public class ApiRunCommand
+  {
+  /**
+   * Represents a set of command line options.
+   *
+   * Command line arguments have the following form.
+   * <P/>
+   * <BLOCKQUOTE>
+   * <CODE>
+   * <TABLE cellspacing="0" cellpadding="8">
+   * <TR valign="top">
+   * <TD colspan="3">
+   * <NOBR>
+   * [<I>option</I>...] [<I>apiDef</I>]
+   * </NOBR>
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD colspan="3">
+   * where each <I>option</I> is one of the {@link ApiRequestOptions common options} or one of the following:
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
+   * <NOBR>-D requestCases </NOBR>
+   * </TD>
+   * <TD>
+   * If defined, the request test cases run are read from the given <I>requestCases</I> file, for example, a
+   * "<I>B</I><CODE>-Request-Cases.json</CODE>" file written by <CODE>tcases-api -D</CODE>. Otherwise, by default,
+   * request test cases are created from the <I>apiDef</I>. When <I>-D</I> is defined, the <I>apiDef</I> is used
+   * only to validate responses and is not read if <I>-N</I> is also defined. The options that control how request
+   * test cases are created, such as <I>-X</I>, <I>-R</I>, <I>-r</I>, <I>-m</I>, and <I>-jr</I>, have no effect,
+   * and the only <I>-B</I> expression applied is <I>uri</I>=<I>&lt;uri&gt;</I>, which replaces the server
+   * defined by each request test case.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
+   * <NOBR>-f reportFile </NOBR>
+   * </TD>
+   * <TD>
+   * If defined, the test report is written to the specified <I>reportFile</I>. If the <I>reportFile</I>
+   * has the extension ".xml", a JUnit XML report is written. Otherwise, a JSON report is written.
+   * If omitted, a JSON report is written to standard output.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
+   * <NOBR>-j concurrency </NOBR>
+   * </TD>
+   * <TD>
+   * Defines the maximum number of requests executed concurrently. If omitted, the default is 1.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
+   * <NOBR>-N</NOBR>
+   * </TD>
+   * <TD>
+   * If specified, responses are not validated. Otherwise, by default, each response is checked for
+   * conformance with the <I>apiDef</I>.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
+   * <NOBR><I>apiDef</I> </NOBR>
+   * </TD>
+   * <TD>
+   * An OpenAPI v3 API definition is read from the given <I>apiDef</I> file. If omitted, the API definition is
+   * read from standard input.
+   * </TD>
+   * </TR>
+   *
+   * </TABLE>
+   * </CODE>
+   * </BLOCKQUOTE>
+   */
+  public static class Options extends ApiRequestOptions
+    {
+    /**
+     * Creates a new Options object.
+     */
+    public Options()
+      {
+      setConcurrency( 1);
+      }
+
+    /**
+     * Creates a new Options object.
+     */
+    public Options( String[] args)
+      {
+      this();
+      parseArgs( args);
+      }
+
+    /**
+     * Handles the i'th option and return the index of the next argument.
+     */
+    @Override
+    protected int handleOption( String[] args, int i)
+      {
+      String arg = args[i];
+
+      if( arg.equals( "-D"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        setRequestCases( new File( args[i]));
+        }
+
+      else if( arg.equals( "-f"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        setReportFile( new File( args[i]));
+        }
+
+      else if( arg.equals( "-j"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        try
+          {
+          setConcurrency( Integer.parseInt( args[i]));
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid concurrency", e);
+          }
+        }
+
+      else if( arg.equals( "-N"))
+        {
+        setValidateResponses( false);
+        }
+
+      else
+        {
+        return super.handleOption( args, i);
+        }
+
+      return i + 1;
+      }
+
+    /**
+     * Returns the name of the command that uses these options.
+     */
+    @Override
+    protected String getCommandName()
+      {
+      return "tcases-api-run";
+      }
+
+    /**
+     * Returns the usage information that is specific to this command.
+     */
+    @Override
+    protected String[] getUsage()
+      {
+      return
+        new String[] {
+          "Usage: tcases-api-run [option...] [apiDef]",
+          "",
+          "Runs tests for API servers, based on an OpenAPI v3 compliant API definition. Request test cases",
+          "are executed directly, without generating test source code. Exits with a non-zero status if any",
+          "test fails. Authentication credentials are defined by the same system properties used by generated",
+          "tests, for example, tcasesApiKey.",
+          "",
+          "An OpenAPI v3 API definition is read from the given apiDef file. If omitted, the API definition is read from",
+          "standard input.",
+          "",
+          "Each option is one of the following:",
+          "",
+          "  -D requestCases If defined, the request test cases run are read from the given requestCases file, for",
+          "                  example, a 'B-Request-Cases.json' file written by 'tcases-api -D'. Otherwise, by default,",
+          "                  request test cases are created from the apiDef. When -D is defined, the apiDef is used only",
+          "                  to validate responses and is not read if -N is also defined. The options that control how",
+          "                  request test cases are created, such as -X, -R, -r, -m, and -jr, have no effect, and the",
+          "                  only -B expression applied is uri=<uri>, which replaces the server defined by each request",
+          "                  test case.",
+          "",
+          "  -f reportFile   If defined, the test report is written to the specified reportFile. If the",
+          "                  reportFile has the extension '.xml', a JUnit XML report is written. Otherwise,",
+          "                  a JSON report is written. If omitted, a JSON report is written to standard output.",
+          "",
+          "  -j concurrency  Defines the maximum number of requests executed concurrently. If omitted, the default",
+          "                  is 1.",
+          "",
+          "  -N              If specified, responses are not validated. Otherwise, by default, each response",
+          "                  is checked for conformance with the apiDef.",
+          ""
+        };
+      }
+
+    /**
+     * Changes the file that defines the request test cases to run. If null, request test cases are created
+     * from the API definition.
+     */
+    public void setRequestCases( File requestCases)
+      {
+      requestCases_ = requestCases;
+      }
+
+    /**
+     * Returns the file that defines the request test cases to run. If null, request test cases are created
+     * from the API definition.
+     */
+    public File getRequestCases()
+      {
+      return requestCases_;
+      }
+
+    /**
+     * Changes the file for the test report. If null, a JSON report is written to standard output.
+     */
+    public void setReportFile( File reportFile)
+      {
+      reportFile_ = reportFile;
+      }
+
+    /**
+     * Returns the file for the test report. If null, a JSON report is written to standard output.
+     */
+    public File getReportFile()
+      {
+      return reportFile_;
+      }
+
+    /**
+     * Returns if the test report is written as a JUnit XML report.
+     */
+    public boolean isJUnitReport()
+      {
+      return
+        Optional.ofNullable( getReportFile())
+        .map( file -> "xml".equalsIgnoreCase( getExtension( file.getName())))
+        .orElse( false);
+      }
+
+    /**
+     * Changes the maximum number of requests executed concurrently.
+     */
+    public void setConcurrency( int concurrency)
+      {
+      if( concurrency < 1)
+        {
+        throw new IllegalArgumentException( String.format( "Invalid concurrency=%s", concurrency));
+        }
+      concurrency_ = concurrency;
+      }
+
+    /**
+     * Returns the maximum number of requests executed concurrently.
+     */
+    public int getConcurrency()
+      {
+      return concurrency_;
+      }
+
+    /**
+     * Changes if responses are validated.
+     */
+    public void setValidateResponses( boolean validate)
+      {
+      noValidation_ = !validate;
+      }
+
+    /**
+     * Returns if responses are validated.
+     */
+    public boolean validateResponses()
+      {
+      return !noValidation_;
+      }
+
+    /**
+     * Returns a new Options builder.
+     */
+    public static Builder builder()
+      {
+      return new Builder();
+      }
+
+    @Override
+    protected void appendOptions( StringBuilder builder)
+      {
+      Optional.ofNullable( getRequestCases()).ifPresent( file -> builder.append( " -D ").append( file.getPath()));
+      Optional.ofNullable( getReportFile()).ifPresent( file -> builder.append( " -f ").append( file.getPath()));
+      builder.append( " -j ").append( getConcurrency());
+      if( !validateResponses()) builder.append( " -N");
+      }
+
+    private File requestCases_;
+    private File reportFile_;
+    private int concurrency_;
+    private boolean noValidation_;
+
+    public static class Builder extends BaseBuilder<Builder>
+      {
+      public Builder()
+        {
+        options_ = new Options();
+        }
+
+      @Override
+      protected ApiRequestOptions getOptions()
+        {
+        return options_;
+        }
+
+      public Builder requestCases( File requestCases)
+        {
+        options_.setRequestCases( requestCases);
+        return this;
+        }
+
+      public Builder reportFile( File reportFile)
+        {
+        options_.setReportFile( reportFile);
+        return this;
+        }
+
+      public Builder concurrency( int concurrency)
+        {
+        options_.setConcurrency( concurrency);
+        return this;
+        }
+
+      public Builder validateResponses( boolean validate)
+        {
+        options_.setValidateResponses( validate);
+        return this;
+        }
+
+      public Options build()
+        {
+        return options_;
+        }
+
+      private Options options_;
+      }
+    }
+
+  /**
+   * Creates a new ApiRunCommand object.
+   */
+  private ApiRunCommand()
+    {
+    // Static methods only
+    }
+
+  /**
+   * Runs tests for API servers, based on an OpenAPI v3 compliant API definition, using the given
+   * {@link Options command line options}. Exits with a non-zero status if any test fails.
+   */
+  public static void main( String[] args)
+    {
+    int exitCode = 0;
+    try
+      {
+      exitCode =
+        Optional.ofNullable( run( new Options( args)))
+        .filter( report -> !report.isPassed())
+        .map( report -> 1)
+        .orElse( 0);
+      }
+    catch( HelpException h)
+      {
+      exitCode = 1;
+      }
+    catch( Throwable e)
+      {
+      exitCode = 1;
+      e.printStackTrace( System.err);
+      }
+    finally
+      {
+      System.exit( exitCode);
+      }
+    }
+
+  /**
+   * Runs tests for API servers, based on an OpenAPI v3 compliant API definition, using the given
+   * {@link Options command line options}. Returns the test report, or null if no tests were run.
+   */
+  public static ApiTestReport run( Options options) throws Exception
+    {
+    if( options.showVersion())
+      {
+      System.out.println( getVersion());
+      return null;
+      }
+    logger_.info( "{}", getVersion());
+
+    // Identify the API definition file
+    File apiDefFile = options.getApiDef();
+    if( apiDefFile != null && !apiDefFile.isAbsolute())
+      {
+      apiDefFile = new File( options.getWorkingDir(), apiDefFile.getPath());
+      }
+
+    // Identify the request test cases file
+    File requestCasesFile = options.getRequestCases();
+    if( requestCasesFile != null && !requestCasesFile.isAbsolute())
+      {
+      requestCasesFile = new File( options.getWorkingDir(), requestCasesFile.getPath());
+      }
+
+    OpenAPI api;
+    if( requestCasesFile != null && !options.validateResponses())
+      {
+      api = null;
+      }
+    else
+      {
+      logger_.info( "Reading API definition from {}", Objects.toString( apiDefFile,  "standard input"));
+      api = TcasesOpenApiIO.readApi( apiDefFile, options.getContentType());
+      }
+
+    // Get response definitions before the API definition is updated by request modelling
+    String apiName = Optional.ofNullable( api).map( OpenAPI::getInfo).map( info -> info.getTitle()).orElse( "API");
+    ResponsesDef responses = api != null && options.validateResponses()? OpenApiUtils.responsesDef( api) : null;
+
+    RequestTestDef testDef =
+      requestCasesFile == null
+      ? getRequestCases( options, api)
+      : readRequestCases( requestCasesFile);
+
+    // Run tests for the selected request cases
+    TestSource testSource = options.getTestSource( testDef);
+    ApiTestRunner runner = new ApiTestRunner();
+    runner.setConcurrency( options.getConcurrency());
+    runner.setResponses( responses);
+    runner.setTrustServer( options.isServerTrusted());
+    if( requestCasesFile != null)
+      {
+      runner.setTestServer( options.getModelOptions().getServerUri());
+      }
+
+    logger_.info( "Running {} requests, concurrency={}", testSource.getRequestCases().size(), options.getConcurrency());
+    ApiTestReport report = runner.run( apiName, testSource.getRequestCases());
+    logger_.info( "Completed {} requests: passed={}, failed={}, errors={}", report.getResults().size(), report.getPassed(), report.getFailed(), report.getErrors());
+
+    // Write the test report
+    File reportFile = options.getReportFile();
+    if( reportFile != null && !reportFile.isAbsolute())
+      {
+      reportFile = new File( options.getWorkingDir(), reportFile.getPath());
+      }
+    if( reportFile != null)
+      {
+      logger_.info( "Writing test report to {}", reportFile);
+      File reportDir = reportFile.getParentFile();
+      if( reportDir != null && !reportDir.exists() && !reportDir.mkdirs())
+        {
+        throw new IllegalStateException( String.format( "Can't create report directory=%s", reportDir));
+        }
+      }
+
+    if( reportFile == null)
+      {
+      writeReport( options, report, new ApiTestReportWriter());
+      }
+    else
+      {
+      try( ApiTestReportWriter writer = new ApiTestReportWriter( new FileOutputStream( reportFile)))
+        {
+        writeReport( options, report, writer);
+        }
+      }
+
+    return report;
+    }
+
+  /**
+   * Returns the request test cases created for the given API definition.
+   */
+  private static RequestTestDef getRequestCases( Options options, OpenAPI api)
+    {
+    SystemInputDef inputDef = TcasesOpenApi.getRequestInputModel( api, options.getModelOptions());
+    RequestTestDef testDef;
+    if( inputDef == null)
+      {
+      logger_.warn( "No requests defined");
+      testDef = new RequestTestDef( emptyList());
+      }
+    else
+      {
+      if( options.getRandomSeed() == null)
+        {
+        options.setRandomSeed( options.getDefaultRandomSeed());
+        }
+
+      if( options.getModelOptions().getSource().equals( ModelOptions.Source.EXAMPLES))
+        {
+        logger_.info( "Generating request test cases using API examples");
+        }
+      else
+        {
+        logger_.info( "Generating request test cases using random seed={}", options.getRandomSeed());
+        }
+
+      testDef = RequestCases.realizeRequestCases( RequestCases.getRequestCases( Tcases.getTests( inputDef, null, null), options.getResolverContext()));
+      }
+
+    return testDef;
+    }
+
+  /**
+   * Returns the request test cases read from the given file.
+   */
+  private static RequestTestDef readRequestCases( File requestCasesFile) throws Exception
+    {
+    logger_.info( "Reading request test cases from {}", requestCasesFile);
+    try( RequestTestDefReader reader = new RequestTestDefReader( new FileInputStream( requestCasesFile)))
+      {
+      return reader.getRequestTestDef();
+      }
+    }
+
+  /**
+   * Writes the given test report in the form defined by the given options.
+   */
+  private static void writeReport( Options options, ApiTestReport report, ApiTestReportWriter writer)
+    {
+    if( options.isJUnitReport())
+      {
+      writer.writeJUnit( report);
+      }
+    else
+      {
+      writer.writeJson( report);
+      }
+    writer.flush();
+    }
+
+  private static final Logger logger_ = LoggerFactory.getLogger( ApiRunCommand.class);
+  }
@@ -10,40 +10,45 @@ package org.cornutum.tcases.openapi;
 import org.cornutum.tcases.HelpException;
 import org.cornutum.tcases.SystemInputDef;
 import org.cornutum.tcases.Tcases;
+import org.cornutum.tcases.openapi.io.ModelCache;
+import org.cornutum.tcases.openapi.io.ShardManifest;
 import org.cornutum.tcases.openapi.io.TcasesOpenApiIO;
 import org.cornutum.tcases.openapi.moco.MocoServerTestWriter;
 import org.cornutum.tcases.openapi.moco.MocoTestConfigReader;
 import org.cornutum.tcases.openapi.resolver.*;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
 import org.cornutum.tcases.openapi.testwriter.*;
 import org.cornutum.tcases.openapi.testwriter.Runtime;
-import org.cornutum.tcases.resolve.ResolverContext;
-import org.cornutum.tcases.util.Notifier;
+import org.cornutum.tcases.util.ToString;
 
 import static org.cornutum.tcases.CommandUtils.*;
-import static org.cornutum.tcases.util.CollectionUtils.toStream;
 
+import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import static org.apache.commons.io.FilenameUtils.getBaseName;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
-import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Generates executable test code for API servers, based on an OpenAPI v3 compliant API definition.
@@ -68,20 +73,7 @@ public class ApiTestCommand
    *
    * <TR valign="top">
    * <TD colspan="3">
-   * where each <I>option</I> is one of the following:
-   * </TD>
-   * </TR>
-   *
-   * <TR valign="top">
-   * <TD>
-   * &nbsp;
-   * </TD>
-   * <TD>
-   * <NOBR>-X</NOBR>
-   * </TD>
-   * <TD>
-   * If specified, test cases are generated based on the examples specified in the <I>apiDef</I>.
-   * Otherwise, by default, test cases are created by generating random request input values.
+   * where each <I>option</I> is one of the {@link ApiRequestOptions common options} or one of the following:
    * </TD>
    * </TR>
    *
@@ -98,6 +90,12 @@ public class ApiTestCommand
    * <P/>
    * Use "moco" to generate a JUnit test that sends requests to a <A href="https://github.com/dreamhead/moco">Moco stub server</A>.
    * To define the Moco server test configuration, use the <I>-M</I> option.
+   * <P/>
+   * Use "junit-table" or "testng-table" to generate a data-driven test that executes a single test method for each
+   * request defined in a "<CODE>&lt;<I>testClass</I>&gt;-Requests.json</CODE>" resource file.
+   * <P/>
+   * Use "load" to generate a "<CODE>&lt;<I>testName</I>&gt;Load</CODE>" main class that drives a continuous load of
+   * requests using the <CODE>java.net.http.HttpClient</CODE> and reports the latency percentiles for each API operation.
    * </TD>
    * </TR>
    *
@@ -109,7 +107,8 @@ public class ApiTestCommand
    * <NOBR>-e execType </NOBR>
    * </TD>
    * <TD>
-   * Defines the request execution interface used to run API tests. Standard values "restassured" are supported.
+   * Defines the request execution interface used to run API tests. Standard values "restassured" and "httpclient" are supported.
+   * The "httpclient" interface generates tests that use the <CODE>java.net.http.HttpClient</CODE> of the JDK (Java 11 or later).
    * If omitted, the default is "restassured".
    * </TD>
    * </TR>
@@ -225,51 +224,12 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-M mocoTestConfig </NOBR>
-   * </TD>
-   * <TD>
-   * When the <I>testType</I> is "moco", specifies the Moco server test configuration file.
-   * </TD>
-   * </TR>
-   *
-   * <TR valign="top">
-   * <TD>
-   * &nbsp;
-   * </TD>
-   * <TD>
-   * <NOBR>-P paths </NOBR>
-   * </TD>
-   * <TD>
-   * If defined, tests are generated only for the specified API resource paths. <I>paths</I> must be a comma-separated list
-   * of resource paths defined in the <I>apiDef</I>.
-   * If omitted, tests are generated for all resource paths.
-   * </TD>
-   * </TR>
-   *
-   * <TR valign="top">
-   * <TD>
-   * &nbsp;
-   * </TD>
-   * <TD>
-   * <NOBR>-S</NOBR>
-   * </TD>
-   * <TD>
-   * If specified, a separate test file is generated for each of the API resource paths specified by the <I>P</I> option,
-   * each containing tests for a single path. Otherwise, a single test file is generated containing tests for all paths.
-   * </TD>
-   * </TR>
-   *
-   * <TR valign="top">
-   * <TD>
-   * &nbsp;
-   * </TD>
-   * <TD>
-   * <NOBR>-O operations </NOBR>
+   * <NOBR>-mc maxCases </NOBR>
    * </TD>
    * <TD>
-   * If defined, tests are generated only for the specified HTTP methods. <I>operations</I> must be a comma-separated list
-   * of path operations defined in the <I>apiDef</I>.
-   * If omitted, tests are generated for all operations.
+   * Defines the maximum number of test cases written to a single test file. If more test cases are generated, they are
+   * split among multiple test files, named by appending "<CODE>_</CODE><I>N</I>" to the test name for each part
+   * <I>N</I>. If omitted, the number of test cases in a test file is unlimited.
    * </TD>
    * </TR>
    *
@@ -278,10 +238,12 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-xs</NOBR>
+   * <NOBR>-mb maxBytes </NOBR>
    * </TD>
    * <TD>
-   * If specified, success cases are excluded from generated tests.
+   * Defines the maximum size (in bytes) of the test case code written to a single test file. If more test case code is
+   * generated, test cases are split among multiple test files, as for <I>-mc</I>. If omitted, the size of a test file
+   * is unlimited.
    * </TD>
    * </TR>
    *
@@ -290,10 +252,12 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-xf</NOBR>
+   * <NOBR>-mi maxBodyBytes </NOBR>
    * </TD>
    * <TD>
-   * If specified, failure cases are excluded from generated tests.
+   * Defines the maximum size (in bytes) of a request body written inline in test case code. Any larger request body
+   * is written to a resource file in the test resource directory, named for a hash of its content, and read from the
+   * classpath when the test runs. If omitted, all request bodies are written inline.
    * </TD>
    * </TR>
    *
@@ -302,31 +266,15 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-B <I>server</I> </NOBR>
+   * <NOBR>-pt threads </NOBR>
    * </TD>
    * <TD>
-   * If defined, specifies the base URI for the API server used by the generated tests.
-   * The <I>server</I> expression has one of the following forms.
-   * If omitted, the default is <I>index=0</I>.
-   * <P/>
-   * <UL>
-   * <LI> <I>index</I>=<I>&lt;integer&gt;</I>
-   * <P>
-   * From the servers array defined in the <I>apiDef</I>, use the URI of the given element.
-   * </P>
-   * </LI>
-   * <LI> <I>contains</I>=<I>&lt;text&gt;</I>
-   * <P>
-   * From the servers array defined in the <I>apiDef</I>, use the URI of the first element with a description
-   * containing the given text.
-   * </P>
-   * </LI>
-   * <LI> <I>uri</I>=<I>&lt;uri&gt;</I>
-   * <P>
-   * Use the specified <I>&lt;uri&gt;</I>.
-   * </P>
-   * </LI>
-   * </UL>
+   * If defined, generated tests are safe to run test methods concurrently using the given number of <I>threads</I>.
+   * All test methods share a single response validator. For a TestNG test, a
+   * "<CODE>&lt;<I>testClass</I>&gt;-testng.xml</CODE>" suite definition that runs test methods in parallel is written
+   * to the test resource directory. For a JUnit test, parallel execution is configured by the test runner, for example,
+   * using the Maven Surefire <CODE>parallel</CODE> and <CODE>threadCount</CODE> options. If omitted, generated tests
+   * are run serially.
    * </TD>
    * </TR>
    *
@@ -335,11 +283,12 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-V</NOBR>
+   * <NOBR>-ss</NOBR>
    * </TD>
    * <TD>
-   * If specified, generated HTTPS requests will connect to the API server without verifying the server
-   * certificate. Otherwise, by default, the API server must present a trusted certificate.
+   * When the <I>testType</I> is "junit-table" or "testng-table", if specified, the generated test starts an in-process
+   * stub server that returns stub responses for all of its requests, so the test runs without the API server. Otherwise,
+   * requests are sent to the API server.
    * </TD>
    * </TR>
    *
@@ -348,12 +297,10 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-T <I>contentType</I> </NOBR>
+   * <NOBR>-M mocoTestConfig </NOBR>
    * </TD>
    * <TD>
-   * Defines the content type of the OpenApi definition. The <I>contentType</I> must be one of "json", "yaml", or "yml".
-   * If omitted, the default content type is derived from the <I>apiDef</I> name. If the <I>apiDef</I> is read from standard
-   * input or does not have a recognized extension, the default content type is "json".
+   * When the <I>testType</I> is "moco", specifies the Moco server test configuration file.
    * </TD>
    * </TR>
    *
@@ -362,14 +309,11 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-c M[,R] </NOBR>
+   * <NOBR>-S</NOBR>
    * </TD>
    * <TD>
-   * Defines how input modelling and request case resolution conditions are reported. Both <I>M</I> (for modelling conditions) and <I>R</I> (for
-   * resolution conditions) must be one of "log", "fail", or "ignore".
-   * If "log" is specified, conditions are reported using log messages.
-   * If "fail" is specified, any condition will cause an exception. If "ignore" is specified, all conditions
-   * are silently ignored. If <I>R</I> is omitted, the default is "log". If <I>-c</I> is omitted, the default is "log,log".
+   * If specified, a separate test file is generated for each of the API resource paths specified by the <I>P</I> option,
+   * each containing tests for a single path. Otherwise, a single test file is generated containing tests for all paths.
    * </TD>
    * </TR>
    *
@@ -378,11 +322,13 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-R </NOBR>
+   * <NOBR>-K <I>cacheDir</I> </NOBR>
    * </TD>
    * <TD>
-   * If specified, tests will be generated assuming that the API will strictly enforce exclusion of "readOnly"
-   * properties from request parameters. If omitted, no strict enforcement is assumed.
+   * If <I>-K</I> is defined, the models created for the <I>apiDef</I> are stored in the given <I>cacheDir</I> and reused
+   * when the same <I>apiDef</I> is modelled again with the same options. If relative, the <I>cacheDir</I> path is assumed
+   * to be relative to the current working directory. If omitted, or if the <I>apiDef</I> is read from standard input,
+   * no cache is used.
    * </TD>
    * </TR>
    *
@@ -391,11 +337,15 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-r <I>seed</I> </NOBR>
+   * <NOBR>-shard <I>N/M</I> </NOBR>
    * </TD>
    * <TD>
-   * If defined, use the given random number seed to generate request test case input values. 
-   * If omitted, the default random number seed is derived from the <I>apiDef</I> name.
+   * If <I>-shard</I> is defined, the API operations are partitioned into <I>M</I> shards, based on a hash of the path and
+   * operation name, and tests are generated only for the operations in shard <I>N</I>. The shard is appended to the
+   * <I>testName</I>. A manifest that lists the operations modelled is written to a file named
+   * <I>B</I><CODE>-Shard-</CODE><I>N</I><CODE>-of-</CODE><I>M</I><CODE>.json</CODE> in the <I>outDir</I>, where <I>B</I>
+   * is the base name of the <I>apiDef</I>. The manifests for all shards can be verified to show that each operation is
+   * tested by exactly one shard. If omitted, tests are generated for all operations.
    * </TD>
    * </TR>
    *
@@ -404,11 +354,13 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-m <I>maxTries</I> </NOBR>
+   * <NOBR>-ma <I>maxAlternatives</I> </NOBR>
    * </TD>
    * <TD>
-   * Defines the maximum attempts made to resolve a request test case input value before reporting failure.
-   * If omitted, the default value is 10000.
+   * If <I>-ma</I> is defined, no more than <I>maxAlternatives</I> alternatives are created when expanding the combinations
+   * of "allOf", "anyOf", "oneOf", and "not" assertions for a schema. When this limit is exceeded, a warning is reported
+   * and the remaining alternatives are ignored, so some invalid inputs for the schema may not be modelled. If omitted,
+   * the number of alternatives is unlimited.
    * </TD>
    * </TR>
    *
@@ -417,10 +369,12 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
-   * <NOBR>-v </NOBR>
+   * <NOBR>-j <I>parallelism</I> </NOBR>
    * </TD>
    * <TD>
-   * Prints the current command version identifier to standard output.
+   * Defines the maximum number of API operations that are modelled concurrently and, if <I>-S</I> is defined, the maximum
+   * number of test files that are written concurrently. The tests generated are the same for any <I>parallelism</I>.
+   * If omitted, the default <I>parallelism</I> is 1.
    * </TD>
    * </TR>
    *
@@ -442,23 +396,16 @@ public class ApiTestCommand
    * </CODE>
    * </BLOCKQUOTE>
    */
-  public static class Options
+  public static class Options extends ApiRequestOptions
     {
     /**
      * Creates a new Options object.
      */
     public Options()
       {
-      setWorkingDir( null);
       setTestType( "junit");
       setExecType( "restassured");
-      setModelOptions( new ModelOptions());
       setResourceOutDir( null);
-
-      setResolverContext(
-        ResolverContext.builder()
-        .notifier( RequestCaseConditionNotifier.log())
-        .build());
       }
 
     /**
@@ -467,34 +414,18 @@ public class ApiTestCommand
     public Options( String[] args)
       {
       this();
-
-      int i;
-
-      // Handle options
-      for( i = 0; i < args.length && args[i].charAt(0) == '-'; i = handleOption( args, i));
-
-      // Handle additional arguments.
-      handleArgs( args, i);
+      parseArgs( args);
       }
 
     /**
      * Handles the i'th option and return the index of the next argument.
      */
+    @Override
     protected int handleOption( String[] args, int i)
       {
       String arg = args[i];
 
-      if( arg.equals( "-help"))
-        {
-        throwHelpException();
-        }
-
-      else if( arg.equals( "-X"))
-        {
-        setSource( ModelOptions.Source.EXAMPLES);
-        }
-      
-      else if( arg.equals( "-t"))
+      if( arg.equals( "-t"))
         {
         i++;
         if( i >= args.length)
@@ -622,52 +553,58 @@ public class ApiTestCommand
           }
         }
 
-      else if( arg.equals( "-M"))
+      else if( arg.equals( "-mc"))
         {
         i++;
         if( i >= args.length)
           {
           throwMissingValue( arg);
           }
-        setMocoTestConfig( new File( args[i]));
+        try
+          {
+          setMaxTestCases( Integer.valueOf( args[i]));
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid max test cases", e);
+          }
         }
 
-      else if( arg.equals( "-P"))
+      else if( arg.equals( "-mb"))
         {
         i++;
         if( i >= args.length)
           {
           throwMissingValue( arg);
           }
-        setPaths( Arrays.asList( args[i].split( " *, *")));
-        }
-
-      else if( arg.equals( "-S"))
-        {
-        setByPath( true);
+        try
+          {
+          setMaxTestBytes( Long.valueOf( args[i]));
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid max test bytes", e);
+          }
         }
 
-      else if( arg.equals( "-O"))
+      else if( arg.equals( "-mi"))
         {
         i++;
         if( i >= args.length)
           {
           throwMissingValue( arg);
           }
-        setOperations( Arrays.asList( args[i].split( " *, *")));
-        }
-
-      else if( arg.equals( "-xs"))
-        {
-        setSuccessExcluded( true);
-        }
-
-      else if( arg.equals( "-xf"))
-        {
-        setFailureExcluded( true);
+        try
+          {
+          setMaxInlineBodyBytes( Integer.valueOf( args[i]));
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid max inline body bytes", e);
+          }
         }
 
-      else if( arg.equals( "-B"))
+      else if( arg.equals( "-pt"))
         {
         i++;
         if( i >= args.length)
@@ -676,35 +613,45 @@ public class ApiTestCommand
           }
         try
           {
-          setServerUri( args[i]);
+          setParallelTests( Integer.valueOf( args[i]));
           }
         catch( Exception e)
           {
-          throwUsageException( "Invalid base URI", e);
+          throwUsageException( "Invalid parallel test threads", e);
           }
         }
 
-      else if( arg.equals( "-V"))
+      else if( arg.equals( "-ss"))
         {
-        setServerTrusted( true);
+        setStubServer( true);
         }
 
-      else if( arg.equals( "-c"))
+      else if( arg.equals( "-M"))
         {
         i++;
         if( i >= args.length)
           {
           throwMissingValue( arg);
           }
-        setConditionNotifiers( args[i]);
+        setMocoTestConfig( new File( args[i]));
         }
 
-      else if( arg.equals( "-R"))
+      else if( arg.equals( "-S"))
         {
-        setReadOnlyEnforced( true);
+        setByPath( true);
         }
 
-      else if( arg.equals( "-r"))
+      else if( arg.equals( "-K"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        setCacheDir( new File( args[i]));
+        }
+
+      else if( arg.equals( "-shard"))
         {
         i++;
         if( i >= args.length)
@@ -713,15 +660,15 @@ public class ApiTestCommand
           }
         try
           {
-          setRandomSeed( Long.valueOf( args[i]));
+          setShard( Shard.parse( args[i]));
           }
         catch( Exception e)
           {
-          throwUsageException( "Invalid random seed", e);
+          throwUsageException( "Invalid shard", e);
           }
         }
 
-      else if( arg.equals( "-m"))
+      else if( arg.equals( "-ma"))
         {
         i++;
         if( i >= args.length)
@@ -730,15 +677,15 @@ public class ApiTestCommand
           }
         try
           {
-          setMaxTries( Integer.parseInt( args[i]));
+          setMaxAlternatives( Integer.valueOf( args[i]));
           }
         catch( Exception e)
           {
-          throwUsageException( "Invalid max tries", e);
+          throwUsageException( "Invalid max alternatives", e);
           }
         }
 
-      else if( arg.equals( "-T"))
+      else if( arg.equals( "-j"))
         {
         i++;
         if( i >= args.length)
@@ -747,184 +694,150 @@ public class ApiTestCommand
           }
         try
           {
-          setContentType( args[i]);
+          setParallelism( Integer.parseInt( args[i]));
           }
         catch( Exception e)
           {
-          throwUsageException( "Invalid content type", e);
+          throwUsageException( "Invalid parallelism", e);
           }
         }
 
-      else if( arg.equals( "-v"))
-        {
-        setShowVersion( true);
-        }
-
       else
         {
-        throwUsageException( String.format( "Unknown option: %s", arg));
+        return super.handleOption( args, i);
         }
 
       return i + 1;
       }
 
     /**
-     * Handles the non-option arguments i, i+1, ...
+     * Returns the name of the command that uses these options.
      */
-    protected void handleArgs( String[] args, int i)
+    @Override
+    protected String getCommandName()
       {
-      int nargs = args.length - i;
-
-      if( nargs > 1)
-        {
-        throwUsageException( String.format( "Unexpected argument: %s", args[i+1]));
-        }
-
-      if( nargs > 0)
-        {
-        setApiDef( new File( args[i]));
-        }
+      return "tcases-api-test";
       }
 
     /**
-     * Throws a HelpException after printing usage information to standard error.
+     * Returns the usage information that is specific to this command.
      */
-    protected void throwHelpException()
+    @Override
+    protected String[] getUsage()
       {
-      printUsage();
-      throw new HelpException();
-      }
-
-    /**
-     * Prints usage information to standard error.
-     */
-    protected void printUsage()
-      {
-      for( String line :
-             new String[] {
-               "Usage: tcases-api-test [option...] [apiDef]",
-               "",
-               "Generates executable test code for API servers, based on an OpenAPI v3 compliant API definition.",
-               "",
-               "An OpenAPI v3 API definition is read from the given apiDef file. If omitted, the API definition is read from",
-               "standard input. If no outFile is specified, output is written to a default file derived from the",
-               "apiDef or, if no apiDef is given, to standard output.",
-               "",
-               "Each option is one of the following:",
-               "",
-               "  -X              If specified, test cases are generated based on the examples specified in the",
-               "                  apiDef. Otherwise, by default, test cases are created by generating random",
-               "                  request input values.",
-               "",
-               "  -t testType     Defines the test framework used to run API tests. Standard values 'junit', 'testng',",
-               "                  'moco' are supported. If omitted, the default is 'junit'.",
-               "",
-               "                  Use 'moco' to generate a JUnit test that sends requests to a Moco stub server.",
-               "                  To define the Moco server test configuration, use the '-M' option.",
-               "",
-               "  -e execType     Defines the request execution interface used to run API tests. Standard values",
-               "                  'restassured' are supported. If omitted, the default is 'restassured'.",
-               "",
-               "  -n testName     Defines the name of the test class that is generated. This can be either a fully-",
-               "                  qualified class name or a simple class name. If omitted, the default is based on",
-               "                  the title of the apiDef.",
-               "",
-               "  -cp classPath   Adds the given class path elements to the class path used to provide user-defined",
-               "                  extensions for test generation. The class path argument must follow the Java",
-               "                  conventions for the current platform.",
-               "",
-               "  -p testPackage  Defines the package for the test class that is generated. This can be omitted if",
-               "                  the testName is a fully-qualified class name or if the package can be determined",
-               "                  from the outDir.",
-               "",
-               "  -b baseClass    If defined, specifies a base class for the generated test class. This can be a",
-               "                  fully-qualified class name or a simple class name, if the baseClass belongs to",
-               "                  the same package as the generated test class.",
-               "",
-               "  -f outFile      If defined, output is written to the specified outFile, relative to the given outDir.",
-               "                  If omitted, the default outFile is derived from the testName.",
-               "",
-               "  -o outDir       If -o is defined, output is written to the specified directory. If omitted, the",
-               "                  default outDir is the directory containing the apiDef or, if reading from standard",
-               "                  input, output is written to standard output.",
-               "",
-               "  -d resourceDir  If -d is defined, test resource output is written to the specified directory. If omitted,",
-               "                  the default resourceDir is the same as the outDir. If resourceDir is 'no' or 'false',",
-               "                  no test resource output is produced.",
-               "",
-               "  -u timeout      Defines the maximum time (in milliseconds) to complete an individual test method.",
-               "                  A test failure occurs if a method continues past this time limit. If omitted, no time",
-               "                  limit is enforced.",
-               "",
-               "  -M mocoTestConfig When the testType is 'moco', specifies the Moco server test configuration file.",
-               "",
-               "  -P paths        If defined, tests are generated only for the specified API resource paths. The paths",
-               "                  option must be a comma-separated list of resource paths defined in the apiDef. If",
-               "                  omitted, tests are generated for all resource paths.",
-               "",
-               "  -S              If specified, a separate test file is generated for each of the API resource paths",
-               "                  specified by the -P option, each containing tests for a single path. Otherwise, a",
-               "                  single test file is generated containing tests for all paths.",
-               "",
-               "  -O operations   If defined, tests are generated only for the specified HTTP methods. The operations",
-               "                  option must be a comma-separated list of path operations defined in the apiDef. If",
-               "                  omitted, tests are generated for all operations.",
-               "",
-               "  -xs             If specified, success cases are excluded from the generated tests.",
-               "",
-               "  -xf             If specified, failure cases are excluded from the generated tests.",
-               "",
-               "  -B server       If defined, specifies the base URI for the API server used by the generated tests.",
-               "                  The server expression has one of the following forms. If omitted, the default is index=0.",
-               "",
-               "                  index=<integer>",
-               "                       From the servers array defined in the apiDef, use the URI of the given element.",
-               "",
-               "                  contains=<text>",
-               "                       From the servers array defined in the apiDef, use the URI of the first element",
-               "                       with a description containing the given text.",
-               "",
-               "                   uri=<uri>",
-               "                       Use the specified <uri>.",
-               "",
-               "  -V              If specified, generated HTTPS requests will connect to the API server without verifying",
-               "                  the server certificate. Otherwise, by default, the API server must present a trusted",
-               "                  certificate.",
-               "",
-               "  -T contentType  Defines the content type of the OpenApi definition. The contentType must be one",
-               "                  of 'json', 'yaml', or 'yml'. If omitted, the default content type is derived from the",
-               "                  apiDef name. If the apiDef is read from standard input or does not have a recognized",
-               "                  extension, the default content type is 'json'.",
-               "",
-               "  -c M[,R]        Defines how input modelling and request case resolution conditions are reported.",
-               "                  Both M (for modelling conditions) and R (for resolution conditions) must be one of",
-               "                  'log', 'fail', or 'ignore'. If 'log' is specified, conditions are reported using log",
-               "                  messages. If 'fail' is specified, any condition will cause an exception. If 'ignore'",
-               "                  is specified, all conditions are silently ignored. If R is omitted, the default is",
-               "                  'log'. If -c is omitted, the default is 'log,log'.",
-               "",
-               "  -R              If specified, tests will be generated assuming that the API will strictly enforce",
-               "                  exclusion of 'readOnly' properties from request parameters. If omitted, no strict",
-               "                  enforcement is assumed.",
-               "",
-               "  -r seed         If defined, use the given random number seed to generate request test case input",
-               "                  values. If omitted, the default random number seed is derived from the apiDef name.",
-               "",
-               "  -m maxTries     Defines the maximum attempts made to resolve a request test case input value before",
-               "                  reporting failure. If omitted, the default value is 10000.",
-               "",
-               "  -l logFile      If -l is defined, log output is written to the given file. If omitted,",
-               "                  log output is written to a file named tcases-api-test.log in the current working",
-               "                  directory. If logFile is 'stdout', log output is written to standard output.",
-               "",
-               "  -L logLevel     Defines the level for log output. If omitted, the default level is INFO.",
-               "                  The configuration and levels used for logging are defined by the Logback system.",
-               "",
-               "  -v              Prints the current command version identifier to standard output."
-             })
-        {
-        System.err.println( line);
-        }
+      return
+        new String[] {
+          "Usage: tcases-api-test [option...] [apiDef]",
+          "",
+          "Generates executable test code for API servers, based on an OpenAPI v3 compliant API definition.",
+          "",
+          "An OpenAPI v3 API definition is read from the given apiDef file. If omitted, the API definition is read from",
+          "standard input. If no outFile is specified, output is written to a default file derived from the",
+          "apiDef or, if no apiDef is given, to standard output.",
+          "",
+          "Each option is one of the following:",
+          "",
+          "  -t testType     Defines the test framework used to run API tests. Standard values 'junit', 'testng',",
+          "                  'moco' are supported. If omitted, the default is 'junit'.",
+          "",
+          "                  Use 'moco' to generate a JUnit test that sends requests to a Moco stub server.",
+          "                  To define the Moco server test configuration, use the '-M' option.",
+          "",
+          "                  Use 'junit-table' or 'testng-table' to generate a data-driven test that executes",
+          "                  a single test method for each request defined in a '<testClass>-Requests.json'",
+          "                  resource file.",
+          "",
+          "                  Use 'load' to generate a '<testName>Load' main class that drives a continuous",
+          "                  load of requests using the java.net.http.HttpClient and reports the latency",
+          "                  percentiles for each API operation.",
+          "",
+          "  -e execType     Defines the request execution interface used to run API tests. Standard values",
+          "                  'restassured' and 'httpclient' are supported. The 'httpclient' interface generates",
+          "                  tests that use the java.net.http.HttpClient of the JDK (Java 11 or later). If",
+          "                  omitted, the default is 'restassured'.",
+          "",
+          "  -n testName     Defines the name of the test class that is generated. This can be either a fully-",
+          "                  qualified class name or a simple class name. If omitted, the default is based on",
+          "                  the title of the apiDef.",
+          "",
+          "  -cp classPath   Adds the given class path elements to the class path used to provide user-defined",
+          "                  extensions for test generation. The class path argument must follow the Java",
+          "                  conventions for the current platform.",
+          "",
+          "  -p testPackage  Defines the package for the test class that is generated. This can be omitted if",
+          "                  the testName is a fully-qualified class name or if the package can be determined",
+          "                  from the outDir.",
+          "",
+          "  -b baseClass    If defined, specifies a base class for the generated test class. This can be a",
+          "                  fully-qualified class name or a simple class name, if the baseClass belongs to",
+          "                  the same package as the generated test class.",
+          "",
+          "  -f outFile      If defined, output is written to the specified outFile, relative to the given outDir.",
+          "                  If omitted, the default outFile is derived from the testName.",
+          "",
+          "  -o outDir       If -o is defined, output is written to the specified directory. If omitted, the",
+          "                  default outDir is the directory containing the apiDef or, if reading from standard",
+          "                  input, output is written to standard output.",
+          "",
+          "  -d resourceDir  If -d is defined, test resource output is written to the specified directory. If omitted,",
+          "                  the default resourceDir is the same as the outDir. If resourceDir is 'no' or 'false',",
+          "                  no test resource output is produced.",
+          "",
+          "  -u timeout      Defines the maximum time (in milliseconds) to complete an individual test method.",
+          "                  A test failure occurs if a method continues past this time limit. If omitted, no time",
+          "                  limit is enforced.",
+          "",
+          "  -mc maxCases    Defines the maximum number of test cases written to a single test file. If more test",
+          "                  cases are generated, they are split among multiple test files, named by appending '_N'",
+          "                  to the test name for each part N. If omitted, the number of test cases is unlimited.",
+          "",
+          "  -mb maxBytes    Defines the maximum size (in bytes) of the test case code written to a single test file.",
+          "                  If more test case code is generated, test cases are split among multiple test files, as",
+          "                  for -mc. If omitted, the size of a test file is unlimited.",
+          "",
+          "  -mi maxBodyBytes Defines the maximum size (in bytes) of a request body written inline in test case",
+          "                  code. Any larger request body is written to a resource file in the test resource",
+          "                  directory, named for a hash of its content, and read from the classpath when the",
+          "                  test runs. If omitted, all request bodies are written inline.",
+          "",
+          "  -pt threads     If defined, generated tests are safe to run test methods concurrently using the",
+          "                  given number of threads. All test methods share a single response validator. For a",
+          "                  TestNG test, a '<testClass>-testng.xml' suite definition that runs test methods in",
+          "                  parallel is written to the test resource directory. For a JUnit test, parallel",
+          "                  execution is configured by the test runner, for example, using the Maven Surefire",
+          "                  'parallel' and 'threadCount' options. If omitted, generated tests are run serially.",
+          "",
+          "  -ss             When the testType is 'junit-table' or 'testng-table', if specified, the generated test",
+          "                  starts an in-process stub server that returns stub responses for all of its requests,",
+          "                  so the test runs without the API server. Otherwise, requests are sent to the API server.",
+          "",
+          "  -M mocoTestConfig When the testType is 'moco', specifies the Moco server test configuration file.",
+          "",
+          "  -S              If specified, a separate test file is generated for each of the API resource paths",
+          "                  specified by the -P option, each containing tests for a single path. Otherwise, a",
+          "                  single test file is generated containing tests for all paths.",
+          "",
+          "  -K cacheDir     If -K is defined, the models created for the apiDef are stored in the given cacheDir",
+          "                  and reused when the same apiDef is modelled again with the same options. If relative,",
+          "                  the cacheDir path is assumed to be relative to the current working directory. If",
+          "                  omitted, or if the apiDef is read from standard input, no cache is used.",
+          "",
+          "  -shard N/M      If -shard is defined, the API operations are partitioned into M shards, based on a hash",
+          "                  of the path and operation name, and tests are generated only for the operations in shard N.",
+          "                  The shard is appended to the testName. A manifest that lists the operations modelled is",
+          "                  written to a file named B-Shard-N-of-M.json in the outDir. If omitted, tests are generated",
+          "                  for all operations.",
+          "",
+          "  -ma max         If -ma is defined, no more than max alternatives are created when expanding the",
+          "                  combinations of allOf, anyOf, oneOf, and not assertions for a schema. When this limit",
+          "                  is exceeded, a warning is reported and the remaining alternatives are ignored, so some",
+          "                  invalid inputs may not be modelled. If omitted, the number of alternatives is unlimited.",
+          "",
+          "  -j parallelism  Defines the maximum number of API operations that are modelled concurrently and, if -S is",
+          "                  defined, the maximum number of test files that are written concurrently. The tests",
+          "                  generated are the same for any parallelism. If omitted, the default parallelism is 1.",
+          "",
+        };
       }
 
     /**
@@ -996,30 +909,6 @@ public class ApiTestCommand
       return extensions_;
       }
 
-    /**
-     * Changes the source of API input definitions.
-     */
-    public void setSource( ModelOptions.Source source)
-      {
-      getModelOptions().setSource( source);
-      }
-
-    /**
-     * Changes the source of API input definitions.
-     */
-    public void setSource( String source)
-      {
-      setSource( ModelOptions.Source.valueOf( String.valueOf( source).toUpperCase()));
-      }
-
-    /**
-     * Returns the source of API input definitions.
-     */
-    public ModelOptions.Source getSource()
-      {
-      return getModelOptions().getSource();
-      }
-
     /**
      * Changes the name of the test class that is generated.
      */
@@ -1162,385 +1051,183 @@ public class ApiTestCommand
       }
 
     /**
-     * Changes the Moco server test configuration file
-     */
-    public void setMocoTestConfig( File mocoTestConfig)
-      {
-      mocoTestConfig_ = mocoTestConfig;
-      }
-
-    /**
-     * Returns the Moco server test configuration file
-     */
-    public File getMocoTestConfig()
-      {
-      return mocoTestConfig_;
-      }
-
-    /**
-     * Changes request paths for which tests are generated.
-     */
-    public void setPaths( Iterable<String> paths)
-      {
-      paths_ =
-        Optional.ofNullable( toStream( paths))
-        .map( s -> s.collect( toSet()))
-        .orElse( null);
-      }
-
-    /**
-     * Returns request paths for which tests are generated.
-     */
-    public Set<String> getPaths()
-      {
-      return paths_;
-      }
-
-    /**
-     * Returns true if generating a separate test file for each request path.
-     */
-    public void setByPath( boolean byPath)
-      {
-      byPath_ = byPath;
-      }
-
-    /**
-     * Returns true if generating a separate test file for each request path.
-     */
-    public boolean isByPath()
-      {
-      return byPath_;
-      }
-
-    /**
-     * Changes request path operations for which tests are generated.
-     */
-    public void setOperations( Iterable<String> operations)
-      {
-      operations_ =
-        Optional.ofNullable( toStream( operations))
-        .map( s -> s.collect( toSet()))
-        .orElse( null);
-      }
-
-    /**
-     * Returns request path operations for which tests are generated.
-     */
-    public Set<String> getOperations()
-      {
-      return operations_;
-      }
-
-    /**
-     * Changes if success cases are excluded from generated tests.
-     */
-    public void setSuccessExcluded( boolean excluded)
-      {
-      excludeSuccess_ = excluded;
-      }
-
-    /**
-     * Returns if success cases are excluded from generated tests.
-     */
-    public boolean isSuccessExcluded()
-      {
-      return excludeSuccess_;
-      }
-
-    /**
-     * Changes if failure cases are excluded from generated tests.
-     */
-    public void setFailureExcluded( boolean excluded)
-      {
-      excludeFailure_ = excluded;
-      }
-
-    /**
-     * Returns if failure cases are excluded from generated tests.
-     */
-    public boolean isFailureExcluded()
-      {
-      return excludeFailure_;
-      }
-
-    /**
-     * Changes the expression that identifies the API server URI used by generated tests.
-     */
-    public void setServerUri( String serverExpr) throws Exception
-      {
-      if( StringUtils.isNotBlank( serverExpr))
-        {
-        Matcher serverMatcher = serverExprPattern_.matcher( serverExpr);
-        if( !serverMatcher.matches())
-          {
-          throw new IllegalArgumentException( String.format( "'%s' is not a valid server expression", serverExpr));
-          }
-
-        String key = serverMatcher.group(1);
-        String value = serverMatcher.group(2);
-        if( "index".equals( key))
-          {
-          getModelOptions().setServerSelector( ServerSelector.atIndex( Integer.valueOf( value)));
-          }
-        else if( "contains".equals( key))
-          {
-          getModelOptions().setServerSelector( ServerSelector.containing( value));
-          }
-        else
-          {
-          getModelOptions().setServerUri( new URI( value));
-          }
-        }
-      }
-
-    /**
-     * Changes if generated HTTPS requests will connect to the API server without verifying the server certificate.
-     */
-    public void setServerTrusted( boolean trusted)
-      {
-      serverTrusted_ = trusted;
-      }
-
-    /**
-     * Returns if generated HTTPS requests will connect to the API server without verifying the server certificate.
+     * Changes the maximum number of test cases written to a single test file.
      */
-    public boolean isServerTrusted()
+    public void setMaxTestCases( Integer maxCases)
       {
-      return serverTrusted_;
-      }
-
-    /**
-     * Changes the OpenApi definition file content type.
-     */
-    public void setContentType( String option)
-      {
-      String contentType =
-        Optional.ofNullable( option)
-        .map( String::toLowerCase)
-        .filter( type -> "json".equals( type) || "yml".equals( type) || "yaml".equals( type))
-        .orElse( null);
-      
-      if( option != null && contentType == null)
-        {
-        throw new IllegalArgumentException( String.format( "'%s' is not a valid content type", option));
-        }
-
-      contentType_ = contentType;
+      maxTestCases_ = maxCases;
       }
 
     /**
-     * Returns the OpenApi definition file content type.
+     * Returns the maximum number of test cases written to a single test file.
      */
-    public String getContentType()
+    public Integer getMaxTestCases()
       {
-      return contentType_;
+      return maxTestCases_;
       }
 
     /**
-     * Changes the input modelling options.
+     * Changes the maximum number of bytes of test case code written to a single test file.
      */
-    public void setModelOptions( ModelOptions modelOptions)
+    public void setMaxTestBytes( Long maxBytes)
       {
-      modelOptions_ = modelOptions;
+      maxTestBytes_ = maxBytes;
       }
 
     /**
-     * Returns the input modelling options.
+     * Returns the maximum number of bytes of test case code written to a single test file.
      */
-    public ModelOptions getModelOptions()
+    public Long getMaxTestBytes()
       {
-      return modelOptions_;
+      return maxTestBytes_;
       }
 
     /**
-     * Changes the request case resolution options.
+     * Changes the maximum number of bytes of a request body written inline in test case code.
      */
-    public void setResolverContext( ResolverContext resolverContext)
+    public void setMaxInlineBodyBytes( Integer maxBytes)
       {
-      resolverContext_ = resolverContext;
+      maxInlineBodyBytes_ = maxBytes;
       }
 
     /**
-     * Returns the request case resolution options.
+     * Returns the maximum number of bytes of a request body written inline in test case code.
      */
-    public ResolverContext getResolverContext()
+    public Integer getMaxInlineBodyBytes()
       {
-      return resolverContext_;
+      return maxInlineBodyBytes_;
       }
 
     /**
-     * Changes the random number generator seed for request case resolution.
+     * Changes the number of threads used to run generated test methods concurrently. If null, generated tests are run serially.
      */
-    public void setRandomSeed( Long seed)
+    public void setParallelTests( Integer threads)
       {
-      randomSeed_ = seed;
-      if( seed != null)
-        {
-        getResolverContext().setRandom( new Random( seed));
-        }
+      parallelTests_ = threads;
       }
 
     /**
-     * Returns the random number generator seed for request case resolution.
+     * Returns the number of threads used to run generated test methods concurrently. If null, generated tests are run serially.
      */
-    public Long getRandomSeed()
+    public Integer getParallelTests()
       {
-      return randomSeed_;
+      return parallelTests_;
       }
 
     /**
-     * Returns the default random number generator seed for request case resolution.
+     * Changes if a generated data-driven test starts a stub server for its requests.
      */
-    public Long getDefaultRandomSeed()
+    public void setStubServer( boolean stubServer)
       {
-      return
-        Optional.ofNullable( getApiDef())
-        .map( def -> (long) def.getName().hashCode())
-        .orElse( new Random().nextLong());
+      stubServer_ = stubServer;
       }
 
     /**
-     * Changes the maximum attempts made to resolve a request test case input value before reporting failure..
+     * Returns if a generated data-driven test starts a stub server for its requests.
      */
-    public void setMaxTries( int maxTries)
+    public boolean isStubServer()
       {
-      getResolverContext().setMaxTries( maxTries);
+      return stubServer_;
       }
 
     /**
-     * Returns the maximum attempts made to resolve a request test case input value before reporting failure..
+     * Changes the Moco server test configuration file
      */
-    public int getMaxTries()
+    public void setMocoTestConfig( File mocoTestConfig)
       {
-      return getResolverContext().getMaxTries();
+      mocoTestConfig_ = mocoTestConfig;
       }
 
     /**
-     * Changes condition notifiers for input modelling and request case resolution conditions.
+     * Returns the Moco server test configuration file
      */
-    public void setConditionNotifiers( String notifierList)
+    public File getMocoTestConfig()
       {
-      String[] notifiers = notifierList.split( ",", -1);
-
-      String modelNotifier = notifiers.length > 0? StringUtils.trimToNull( notifiers[0]) : null;
-      setOnModellingCondition( modelNotifier);
-
-      String resolveNotifier = notifiers.length > 1? StringUtils.trimToNull( notifiers[1]) : null;
-      setOnResolverCondition( resolveNotifier);
+      return mocoTestConfig_;
       }
 
     /**
-     * Changes the input modelling condition notifier.
+     * Returns true if generating a separate test file for each request path.
      */
-    public void setOnModellingCondition( String notifier)
+    public void setByPath( boolean byPath)
       {
-      getModelOptions().setConditionNotifier(
-        Optional.ofNullable(
-          notifier == null || "log".equals( notifier)?
-          ModelConditionNotifier.log() :
-
-          "fail".equals( notifier)?
-          ModelConditionNotifier.fail() :
-
-          "ignore".equals( notifier)?
-          Notifier.ignore() :
-
-          null)
-
-        .orElseThrow( () -> getUsageException( "Unknown condition notifier: " + notifier, null)));
+      byPath_ = byPath;
       }
 
     /**
-     * Changes the request case resolution condition notifier.
+     * Returns true if generating a separate test file for each request path.
      */
-    public void setOnResolverCondition( String notifier)
+    public boolean isByPath()
       {
-      getResolverContext().setNotifier(
-        Optional.ofNullable(
-          notifier == null || "log".equals( notifier)?
-          RequestCaseConditionNotifier.log() :
-
-          "fail".equals( notifier)?
-          RequestCaseConditionNotifier.fail() :
-
-          "ignore".equals( notifier)?
-          Notifier.ignore() :
-
-          null)
-
-        .orElseThrow( () -> getUsageException( "Unknown condition notifier: " + notifier, null)));
+      return byPath_;
       }
 
     /**
-     * Changes if "readOnly" properties are strictly enforced.
+     * Changes the directory used to cache API models.
      */
-    public void setReadOnlyEnforced( boolean enforced)
+    public void setCacheDir( File cacheDir)
       {
-      getModelOptions().setReadOnlyEnforced( enforced);
+      cacheDir_ = cacheDir;
       }
 
     /**
-     * Changes the Open API v3 API definition file
+     * Returns the directory used to cache API models.
      */
-    public void setApiDef( File apiDef)
+    public File getCacheDir()
       {
-      apiDef_ = apiDef;
+      return cacheDir_;
       }
 
     /**
-     * Returns the Open API v3 API definition file
+     * Changes the shard of API operations for which tests are generated.
      */
-    public File getApiDef()
+    public void setShard( Shard shard)
       {
-      return apiDef_;
+      getModelOptions().setShard( shard);
       }
 
     /**
-     * Changes the current working directory used to complete relative path names.
+     * Returns the shard of API operations for which tests are generated.
      */
-    public void setWorkingDir( File workingDir)
+    public Shard getShard()
       {
-      workingDir_ =
-        workingDir == null
-        ? new File( ".")
-        : workingDir;
+      return getModelOptions().getShard();
       }
 
     /**
-     * Returns the current working directory used to complete relative path names.
+     * Changes the maximum number of alternatives created when expanding the combinations of schema assertions.
+     * If null, the number of alternatives is unlimited.
      */
-    public File getWorkingDir()
+    public void setMaxAlternatives( Integer maxAlternatives)
       {
-      return workingDir_;
+      getModelOptions().setMaxAlternatives( maxAlternatives);
       }
 
     /**
-     * Changes if the current version should be shown.
+     * Returns the maximum number of alternatives created when expanding the combinations of schema assertions.
+     * If null, the number of alternatives is unlimited.
      */
-    public void setShowVersion( boolean showVersion)
+    public Integer getMaxAlternatives()
       {
-      showVersion_ = showVersion;
+      return getModelOptions().getMaxAlternatives();
       }
 
     /**
-     * Returns if the current version should be shown.
+     * Changes the maximum number of API operations modelled concurrently and the maximum number of
+     * test files written concurrently.
      */
-    public boolean showVersion()
+    public void setParallelism( int parallelism)
       {
-      return showVersion_;
+      getModelOptions().setParallelism( parallelism);
       }
 
     /**
-     * Returns the {@link TestSource} defined by these options.
+     * Returns the maximum number of API operations modelled concurrently and the maximum number of
+     * test files written concurrently.
      */
-    public TestSource getTestSource( RequestTestDef testDef)
+    public int getParallelism()
       {
-      TestSource testSource = new TestSource( testDef);
-      testSource.setPaths( getPaths());
-      testSource.setOperations( getOperations());
-      testSource.setSuccessIncluded( !isSuccessExcluded());
-      testSource.setFailureIncluded( !isFailureExcluded());
-      return testSource;
+      return getModelOptions().getParallelism();
       }
 
     /**
@@ -1577,6 +1264,9 @@ public class ApiTestCommand
         Runtime.createTestTarget( testWriterClass, getExtensions())
         .orElseThrow( () -> new IllegalArgumentException( String.format( "Can't find TestTarget for TestWriter=%s", testWriterClass.getSimpleName())));
 
+      target.setMaxTestCases( getMaxTestCases());
+      target.setMaxTestBytes( getMaxTestBytes());
+
       Optional.of( target)
         .filter( t -> JavaTestTarget.class.isAssignableFrom( t.getClass()))
         .map( t -> (JavaTestTarget) t)
@@ -1588,7 +1278,9 @@ public class ApiTestCommand
             .toFile( getOutFile())
             .inDir( getOutDir())
             .withResourcesIn( getResourceOutDir())
-            .timeout( getTimeout());
+            .timeout( getTimeout())
+            .parallel( getParallelTests())
+            .stubServer( isStubServer());
           });
 
       return target;
@@ -1655,6 +1347,8 @@ public class ApiTestCommand
         .ifPresent( base -> {
           base.setValidateResponses( hasResources());
           base.setTrustServer( isServerTrusted());
+          base.setMaxInlineBodyBytes( getMaxInlineBodyBytes());
+          base.setThreadSafe( getParallelTests() != null);
           });
       
       return testCaseWriter;
@@ -1669,11 +1363,8 @@ public class ApiTestCommand
       }
 
     @Override
-    public String toString()
+    protected void appendOptions( StringBuilder builder)
       {
-      StringBuilder builder = new StringBuilder();
-
-      Optional.of( getSource()).filter( s -> ModelOptions.Source.EXAMPLES.equals( s)).ifPresent( g -> builder.append( " -X"));
       builder.append( " -t ").append( getTestType());
       builder.append( " -e ").append( getExecType());
 
@@ -1695,27 +1386,19 @@ public class ApiTestCommand
       Optional.ofNullable( getOutDir()).ifPresent( dir -> builder.append( " -o ").append( dir.getPath()));   
       Optional.ofNullable( getResourceOutDir()).ifPresent( dir -> builder.append( " -d ").append( dir.getPath()));   
       Optional.ofNullable( getTimeout()).ifPresent( timeout -> builder.append( " -u ").append( timeout));   
+      Optional.ofNullable( getMaxTestCases()).ifPresent( maxCases -> builder.append( " -mc ").append( maxCases));
+      Optional.ofNullable( getMaxTestBytes()).ifPresent( maxBytes -> builder.append( " -mb ").append( maxBytes));
+      Optional.ofNullable( getMaxInlineBodyBytes()).ifPresent( maxBytes -> builder.append( " -mi ").append( maxBytes));
+      Optional.ofNullable( getParallelTests()).ifPresent( threads -> builder.append( " -pt ").append( threads));
+      if( isStubServer()) builder.append( " -ss");
       Optional.ofNullable( getMocoTestConfig()).ifPresent( moco -> builder.append( " -M ").append( moco.getPath()));
       if( isByPath()) builder.append( " -S");
-      Optional.ofNullable( getPaths()).ifPresent( paths -> builder.append( " -P ").append( paths.stream().collect( joining( ","))));   
-      Optional.ofNullable( getOperations()).ifPresent( operations -> builder.append( " -O ").append( operations.stream().collect( joining( ","))));
-      if( isSuccessExcluded()) builder.append( " -xs");
-      if( isFailureExcluded()) builder.append( " -xf");
-      builder.append( " -c ").append( String.format( "%s,%s", getModelOptions().getConditionNotifier(), getResolverContext().getNotifier()));
-      Optional.of( getModelOptions()).filter( ModelOptions::isReadOnlyEnforced).ifPresent( o -> builder.append( " -R")); 
-      builder.append( " -m ").append( getMaxTries());
-      Optional.ofNullable( getRandomSeed()).ifPresent( seed -> builder.append( " -r ").append( seed));
-      Optional.ofNullable( getContentType()).ifPresent( content -> builder.append( " -T ").append( content));
-
-      if( showVersion())
-        {
-        builder.append( " -v");
-        }
-
-      return builder.toString();
+      Optional.ofNullable( getCacheDir()).ifPresent( cacheDir -> builder.append( " -K ").append( cacheDir.getPath()));
+      Optional.ofNullable( getShard()).ifPresent( shard -> builder.append( " -shard ").append( shard));
+      Optional.ofNullable( getMaxAlternatives()).ifPresent( max -> builder.append( " -ma ").append( max));
+      Optional.of( getParallelism()).filter( parallelism -> parallelism > 1).ifPresent( parallelism -> builder.append( " -j ").append( parallelism));
       }
 
-    private File apiDef_;
     private String testType_;
     private String execType_;
     private String testName_;
@@ -1726,34 +1409,27 @@ public class ApiTestCommand
     private boolean hasResources_;
     private File outFile_;
     private Long timeout_;
+    private Integer maxTestCases_;
+    private Long maxTestBytes_;
+    private Integer maxInlineBodyBytes_;
+    private Integer parallelTests_;
+    private boolean stubServer_;
     private File mocoTestConfig_;
     private boolean byPath_;
-    private Set<String> paths_;
-    private Set<String> operations_;
-    private String contentType_;
-    private ModelOptions modelOptions_;
-    private ResolverContext resolverContext_;
-    private File workingDir_;
-    private boolean showVersion_;
-    private Long randomSeed_;
-    private boolean serverTrusted_;
+    private File cacheDir_;
     private Set<File> extensions_ = new LinkedHashSet<File>();
-    private boolean excludeSuccess_;
-    private boolean excludeFailure_;
 
-    private static final Pattern serverExprPattern_ = Pattern.compile( "(index|contains|uri)=(.+)");
-      
-    public static class Builder
+    public static class Builder extends BaseBuilder<Builder>
       {
       public Builder()
         {
         options_ = new Options();
         }
 
-      public Builder apiDef( File apiDef)
+      @Override
+      protected ApiRequestOptions getOptions()
         {
-        options_.setApiDef( apiDef);
-        return this;
+        return options_;
         }
 
       public Builder testType( String testType)
@@ -1768,12 +1444,6 @@ public class ApiTestCommand
         return this;
         }
 
-      public Builder source( ModelOptions.Source source)
-        {
-        options_.setSource( source);
-        return this;
-        }
-
       public Builder testName( String testName)
         {
         options_.setTestName( testName);
@@ -1816,97 +1486,79 @@ public class ApiTestCommand
         return this;
         }
 
-      public Builder mocoTestConfig( File mocoTestConfig)
+      public Builder maxTestCases( Integer maxCases)
         {
-        options_.setMocoTestConfig( mocoTestConfig);
+        options_.setMaxTestCases( maxCases);
         return this;
         }
 
-      public Builder paths( String... paths)
+      public Builder maxTestBytes( Long maxBytes)
         {
-        options_.setPaths( Arrays.asList( paths));
+        options_.setMaxTestBytes( maxBytes);
         return this;
         }
 
-      public Builder byPath()
+      public Builder maxInlineBodyBytes( Integer maxBytes)
         {
-        return byPath( true);
-        }
-
-      public Builder byPath( boolean byPath)
-        {
-        options_.setByPath( byPath);
+        options_.setMaxInlineBodyBytes( maxBytes);
         return this;
         }
 
-      public Builder operations( String... operations)
+      public Builder parallelTests( Integer threads)
         {
-        options_.setOperations( Arrays.asList( operations));
+        options_.setParallelTests( threads);
         return this;
         }
 
-      public Builder successExcluded( boolean excluded)
+      public Builder stubServer()
         {
-        options_.setSuccessExcluded( excluded);
-        return this;
+        return stubServer( true);
         }
 
-      public Builder failureExcluded( boolean excluded)
+      public Builder stubServer( boolean stubServer)
         {
-        options_.setFailureExcluded( excluded);
+        options_.setStubServer( stubServer);
         return this;
         }
 
-      public Builder serverUri( String serverExpr) throws Exception
-        {
-        options_.setServerUri( serverExpr);
-        return this;
-        }
-
-      public Builder serverTrusted( boolean trusted)
+      public Builder mocoTestConfig( File mocoTestConfig)
         {
-        options_.setServerTrusted( trusted);
+        options_.setMocoTestConfig( mocoTestConfig);
         return this;
         }
 
-      public Builder serverTrusted()
-        {
-        return serverTrusted( true);
-        }
-
-      public Builder contentType( String type)
+      public Builder byPath()
         {
-        options_.setContentType( type);
-        return this;
+        return byPath( true);
         }
 
-      public Builder onModellingCondition( String notifier)
+      public Builder byPath( boolean byPath)
         {
-        options_.setOnModellingCondition( notifier);
+        options_.setByPath( byPath);
         return this;
         }
 
-      public Builder onResolverCondition( String notifier)
+      public Builder cacheDir( File cacheDir)
         {
-        options_.setOnResolverCondition( notifier);
+        options_.setCacheDir( cacheDir);
         return this;
         }
 
-      public Builder enforceReadOnly()
+      public Builder shard( Shard shard)
         {
-        options_.setReadOnlyEnforced( true);
+        options_.setShard( shard);
         return this;
         }
 
-      public Builder random( Long seed)
+      public Builder maxAlternatives( Integer maxAlternatives)
         {
-        options_.setRandomSeed( seed);
+        options_.setMaxAlternatives( maxAlternatives);
         return this;
         }
 
-      public Builder maxTries( int maxTries)
+      public Builder parallelism( int parallelism)
         {
-        options_.setMaxTries( maxTries);
+        options_.setParallelism( parallelism);
         return this;
         }
 
@@ -1973,9 +1625,46 @@ public class ApiTestCommand
       apiDefFile = new File( options.getWorkingDir(), apiDefFile.getPath());
       }
 
-    // Generate requested input definition
-    logger_.info( "Reading API definition from {}", Objects.toString( apiDefFile,  "standard input"));
-    SystemInputDef inputDef = TcasesOpenApiIO.getRequestInputModel( apiDefFile, options.getContentType(), options.getModelOptions());
+    // Use cached models, if available
+    boolean responsesRequired = apiDefFile != null && options.hasResources();
+    ModelCache cache = getModelCache( options, apiDefFile);
+    SystemInputDef inputDef = Optional.ofNullable( cache).flatMap( ModelCache::getRequestInputModel).orElse( null);
+    ResponsesDef responses = responsesRequired? Optional.ofNullable( cache).flatMap( ModelCache::getResponsesDef).orElse( null) : null;
+
+    if( inputDef == null || (responsesRequired && responses == null))
+      {
+      // Read the API definition once for all test generation steps
+      logger_.info( "Reading API definition from {}", Objects.toString( apiDefFile,  "standard input"));
+      OpenAPI api = TcasesOpenApiIO.readApi( apiDefFile, options.getContentType());
+
+      // Get response definitions before the API definition is updated by request modelling
+      if( responsesRequired)
+        {
+        responses = OpenApiUtils.responsesDef( api);
+        if( cache != null)
+          {
+          cache.putResponsesDef( responses);
+          }
+        }
+
+      // Generate requested input definition
+      inputDef = TcasesOpenApi.getRequestInputModel( api, options.getModelOptions());
+      if( inputDef != null && cache != null)
+        {
+        cache.putRequestInputModel( inputDef);
+        }
+      }
+    // Record the operations modelled for this shard, even if there are none.
+    if( options.getShard() != null)
+      {
+      writeShardManifest(
+        options.getShard(),
+        inputDef,
+        Optional.ofNullable( options.getOutDir())
+        .orElse( Optional.ofNullable( apiDefFile).map( File::getParentFile).orElse( options.getWorkingDir())),
+        apiDefFile);
+      }
+
     if( inputDef == null)
       {
       logger_.warn( "No requests defined");
@@ -2001,9 +1690,9 @@ public class ApiTestCommand
 
       // Write API tests for realized request cases only
       TestSource testSource = options.getTestSource( RequestCases.realizeRequestCases( testDef));
-      if( apiDefFile != null && options.hasResources())
+      if( responses != null)
         {
-        testSource.setResponses( TcasesOpenApiIO.getResponsesDef( apiDefFile, options.getContentType()));
+        testSource.setResponses( responses);
         }
 
       TestCaseWriter testCaseWriter = options.getTestCaseWriter();
@@ -2015,8 +1704,9 @@ public class ApiTestCommand
         testTarget.setDir( apiDefFile.getParentFile());
         }
 
-      logger_.info( "Writing API tests using {} and {}", testWriter, testCaseWriter);
-      if( options.isByPath())
+      // Write tests for each shard separately
+      Shard shard = options.getShard();
+      if( shard != null)
         {
         String testBaseName = getTestName( testWriter, testSource, testTarget);
         File testBaseFile = getTestFile( testWriter, testSource, testTarget);
@@ -2028,30 +1718,82 @@ public class ApiTestCommand
             Optional.ofNullable( testBaseFile)
             .map( File::getParentFile)
             .orElse( null)));
-        
+        testTarget.setName( String.format( "%s-Shard-%s-of-%s", testBaseName, shard.getIndex(), shard.getCount()));
+        }
+
+      logger_.info( "Writing API tests using {} and {}", testWriter, testCaseWriter);
+      if( options.isByPath())
+        {
+        String testBaseName = getTestName( testWriter, testSource, testTarget);
+        File testBaseFile = getTestFile( testWriter, testSource, testTarget);
+
+        File testDir =
+          Optional.ofNullable( testTarget.getDir())
+          .orElse(
+            Optional.ofNullable( testBaseFile)
+            .map( File::getParentFile)
+            .orElse( null));
+
+        ResponsesDef testResponses = responses;
         Set<String> testPaths = Optional.ofNullable( options.getPaths()).orElse( testSource.getTestDef().getPaths());
-        for( String testPath : testPaths)
-          {
-          testSource.setPaths( singleton( testPath));
-          testTarget.setName( String.format( "%s_%s", testBaseName, testPath));
+        List<PathTestTask> tasks =
+          testPaths.stream()
+          .map( testPath -> new PathTestTask( options, testSource.getTestDef(), testResponses, testPath, testBaseName, testDir))
+          .collect( toList());
 
-          if( testSource.getRequestCases().isEmpty())
+        // Tests written to standard output must be written one at a time.
+        writeTests( tasks, testDir == null? 1 : options.getParallelism());
+        }
+      else
+        {
+        logger_.info( "Writing all API tests to {}", Objects.toString( getTestFile( testWriter, testSource, testTarget),  "standard output"));
+        logTestResourceDir( options, testWriter, testSource, testTarget);
+        writeTest( testWriter, testSource, testTarget);
+        }
+      }
+    }
+
+  /**
+   * Writes the tests for each API path, running up to <CODE>parallelism</CODE> tasks concurrently.
+   * If any task fails, the failure for the first path is reported.
+   */
+  private static void writeTests( List<PathTestTask> tasks, int parallelism)
+    {
+    if( parallelism <= 1 || tasks.size() <= 1)
+      {
+      tasks.forEach( PathTestTask::call);
+      }
+    else
+      {
+      ExecutorService executor = Executors.newFixedThreadPool( Math.min( parallelism, tasks.size()));
+      try
+        {
+        List<Future<Void>> results = executor.invokeAll( tasks);
+        for( int i = 0; i < tasks.size(); i++)
+          {
+          PathTestTask task = tasks.get(i);
+          try
             {
-            logger_.warn( "No API request test cases defined for {}", testPath);
+            results.get(i).get();
             }
-          else
+          catch( ExecutionException e)
             {
-            logger_.info( "Writing API tests for {} to {}", testPath, Objects.toString( getTestFile( testWriter, testSource, testTarget),  "standard output"));
-            logTestResourceDir( options, testWriter, testSource, testTarget);
-            writeTest( testWriter, testSource, testTarget);
+            throw
+              Optional.of( e.getCause())
+              .filter( RuntimeException.class::isInstance)
+              .map( RuntimeException.class::cast)
+              .orElseGet( () -> new TestWriterException( String.format( "Can't write tests for %s", task), e.getCause()));
             }
           }
         }
-      else
+      catch( InterruptedException e)
         {
-        logger_.info( "Writing all API tests to {}", Objects.toString( getTestFile( testWriter, testSource, testTarget),  "standard output"));
-        logTestResourceDir( options, testWriter, testSource, testTarget);
-        writeTest( testWriter, testSource, testTarget);
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException( "Test writing interrupted", e);
+        }
+      finally
+        {
+        executor.shutdownNow();
         }
       }
     }
@@ -2203,5 +1945,111 @@ public class ApiTestCommand
       }
     }
 
+  /**
+   * Writes the manifest of the operations modelled for the given shard to the given directory.
+   */
+  private static void writeShardManifest( Shard shard, SystemInputDef inputDef, File dir, File apiDefFile)
+    {
+    ShardManifest manifest =
+      inputDef == null
+      ? new ShardManifest( null, shard, emptyList())
+      : ShardManifest.of( shard, inputDef);
+
+    if( !dir.exists() && !dir.mkdirs())
+      {
+      throw new IllegalStateException( "Can't create output directory=" + dir);
+      }
+
+    File manifestFile =
+      new File(
+        dir,
+        ShardManifest.getFileName( Optional.ofNullable( apiDefFile).map( f -> getBaseName( f.getName())).orElse( "tcases-api-test"), shard));
+
+    logger_.info( "Writing manifest for shard {} to {}", shard, manifestFile);
+    manifest.write( manifestFile);
+    }
+
+  /**
+   * Returns the {@link ModelCache} for the given API definition file. Returns null if no cache is used.
+   */
+  private static ModelCache getModelCache( Options options, File apiDefFile)
+    {
+    File cacheDir = options.getCacheDir();
+    return
+      cacheDir == null || apiDefFile == null
+      ? null
+      : new ModelCache(
+        cacheDir.isAbsolute()? cacheDir : new File( options.getWorkingDir(), cacheDir.getPath()),
+        apiDefFile,
+        options.getContentType(),
+        options.getModelOptions());
+    }
+
+  /**
+   * Writes the tests for a single API path. Each task uses its own {@link TestSource}, {@link TestTarget},
+   * {@link TestWriter}, and {@link TestCaseWriter}, so that tasks for different paths can run concurrently.
+   */
+  private static class PathTestTask implements Callable<Void>
+    {
+    /**
+     * Creates a new PathTestTask instance.
+     */
+    public PathTestTask( Options options, RequestTestDef testDef, ResponsesDef responses, String testPath, String testBaseName, File testDir)
+      {
+      options_ = options;
+      testDef_ = testDef;
+      responses_ = responses;
+      testPath_ = testPath;
+      testBaseName_ = testBaseName;
+      testDir_ = testDir;
+      }
+
+    @Override
+    public Void call()
+      {
+      TestSource testSource = options_.getTestSource( testDef_);
+      testSource.setPaths( singleton( testPath_));
+      if( responses_ != null)
+        {
+        testSource.setResponses( responses_);
+        }
+
+      TestWriter<?,?> testWriter = options_.getTestWriter( options_.getTestCaseWriter());
+      TestTarget testTarget = options_.getTestTarget( testWriter);
+      testTarget.setFile( (File)null);
+      testTarget.setDir( testDir_);
+      testTarget.setName( String.format( "%s_%s", testBaseName_, testPath_));
+
+      if( testSource.getRequestCases().isEmpty())
+        {
+        logger_.warn( "No API request test cases defined for {}", testPath_);
+        }
+      else
+        {
+        logger_.info( "Writing API tests for {} to {}", testPath_, Objects.toString( getTestFile( testWriter, testSource, testTarget),  "standard output"));
+        logTestResourceDir( options_, testWriter, testSource, testTarget);
+        writeTest( testWriter, testSource, testTarget);
+        }
+
+      return null;
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.getBuilder( this)
+        .append( testPath_)
+        .toString();
+      }
+
+    private final Options options_;
+    private final RequestTestDef testDef_;
+    private final ResponsesDef responses_;
+    private final String testPath_;
+    private final String testBaseName_;
+    private final File testDir_;
+    }
+
   private static final Logger logger_ = LoggerFactory.getLogger( ApiTestCommand.class);
   }
@@ -11,6 +11,7 @@ import org.cornutum.tcases.CommandTest;
 import org.cornutum.tcases.io.SystemInputResources;
 import org.cornutum.tcases.io.SystemTestResources;
 import org.cornutum.tcases.openapi.ApiCommand.Options;
+import org.cornutum.tcases.openapi.io.ShardManifest;
 import org.cornutum.tcases.resolve.ResolverException;
 
 import org.apache.commons.io.FileUtils;
@@ -20,6 +21,8 @@ import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Runs tests for {@link ApiCommand}.
@@ -732,6 +735,69 @@ public class ApiCommandTest extends CommandTest
     assertThat( "Output model created", outFile.exists(), is( true));
     }
 
+  @Test
+  public void run_shards() throws Exception
+    {
+    // Given...
+    File apiFile = getResourceFile( "api-run-13.json");
+    File outDir = new File( apiFile.getParentFile(), "shards");
+
+    FileUtils.deleteDirectory( outDir);
+
+    // When...
+    List<ShardManifest> manifests = new ArrayList<ShardManifest>();
+    for( int i = 1; i <= 3; i++)
+      {
+      String shard = String.format( "%s/3", i);
+      String[] args =
+        {
+          "-D",
+          "-I",
+          "-o", outDir.getPath(),
+          "-shard", shard,
+          apiFile.getPath()
+        };
+    
+      ApiCommand.run( new Options( args));
+      manifests.add( ShardManifest.read( new File( outDir, String.format( "api-run-13-Shard-%s-of-3.json", i))));
+      }
+        
+    // Then...
+    assertThat( "Shards verified", ShardManifest.verify( manifests), is( empty()));
+    manifests.stream()
+      .filter( manifest -> !manifest.getOperations().isEmpty())
+      .forEach( manifest -> {
+        File outFile = new File( outDir, String.format( "api-run-13-Requests-Input-Shard-%s-of-3.json", manifest.getShard().getIndex()));
+        assertThat( "Output model created for shard " + manifest.getShard(), outFile.exists(), is( true));
+        });
+    }
+
+  @Test
+  public void run_maxAlternatives() throws Exception
+    {
+    // Given...
+    File apiFile = getResourceFile( "api-run-13.json");
+    File outFile = new File( apiFile.getParentFile(), "api-run-13-Requests-Input.json");
+
+    outFile.delete();
+
+    String[] args =
+      {
+        "-I",
+        "-ma", "2",
+        apiFile.getPath()
+      };
+
+    // When...
+    Options options = new Options( args);
+    ApiCommand.run( options);
+
+    // Then...
+    assertThat( "Max alternatives", options.getMaxAlternatives(), is( 2));
+    assertThat( "Default max alternatives", new Options( new String[]{ apiFile.getPath()}).getMaxAlternatives(), is( nullValue()));
+    assertThat( "Output model created", outFile.exists(), is( true));
+    }
+
   private SystemInputResources inputResources_ = new SystemInputResources( getClass());
   private SystemTestResources testResources_ = new SystemTestResources( getClass());
   }
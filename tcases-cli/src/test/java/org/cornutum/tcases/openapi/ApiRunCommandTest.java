@@ -0,0 +1,226 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.cornutum.tcases.CommandTest;
+import org.cornutum.tcases.openapi.ApiRunCommand.Options;
+import org.cornutum.tcases.openapi.testrunner.ApiTestReport;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runs tests for {@link ApiRunCommand}.
+ */
+public class ApiRunCommandTest extends CommandTest
+  {
+  @Before
+  public void startServer() throws Exception
+    {
+    server_ = HttpServer.create( new InetSocketAddress( "localhost", 0), 0);
+    server_.createContext(
+      "/api/items",
+      exchange -> {
+        String[] segments = exchange.getRequestURI().getPath().split( "/");
+        Integer id;
+        try
+          {
+          id = Integer.valueOf( segments[ segments.length - 1]);
+          }
+        catch( Exception e)
+          {
+          id = null;
+          }
+
+        if( id == null || id < 0)
+          {
+          exchange.sendResponseHeaders( 400, -1);
+          }
+        else
+          {
+          byte[] body = String.format( "{\"id\": %s}", id).getBytes( StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add( "Content-Type", "application/json");
+          exchange.sendResponseHeaders( 200, body.length);
+          try( OutputStream content = exchange.getResponseBody())
+            {
+            content.write( body);
+            }
+          }
+        exchange.close();
+        });
+    server_.start();
+    }
+
+  @After
+  public void stopServer()
+    {
+    server_.stop( 0);
+    }
+
+  @Test
+  public void whenJsonReport() throws Exception
+    {
+    // Given...
+    File apiFile = getResourceFile( "api-runner.json");
+
+    String[] args =
+      {
+        "-B", String.format( "uri=%s", getServerUri()),
+        "-j", "4",
+        "-jr", "4",
+        apiFile.getPath()
+      };
+
+    // When...
+    StringBuffer stdOut = new StringBuffer();
+    ApiTestReport[] report = new ApiTestReport[1];
+    runWithStdIO( () -> report[0] = ApiRunCommand.run( new Options( args)), null, stdOut);
+
+    // Then...
+    assertThat( "Resolver parallelism", new Options( args).getResolverParallelism(), is( 4));
+    assertThat( "Passed", report[0].isPassed(), is( true));
+    assertThat( "Tests", report[0].getResults().size(), is( greaterThan( 0)));
+    assertThat( "Report", stdOut.toString(), containsString( "\"name\": \"Items\""));
+    assertThat( "Report", stdOut.toString(), containsString( String.format( "\"passed\": %s", report[0].getResults().size())));
+    }
+
+  @Test
+  public void whenJUnitReport() throws Exception
+    {
+    // Given...
+    File apiFile = getResourceFile( "api-runner.json");
+    File reportFile = getResourceFile( "api-runner/TEST-Items.xml");
+    FileUtils.deleteQuietly( reportFile);
+
+    Options options =
+      Options.builder()
+      .apiDef( apiFile)
+      .serverUri( String.format( "uri=%s", getServerUri()))
+      .successExcluded( true)
+      .validateResponses( false)
+      .reportFile( reportFile)
+      .build();
+
+    // When...
+    ApiTestReport report = ApiRunCommand.run( options);
+
+    // Then...
+    String junit = FileUtils.readFileToString( reportFile, "UTF-8");
+    assertThat( "Passed", report.isPassed(), is( true));
+    assertThat( "Report", junit, containsString( String.format( "<testsuite name=\"Items\" tests=\"%s\" failures=\"0\" errors=\"0\"", report.getResults().size())));
+    assertThat( "Report", junit, containsString( "<testcase classname=\"GET /items/{id}\""));
+    }
+
+  @Test
+  public void whenRequestCasesFile() throws Exception
+    {
+    // Given...
+    File apiFile = getResourceFile( "api-runner.json");
+    File requestCasesFile = new File( apiFile.getParentFile(), "api-runner-Request-Cases.json");
+    FileUtils.deleteQuietly( requestCasesFile);
+    ApiCommand.run( new ApiCommand.Options( new String[]{ "-D", "-f", requestCasesFile.getPath(), apiFile.getPath()}));
+
+    String[] args =
+      {
+        "-D", requestCasesFile.getPath(),
+        "-B", String.format( "uri=%s", getServerUri()),
+        "-xf",
+        apiFile.getPath()
+      };
+
+    // When...
+    StringBuffer stdOut = new StringBuffer();
+    ApiTestReport[] report = new ApiTestReport[1];
+    runWithStdIO( () -> report[0] = ApiRunCommand.run( new Options( args)), null, stdOut);
+
+    // Then...
+    ApiTestReport generated =
+      ApiRunCommand.run(
+        Options.builder()
+        .apiDef( apiFile)
+        .serverUri( String.format( "uri=%s", getServerUri()))
+        .failureExcluded( true)
+        .reportFile( new File( apiFile.getParentFile(), "api-runner/Generated-Items.json"))
+        .build());
+
+    assertThat( "Passed", report[0].isPassed(), is( true));
+    assertThat( "Tests", report[0].getResults().size(), is( generated.getResults().size()));
+    assertThat( "Report", stdOut.toString(), containsString( "\"name\": \"Items\""));
+    }
+
+  @Test
+  public void whenRequestCasesNotValidated() throws Exception
+    {
+    // Given...
+    File apiFile = getResourceFile( "api-runner.json");
+    File requestCasesFile = new File( apiFile.getParentFile(), "api-runner-Request-Cases.json");
+    FileUtils.deleteQuietly( requestCasesFile);
+    ApiCommand.run( new ApiCommand.Options( new String[]{ "-D", "-f", requestCasesFile.getPath(), apiFile.getPath()}));
+
+    Options options =
+      Options.builder()
+      .requestCases( requestCasesFile)
+      .serverUri( String.format( "uri=%s", getServerUri()))
+      .validateResponses( false)
+      .reportFile( new File( apiFile.getParentFile(), "api-runner/Unvalidated-Items.json"))
+      .build();
+
+    // When...
+    ApiTestReport report = ApiRunCommand.run( options);
+
+    // Then...
+    assertThat( "Passed", report.isPassed(), is( true));
+    assertThat( "Tests", report.getResults().size(), is( greaterThan( 0)));
+    }
+
+  @Test
+  public void whenOptionsInvalid()
+    {
+    assertUsageError( "-j", "0");
+    assertUsageError( "-B", "other");
+    assertUsageError( "-f");
+    assertUsageError( "-D");
+    }
+
+  /**
+   * Reports a failure if the given arguments are not rejected.
+   */
+  private void assertUsageError( String... args)
+    {
+    IllegalArgumentException failure = null;
+    try
+      {
+      new Options( args);
+      }
+    catch( IllegalArgumentException e)
+      {
+      failure = e;
+      }
+    assertThat( "Usage error", failure, is( notNullValue()));
+    }
+
+  /**
+   * Returns the URI for the test server.
+   */
+  private String getServerUri()
+    {
+    return String.format( "http://localhost:%s/api", server_.getAddress().getPort());
+    }
+
+  private HttpServer server_;
+  }
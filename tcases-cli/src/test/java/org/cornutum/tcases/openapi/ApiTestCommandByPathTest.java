@@ -11,9 +11,13 @@ import org.cornutum.tcases.openapi.ApiTestCommand.Options;
 import org.cornutum.tcases.openapi.testwriter.TestWriterTest;
 import static org.cornutum.tcases.CommandTest.runWithStdIO;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 
 import java.io.File;
+import java.util.Arrays;
 
 /**
  * Runs tests for {@link ApiTestCommand}.
@@ -290,4 +294,53 @@ public class ApiTestCommandByPathTest extends TestWriterTest
     String testFileResults = stdOut.toString();
     verifyTest( "byPath_6", testFileResults);
     }
+  
+
+  @Test
+  public void byPath_concurrent() throws Exception
+    {
+    // Given...
+    File apiFile = stdApiDef( "OpenApiTest");
+    File sequentialDir = getResourceDir( "byPath_sequential");
+    File concurrentDir = getResourceDir( "byPath_concurrent");
+    FileUtils.deleteDirectory( sequentialDir);
+    FileUtils.deleteDirectory( concurrentDir);
+
+    // When...
+    ApiTestCommand.run( new Options( byPathArgs( apiFile, sequentialDir, "1")));
+    ApiTestCommand.run( new Options( byPathArgs( apiFile, concurrentDir, "4")));
+    
+    // Then...
+    String[] sequentialFiles = sequentialDir.list();
+    Arrays.sort( sequentialFiles);
+    String[] concurrentFiles = concurrentDir.list();
+    Arrays.sort( concurrentFiles);
+    assertThat( "Test files", concurrentFiles, is( sequentialFiles));
+    assertThat( "Test files", concurrentFiles.length > 1, is( true));
+
+    for( String file : sequentialFiles)
+      {
+      assertThat(
+        file,
+        FileUtils.readFileToString( new File( concurrentDir, file), "UTF-8"),
+        is( FileUtils.readFileToString( new File( sequentialDir, file), "UTF-8")));
+      }
+    }
+
+  /**
+   * Returns the arguments to write tests by path for the given API using the given parallelism.
+   */
+  private String[] byPathArgs( File apiFile, File outDir, String parallelism)
+    {
+    return
+      new String[]
+      {
+        "-n", "org.cornutum.examples.AllPaths",
+        "-o", outDir.getPath(),
+        "-r", "20210517",
+        "-S",
+        "-j", parallelism,
+        apiFile.getPath()
+      };
+    }
   }
@@ -8,6 +8,7 @@
 package org.cornutum.tcases.openapi;
 
 import org.cornutum.tcases.openapi.ApiTestCommand.Options;
+import org.cornutum.tcases.openapi.io.ShardManifest;
 import org.cornutum.tcases.openapi.moco.CertConfigResource;
 import org.cornutum.tcases.openapi.moco.MocoServerConfig;
 import org.cornutum.tcases.openapi.moco.MocoTestConfig;
@@ -18,9 +19,13 @@ import static org.cornutum.tcases.CommandTest.runWithStdIO;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Runs tests for {@link ApiTestCommand}.
@@ -955,6 +960,41 @@ public class ApiTestCommandTest extends TestWriterTest
     verifyTest( "api-test-stdout", testFileResults);
     }
 
+  @Test
+  public void whenResolvedConcurrently() throws Exception
+    {
+    // Given...
+    File apiFile = stdApiDef( "OpenApiTest");
+    Options serialOptions = new Options( new String[]{ "-p", "org.cornutum.examples", "-r", "99999"});
+    Options modelledOptions = new Options( new String[]{ "-p", "org.cornutum.examples", "-r", "99999", "-j", "4"});
+    Options resolved1Options = new Options( new String[]{ "-p", "org.cornutum.examples", "-r", "99999", "-jr", "1"});
+    Options resolved4Options = new Options( new String[]{ "-p", "org.cornutum.examples", "-r", "99999", "-j", "4", "-jr", "4"});
+    
+    // When...
+    StringBuffer serial = new StringBuffer();
+    runWithStdIO( () -> ApiTestCommand.run( serialOptions), apiFile, serial);
+    StringBuffer modelled = new StringBuffer();
+    runWithStdIO( () -> ApiTestCommand.run( modelledOptions), apiFile, modelled);
+    StringBuffer resolved1 = new StringBuffer();
+    runWithStdIO( () -> ApiTestCommand.run( resolved1Options), apiFile, resolved1);
+    StringBuffer resolved4 = new StringBuffer();
+    runWithStdIO( () -> ApiTestCommand.run( resolved4Options), apiFile, resolved4);
+        
+    // Then...
+    assertThat( "Serial resolver parallelism", serialOptions.getResolverParallelism(), is( 0));
+    assertThat( "Modelled resolver parallelism", modelledOptions.getResolverParallelism(), is( 0));
+    assertThat( "Resolver parallelism", resolved4Options.getResolverParallelism(), is( 4));
+
+    // Modelling concurrently doesn't change the tests generated...
+    assertThat( "Modelled concurrently", modelled.toString(), is( serial.toString()));
+
+    // ... but request cases resolved concurrently use a random number generator for each test case...
+    assertThat( "Resolved concurrently", resolved1.toString(), is( not( serial.toString())));
+
+    // ... so the same tests are generated for any resolver parallelism.
+    assertThat( "Same for any parallelism", resolved4.toString(), is( resolved1.toString()));
+    }
+
   @Test
   public void whenSuccessExcluded() throws Exception
     {
@@ -1050,6 +1090,96 @@ public class ApiTestCommandTest extends TestWriterTest
     assertResponses( testFile, responsesDir, true);
     }
 
+  @Test
+  public void run_shards() throws Exception
+    {
+    // Given...
+    File apiFile = stdApiDef( "OpenApiTest");
+    File outDir = getResourceDir( "shards");
+
+    FileUtils.deleteDirectory( outDir);
+
+    // When...
+    List<ShardManifest> manifests = new ArrayList<ShardManifest>();
+    for( int i = 1; i <= 2; i++)
+      {
+      String[] args =
+        {
+          "-n", "MyTest",
+          "-p", "org.cornutum.examples",
+          "-o", outDir.getPath(),
+          "-r", "12345",
+          "-shard", String.format( "%s/2", i),
+          apiFile.getPath()
+        };
+
+      ApiTestCommand.run( new Options( args));
+      manifests.add( ShardManifest.read( new File( outDir, String.format( "OpenApiTest-Shard-%s-of-2.json", i))));
+      }
+        
+    // Then...
+    assertThat( "Shards verified", ShardManifest.verify( manifests), is( empty()));
+    for( ShardManifest manifest : manifests)
+      {
+      File testFile = new File( outDir, String.format( "MyTestShard%sOf2Test.java", manifest.getShard().getIndex()));
+      assertThat( "Tests created for shard " + manifest.getShard(), testFile.exists(), is( !manifest.getOperations().isEmpty()));
+      }
+    }
+
+  @Test
+  public void whenLoadDriver() throws Exception
+    {
+    // Given...
+    File apiFile = stdApiDef( "OpenApiTest");
+    File outDir = getResourceDir( "load");
+
+    String[] args =
+      {
+        "-t", "load",
+        "-e", "httpclient",
+        "-p", "org.cornutum.examples",
+        "-o", outDir.getPath(),
+        apiFile.getPath()
+      };
+
+    // When...
+    ApiTestCommand.run( new Options( args));
+
+    // Then...
+    File driverFile = new File( outDir, "OpenAPIRequestTestCasesLoad.java");
+    String driver = FileUtils.readFileToString( driverFile, "UTF-8");
+    assertThat( "Main", driver, containsString( "run( new OpenAPIRequestTestCasesLoad().requests(), args);"));
+    assertThat( "Requests", driver, containsString( "private List<LoadRequest> requests() {"));
+    }
+
+  @Test
+  public void whenStubServer() throws Exception
+    {
+    // Given...
+    File apiFile = stdApiDef( "OpenApiTest");
+    File outDir = getResourceDir( "stub-server");
+
+    String[] args =
+      {
+        "-t", "junit-table",
+        "-ss",
+        "-p", "org.cornutum.examples",
+        "-o", outDir.getPath(),
+        apiFile.getPath()
+      };
+
+    // When...
+    ApiTestCommand.run( new Options( args));
+
+    // Then...
+    File testFile = new File( outDir, "OpenAPIRequestTestCasesTest.java");
+    String test = FileUtils.readFileToString( testFile, "UTF-8");
+    assertThat( "Stub server", test, containsString( "StubServer stubServer = StubServer.forTest( OpenAPIRequestTestCasesTest.class, requestTable);"));
+    assertThat( "Start", test, containsString( "stubServer.start();"));
+    assertThat( "Runner", test, containsString( "requestRunner.setStubServer( stubServer);"));
+    assertThat( "Requests", new File( outDir, "OpenAPIRequestTestCasesTest-Requests.json").exists(), is( true));
+    }
+
   /**
    * Writes the given {@link MocoTestConfig} to a file.
    */
@@ -34,7 +34,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -52,7 +52,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -70,7 +70,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -89,7 +89,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -108,7 +108,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -127,7 +127,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -146,7 +146,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -165,7 +165,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -184,7 +184,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -203,7 +203,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -222,7 +222,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -241,7 +241,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -258,7 +258,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/users", response.statusCode(), responseHeaders( response));
     }
 
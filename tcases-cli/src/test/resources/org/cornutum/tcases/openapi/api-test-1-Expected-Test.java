@@ -42,7 +42,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -61,7 +61,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -80,7 +80,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -99,7 +99,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -119,7 +119,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -139,7 +139,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -159,7 +159,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -179,7 +179,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -199,7 +199,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -219,7 +219,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -238,7 +238,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -258,7 +258,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -278,7 +278,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -297,7 +297,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -317,7 +317,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -337,7 +337,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -357,7 +357,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -377,7 +377,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -397,7 +397,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -417,7 +417,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -437,7 +437,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -457,7 +457,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -478,7 +478,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -496,7 +496,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -514,7 +514,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -532,7 +532,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -550,7 +550,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -568,7 +568,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -587,7 +587,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -606,7 +606,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -625,7 +625,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -644,7 +644,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -663,7 +663,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -682,7 +682,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -703,7 +703,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -724,7 +724,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -745,7 +745,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -766,7 +766,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -788,7 +788,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -810,7 +810,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -832,7 +832,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -851,7 +851,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -872,7 +872,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -892,7 +892,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -913,7 +913,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -934,7 +934,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -956,7 +956,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -978,7 +978,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -999,7 +999,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -1021,7 +1021,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -1043,7 +1043,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -1067,7 +1067,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -41,7 +41,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -59,7 +59,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -77,7 +77,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -96,7 +96,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -115,7 +115,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -134,7 +134,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -153,7 +153,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -172,7 +172,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -191,7 +191,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -210,7 +210,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -229,7 +229,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -248,7 +248,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -265,7 +265,7 @@ public class MyTestClassTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/users", response.statusCode(), responseHeaders( response));
     }
 
@@ -35,7 +35,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -53,7 +53,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -71,7 +71,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -89,7 +89,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -108,7 +108,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -127,7 +127,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -146,7 +146,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -165,7 +165,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -184,7 +184,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -203,7 +203,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -222,7 +222,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -240,7 +240,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -258,7 +258,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -276,7 +276,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -295,7 +295,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -314,7 +314,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -333,7 +333,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -352,7 +352,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -371,7 +371,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -390,7 +390,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -409,7 +409,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -428,7 +428,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -447,7 +447,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -466,7 +466,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -485,7 +485,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -504,7 +504,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -523,7 +523,7 @@ public class OpenAPIRequestTestCasesTest extends BaseTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -34,7 +34,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -52,7 +52,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -70,7 +70,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -89,7 +89,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -108,7 +108,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -127,7 +127,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -146,7 +146,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -165,7 +165,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -184,7 +184,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -203,7 +203,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -222,7 +222,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -241,7 +241,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -260,7 +260,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -279,7 +279,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -298,7 +298,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -317,7 +317,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -337,7 +337,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -357,7 +357,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -377,7 +377,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -397,7 +397,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -417,7 +417,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -437,7 +437,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -457,7 +457,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -477,7 +477,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -496,7 +496,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -516,7 +516,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -536,7 +536,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -556,7 +556,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -576,7 +576,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -594,7 +594,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -614,7 +614,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -632,7 +632,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -651,7 +651,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -670,7 +670,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -691,7 +691,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -712,7 +712,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -733,7 +733,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -754,7 +754,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -775,7 +775,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -796,7 +796,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -817,7 +817,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -838,7 +838,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -859,7 +859,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -880,7 +880,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -901,7 +901,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -922,7 +922,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -943,7 +943,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -964,7 +964,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -985,7 +985,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1005,7 +1005,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1026,7 +1026,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1049,7 +1049,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1070,7 +1070,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1092,7 +1092,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1114,7 +1114,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1135,7 +1135,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1157,7 +1157,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1179,7 +1179,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1203,7 +1203,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1223,7 +1223,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1245,7 +1245,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1267,7 +1267,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1289,7 +1289,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1311,7 +1311,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1333,7 +1333,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1355,7 +1355,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1377,7 +1377,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1399,7 +1399,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1421,7 +1421,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1443,7 +1443,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1465,7 +1465,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1483,7 +1483,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1501,7 +1501,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1519,7 +1519,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1537,7 +1537,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1556,7 +1556,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1575,7 +1575,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1594,7 +1594,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1613,7 +1613,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1632,7 +1632,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1651,7 +1651,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1670,7 +1670,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
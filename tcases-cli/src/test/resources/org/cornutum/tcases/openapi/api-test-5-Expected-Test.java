@@ -47,7 +47,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -68,7 +68,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -89,7 +89,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -110,7 +110,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -132,7 +132,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -154,7 +154,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -176,7 +176,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -195,7 +195,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -216,7 +216,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -236,7 +236,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -257,7 +257,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -278,7 +278,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -300,7 +300,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -322,7 +322,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -343,7 +343,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -365,7 +365,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -387,7 +387,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -411,7 +411,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -429,7 +429,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -447,7 +447,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -465,7 +465,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -484,7 +484,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -503,7 +503,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -522,7 +522,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -541,7 +541,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -560,7 +560,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -579,7 +579,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -598,7 +598,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -617,7 +617,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -636,7 +636,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -657,7 +657,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -678,7 +678,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -698,7 +698,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -719,7 +719,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -740,7 +740,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -761,7 +761,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -783,7 +783,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -805,7 +805,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -826,7 +826,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -848,7 +848,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -870,7 +870,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -894,7 +894,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -914,7 +914,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -936,7 +936,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -958,7 +958,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -980,7 +980,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1002,7 +1002,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1024,7 +1024,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1046,7 +1046,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1068,7 +1068,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1090,7 +1090,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1112,7 +1112,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1134,7 +1134,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1156,7 +1156,7 @@ public class MyMocoTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -35,7 +35,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -53,7 +53,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -71,7 +71,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -89,7 +89,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -107,7 +107,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -126,7 +126,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -145,7 +145,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -164,7 +164,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -183,7 +183,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -202,7 +202,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -221,7 +221,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -242,7 +242,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -263,7 +263,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -284,7 +284,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -305,7 +305,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -327,7 +327,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -349,7 +349,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -371,7 +371,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -390,7 +390,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -411,7 +411,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -431,7 +431,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -452,7 +452,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -473,7 +473,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -495,7 +495,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -517,7 +517,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -538,7 +538,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -560,7 +560,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -582,7 +582,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -606,7 +606,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -625,7 +625,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -644,7 +644,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -664,7 +664,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -684,7 +684,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -704,7 +704,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -724,7 +724,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -744,7 +744,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -764,7 +764,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -784,7 +784,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -804,7 +804,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -824,7 +824,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -845,7 +845,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -866,7 +866,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -886,7 +886,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -907,7 +907,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -930,7 +930,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -951,7 +951,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -973,7 +973,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -995,7 +995,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1016,7 +1016,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1038,7 +1038,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1060,7 +1060,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1084,7 +1084,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1104,7 +1104,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1126,7 +1126,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1148,7 +1148,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1170,7 +1170,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1192,7 +1192,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1214,7 +1214,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1236,7 +1236,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1258,7 +1258,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1280,7 +1280,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1302,7 +1302,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1324,7 +1324,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1346,7 +1346,7 @@ public class MyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
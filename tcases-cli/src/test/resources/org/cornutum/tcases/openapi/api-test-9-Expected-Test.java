@@ -37,7 +37,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -54,7 +54,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -73,7 +73,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -92,7 +92,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -112,7 +112,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -131,7 +131,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -150,7 +150,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -169,7 +169,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -192,7 +192,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -212,7 +212,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -233,7 +233,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -254,7 +254,7 @@ public class ReadOnlyTest extends MyBaseClass {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/object", response.statusCode(), responseHeaders( response));
     }
 
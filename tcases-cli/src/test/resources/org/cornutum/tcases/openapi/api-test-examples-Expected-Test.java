@@ -35,7 +35,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -54,7 +54,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -73,7 +73,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -91,7 +91,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -109,7 +109,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -127,7 +127,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -145,7 +145,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -166,7 +166,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -187,7 +187,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -208,7 +208,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -227,7 +227,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -246,7 +246,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -264,7 +264,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -283,7 +283,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -302,7 +302,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -321,7 +321,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -341,7 +341,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -359,7 +359,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -379,7 +379,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -399,7 +399,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -420,7 +420,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -438,7 +438,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -456,7 +456,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -474,7 +474,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -492,7 +492,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -511,7 +511,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -530,7 +530,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -549,7 +549,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -566,7 +566,7 @@ public class OpenApiExamplesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/users", response.statusCode(), responseHeaders( response));
     }
 
@@ -35,7 +35,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -54,7 +54,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -73,7 +73,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -91,7 +91,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -109,7 +109,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -127,7 +127,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -145,7 +145,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -166,7 +166,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -187,7 +187,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -208,7 +208,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -227,7 +227,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -246,7 +246,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -264,7 +264,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -282,7 +282,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -301,7 +301,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -320,7 +320,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -339,7 +339,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -359,7 +359,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -377,7 +377,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -397,7 +397,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -418,7 +418,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -439,7 +439,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -457,7 +457,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -475,7 +475,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -493,7 +493,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -511,7 +511,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -529,7 +529,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -547,7 +547,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -566,7 +566,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -585,7 +585,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -604,7 +604,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -621,7 +621,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/users", response.statusCode(), responseHeaders( response));
     }
 
@@ -35,7 +35,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -55,7 +55,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -75,7 +75,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -95,7 +95,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -115,7 +115,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -135,7 +135,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -155,7 +155,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -174,7 +174,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -194,7 +194,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -214,7 +214,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -233,7 +233,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -253,7 +253,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -273,7 +273,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -293,7 +293,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -313,7 +313,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -333,7 +333,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -353,7 +353,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -373,7 +373,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -393,7 +393,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -414,7 +414,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -432,7 +432,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -451,7 +451,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -470,7 +470,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -489,7 +489,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -508,7 +508,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -527,7 +527,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -546,7 +546,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -567,7 +567,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -589,7 +589,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -611,7 +611,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -633,7 +633,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -652,7 +652,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -673,7 +673,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -693,7 +693,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -714,7 +714,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -735,7 +735,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -757,7 +757,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -779,7 +779,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -800,7 +800,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -822,7 +822,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -844,7 +844,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -867,7 +867,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
     }
 
@@ -887,7 +887,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -907,7 +907,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -927,7 +927,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -947,7 +947,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -967,7 +967,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -987,7 +987,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1007,7 +1007,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1027,7 +1027,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1047,7 +1047,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1065,7 +1065,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1084,7 +1084,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1103,7 +1103,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1122,7 +1122,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1141,7 +1141,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1160,7 +1160,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1179,7 +1179,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1198,7 +1198,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1217,7 +1217,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1236,7 +1236,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1255,7 +1255,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1275,7 +1275,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1295,7 +1295,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1315,7 +1315,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1335,7 +1335,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1355,7 +1355,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1375,7 +1375,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1395,7 +1395,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1415,7 +1415,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1434,7 +1434,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1454,7 +1454,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1474,7 +1474,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1494,7 +1494,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1512,7 +1512,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1531,7 +1531,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1550,7 +1550,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1571,7 +1571,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1592,7 +1592,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1613,7 +1613,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1634,7 +1634,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1655,7 +1655,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1676,7 +1676,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1697,7 +1697,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1718,7 +1718,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1739,7 +1739,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1760,7 +1760,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1781,7 +1781,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1802,7 +1802,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1823,7 +1823,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1843,7 +1843,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1864,7 +1864,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1885,7 +1885,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1906,7 +1906,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1928,7 +1928,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1950,7 +1950,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1971,7 +1971,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -1993,7 +1993,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2015,7 +2015,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2039,7 +2039,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2059,7 +2059,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2081,7 +2081,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2103,7 +2103,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2125,7 +2125,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2147,7 +2147,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2169,7 +2169,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2191,7 +2191,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2213,7 +2213,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2235,7 +2235,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2257,7 +2257,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2279,7 +2279,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2301,7 +2301,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2319,7 +2319,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2338,7 +2338,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2357,7 +2357,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2376,7 +2376,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2395,7 +2395,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2414,7 +2414,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2433,7 +2433,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2452,7 +2452,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
     }
 
@@ -2471,7 +2471,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2490,7 +2490,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2509,7 +2509,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2528,7 +2528,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2547,7 +2547,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2566,7 +2566,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2585,7 +2585,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2604,7 +2604,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2623,7 +2623,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2642,7 +2642,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2661,7 +2661,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2680,7 +2680,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2699,7 +2699,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2719,7 +2719,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2739,7 +2739,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2759,7 +2759,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2779,7 +2779,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2799,7 +2799,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2819,7 +2819,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2839,7 +2839,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2859,7 +2859,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2879,7 +2879,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2899,7 +2899,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2919,7 +2919,7 @@ public class OpenAPIRequestTestCasesTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
     }
 
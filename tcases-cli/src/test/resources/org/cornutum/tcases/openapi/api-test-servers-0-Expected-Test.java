@@ -34,7 +34,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers", response.statusCode(), responseHeaders( response));
     }
 
@@ -51,7 +51,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers", response.statusCode(), responseHeaders( response));
     }
 
@@ -69,7 +69,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers", response.statusCode(), responseHeaders( response));
     }
 
@@ -88,7 +88,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers", response.statusCode(), responseHeaders( response));
     }
 
@@ -107,7 +107,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers", response.statusCode(), responseHeaders( response));
     }
 
@@ -126,7 +126,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers", response.statusCode(), responseHeaders( response));
     }
 
@@ -144,7 +144,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -161,7 +161,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -179,7 +179,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -198,7 +198,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -217,7 +217,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -236,7 +236,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -254,7 +254,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -271,7 +271,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -289,7 +289,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -308,7 +308,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -327,7 +327,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -346,7 +346,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op", response.statusCode(), responseHeaders( response));
     }
 
@@ -364,7 +364,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -381,7 +381,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -399,7 +399,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -418,7 +418,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -437,7 +437,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -456,7 +456,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/op/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/op/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -474,7 +474,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -491,7 +491,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -509,7 +509,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -528,7 +528,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -547,7 +547,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/path", response.statusCode(), responseHeaders( response));
     }
 
@@ -566,7 +566,7 @@ public class ApiTestServers_0_Test {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/servers/path", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/servers/path", response.statusCode(), responseHeaders( response));
     }
 
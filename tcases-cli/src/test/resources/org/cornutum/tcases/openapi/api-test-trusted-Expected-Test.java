@@ -34,7 +34,7 @@ public class DsApiTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/", response.statusCode(), responseHeaders( response));
     }
 
@@ -54,7 +54,7 @@ public class DsApiTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/{dataset}/{version}/fields", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/{dataset}/{version}/fields", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/{dataset}/{version}/fields", response.statusCode(), responseHeaders( response));
     }
 
@@ -80,7 +80,7 @@ public class DsApiTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/{dataset}/{version}/records", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/{dataset}/{version}/records", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/{dataset}/{version}/records", response.statusCode(), responseHeaders( response));
     }
 
@@ -100,7 +100,7 @@ public class DsApiTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/{dataset}/{version}/records", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/{dataset}/{version}/records", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/{dataset}/{version}/records", response.statusCode(), responseHeaders( response));
     }
 
@@ -122,7 +122,7 @@ public class DsApiTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/{dataset}/{version}/records", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/{dataset}/{version}/records", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/{dataset}/{version}/records", response.statusCode(), responseHeaders( response));
     }
 
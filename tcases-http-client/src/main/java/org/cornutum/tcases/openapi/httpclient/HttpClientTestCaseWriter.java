@@ -0,0 +1,486 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.httpclient;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.AuthDef;
+import org.cornutum.tcases.openapi.resolver.ParamDef.Location;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.test.MediaRange;
+import org.cornutum.tcases.openapi.test.RequestDef;
+import org.cornutum.tcases.openapi.testwriter.ApiTestCaseWriter;
+import org.cornutum.tcases.openapi.testwriter.BaseTestCaseWriter;
+import org.cornutum.tcases.openapi.testwriter.RequestTableWriter;
+import org.cornutum.tcases.openapi.testwriter.TestWriterException;
+import org.cornutum.tcases.openapi.testwriter.encoder.UriEncoder.Component;
+
+import static org.cornutum.tcases.openapi.testwriter.TestWriterUtils.*;
+import static org.cornutum.tcases.openapi.testwriter.encoder.UriEncoder.uriEncoded;
+import static org.cornutum.tcases.openapi.testwriter.java.TestCaseWriterUtils.*;
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes the source code for test cases that execute API requests using the <CODE>java.net.http.HttpClient</CODE>
+ * provided by the JDK (Java 11 or later).
+ * <P/>
+ * All test cases in a test class send requests using the same shared <CODE>HttpClient</CODE>, which reuses
+ * connections and multiplexes concurrent requests to the same server using HTTP/2 when the server supports it.
+ */
+@ApiTestCaseWriter( name="httpclient")
+public class HttpClientTestCaseWriter extends BaseTestCaseWriter
+  {
+  /**
+   * Creates a new HttpClientTestCaseWriter instance.
+   */
+  public HttpClientTestCaseWriter()
+    {
+    }
+
+  /**
+   * Prepare to write the given test cases.
+   */
+  @Override
+  public void prepareTestCases( List<RequestCase> requestCases)
+    {
+    super.prepareTestCases( requestCases);
+
+    dependsQueryAuth_ =
+      requestCases.stream()
+      .flatMap( rc -> toStream( rc.getAuthDefs()))
+      .anyMatch( authDef -> authDef.getLocation() == Location.QUERY);
+    }
+
+  /**
+   * Writes the dependencies for target test cases to the given stream.
+   */
+  @Override
+  public void writeDependencies( String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    if( getDepends().validateResponses() && getDepends().threadSafe())
+      {
+      targetWriter.println( "import java.lang.invoke.MethodHandles;");
+      }
+    targetWriter.println( "import java.net.URI;");
+    targetWriter.println( "import java.net.http.HttpClient;");
+    targetWriter.println( "import java.net.http.HttpRequest;");
+    targetWriter.println( "import java.net.http.HttpResponse;");
+    if( getDepends().validateResponses())
+      {
+      targetWriter.println( "import java.util.List;");
+      targetWriter.println( "import java.util.Map;");
+      targetWriter.println( "import java.util.TreeMap;");
+      targetWriter.println();
+      targetWriter.println( "import org.cornutum.tcases.openapi.test.ResponseValidator;");
+      }
+    targetWriter.println();
+    targetWriter.println( "import org.hamcrest.Matcher;");
+    targetWriter.println( "import static org.hamcrest.MatcherAssert.*;");
+    targetWriter.println( "import static org.hamcrest.Matchers.*;");
+    }
+
+  /**
+   * Writes the declarations for target test cases to the given stream.
+   */
+  @Override
+  public void writeDeclarations( String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println( "private static final HttpClient httpClient =");
+    targetWriter.indent();
+    targetWriter.println( "HttpClient.newBuilder()");
+    targetWriter.println( ".version( HttpClient.Version.HTTP_2)");
+    if( getDepends().trustServer())
+      {
+      targetWriter.println( ".sslContext( trustingSslContext())");
+      }
+    targetWriter.println( ".build();");
+    targetWriter.unindent();
+
+    if( validateResponses())
+      {
+      writeResponseValidatorDef( testName, targetWriter, getDepends(), getResponsesResource());
+      }
+    }
+
+  /**
+   * Writes a target test case to the given stream.
+   */
+  @Override
+  public void writeTestCase( String testName, URI testServer, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    try
+      {
+      RequestDef request = getRequestDef( testName, testServer, requestCase);
+
+      targetWriter.println( "HttpResponse<byte[]> response =");
+      targetWriter.indent();
+      targetWriter.println( "send(");
+      targetWriter.indent();
+      writeRequest( testName, request, requestCase, targetWriter);
+      targetWriter.println( ".build());");
+      targetWriter.unindent();
+      targetWriter.unindent();
+
+      targetWriter.println();
+      writeExpectResponse( testName, requestCase, targetWriter);
+
+      if( getDepends().validateResponses())
+        {
+        targetWriter.println();
+        targetWriter.println(
+          String.format(
+            "responseValidator.assertBodyValid( %s, %s, response.statusCode(), response.headers().firstValue( \"Content-Type\").orElse( null), response.body());",
+            stringLiteral( requestCase.getOperation().toUpperCase()),
+            stringLiteral( requestCase.getPath())));
+
+        targetWriter.println(
+          String.format(
+            "responseValidator.assertHeadersValid( %s, %s, response.statusCode(), responseHeaders( response));",
+            stringLiteral( requestCase.getOperation().toUpperCase()),
+            stringLiteral( requestCase.getPath())));
+        }
+      }
+    catch( Exception e)
+      {
+      throw new TestWriterException( String.format( "Can't write test case=%s", requestCase), e);
+      }
+    }
+
+  /**
+   * Writes the closing for target test cases to the given stream.
+   */
+  @Override
+  public void writeClosing( String testName, IndentedWriter targetWriter)
+    {
+    writeSendDef( testName, targetWriter, getDepends());
+    writeStatusCodeMatcherDef( testName, targetWriter, getDepends());
+    writeTestServerDef( testName, targetWriter, getDepends());
+    writeAuthCredentialsDef( testName, targetWriter, getDepends());
+    writeUriEncodedDef( testName, targetWriter);
+    writeResponseHeadersDef( testName, targetWriter, getDepends());
+    writeBodyResourceDef( testName, targetWriter, getDepends());
+    writeTrustingSslContextDef( testName, targetWriter, getDepends());
+    }
+
+  /**
+   * Returns the request definition for the given request case.
+   */
+  protected RequestDef getRequestDef( String testName, URI testServer, RequestCase requestCase)
+    {
+    RequestDef request = new RequestTableWriter( this).getRequestDef( testName, testServer, requestCase);
+    if( request.getServer() == null)
+      {
+      getDepends().setDependsServer();
+      }
+    return request;
+    }
+
+  /**
+   * Writes the <CODE>HttpRequest.Builder</CODE> expression for a target test case request to the given stream.
+   */
+  protected void writeRequest( String testName, RequestDef request, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    writeRequestUri( testName, request, requestCase, targetWriter);
+    writeHeaders( testName, request, requestCase, targetWriter);
+    writeMethod( testName, request, targetWriter);
+    }
+
+  /**
+   * Writes the URI for a target test case request to the given stream.
+   */
+  protected void writeRequestUri( String testName, RequestDef request, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    String path = request.getPath();
+    for( RequestDef.Binding param : request.getPathParams())
+      {
+      path = path.replace( String.format( "{%s}", param.getName()), param.getValue());
+      }
+
+    StringBuilder literal = new StringBuilder( path);
+    List<String> terms = new ArrayList<String>();
+    terms.add( forTestServer( Optional.ofNullable( request.getServer())));
+
+    String separator = "?";
+    for( RequestDef.Binding param : request.getQueryParams())
+      {
+      literal
+        .append( separator)
+        .append( param.getName())
+        .append( Optional.ofNullable( param.getValue()).map( value -> "=" + value).orElse( ""));
+      separator = "&";
+      }
+
+    for( AuthDef authDef : requestCase.getAuthDefs())
+      {
+      if( authDef.getLocation() == Location.QUERY)
+        {
+        literal.append( separator).append( uriEncoded( Component.QUERY, authDef.getName())).append( "=");
+        terms.add( stringLiteral( literal));
+        terms.add( "uriEncoded( tcasesApiKey())");
+        literal.setLength( 0);
+        separator = "&";
+        }
+      }
+    if( literal.length() > 0)
+      {
+      terms.add( stringLiteral( literal));
+      }
+
+    targetWriter.println( String.format( "HttpRequest.newBuilder( URI.create( %s))", String.join( " + ", terms)));
+    }
+
+  /**
+   * Writes the headers for a target test case request to the given stream.
+   */
+  protected void writeHeaders( String testName, RequestDef request, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    request.getHeaders().stream()
+      .forEach( header -> targetWriter.println( String.format( ".header( %s, %s)", stringLiteral( header.getName()), stringLiteral( header.getValue()))));
+
+    toStream( requestCase.getAuthDefs())
+      .filter( authDef -> authDef.getLocation() == Location.HEADER)
+      .forEach( authDef -> targetWriter.println( String.format( ".header( %s, %s)", stringLiteral( authDef.getName()), headerValueOf( authDef))));
+
+    List<String> cookies = new ArrayList<String>();
+    request.getCookies().stream()
+      .forEach( cookie -> cookies.add( stringLiteral( String.format( "%s=%s", cookie.getName(), cookie.getValue()))));
+    toStream( requestCase.getAuthDefs())
+      .filter( authDef -> authDef.getLocation() == Location.COOKIE)
+      .forEach( authDef -> cookies.add( String.format( "%s + tcasesApiKey()", stringLiteral( authDef.getName() + "="))));
+    if( !cookies.isEmpty())
+      {
+      targetWriter.println( String.format( ".header( \"Cookie\", %s)", String.join( " + \"; \" + ", cookies)));
+      }
+
+    Optional.ofNullable( request.getContentType())
+      .filter( contentType -> request.getBody() != null)
+      .ifPresent( contentType -> targetWriter.println( String.format( ".header( \"Content-Type\", %s)", stringLiteral( contentType))));
+    }
+
+  /**
+   * Writes the method and body for a target test case request to the given stream.
+   */
+  protected void writeMethod( String testName, RequestDef request, IndentedWriter targetWriter)
+    {
+    String method = stringLiteral( request.getOperation());
+    byte[] body = request.getBody();
+    if( body == null)
+      {
+      targetWriter.println( String.format( ".method( %s, HttpRequest.BodyPublishers.noBody())", method));
+      }
+    else
+      {
+      Optional<String> resource = getBodyResource( body);
+      resource.ifPresent( r -> getDepends().setDependsBodyResource());
+
+      String text = new String( body, StandardCharsets.UTF_8);
+      boolean binary =
+        "application/octet-stream".equals( MediaRange.of( request.getContentType()).base())
+        || !Arrays.equals( body, text.getBytes( StandardCharsets.UTF_8));
+
+      // If large value...
+      if( resource.isPresent())
+        {
+        // ... read from a resource file
+        targetWriter.println(
+          String.format(
+            ".method( %s, HttpRequest.BodyPublishers.ofInputStream( () -> bodyResource( %s)))",
+            method,
+            stringLiteral( resource.get())));
+        }
+
+      // If text value...
+      else if( !binary)
+        {
+        // ... write a string literal
+        targetWriter.println( String.format( ".method( %s, HttpRequest.BodyPublishers.ofString( %s))", method, textLiteral( text)));
+        }
+      else
+        {
+        // Otherwise, write a byte array.
+        List<String> segments = byteInitializerFor( body);
+        if( segments.size() == 1)
+          {
+          targetWriter.println( String.format( ".method( %s, HttpRequest.BodyPublishers.ofByteArray( new byte[]{%s}))", method, segments.get(0)));
+          }
+        else
+          {
+          targetWriter.println( String.format( ".method( %s, HttpRequest.BodyPublishers.ofByteArray(", method));
+          targetWriter.indent();
+          targetWriter.println( "new byte[] {");
+
+          targetWriter.indent();
+          for( String segment : segments)
+            {
+            targetWriter.println( segment);
+            }
+          targetWriter.unindent();
+
+          targetWriter.println( "}))");
+          targetWriter.unindent();
+          }
+        }
+      }
+    }
+
+  /**
+   * Writes response expectations for a target test case to the given stream.
+   */
+  protected void writeExpectResponse( String testName, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    if( requestCase.isFailure())
+      {
+      targetWriter.println( String.format( "// %s", requestCase.getInvalidInput()));
+      targetWriter.println(
+        String.format(
+          "assertThat( \"Status code\", response.statusCode(), %s);",
+          requestCase.isAuthFailure()? "isUnauthorized()" : "isBadRequest()"));
+      }
+    else
+      {
+      targetWriter.println( "assertThat( \"Status code\", response.statusCode(), isSuccess());");
+      }
+    }
+
+  /**
+   * Writes the definition of the standard method used to send requests.
+   */
+  protected void writeSendDef( String testName, IndentedWriter targetWriter, Depends dependencies)
+    {
+    targetWriter.println();
+    targetWriter.println( "private static HttpResponse<byte[]> send( HttpRequest request) {");
+    targetWriter.indent();
+    targetWriter.println( "try {");
+    targetWriter.indent();
+    targetWriter.println( "return httpClient.send( request, HttpResponse.BodyHandlers.ofByteArray());");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    targetWriter.println( "catch( InterruptedException e) {");
+    targetWriter.indent();
+    targetWriter.println( "Thread.currentThread().interrupt();");
+    targetWriter.println( "throw new IllegalStateException( String.format( \"Interrupted sending request=%s\", request), e);");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    targetWriter.println( "catch( Exception e) {");
+    targetWriter.indent();
+    targetWriter.println( "throw new IllegalStateException( String.format( \"Can't send request=%s\", request), e);");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    }
+
+  /**
+   * Writes the definition of standard methods to extract response headers.
+   */
+  protected void writeResponseHeadersDef( String testName, IndentedWriter targetWriter, Depends dependencies)
+    {
+    if( dependencies.validateResponses())
+      {
+      // HTTP/2 header names are lower case, so response headers must be matched without regard to case.
+      targetWriter.println();
+      targetWriter.println( "private static Map<String,List<String>> responseHeaders( HttpResponse<byte[]> response) {");
+      targetWriter.indent();
+      targetWriter.println( "Map<String,List<String>> headers = new TreeMap<String,List<String>>( String.CASE_INSENSITIVE_ORDER);");
+      targetWriter.println( "headers.putAll( response.headers().map());");
+      targetWriter.println( "return headers;");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      }
+    }
+
+  /**
+   * Writes the definition of standard methods to encode URI query values.
+   */
+  protected void writeUriEncodedDef( String testName, IndentedWriter targetWriter)
+    {
+    if( dependsQueryAuth_)
+      {
+      targetWriter.println();
+      targetWriter.println( "private static String uriEncoded( String value) {");
+      targetWriter.indent();
+      targetWriter.println( "try {");
+      targetWriter.indent();
+      targetWriter.println( "return java.net.URLEncoder.encode( value, \"UTF-8\");");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      targetWriter.println( "catch( Exception e) {");
+      targetWriter.indent();
+      targetWriter.println( "throw new IllegalArgumentException( String.format( \"Can't encode value=%s\", value), e);");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      }
+    }
+
+  /**
+   * Writes the definition of standard methods to create an SSL context that trusts any server.
+   */
+  protected void writeTrustingSslContextDef( String testName, IndentedWriter targetWriter, Depends dependencies)
+    {
+    if( dependencies.trustServer())
+      {
+      targetWriter.println();
+      targetWriter.println( "private static javax.net.ssl.SSLContext trustingSslContext() {");
+      targetWriter.indent();
+      targetWriter.println( "System.setProperty( \"jdk.internal.httpclient.disableHostnameVerification\", \"true\");");
+      targetWriter.println( "try {");
+      targetWriter.indent();
+      targetWriter.println( "javax.net.ssl.SSLContext sslContext = javax.net.ssl.SSLContext.getInstance( \"TLS\");");
+      targetWriter.println( "sslContext.init(");
+      targetWriter.indent();
+      targetWriter.println( "null,");
+      targetWriter.println( "new javax.net.ssl.TrustManager[] {");
+      targetWriter.indent();
+      targetWriter.println( "new javax.net.ssl.X509TrustManager() {");
+      targetWriter.indent();
+      targetWriter.println( "public void checkClientTrusted( java.security.cert.X509Certificate[] chain, String authType) {}");
+      targetWriter.println( "public void checkServerTrusted( java.security.cert.X509Certificate[] chain, String authType) {}");
+      targetWriter.println( "public java.security.cert.X509Certificate[] getAcceptedIssuers() { return new java.security.cert.X509Certificate[0]; }");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      targetWriter.unindent();
+      targetWriter.println( "},");
+      targetWriter.println( "null);");
+      targetWriter.unindent();
+      targetWriter.println( "return sslContext;");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      targetWriter.println( "catch( Exception e) {");
+      targetWriter.indent();
+      targetWriter.println( "throw new IllegalStateException( \"Can't create SSL context\", e);");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      }
+    }
+
+  /**
+   * Returns the Java string literal for the given text, escaping any line breaks.
+   */
+  private static String textLiteral( String text)
+    {
+    return
+      stringLiteral( text)
+      .replace( "\r", "\\r")
+      .replace( "\n", "\\n")
+      .replace( "\t", "\\t");
+    }
+
+  private boolean dependsQueryAuth_;
+  }
@@ -0,0 +1,106 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.httpclient;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.test.RequestDef;
+import org.cornutum.tcases.openapi.testwriter.BaseTestCaseWriter;
+import org.cornutum.tcases.openapi.testwriter.TestCaseWriter;
+import org.cornutum.tcases.openapi.testwriter.TestWriterException;
+
+import static org.cornutum.tcases.openapi.testwriter.java.TestCaseWriterUtils.*;
+
+import java.net.URI;
+
+/**
+ * Writes the source code for the requests sent by a {@link LoadTestWriter load driver}. Each test case is written
+ * as the body of a method that returns the <CODE>java.net.http.HttpRequest</CODE> for the request case.
+ * <P/>
+ * Responses are not validated. A load driver only checks the status code of each response.
+ */
+public class LoadTestCaseWriter extends HttpClientTestCaseWriter
+  {
+  /**
+   * Creates a new LoadTestCaseWriter instance.
+   */
+  public LoadTestCaseWriter()
+    {
+    this( null);
+    }
+
+  /**
+   * Creates a new LoadTestCaseWriter instance that uses the same settings as the given test case writer.
+   */
+  public LoadTestCaseWriter( TestCaseWriter testCaseWriter)
+    {
+    if( testCaseWriter instanceof BaseTestCaseWriter)
+      {
+      BaseTestCaseWriter baseWriter = (BaseTestCaseWriter) testCaseWriter;
+      setTrustServer( baseWriter.trustServer());
+      setMaxInlineBodyBytes( baseWriter.getMaxInlineBodyBytes());
+      }
+    }
+
+  /**
+   * Returns if responses are validated. Always false for a load driver.
+   */
+  @Override
+  public boolean validateResponses()
+    {
+    return false;
+    }
+
+  /**
+   * Writes the dependencies for target test cases to the given stream.
+   */
+  @Override
+  public void writeDependencies( String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println( "import java.net.URI;");
+    targetWriter.println( "import java.net.http.HttpClient;");
+    targetWriter.println( "import java.net.http.HttpRequest;");
+    targetWriter.println( "import java.net.http.HttpResponse;");
+    }
+
+  /**
+   * Writes a target test case to the given stream.
+   */
+  @Override
+  public void writeTestCase( String testName, URI testServer, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    try
+      {
+      RequestDef request = getRequestDef( testName, testServer, requestCase);
+
+      targetWriter.println( "return");
+      targetWriter.indent();
+      writeRequest( testName, request, requestCase, targetWriter);
+      targetWriter.println( ".build();");
+      targetWriter.unindent();
+      }
+    catch( Exception e)
+      {
+      throw new TestWriterException( String.format( "Can't write test case=%s", requestCase), e);
+      }
+    }
+
+  /**
+   * Writes the closing for target test cases to the given stream.
+   */
+  @Override
+  public void writeClosing( String testName, IndentedWriter targetWriter)
+    {
+    writeTestServerDef( testName, targetWriter, getDepends());
+    writeAuthCredentialsDef( testName, targetWriter, getDepends());
+    writeUriEncodedDef( testName, targetWriter);
+    writeBodyResourceDef( testName, targetWriter, getDepends());
+    writeTrustingSslContextDef( testName, targetWriter, getDepends());
+    }
+  }
@@ -0,0 +1,195 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.httpclient;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.testwriter.AnnotatedJavaTestWriter;
+import org.cornutum.tcases.openapi.testwriter.ApiTestWriter;
+import org.cornutum.tcases.openapi.testwriter.JavaTestTarget;
+import org.cornutum.tcases.openapi.testwriter.TestCaseWriter;
+import org.cornutum.tcases.openapi.testwriter.TestWriterException;
+
+import static org.cornutum.tcases.openapi.testwriter.TestWriterUtils.stringLiteral;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Writes Java source code for a load driver that repeatedly sends API requests.
+ * <P/>
+ * The load driver is a self-contained Java main class that sends all request cases, in turn, using the
+ * <CODE>java.net.http.HttpClient</CODE> provided by the JDK (Java 11 or later). After an initial warm-up period, the driver
+ * reports the throughput and the latency percentiles measured for each API operation. The driver is configured
+ * at runtime using the following arguments.
+ * <UL>
+ * <LI><CODE>-closed</CODE>: Runs a closed loop, in which each of <CODE>-c</CODE> workers sends its next request
+ * when it receives the previous response. This is the default.</LI>
+ * <LI><CODE>-open</CODE>: Runs an open loop, in which requests are sent at the target rate, regardless of
+ * response latency, with at most <CODE>-c</CODE> requests in flight.</LI>
+ * <LI><CODE>-rps <I>requestsPerSecond</I></CODE>: Runs an open loop at the given target rate. The default is 10.</LI>
+ * <LI><CODE>-c <I>concurrency</I></CODE>: Defines the maximum number of concurrent requests. The default is 8.</LI>
+ * <LI><CODE>-d <I>durationSeconds</I></CODE>: Defines the duration of the measured run. The default is 30.</LI>
+ * <LI><CODE>-w <I>warmupSeconds</I></CODE>: Defines the duration of the warm-up period. The default is 5.</LI>
+ * </UL>
+ * <P/>
+ * Regardless of the given {@link TestCaseWriter}, requests are written using a {@link LoadTestCaseWriter}.
+ */
+@ApiTestWriter( name="load", target="java")
+public class LoadTestWriter extends AnnotatedJavaTestWriter
+  {
+  /**
+   * Creates a new LoadTestWriter instance.
+   */
+  public LoadTestWriter( TestCaseWriter testCaseWriter)
+    {
+    super( testCaseWriter);
+    loadTestCaseWriter_ = new LoadTestCaseWriter( testCaseWriter);
+    }
+
+  /**
+   * Returns the {@link TestCaseWriter} for this test.
+   */
+  @Override
+  protected TestCaseWriter getTestCaseWriter()
+    {
+    return loadTestCaseWriter_;
+    }
+
+  /**
+   * Returns the test class name derived from the given test name.
+   */
+  @Override
+  protected String getClassName( String testName)
+    {
+    return
+      testName.endsWith( "Load")
+      ? testName
+      : testName + "Load";
+    }
+
+  /**
+   * Writes the target test annotation dependencies to the given stream.
+   */
+  @Override
+  protected void writeTestAnnotationDependencies( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println( "import java.util.ArrayList;");
+    targetWriter.println( "import java.util.Arrays;");
+    targetWriter.println( "import java.util.LinkedHashMap;");
+    targetWriter.println( "import java.util.List;");
+    targetWriter.println( "import java.util.Map;");
+    targetWriter.println( "import java.util.concurrent.ExecutorService;");
+    targetWriter.println( "import java.util.concurrent.Executors;");
+    targetWriter.println( "import java.util.concurrent.Future;");
+    targetWriter.println( "import java.util.concurrent.Semaphore;");
+    targetWriter.println( "import java.util.concurrent.TimeUnit;");
+    targetWriter.println( "import java.util.concurrent.atomic.AtomicLong;");
+    targetWriter.println( "import java.util.concurrent.atomic.AtomicLongArray;");
+    targetWriter.println( "import java.util.concurrent.locks.LockSupport;");
+    }
+
+  /**
+   * Writes the annotation for a target test case to the given stream.
+   */
+  @Override
+  protected void writeTestAnnotation( JavaTestTarget target, String testName, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    // None needed.
+    }
+
+  /**
+   * Writes the target test cases to the given stream.
+   */
+  @Override
+  protected void writeTestCases( JavaTestTarget target, String testName, List<RequestCase> requestCases, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println( "public static void main( String[] args) throws Exception {");
+    targetWriter.indent();
+    targetWriter.println( String.format( "run( new %s().requests(), args);", getClassName( testName)));
+    targetWriter.unindent();
+    targetWriter.println( "}");
+
+    super.writeTestCases( target, testName, requestCases, targetWriter);
+
+    targetWriter.println();
+    targetWriter.println( "private List<LoadRequest> requests() {");
+    targetWriter.indent();
+    targetWriter.println( "return Arrays.asList(");
+    targetWriter.indent();
+    for( Iterator<RequestCase> requests = requestCases.iterator(); requests.hasNext(); )
+      {
+      RequestCase requestCase = requests.next();
+      targetWriter.println(
+        String.format(
+          "new LoadRequest( %s, %s, %s())%s",
+          stringLiteral( String.format( "%s %s", requestCase.getOperation().toUpperCase(), requestCase.getPath())),
+          requestCase.isFailure(),
+          getMethodName( requestCase),
+          requests.hasNext()? "," : ");"));
+      }
+    if( requestCases.isEmpty())
+      {
+      targetWriter.println( ");");
+      }
+    targetWriter.unindent();
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    }
+
+  /**
+   * Writes a target test case to the given stream.
+   */
+  @Override
+  protected void writeTestCase( JavaTestTarget target, String testName, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println( String.format( "private HttpRequest %s() {", getMethodName( requestCase)));
+    targetWriter.indent();
+
+    getTestCaseWriter().writeTestCase( testName, getTestServer( requestCase), requestCase, targetWriter);
+
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    }
+
+  /**
+   * Writes the target test closing to the given stream.
+   */
+  @Override
+  protected void writeClosing( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    try( BufferedReader in = new BufferedReader( new InputStreamReader( getClass().getResourceAsStream( "load-driver.java.txt"), "UTF-8")))
+      {
+      String line;
+      while(( line = in.readLine()) != null)
+        {
+        if( line.isEmpty())
+          {
+          targetWriter.println();
+          }
+        else
+          {
+          targetWriter.println( line);
+          }
+        }
+      }
+    catch( Exception e)
+      {
+      throw new TestWriterException( "Can't write resource=load-driver.java.txt", e);
+      }
+
+    super.writeClosing( target, testName, targetWriter);
+    }
+
+  private final LoadTestCaseWriter loadTestCaseWriter_;
+  }
@@ -0,0 +1,104 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.httpclient;
+
+import org.cornutum.tcases.openapi.testwriter.JUnitTestWriter;
+import org.cornutum.tcases.openapi.testwriter.JavaTestTarget;
+import org.cornutum.tcases.openapi.testwriter.TestSource;
+import org.cornutum.tcases.openapi.testwriter.TestWriterTest;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+/**
+ * Runs tests for {@link HttpClientTestCaseWriter}
+ */
+public class HttpClientTestCaseWriterTest extends TestWriterTest
+  {
+  @Test
+  public void writeOpenApiTest() throws Exception
+    {
+    // Given...
+    String testDefName = "OpenApiTest";
+
+    TestSource source =
+      TestSource.from( stdRequestTestDef( testDefName))
+      .build();
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( testDefName)
+      .inPackage( "org.examples")
+      .inDir( getResourceDir( "httpclient"))
+      .build();
+
+    JUnitTestWriter testWriter = new JUnitTestWriter( new HttpClientTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    verifyTest( testDefName, FileUtils.readFileToString( testWriter.getTestFile( source, target), "UTF-8"));
+    }
+
+  @Test
+  public void writeOpenApiAuth() throws Exception
+    {
+    // Given...
+    String testDefName = "OpenApiAuth";
+
+    TestSource source =
+      TestSource.from( stdRequestTestDef( testDefName))
+      .build();
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( testDefName)
+      .inPackage( "org.examples")
+      .inDir( getResourceDir( "httpclient"))
+      .build();
+
+    HttpClientTestCaseWriter testCaseWriter = new HttpClientTestCaseWriter();
+    testCaseWriter.setTrustServer( true);
+    JUnitTestWriter testWriter = new JUnitTestWriter( testCaseWriter);
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    verifyTest( testDefName, FileUtils.readFileToString( testWriter.getTestFile( source, target), "UTF-8"));
+    }
+
+  @Test
+  public void writeOpenApiEncodings() throws Exception
+    {
+    // Given...
+    String testDefName = "OpenApiEncodings";
+
+    TestSource source =
+      TestSource.from( stdRequestTestDef( testDefName))
+      .build();
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( testDefName)
+      .inPackage( "org.examples")
+      .inDir( getResourceDir( "httpclient"))
+      .build();
+
+    HttpClientTestCaseWriter testCaseWriter = new HttpClientTestCaseWriter();
+    testCaseWriter.setValidateResponses( false);
+    JUnitTestWriter testWriter = new JUnitTestWriter( testCaseWriter);
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    verifyTest( testDefName, FileUtils.readFileToString( testWriter.getTestFile( source, target), "UTF-8"));
+    }
+  }
@@ -0,0 +1,158 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.httpclient;
+
+import org.cornutum.tcases.openapi.testwriter.JavaTestTarget;
+import org.cornutum.tcases.openapi.testwriter.TestSource;
+import org.cornutum.tcases.openapi.testwriter.TestWriterTest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.FileUtils;
+import org.junit.Assume;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Runs tests for {@link LoadTestWriter}
+ */
+public class LoadTestWriterTest extends TestWriterTest
+  {
+  @Test
+  public void writeLoadDriver() throws Exception
+    {
+    // Given...
+    String testDefName = "OpenApiTest";
+
+    TestSource source =
+      TestSource.from( stdRequestTestDef( testDefName))
+      .build();
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( testDefName)
+      .inPackage( "org.examples")
+      .inDir( getResourceDir( "load"))
+      .build();
+
+    LoadTestWriter testWriter = new LoadTestWriter( new HttpClientTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    File testFile = testWriter.getTestFile( source, target);
+    String test = FileUtils.readFileToString( testFile, "UTF-8");
+    assertThat( "Test file", testFile.getName(), is( "OpenApiTestLoad.java"));
+    assertThat( "Class", test, containsString( "public class OpenApiTestLoad {"));
+    assertThat( "Main", test, containsString( "run( new OpenApiTestLoad().requests(), args);"));
+    assertThat( "Request", test, containsString( "private HttpRequest getPosts_IdsDefined_Is_Yes() {"));
+    assertThat( "Request builder", test, containsString( "HttpRequest.newBuilder( URI.create( forTestServer() + "));
+    assertThat( "Requests", test, containsString( "new LoadRequest( \"GET /posts\", false, getPosts_IdsDefined_Is_Yes())"));
+    assertThat( "Histogram", test, containsString( "private static final class LoadHistogram {"));
+    assertThat( "Assertions", test, not( containsString( "assertThat")));
+    assertThat( "Response validator", test, not( containsString( "ResponseValidator")));
+    }
+
+  @Test
+  public void runLoadDriver() throws Exception
+    {
+    // Given...
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    Assume.assumeTrue( "No Java compiler available", compiler != null);
+
+    String testDefName = "OpenApiTest";
+
+    TestSource source =
+      TestSource.from( stdRequestTestDef( testDefName))
+      .build();
+
+    File classDir = Files.createTempDirectory( "load").toFile();
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( testDefName)
+      .inPackage( "org.examples")
+      .inDir( classDir)
+      .build();
+
+    LoadTestWriter testWriter = new LoadTestWriter( new HttpClientTestCaseWriter());
+    testWriter.writeTest( source, target);
+
+    AtomicInteger received = new AtomicInteger();
+    HttpServer server = HttpServer.create( new InetSocketAddress( "localhost", 0), 0);
+    server.createContext(
+      "/",
+      exchange -> {
+        received.incrementAndGet();
+        exchange.sendResponseHeaders( 200, -1);
+        exchange.close();
+        });
+    server.start();
+
+    String apiServer = System.getProperty( "tcasesApiServer");
+    PrintStream stdOut = System.out;
+    ByteArrayOutputStream closedLoop = new ByteArrayOutputStream();
+    ByteArrayOutputStream openLoop = new ByteArrayOutputStream();
+    try
+      {
+      File testFile = testWriter.getTestFile( source, target);
+      assertThat( "Compiled", compiler.run( null, null, null, "-d", classDir.getPath(), testFile.getPath()), is( 0));
+      System.setProperty( "tcasesApiServer", String.format( "http://localhost:%s", server.getAddress().getPort()));
+
+      // When...
+      try( URLClassLoader loader = new URLClassLoader( new URL[]{ classDir.toURI().toURL() }))
+        {
+        Class<?> driver = loader.loadClass( "org.examples.OpenApiTestLoad");
+
+        System.setOut( new PrintStream( closedLoop, true, "UTF-8"));
+        driver.getMethod( "main", String[].class).invoke( null, (Object) new String[]{ "-c", "2", "-d", "1", "-w", "0"});
+
+        System.setOut( new PrintStream( openLoop, true, "UTF-8"));
+        driver.getMethod( "main", String[].class).invoke( null, (Object) new String[]{ "-rps", "50", "-d", "1", "-w", "1"});
+        }
+      }
+    finally
+      {
+      System.setOut( stdOut);
+      if( apiServer == null)
+        {
+        System.clearProperty( "tcasesApiServer");
+        }
+      else
+        {
+        System.setProperty( "tcasesApiServer", apiServer);
+        }
+      server.stop( 0);
+      FileUtils.deleteQuietly( classDir);
+      }
+
+    // Then
+    assertThat( "Requests received", received.get(), is( greaterThan( 0)));
+
+    String closedReport = closedLoop.toString( "UTF-8");
+    assertThat( "Closed loop", closedReport, containsString( "Running closed loop, concurrency=2 for 1 seconds..."));
+    assertThat( "Closed loop", closedReport, containsString( "p99.9 (ms)"));
+    assertThat( "Closed loop", closedReport, containsString( "GET /posts "));
+
+    String openReport = openLoop.toString( "UTF-8");
+    assertThat( "Open loop", openReport, containsString( "Warming up for 1 seconds..."));
+    assertThat( "Open loop", openReport, containsString( "Running open loop, rps=50, maxInFlight=8 for 1 seconds..."));
+    assertThat( "Open loop", openReport, containsString( "Total: 50 requests"));
+    }
+  }
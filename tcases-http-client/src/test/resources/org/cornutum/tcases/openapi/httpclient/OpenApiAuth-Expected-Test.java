@@ -0,0 +1,424 @@
+package org.examples;
+
+
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.cornutum.tcases.openapi.test.ResponseValidator;
+
+import org.hamcrest.Matcher;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class OpenApiAuthTest {
+
+    private static final HttpClient httpClient =
+        HttpClient.newBuilder()
+        .version( HttpClient.Version.HTTP_2)
+        .sslContext( trustingSslContext())
+        .build();
+
+    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+
+    @Test
+    public void deleteResource_IdDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?id=0"))
+                .header( "Authorization", tcasesApiBasicCredentials())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_IdDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource"))
+                .header( "Authorization", tcasesApiBearerCredentials())
+                .header( "Cookie", "apiKey=" + tcasesApiKey())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_IdValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?id=734689226"))
+                .header( "X-Api-Key", tcasesApiKey())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_IdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?id"))
+                .header( "Authorization", tcasesApiBasicCredentials())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // id.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_IdType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?id=-352.9"))
+                .header( "Authorization", tcasesApiBasicCredentials())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // id.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_IdValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?id=-1"))
+                .header( "Authorization", tcasesApiBasicCredentials())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // id.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_AuthSatisfied_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Auth.Satisfied=No
+        assertThat( "Status code", response.statusCode(), isUnauthorized());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_Auth1ApiHttpBearerDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource"))
+                .header( "Cookie", "apiKey=" + tcasesApiKey())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Auth.1.apiHttpBearer.Defined=No
+        assertThat( "Status code", response.statusCode(), isUnauthorized());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deleteResource_Auth1ApiKeyCookieDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource"))
+                .header( "Authorization", tcasesApiBearerCredentials())
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Auth.1.apiKeyCookie.Defined=No
+        assertThat( "Status code", response.statusCode(), isUnauthorized());
+
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getResource() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "GET", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_BodyDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?opKey=" + uriEncoded( tcasesApiKey())))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "0"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_BodyApplicationJsonValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?opKey=" + uriEncoded( tcasesApiKey())))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "924097999"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?opKey=" + uriEncoded( tcasesApiKey())))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?opKey=" + uriEncoded( tcasesApiKey())))
+                .header( "Content-Type", "text/plain")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "-525.6"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_BodyApplicationJsonType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?opKey=" + uriEncoded( tcasesApiKey())))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "null"))
+                .build());
+
+        // Body.application-json.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_BodyApplicationJsonType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?opKey=" + uriEncoded( tcasesApiKey())))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "\"B_&\""))
+                .build());
+
+        // Body.application-json.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_BodyApplicationJsonValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource?opKey=" + uriEncoded( tcasesApiKey())))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "-1"))
+                .build());
+
+        // Body.application-json.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postResource_AuthOpKeyQueryDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/resource"))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "0"))
+                .build());
+
+        // Auth.opKeyQuery.Defined=No
+        assertThat( "Status code", response.statusCode(), isUnauthorized());
+
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
+    }
+
+    private static HttpResponse<byte[]> send( HttpRequest request) {
+        try {
+            return httpClient.send( request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+        catch( InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( String.format( "Interrupted sending request=%s", request), e);
+        }
+        catch( Exception e) {
+            throw new IllegalStateException( String.format( "Can't send request=%s", request), e);
+        }
+    }
+
+    private static Matcher<Integer> isSuccess() {
+        return allOf( greaterThanOrEqualTo(200), lessThan(300));
+    }
+
+    private static Matcher<Integer> isBadRequest() {
+        return allOf( greaterThanOrEqualTo(400), lessThan(500));
+    }
+
+    private static Matcher<Integer> isUnauthorized() {
+        return is(401);
+    }
+
+    private static String forTestServer() {
+        return forTestServer( null);
+    }
+
+    private static String forTestServer( String defaultUri) {
+        String testServer = tcasesApiServer();
+        return
+            defaultUri == null || !testServer.isEmpty()
+            ? testServer
+            : defaultUri;
+    }
+
+    private static String tcasesApiServer() {
+        String uri = System.getProperty( "tcasesApiServer");
+        return uri == null? "" : uri.trim();
+    }
+
+    private String tcasesApiKey() {
+        String apiKey = System.getProperty( "tcasesApiKey");
+        return apiKey == null? "" : apiKey;
+    }
+
+    private String tcasesApiBearer() {
+        String bearer = System.getProperty( "tcasesApiBearer");
+        return bearer == null? "" : bearer;
+    }
+
+    private String tcasesApiBearerCredentials() {
+        return String.format( "Bearer %s", tcasesApiBearer());
+    }
+
+    private String tcasesApiUser() {
+        String user = System.getProperty( "tcasesApiUser");
+        return user == null? "" : user;
+    }
+
+    private String tcasesApiPassword() {
+        String password = System.getProperty( "tcasesApiPassword");
+        return password == null? "" : password;
+    }
+
+    private String tcasesApiBasicCredentials() {
+        return String.format( "Basic %s", asToken64( String.format( "%s:%s", tcasesApiUser(), tcasesApiPassword())));
+    }
+
+    private String asToken64( String value) {
+        try {
+            return java.util.Base64.getEncoder().encodeToString( value.getBytes( "UTF-8"));
+        }
+        catch( Exception e) {
+            throw new IllegalArgumentException( String.format( "Can't get Base64 token for value=%s", value), e);
+        }
+    }
+
+    private static String uriEncoded( String value) {
+        try {
+            return java.net.URLEncoder.encode( value, "UTF-8");
+        }
+        catch( Exception e) {
+            throw new IllegalArgumentException( String.format( "Can't encode value=%s", value), e);
+        }
+    }
+
+    private static Map<String,List<String>> responseHeaders( HttpResponse<byte[]> response) {
+        Map<String,List<String>> headers = new TreeMap<String,List<String>>( String.CASE_INSENSITIVE_ORDER);
+        headers.putAll( response.headers().map());
+        return headers;
+    }
+
+    private static javax.net.ssl.SSLContext trustingSslContext() {
+        System.setProperty( "jdk.internal.httpclient.disableHostnameVerification", "true");
+        try {
+            javax.net.ssl.SSLContext sslContext = javax.net.ssl.SSLContext.getInstance( "TLS");
+            sslContext.init(
+                null,
+                new javax.net.ssl.TrustManager[] {
+                    new javax.net.ssl.X509TrustManager() {
+                        public void checkClientTrusted( java.security.cert.X509Certificate[] chain, String authType) {}
+                        public void checkServerTrusted( java.security.cert.X509Certificate[] chain, String authType) {}
+                        public java.security.cert.X509Certificate[] getAcceptedIssuers() { return new java.security.cert.X509Certificate[0]; }
+                    }
+                },
+                null);
+            return sslContext;
+        }
+        catch( Exception e) {
+            throw new IllegalStateException( "Can't create SSL context", e);
+        }
+    }
+}
@@ -0,0 +1,3409 @@
+package org.examples;
+
+
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.hamcrest.Matcher;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class OpenApiEncodingsTest {
+
+    private static final HttpClient httpClient =
+        HttpClient.newBuilder()
+        .version( HttpClient.Version.HTTP_2)
+        .build();
+
+    @Test
+    public void postMultipart_contentTypes_BodyDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertyCount_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n-4324771941249161621.8\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=-4218000775053017018.1&1=-4065687483600667739.6\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nRk5WgIWbqblYQpmgEBHMwA==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesElevationValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n0\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesElevationValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n379075432995927015.5\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags=LnA&tags=F-m&tags=*R%3A\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=0\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\n/Sx8ZvZHPyGymu64wDANpQ==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesLatlongItemsContainsValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=442194366911117975.0&1=-4107399077826992051.1\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n-3876459411594404281.8\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncity=%3F%60-%26%26e%7B9PQvY%26t**\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nXKLOG49pkUzxGltmpwbyeA==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_Lt_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=466626405&city=0m%5EsX%21%2B.El%7D&tags=\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=-4348084255471473229.7&1=-4348084255471473229.7\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsSize_Is_Lt_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n0\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ntags=64%3C\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nQTCRCYSmleOJrM4mrfgITA==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "text/xml")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"ze\":[\")d&#k_;b\",\"J|?`F\"],\"yvnfpl\":\";8HR\",\"ir\":398}"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.multipart-form-data.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.multipart-form-data.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesElevationType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\nnull\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4093221589402708745.7\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.elevation.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesElevationType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n[]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3855178571089511549.9\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.elevation.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesLatlongType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesLatlongType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ninteger=-879\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesLatlongItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesLatlongItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4210939664381722987.3&2=-4210939664381722987.3\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesLatlongItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0&1=-4295788794819581759.8\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesLatlongItemsContainsType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=%3D.m%2CQ%23id&1=-4484296376020366955.2\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Contains.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4504749090083615716.0\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\nnumber=798.1\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4585393220638427708.0\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3936847141488164375.6\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=-31.9\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4085004214711016567.5\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=hqg%3BlUXtdid%25%7C%3BJ9%5B\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4155171155949056928.2\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode&city=\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3842840254162967623.6\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=o&code=1D%7E2%40&city=\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4243873936735959279.1\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=0&city=\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3834325275935558032.4\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Value.Is=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3772942961805824404.1\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags=619.5\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4529902434706142052.3\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags=lO3&tags=lO3&tags=%7C%28%26&tags=Y%3F%5C\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3766976501376953009.4\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Size=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags&tags=%3F%5Bw&tags=%3FXS\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4167542713804088477.2\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags=vincecnkmkeqcxmt%2Ctrue%2Cjqgwuzzd%2C343.3&tags=Z*z&tags=mb%5D\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4535557278930728443.3\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags=F%3E&tags=%5B%7Df&tags=rqO\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4327711651183678897.4\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=2
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&tags=U%7EBc&tags=%3F2c&tags=XDX\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4559539283013593225.2\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAddressValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\ncode=1&city=&neaqkzhuutohy=true&ozaqtjpwzxtc=u&uxkgqboqexg=true&anejr=-967\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4399446910261121567.3\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesMapDigestType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4224722864725326836.1\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesMapDigestType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3722509201187492557.2\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n352.3\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesMapDigestValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3861029513285844687.0\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nvMLm47fOSS3IM52BFlOJ\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesMapDigestValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-3733746255302717658.6\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nSYZM0iHxdcWc15AcZ2AY7MM=\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_contentTypes_BodyMultipartFormDataValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_contentTypes"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=0&1=-4608523086177055166.6\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"kshuuzspquiko\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n-561\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertyCount_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n-4078904636850734827.6\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[-4079848570205714995.5,-3761195149199169746.2]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nSv4wqEtVzKnuvGBgh3dnHQ==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesElevationValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n0\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesElevationValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n251899329347721085.7\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":[\"<O7\",\"j8.\",\"|\\\\w\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nBF0bqglD8+Q3zEnVR81YLg==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesLatlongItemsContainsValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[813538470860838050.0,-4197772668412705807.0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n-4352685122587728248.5\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"city\":\"v7Zk~=u9j_w@=q}U\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\n/nBzwLIV7o8qKVLTRn12kg==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_Lt_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":496666664,\"city\":\"!(R!'.\",\"tags\":[]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[-4575535177375062103.8,-4575535177375062103.8]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsSize_Is_Lt_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n0\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"tags\":[\"<3C\",\"<3C\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\n2LQeM6hzrYCUKwdNIwTXgQ==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_default_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "text/xml")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "[\"\",\":B' \\\\Y@\"]"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.multipart-form-data.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.multipart-form-data.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesElevationType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-3693777878646118303.4]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.elevation.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesElevationType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[\"x&h8'\"]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4338566157590159990.1]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.elevation.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesLatlongType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesLatlongType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\ntrue\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesLatlongItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesLatlongItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4133020463454053345.7,0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesLatlongItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[null,-4113581948422604106.8]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesLatlongItemsContainsType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[\"_0+h1B}/\",-4483765363324934100.7]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Contains.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4438431708127145517.4]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\ntrue\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4400533109304594458.1]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":null}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4580642992728371947.0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":[\"|L>kQq \"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4276004052025994477.6]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"p2>m%5}QiBW#br3Gk\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4013917086172889569.6]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":null,\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-3930104463893582644.0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":[\"9\"],\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4574227631249896210.7]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":0,\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4502820839014326931.4]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Value.Is=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":null}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4065207398236513357.7]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":800}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4178922660606841825.6]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":[\"88s\",\"={D\",\"#i(\",\"#i(\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4154198394222776724.6]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Size=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":[null,\"y}Z\",\"q?+\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-3992876299421815024.5]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":[true,\"&z%\",\"0XA\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-3843241744358783781.9]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":[\"tQ\",\"65#\",\"QV'\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4006479944272722696.6]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=2
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":[\"<eAX\",\"/Pk\",\"@N,\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-3781098012816792440.5]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAddressValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"code\":1,\"city\":\"\",\"xolglerguuiatskl\":305.1,\"z\":{\"uqo\":\"\",\"xvwijutodxaegisf\":[\"_Y+\",\"A^)\"]},\"nqtqntvwc\":[\"@Xz\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4505905942159561537.2]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesMapDigestType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4162757515595773646.3]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesMapDigestType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4191264541299383479.9]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n805\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesMapDigestValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-3937338296360678943.9]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nXqwVNov7n2bvhKOfPVKR\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesMapDigestValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4479069652227942639.3]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nVnZ5rGheJ4+g1GbsI6u3vn4=\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_default_BodyMultipartFormDataValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_default"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,-4254444248109853538.9]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"gr\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"jlqnb\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\ntrue\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertyCount_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\nnumber=-3738286561866495815.7\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: WKLVFFILCWLRCAAQ\r\nX-Address-Code: 3920351497083377\r\n\r\n{}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[-4107477500180734963.2,-4050968780633960995.2]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nSUhwhJ5fqImKY69shsV+tQ==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesElevationValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\nnumber=0\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesElevationValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\nnumber=873900087119562425.2\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n{\"code\":1,\"city\":\"\",\"tags\":[\"[R \",\".`:\",\"Vk&\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[0,0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nWFLA03xBvrJm/lGqX9WiEg==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongItemsContainsValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: -4199585651685514346.3\r\n\r\n[533575267419501795.0,-4363403864537596077.9]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongHeadersXLatLongItemsSize_Is_Gt_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\nnumber=-4092782376428212275.7\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: HBEHOVLWMNDKAJAH\r\nX-Address-Code: 8690861387302232\r\n\r\n{\"city\":\"uc7r)]Mecu9ZVb<+\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: 0,-4378643264998345010.7,-4070321916147457067.0,-3943105320469403961.1,-3909728320823778530.4,-4391691642410958997.6,-4557402658915102804.4,-3827718294158536120.1,-4529138620027324304.5,-4404458138294031565.8,-4439827205847798969.3,-4057076439885925211.8\r\n\r\n[-4300089589540551355.0,-4300089589540551355.0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nOuiBm4CIjNHS+CPHhCnSAw==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongHeadersXLatLongItemsContainsValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: 54937179194340943.9\r\n\r\n[0,-3985226344607903759.8]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongHeadersXLatLongItemsUnique_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\nnumber=0\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n{\"code\":1002138411,\"tags\":[]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: -4250983828780030112.9,-3992578205478392188.6,-3762463714465545890.5,-3886730682137020129.6,-3937792357768703891.3,-4607643689155119830.6,-3892324833074414332.4,-3937792357768703891.3,-3701014693755876925.9\r\n\r\n[890577655913279558.4,890577655913279558.4]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nkgI/F+jlJdml3RXMu6oCeQ==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_Lt_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: MIJHJZUPHURTIASE\r\nX-Address-Code: 2862766101818084\r\n\r\n{\"city\":\"j/UWAY*SNe|S\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsSize_Is_Lt_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\nnumber=622612705077514148.5\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n{\"code\":1,\"tags\":[\"k8e\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[-3881613909760010108.1,-4261764116791902674.8]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nzxImAFCgF4O0A/EIU+5Hvw==\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "text/plain")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"rnvxlwzicbdsebaq\":848,\"gvgu\":593}"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.multipart-form-data.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.multipart-form-data.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesElevationType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.elevation.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesElevationType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"elevation\"; filename=\"\"\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n0=C2f%23%3C&1=&2=Ul\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.elevation.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n{}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[0,-3777333898910334065.9,-3777333898910334065.9]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[null,null]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongItemsContainsType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[true,true]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Items.Contains.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongHeadersXLatLongType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[0,0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Headers.X-Lat-Long.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongHeadersXLatLongType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: 5DB=,\r\n\r\n[0,0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Headers.X-Lat-Long.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongHeadersXLatLongItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[0,0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Headers.X-Lat-Long.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesLatlongHeadersXLatLongItemsContainsType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"lat/long\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Lat-Long: \r\n\r\n[0,0]\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.latlong.Headers.X-Lat-Long.Items.Contains.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n55\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: RDQWMQRJBEOVCJEG\r\nX-Address-Code: 0081507524057714\r\n\r\n{\"city\":null}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: LRYIAQKKKIVDHQNO\r\nX-Address-Code: 7150088525075711\r\n\r\n{\"city\":{\"ulangyklfaakp\":-250.7}}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCityValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: WMHVEVQAFMCDZDAD\r\nX-Address-Code: 8851001909973350\r\n\r\n{\"city\":\"t,=4PW?<Ox[Onh_c<\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.city.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: MWNLSMUBIIKOBAPQ\r\nX-Address-Code: 0217900675562941\r\n\r\n{\"code\":null,\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: ZZVCKUGVCUUSHYVG\r\nX-Address-Code: 5237846370708761\r\n\r\n{\"code\":\"_\",\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesCodeValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: WLCKBSRXKFBVMRFH\r\nX-Address-Code: 1368525256317142\r\n\r\n{\"code\":0,\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.code.Value.Is=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: BZOTDDVTEFUNXMYF\r\nX-Address-Code: 7825388645324393\r\n\r\n{\"city\":\"\",\"tags\":null}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: DLDSCITONOLGMHVI\r\nX-Address-Code: 9626287066491670\r\n\r\n{\"city\":\"\",\"tags\":\"5r#\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: YKMVYBIINVAJVZMG\r\nX-Address-Code: 3119974200127056\r\n\r\n{\"city\":\"\",\"tags\":[\"m%n\",\"HVY\",\"D>8\",\"D>8\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Size=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: TXFDECYPTQLAXBKM\r\nX-Address-Code: 2194556437995322\r\n\r\n{\"city\":\"\",\"tags\":[null,\"<{2\",\"{7R\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: YUVBGLXNXGERGEMY\r\nX-Address-Code: 1348999121194416\r\n\r\n{\"city\":\"\",\"tags\":[{\"mni\":\"2#\",\"j\":[\"hBHH6A\",\"uQ+\\\\r\",\"8i\"],\"dpwdzklwxjxw\":true},\"FAO\",\":Rg\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: CJVNRPQCKOHBOCXG\r\nX-Address-Code: 5349126381852880\r\n\r\n{\"city\":\"\",\"tags\":[\"[N\",\"Ta\\\"\",\"|&C\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=2
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: NKBUXVAOJWJHWRUB\r\nX-Address-Code: 2116633326423109\r\n\r\n{\"city\":\"\",\"tags\":[\"9\\\"}3\",\"kA,\",\"OB%\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: GKVGREJNSGWLKZXI\r\nX-Address-Code: 7173860158277274\r\n\r\n{\"city\":\"\",\"azrjaetfnetyee\":506.8,\"qbumzkajdvvdhq\":797.1,\"frxmimbfidx\":-701}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressIdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: \r\nX-Address-Code: 0639382951419037\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Id.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressIdType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: true\r\nX-Address-Code: 6786270631889512\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Id.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressIdValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: @I/!m9$AeY9I$Z;\r\nX-Address-Code: 0294374407251651\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Id.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressIdValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id: jA\\8A#ZQ2o[@M,LJ)\r\nX-Address-Code: 1120173376534488\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Id.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressIdValueMatchesPattern_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Id:  )(9{yA+2]_sP_W9\r\nX-Address-Code: 1874516699212981\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Id.Value.Matches-Pattern=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressCodeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Code: \r\nX-Address-Id: YIKFVEXXSZMGJZJG\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Code.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressCodeType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Code: FxUb\r\nX-Address-Id: PVRFQZRYURLEJEHN\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Code.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressCodeValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Code: t78/*+u_16+CPS$\r\nX-Address-Id: TNSONKLAOHYAFFHQ\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Code.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressCodeValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Code: 6yb!5Q'<;OL2U<s\\&\r\nX-Address-Id: NIZHZHJXFPWEDSMJ\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Code.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAddressHeadersXAddressCodeValueMatchesPattern_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"address\"; filename=\"\"\r\nContent-Type: text/plain\r\nX-Address-Code: J<No2Toyy{v&5~zq\r\nX-Address-Id: VVKRCVZZMXRPFLRS\r\n\r\n{\"city\":\"\"}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.address.Headers.X-Address-Code.Value.Matches-Pattern=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesMapDigestType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesMapDigestType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\ntrue\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesMapDigestValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nEtSI1bwvCOvB1UQTxcld\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesMapDigestValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nAGRj342SruxNZmXHn/zlQbA=\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.map-digest.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postMultipart_headers_BodyMultipartFormDataValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/multipart_headers"))
+                .header( "Content-Type", "multipart/form-data; boundary=tcases-e9f1c1a3b7d24f0c8a5b")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"map-digest\"; filename=\"\"\r\nContent-Type: application/octet-stream\r\n\r\nyZxC6+b0QTDVMh4l2KA1bg==\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"oorcvymfobfdyjfs\"; filename=\"\"\r\nContent-Type: text/plain\r\n\r\n[\"2Y)H*_HI\"]\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"kgvcswmzsrjduzwz\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"e\":[\"&\",\"HK\"]}\r\n--tcases-e9f1c1a3b7d24f0c8a5b\r\nContent-Disposition: form-data; name=\"xovvhejni\"; filename=\"\"\r\nContent-Type: application/json\r\n\r\n{\"dudmla\":\";Vvv)N^\",\"dsiduphj\":true}\r\n--tcases-e9f1c1a3b7d24f0c8a5b--\r\n"))
+                .build());
+
+        // Body.multipart-form-data.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertyCount_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=-3998686662832137669.0&lat%2Flong=-3831399503999759339.7&lat%2Flong=-3896946869424179604.7&map-digest=%2Fk5l0sSjM%2B6PV0ybEXVtaA%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=0"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=13861742107148630.7&code=1&city=&tags=%2FFz%2C.bS%2C%21Al&lat%2Flong=0&lat%2Flong=0&map-digest=LqamvNvZl%2Fz68ZKFrwbLCQ%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=417098339751014037.5&lat%2Flong=-4610839891197091495.2"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=-4596298842289608675.7&city=3%3AgY%27aO2%40Kf%3Dv6k%22&map-digest=7cX6sbGyto3edm1Oo642kQ%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_Lt_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=89167223&city=z6V%5C34Y&tags=&lat%2Flong=-4458102162249783838.8&lat%2Flong=-4458102162249783838.8"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsSize_Is_Lt_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=0&tags=%3Dpb%2C%3Dpb&map-digest=6ZmP4xqn%2B1QS22myTgAXYg%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "true"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "0=k%40z%29EI%5D&1=q%3AA4ME%40N&2=r%5E%40-w%290"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation&lat%2Flong=0&lat%2Flong=-3846581628495526360.1"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.elevation.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=true&lat%2Flong=0&lat%2Flong=-4205110423490623049.4"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.elevation.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=-508.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-3915827211230057322.0&lat%2Flong=0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong&lat%2Flong=-4154195997442164593.7"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=&lat%2Flong=-4409108488460500920.1"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Contains.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address&lat%2Flong=0&lat%2Flong=-4461127477671283778.5"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=-93&lat%2Flong=0&lat%2Flong=-3742893752063002545.3"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city&lat%2Flong=0&lat%2Flong=-4224984153524482814.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=995.5&lat%2Flong=0&lat%2Flong=-4342000669662094659.1"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=Eg%25%7B%26-+G6-_Q51lzg&lat%2Flong=0&lat%2Flong=-4348394750164631116.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code&city=&lat%2Flong=0&lat%2Flong=-4259785774777045582.5"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=&city=&lat%2Flong=0&lat%2Flong=-4239146502563760825.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=0&city=&lat%2Flong=0&lat%2Flong=-3851411250242951552.3"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Value.Is=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&tags&lat%2Flong=0&lat%2Flong=-4042043636966579916.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&tags=ynz%2C-130&lat%2Flong=0&lat%2Flong=-3980122668371922873.3"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&tags=vlD%2C%23VY%2C%23VY%2C%29%60-&lat%2Flong=0&lat%2Flong=-4350213649194803421.9"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Size=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&tags=%2CYDY%2CUA2&lat%2Flong=0&lat%2Flong=-4027586750120666447.5"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&tags=-338%2CG%5BG%2C%3Au.&lat%2Flong=0&lat%2Flong=-4566445686792137918.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&tags=sd%2C+ib%2C_Vl&lat%2Flong=0&lat%2Flong=-3783333875823203766.4"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=2
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&tags=3tX%7E%2Cs1V%2Cm%60v&lat%2Flong=0&lat%2Flong=-4364526684768019901.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "code=1&city=&q=372&xya=970.3&lat%2Flong=0&lat%2Flong=-4073962475009505034.6"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4209845244247233358.4&map-digest"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4352639283157696290.2&map-digest=true"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4404719267180879025.8&map-digest=5ZSrbrnwglhrga7UGzZG"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-3964927207598385086.6&map-digest=kSPdOmHXe5Sws6i4%2FSy2aWs%3D"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_default_BodyApplicationXWwwFormUrlencodedValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_default"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4462379762071076658.9&vyt=%5Eo0QP"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertyCount_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=-4382346925940575975.4&lat%2Flong=-4607409851292293958.0&lat%2Flong=-3759396663344543466.0&map-digest=5hfl3TwiAPMkI%2FZSSkFuww%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=0"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=662609628787642021.3&address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D=%5Bcr%2C9C%24%2CGOz&lat%2Flong=0&lat%2Flong=0&map-digest=y%2B92eC0YLd8SubIByjcHUQ%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=587611725918046378.2&lat%2Flong=-4461204904884205097.3"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=-4281331904914510301.6&address%5Bcity%5D=S-dRt%3B%25bYFk%3A%3B%29%5CS&map-digest=QDdYGE7Egkrkf8cuTgpxDQ%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_Lt_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=342176840&address%5Bcity%5D=JH9Hy+&address%5Btags%5D=&lat%2Flong=-3827850361583103461.2&lat%2Flong=-3827850361583103461.2"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsSize_Is_Lt_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=0&address%5Btags%5D=yh8%2Cyh8&map-digest=0uswUyrG7Ua1R8Ym5G%2F6RQ%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "[\"-wa\\\\nO\",\"\",\"4t|Ad\"]"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "number=-540.9"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation&lat%2Flong=0&lat%2Flong=-4277839138107167965.5"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.elevation.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=true&lat%2Flong=0&lat%2Flong=-4119616474700835606.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.elevation.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=0&lat%2Flong=-3774962297131703597.9"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong&lat%2Flong=-4549235185142484911.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=&lat%2Flong=-4134015964346369306.7"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Contains.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address&lat%2Flong=0&lat%2Flong=-3900330949223035385.9"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=-483&lat%2Flong=0&lat%2Flong=-4007648804985541891.3"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D&lat%2Flong=0&lat%2Flong=-4428275457421708503.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&lat%2Flong=0&lat%2Flong=-4452094661525267628.1"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=Mo%2C+h%3C%257%3F%5Ch%2Ca%2CaAx&lat%2Flong=0&lat%2Flong=-4137144908018510158.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D&address%5Bcity%5D=&lat%2Flong=0&lat%2Flong=-4033770580560188765.4"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=%5DjAbz&address%5Bcity%5D=&lat%2Flong=0&lat%2Flong=-3789019386122965306.1"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=0&address%5Bcity%5D=&lat%2Flong=0&lat%2Flong=-4402795939224895191.9"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Value.Is=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D&lat%2Flong=0&lat%2Flong=-3822062191158745950.9"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D=dkuimssmawza%2Ctrue%2Cxabwfytysbhad%2CiR&lat%2Flong=0&lat%2Flong=-3950022034912146813.3"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D=us%3C%2C%2B%26%26%2CSN%2F%2Cus%3C&lat%2Flong=0&lat%2Flong=-4505474129496379176.9"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Size=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D=%2C%26Q%3B%2CYJ*&lat%2Flong=0&lat%2Flong=-4225183037717771394.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D=%7B%2CHJ3Bk%2C1KD%2C4%404&lat%2Flong=0&lat%2Flong=-4341239672737023386.1"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D=%3Fm%2C2RX%2ChT%3D&lat%2Flong=0&lat%2Flong=-4318241857326435889.7"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=2
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Btags%5D=_hS%5B%2CC*8%2CUP.&lat%2Flong=0&lat%2Flong=-4364613426026794086.1"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address%5Bcode%5D=1&address%5Bcity%5D=&address%5Bwshn%5D=Y2RYZM&lat%2Flong=0&lat%2Flong=-4489652808583587003.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4556798295297018371.4&map-digest"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4395453557609969149.3&ztbba=true"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4256938890633588632.1&map-digest=KDBxpYQsqeypHv6a3rFm"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-3757828960253640732.3&map-digest=vZJjoUpdC1ZK4SgOeBcMy6k%3D"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_exploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_exploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0&lat%2Flong=-4522238280263383392.0&kkgbjevmljvs=&hxen=%2C%25P_Lh&hkuqrhyqydy=%5Em%5DU%3C"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertyCount_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=-3988902780959288612.5&address=&lat%2Flong=-3934393210868357343.8+-3734597850335825333.6&map-digest=rQfnnAln9txGk8KbHwWgGQ%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=0"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=394041228229495625.6&address=code%2C1%2Ccity%2C%2Ctags%2CJ.h%2CO0E%2CS3O&lat%2Flong=0+0&map-digest=p0NLB41qsMsPzSzeb0BVtA%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=376875136045802848.3+-4367658121063363170.8"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=-4211023357451962690.6&address=city%2Cg%21h0EwK%3A*%258%29G3%7BQ&map-digest=P0s7%2F0ahr1X13ts50wAD1A%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_Lt_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C184413177%2Ccity%2CyJ%5E%40%3F%7Bs%29C2%2Ctags%2C&lat%2Flong=-4528497945011561983.4+-4528497945011561983.4"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsSize_Is_Lt_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=0&address=tags%2C%5D%5E%7B&map-digest=8iZ3fBm0r2JcjD2KMumAmw%3D%3D"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "text/xml")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "true"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "0=b&1=h%3B"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation&lat%2Flong=0+-4472747738610876664.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.elevation.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesElevationType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "elevation=nrfkhcplaiuqv%2C493%2Cvbtmrcjfyydn%2Ctrue%2Ctlxpnvr%2C-702.2&lat%2Flong=0+-4433701885234587986.3"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.elevation.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong="))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0+0+-4524380403214040577.6"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=+-3934995235703426450.7"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesLatlongItemsContainsType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=true+-3957608833212774747.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.latlong.Items.Contains.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address&lat%2Flong=0+-3991748637860827224.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=-213&lat%2Flong=0+-4043289586316199449.5"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C&lat%2Flong=0+-4018353002142844834.7"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2COJ8%25&lat%2Flong=0+-3842116991819939652.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCityValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2CpQ%7DWMTWD%3AoH%7Djv2k3&lat%2Flong=0+-4209336875775017536.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.city.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C%2Ccity%2C&lat%2Flong=0+-4441556724506639842.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2Cxgivbzr%2Ctrue%2Ccity%2C&lat%2Flong=0+-3729244121791154116.4"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesCodeValue_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C0%2Ccity%2C&lat%2Flong=0+-3843510223049509112.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.code.Value.Is=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ctags%2C&lat%2Flong=0+-4388530357581672993.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ctags%2C-1004.0&lat%2Flong=0+-3821973580652302560.3"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ctags%2Cg%27a%2C*%7Ei%2Cw%5D%2F%2C*%7Ei&lat%2Flong=0+-3724132194911234254.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Size=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ctags%2C%2CmrQ%2ChO%22&lat%2Flong=0+-3778053685970423944.4"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ctags%2Ckwztal%2C-1015%2Chykxdi%2Cq%5E1%2C0xNt%3E%24%26%3C%2C%2CU%28%27%2C*qC&lat%2Flong=0+-4040307637531959817.0"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ctags%2C+D%2C%21H2%2COqC&lat%2Flong=0+-3829286745098239095.8"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=2
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesTagsItemsContainsValueLength_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ctags%2CbJWG%2C%7B5%7E%2Cnv%7B&lat%2Flong=0+-4064455104123757724.2"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.tags.Items.Contains.Value.Length=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAddressValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "address=code%2C1%2Ccity%2C%2Ckrihnhsp%2C726%2Csivcmmot%2Ctrue&lat%2Flong=0+-4497774705939759626.5"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.address.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0+-4125302959081468980.9&map-digest"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0+-4361063228189246763.3&map-digest=true"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestValueLength_Is_15() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0+-3753915552909338168.8&map-digest=Q%2BYcBxk9aW7s4AwicOad"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Value.Length=15
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesMapDigestValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0+-4344728691109883651.9&map-digest=9wYDPLaMUnxEmYhm9o49NnQ%3D"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.map-digest.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    @Test
+    public void postUrlencoded_unexploded_BodyApplicationXWwwFormUrlencodedValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/urlencoded_unexploded"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "lat%2Flong=0+-4432779115066126112.0&ykrbiuzgrwrvbs=182.6"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+    }
+
+    private static HttpResponse<byte[]> send( HttpRequest request) {
+        try {
+            return httpClient.send( request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+        catch( InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( String.format( "Interrupted sending request=%s", request), e);
+        }
+        catch( Exception e) {
+            throw new IllegalStateException( String.format( "Can't send request=%s", request), e);
+        }
+    }
+
+    private static Matcher<Integer> isSuccess() {
+        return allOf( greaterThanOrEqualTo(200), lessThan(300));
+    }
+
+    private static Matcher<Integer> isBadRequest() {
+        return allOf( greaterThanOrEqualTo(400), lessThan(500));
+    }
+
+    private static String forTestServer() {
+        return forTestServer( null);
+    }
+
+    private static String forTestServer( String defaultUri) {
+        String testServer = tcasesApiServer();
+        return
+            defaultUri == null || !testServer.isEmpty()
+            ? testServer
+            : defaultUri;
+    }
+
+    private static String tcasesApiServer() {
+        String uri = System.getProperty( "tcasesApiServer");
+        return uri == null? "" : uri.trim();
+    }
+}
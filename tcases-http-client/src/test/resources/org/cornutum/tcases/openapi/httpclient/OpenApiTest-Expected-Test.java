@@ -0,0 +1,3040 @@
+package org.examples;
+
+
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.cornutum.tcases.openapi.test.ResponseValidator;
+
+import org.hamcrest.Matcher;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class OpenApiTest {
+
+    private static final HttpClient httpClient =
+        HttpClient.newBuilder()
+        .version( HttpClient.Version.HTTP_2)
+        .build();
+
+    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+
+    @Test
+    public void headPost_UserAttributesDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,1&user%20attributes=user%20type,Typical%20User"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesValuePropertiesUserTypeValue_Is_VIP() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=1,2&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesItemsContainsValue_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=2,1&user%20attributes=user%20type,Typical%20User"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,2"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,2&user%20attributes"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,1&user%20attributes=K"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesValuePropertiesUserTypeDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,2&user%20attributes="))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Value.Properties.user-type.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesValuePropertiesUserTypeType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,1&user%20attributes=user%20type,"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Value.Properties.user-type.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesValuePropertiesUserTypeType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,1&user%20attributes=user%20type,true"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Value.Properties.user-type.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesValuePropertiesUserTypeValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,1&user%20attributes=user%20type,%3D%7Ce3%20,,NUhF%264hVmkeev1$d%3F"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Value.Properties.user-type.Value=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_UserAttributesValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,1&user%20attributes=user%20type,VIP!,o,6v%20%7Bg%22Y,zaslbheunfwyuvyq,true"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // user-attributes.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F=804.4&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=true&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,1,2&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=,2&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesItemsContainsType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=cajzqpokvafd,true,0&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Items.Contains.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesItemsContainsValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=488236961,2&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Items.Contains.Value.Is=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesPostReferencesItemsUnique_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,0&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.post-references.Items.Unique=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void headPost_PostValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?post%3F[post%20references]=0,2&post%3F[kh]=-595&user%20attributes=user%20type,VIP!"))
+                .method( "HEAD", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // post.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "HEAD", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "HEAD", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks=%7BX%7D"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks=%3CY%3E%20%23Z%20%7BX%7D"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsContainsValue_Is_Z() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks=%23Z"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsUnique_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks=%7BX%7D%20%7BX%7D%20%7BX%7D"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks=xmxkgtitztgqum%20true%20gloccjduoicfrr%20Pvt%7C"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsSize_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks="))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Items.Size=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks=%3CY%3E%20%3CY%3E%20%7BX%7D%20%7BX%7D"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Items.Size=4
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks="))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks="))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void patchPost_PostMarksItemsContainsValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?Post%20Marks=zk)EW%5C%22)_rtGQ%25%3CN,1v4CnS:%25_;e8ev,!;%7C9B4~q,;$eHzu$Za-TV1GK:2;k+AX2t-h.Pb;;YB;lr9NKkMx~]gGaITGeP+%23iYUNlm:6/A%7ChN_Hw%7DyWP%22Ywuk65Npy5U%5C5tskpCAWVUS%7D%5Ce%7C"))
+                .method( "PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Post-Marks.Items.Contains.Value=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PATCH", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PATCH", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_PostIdDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=0"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=true&reviewer=Larry+Moe"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_PostIdValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=672351344895692221.7"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=%28%3F%29"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesReviewerValue_Is_MeYou() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=0"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=true&reviewer=Me%2BYou"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_PostIdDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=Larry+Moe"))
+                .build());
+
+        // postId.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_PostIdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=Larry+Moe"))
+                .build());
+
+        // postId.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_PostIdType_Is_NotNumber() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=true"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=Larry+Moe"))
+                .build());
+
+        // postId.Type=Not number
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_PostIdValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=-1"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=Larry+Moe"))
+                .build());
+
+        // postId.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=558920344373741220.4"))
+                .method( "PUT", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=257909579949629647.3"))
+                .header( "Content-Type", "application/xml")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"gvuhccut\":true}"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=418906927138517083.8"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=155418205231237153.3"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "string=aJ%7Bjn"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesApprovedDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=705561256638661028.4"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "reviewer=Larry+Moe"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.approved.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesApprovedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=770131052485060506.9"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved&reviewer=Larry+Moe"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.approved.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesApprovedType_Is_NotBoolean() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=620250610154060366.0"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=&reviewer=Larry+Moe"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.approved.Type=Not boolean
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesReviewerDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=579110988210992054.5"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.reviewer.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesReviewerType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=100055597218570470.8"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.reviewer.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesReviewerType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=888334915240511264.0"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=-FQIS"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.reviewer.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesReviewerValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=757173325052809070.8"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=MlyFy%2C%24liP22%5E%257e%28G%277ea%7B%3F%2Cnz%2Cz.%29%5Bbd%7CGb%26%214i%26%28%7EG%24f1%29%7C%3A%221pz*4W%2CM8%21_HGME"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.reviewer.Value=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPost_BodyApplicationXWwwFormUrlencodedValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post?postId=826597633696147676.8"))
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "approved=false&reviewer=Larry+Moe&jzc=&j=-492.0&cgdnpojyynhy=ZF%3A6%26H&cgdnpojyynhy=oL"))
+                .build());
+
+        // Body.application-x-www-form-urlencoded.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/post", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/post", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_UserIdDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.0/.0"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_UserIdValue_Is_1000() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.1000/.1"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_UserIdDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post//.0"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_UserIdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post//.0"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_UserIdType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.pfbn0z/.0"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_UserIdValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.-1/.0"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_UserIdValue_Is_1001() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.1001/.0"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Value.Is=1001
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_ApprovedDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.0/"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // approved.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_ApprovedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.0/"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // approved.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_ApprovedType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.0/"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // approved.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostUserIdApproved_ApprovedValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/post/.0/.747903263"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // approved.Value.Is=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/post/{userId}/{approved}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=0"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsSize_Is_4() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=100%7C93%7C41%7C58"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=27"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsSize_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids="))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Items.Size=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsSize_Is_5() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=0%7C85%7C16%7C15%7C7"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Items.Size=5
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids="))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsContainsType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=%25lB,"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Items.Contains.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsContainsValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=-1"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Items.Contains.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsContainsValue_Is_101() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=101"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Items.Contains.Value.Is=101
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getPosts_IdsItemsUnique_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts?ids=0%7C0%7C87%7C8"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // ids.Items.Unique=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "GET", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001,7700")
+                .header( "X-User-Id", "0")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsContainsValue_Is_2345() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "2345,7700")
+                .header( "X-User-Id", "415622582")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsContainsValue_Is_7700() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "7700,2345")
+                .header( "X-User-Id", "0")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-User-Id", "93039807")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "")
+                .header( "X-User-Id", "738079435")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "")
+                .header( "X-User-Id", "627687293")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsSize_Is_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001")
+                .header( "X-User-Id", "273068116")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Items.Size=1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001,2345,7700")
+                .header( "X-User-Id", "712375791")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", ",2345")
+                .header( "X-User-Id", "9137359")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsContainsType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "ykcjql,qY,eh,0b![,vggtl,@-3mA%,2345")
+                .header( "X-User-Id", "339524612")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Items.Contains.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsContainsValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "-15203243,1001")
+                .header( "X-User-Id", "892688793")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Items.Contains.Value.Is=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XPostTypesItemsUnique_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001,1001")
+                .header( "X-User-Id", "980116701")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-Post-Types.Items.Unique=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XUserIdDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001,7700")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-User-Id.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XUserIdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001,7700")
+                .header( "X-User-Id", "")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-User-Id.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XUserIdType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001,7700")
+                .header( "X-User-Id", "true")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-User-Id.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void optionsPosts_XUserIdValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "X-Post-Types", "1001,2345")
+                .header( "X-User-Id", "-1")
+                .method( "OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // X-User-Id.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "OPTIONS", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "OPTIONS", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_ApprovedDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=true")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"4@k.edu\"}"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_ApprovedValue_Is_False() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesEmailValueLength_Is_32() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=true")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"+[Y{1jvMl\\\\?fP`ZaHE\\\\}tmHpOpb:$|%5.0?^pN_OoNhEW$zT1VtY<H:$J9Ab/K7&\",\"email\":\"z`3Nlq.SfSxwn.~F3a/g@hoZ5MGU.com\"}"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_ApprovedDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // approved.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_ApprovedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=null")
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // approved.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_ApprovedType_Is_NotBoolean() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=311")
+                .method( "POST", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // approved.Type=Not boolean
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "text/plain")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "501.3"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "null"))
+                .build());
+
+        // Body.application-json.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "-227.7"))
+                .build());
+
+        // Body.application-json.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesEmailDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\"}"))
+                .build());
+
+        // Body.application-json.Value.Properties.email.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesEmailType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":null}"))
+                .build());
+
+        // Body.application-json.Value.Properties.email.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesEmailType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":{\"fbirwqarld\":\"w uGb\",\"ra\":399,\"lhgjz\":true}}"))
+                .build());
+
+        // Body.application-json.Value.Properties.email.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesEmailValueLength_Is_6() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"vi.org\"}"))
+                .build());
+
+        // Body.application-json.Value.Properties.email.Value.Length=6
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesEmailValueLength_Is_33() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"#n!k'@edaHCij.mxE8ZZA.WzAHShm.edu\"}"))
+                .build());
+
+        // Body.application-json.Value.Properties.email.Value.Length=33
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesTextDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"email\":\";@N.gov\"}"))
+                .build());
+
+        // Body.application-json.Value.Properties.text.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesTextType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":null,\"email\":\"*@W.edu\"}"))
+                .build());
+
+        // Body.application-json.Value.Properties.text.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesTextType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":[\"t\"],\"email\":\"L@h.edu\"}"))
+                .build());
+
+        // Body.application-json.Value.Properties.text.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesTextValueLength_Is_65() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"~!lOsfd%8T4N\\\\W%Sf5Tr|w`=C8;V~x]FkwIVg-us5r0!]cKW/BU<tb$Q2<fbMlh$?\",\"email\":\"=@h.com\"}"))
+                .build());
+
+        // Body.application-json.Value.Properties.text.Value.Length=65
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void postPosts_BodyApplicationJsonValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "approved=false")
+                .header( "Content-Type", "application/json")
+                .method( "POST", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"2@s.net\",\"jbtmqjw\":-857.7,\"ns\":-885}"))
+                .build());
+
+        // Body.application-json.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "POST", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "POST", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=%" + "; " + "region=5")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"1@b.edu\"}"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesCountryValueLength_Is_16() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=K-8Vr3?yf*R>MA(|" + "; " + "region=%pz}@x8U}z3%?N$)")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"mwuof)@Pxh_%0+3b#tkKys=2JtkX\\\"mXVZ]bCFkngr[zxur1da$%Pz\\\"a>Orl/(Y}a\",\"email\":\"u.S@UvqLEL.2G8ZjGAS.8gsOOYAD.org\"}"))
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"x@P.com\"}"))
+                .build());
+
+        // postId.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=null")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"f@b.org\"}"))
+                .build());
+
+        // postId.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=434")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"A@I.edu\"}"))
+                .build());
+
+        // postId.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesCountryDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "region=^")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"R@V.edu\"}"))
+                .build());
+
+        // postId.Value.Properties.country.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesCountryType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=null" + "; " + "region=L")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"c@Q.net\"}"))
+                .build());
+
+        // postId.Value.Properties.country.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesCountryType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=-525" + "; " + "region=n")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"-@2.net\"}"))
+                .build());
+
+        // postId.Value.Properties.country.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesCountryValueLength_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=" + "; " + "region=T")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"?@q.com\"}"))
+                .build());
+
+        // postId.Value.Properties.country.Value.Length=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesCountryValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=J$7j'AJKsh61`bvz&" + "; " + "region=f")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"{@M.net\"}"))
+                .build());
+
+        // postId.Value.Properties.country.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesRegionDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=i")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"8@T.net\"}"))
+                .build());
+
+        // postId.Value.Properties.region.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesRegionType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=k" + "; " + "region=null")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"Z@m.edu\"}"))
+                .build());
+
+        // postId.Value.Properties.region.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesRegionType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=b" + "; " + "region=385")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"6@v.org\"}"))
+                .build());
+
+        // postId.Value.Properties.region.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesRegionValueLength_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country==" + "; " + "region=")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"B@s.gov\"}"))
+                .build());
+
+        // postId.Value.Properties.region.Value.Length=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesRegionValueLength_Is_17() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=}" + "; " + "region=tH`mF~v>f|K%35t[U")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"{@C.org\"}"))
+                .build());
+
+        // postId.Value.Properties.region.Value.Length=17
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_PostIdValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=n" + "; " + "region==" + "; " + "bhlxxt=tilP~bV" + "; " + "krsmzryfb={1I(pSmy")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"T@D.edu\"}"))
+                .build());
+
+        // postId.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=o" + "; " + "region=q")
+                .method( "PUT", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // Body.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyMediaType_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=q" + "; " + "region='")
+                .header( "Content-Type", "application/x-www-form-urlencoded")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "number=452.6"))
+                .build());
+
+        // Body.Media-Type=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=?" + "; " + "region=y")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( ""))
+                .build());
+
+        // Body.text-plain.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=}" + "; " + "region=x")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "true"))
+                .build());
+
+        // Body.text-plain.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesEmailDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=X" + "; " + "region=t")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\"}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.email.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesEmailType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=." + "; " + "region=)")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":null}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.email.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesEmailType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=H" + "; " + "region=N")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":-706.6}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.email.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesEmailValueLength_Is_6() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=U" + "; " + "region={")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"Ik.com\"}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.email.Value.Length=6
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesEmailValueLength_Is_33() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=Q" + "; " + "region=9")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"LIP.CS@eutB.C5eEe.YO75D.Dj0cb.org\"}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.email.Value.Length=33
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesTextDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=o" + "; " + "region=(")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"email\":\"|@G.gov\"}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.text.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesTextType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=]" + "; " + "region=e")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":null,\"email\":\"i@z.org\"}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.text.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesTextType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=y" + "; " + "region=|")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":{\"urppkixcjonllycd\":true,\"qxpcqj\":\"SC\",\"gdqx\":\"\"},\"email\":\"o@u.gov\"}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.text.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesTextValueLength_Is_65() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country=P" + "; " + "region=D")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"Jh<RrmNe6-yTg=G<?qA\\\\MHn+L:c\\\"B7~''q!%8\\\\iV!`z?;4Ka\\\"ri&kQGwCp11[oIUO\",\"email\":\"^@z.org\"}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.text.Value.Length=65
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void putPosts_BodyTextPlainValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "country='" + "; " + "region=P")
+                .header( "Content-Type", "text/plain")
+                .method( "PUT", HttpRequest.BodyPublishers.ofString( "{\"text\":\"\",\"email\":\"J@I.org\",\"m\":true,\"tcfgeleszxltbt\":-623}"))
+                .build());
+
+        // Body.text-plain.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "PUT", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "PUT", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=A")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsSize_Is_2() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=B|C")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsContainsValue_Is_C() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=C")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=null")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdType_Is_NotArray() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=ftyqhpdtdbqf|-509|mwrtsmrqtiqkhvc|433|rizv|80.8")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Type=Not array
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsSize_Is_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Items.Size=0
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsSize_Is_3() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=A|B|C")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Items.Size=3
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsContainsType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=|C")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Items.Contains.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsContainsType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=wmrnrf,763|A")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Items.Contains.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsContainsValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=jrH_o$X`LnQgI'mW?MxXRGcS[=P2R2jAx5z4OLaEDo=8cde$AvZR#F#0>Z[cld8Em_%vE!{(9$+z!(Ghc.{J[m^1HdT/7PKLdR0v:@srfapHf(c/l2s&<{QFg8oMlvF<0@dbS:.5ef?WOZ+>MHIUD-{?yH$5-DM3*T>hR%ct'(7EzCR]8D=vL#m4-h23+#VHsMG[K:u@iQR9D@$=:8GOlaBS5=h=(rixn|B")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Items.Contains.Value=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePosts_PostIdItemsUnique_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts"))
+                .header( "Cookie", "postId=A|A")
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // postId.Items.Unique=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=true;subject=A%20Day%20In%20Hell;likes=0"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesApprovedValue_Is_False() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;likes=222686173"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesSubjectValue_Is_WhatMeWorry() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=true;subject=What%3F%20Me,%20worry%3F;likes=0"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;attributes=true"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesApprovedDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;likes=279878075"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.approved.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesApprovedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved;likes=1006574698"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.approved.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesApprovedType_Is_NotBoolean() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=121;likes=832858988"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.approved.Type=Not boolean
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesLikesDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.likes.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesLikesType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;likes"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.likes.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesLikesType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;likes=:.-g"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.likes.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesLikesValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;likes=-1"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.likes.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesSubjectType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;subject;likes=141365157"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.subject.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesSubjectType_Is_NotString() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;subject=sfcgcqxkuswiqomw,Sm,*Y,ewb,-784.0,nvlzfpbyofmna,-309;likes=405281092"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.subject.Type=Not string
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesSubjectValue_Is_Other() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;subject=;%23g33QP&F3Sq%7B%3C43%5B;likes=19340462"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.subject.Value=Other
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void tracePostsAttributes_AttributesValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/;approved=false;likes=70759329;yzpjpn=-744.5"))
+                .method( "TRACE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "TRACE", "/posts/{attributes}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "TRACE", "/posts/{attributes}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_UserIdDefined_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/0/approved=true,likes=0"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_UserIdValue_Is_Gt_0() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/679208122/approved=false"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertiesApprovedDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/0/likes=990959955"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_UserIdDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts//approved=true"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_UserIdType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts//approved=true"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_UserIdType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts//approved=true"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_UserIdValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/-1/approved=true"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // userId.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesDefined_Is_No() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/963498846/"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Defined=No
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/581525744/"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesType_Is_NotObject() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/1066915565/337.6"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Type=Not object
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertyCount_Is_Lt_1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/143212479/"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Property-Count=< 1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertiesApprovedType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/462664869/approved="))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.approved.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertiesApprovedType_Is_NotBoolean() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/416406102/approved=Gmd%25s%60u"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.approved.Type=Not boolean
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertiesLikesType_Is_Null() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/15743998/approved=true,likes="))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.likes.Type=null
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertiesLikesType_Is_NotInteger() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/1039847385/approved=true,likes=,%7C"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.likes.Type=Not integer
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertiesLikesValue_Is_M1() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/159023870/approved=true,likes=-1"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.likes.Value.Is=-1
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void deletePostsUserIdAttributes_AttributesValuePropertiesAdditional_Is_Yes() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/posts/190253101/approved=true,whlbni=true,ovghzublzqi=,lqnytsupujyedml=-51.9"))
+                .method( "DELETE", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        // attributes.Value.Properties.Additional=Yes
+        assertThat( "Status code", response.statusCode(), isBadRequest());
+
+        responseValidator.assertBodyValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "DELETE", "/posts/{userId}/{[attributes]}", response.statusCode(), responseHeaders( response));
+    }
+
+    @Test
+    public void getUsers() {
+        HttpResponse<byte[]> response =
+            send(
+                HttpRequest.newBuilder( URI.create( forTestServer() + "/users"))
+                .method( "GET", HttpRequest.BodyPublishers.noBody())
+                .build());
+
+        assertThat( "Status code", response.statusCode(), isSuccess());
+
+        responseValidator.assertBodyValid( "GET", "/users", response.statusCode(), response.headers().firstValue( "Content-Type").orElse( null), response.body());
+        responseValidator.assertHeadersValid( "GET", "/users", response.statusCode(), responseHeaders( response));
+    }
+
+    private static HttpResponse<byte[]> send( HttpRequest request) {
+        try {
+            return httpClient.send( request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+        catch( InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( String.format( "Interrupted sending request=%s", request), e);
+        }
+        catch( Exception e) {
+            throw new IllegalStateException( String.format( "Can't send request=%s", request), e);
+        }
+    }
+
+    private static Matcher<Integer> isSuccess() {
+        return allOf( greaterThanOrEqualTo(200), lessThan(300));
+    }
+
+    private static Matcher<Integer> isBadRequest() {
+        return allOf( greaterThanOrEqualTo(400), lessThan(500));
+    }
+
+    private static String forTestServer() {
+        return forTestServer( null);
+    }
+
+    private static String forTestServer( String defaultUri) {
+        String testServer = tcasesApiServer();
+        return
+            defaultUri == null || !testServer.isEmpty()
+            ? testServer
+            : defaultUri;
+    }
+
+    private static String tcasesApiServer() {
+        String uri = System.getProperty( "tcasesApiServer");
+        return uri == null? "" : uri.trim();
+    }
+
+    private static Map<String,List<String>> responseHeaders( HttpResponse<byte[]> response) {
+        Map<String,List<String>> headers = new TreeMap<String,List<String>>( String.CASE_INSENSITIVE_ORDER);
+        headers.putAll( response.headers().map());
+        return headers;
+    }
+}
@@ -30,6 +30,7 @@ public class ResolverContext extends ExecutionNotifier<ResolverException>
     setRandom( new Random());
     setNotifier( Notifier.ignore());
     setMaxTries( 10000);
+    setParallelism( 0);
     }
   
   /**
@@ -78,6 +79,26 @@ public class ResolverContext extends ExecutionNotifier<ResolverException>
     return maxTries_;
     }
 
+  /**
+   * Changes the maximum number of test cases that are resolved concurrently. If greater than 0, each test case
+   * is resolved using its own random number generator, so the results are the same for any parallelism greater
+   * than 0. If less than or equal to 0, all test cases are resolved sequentially using a single random number
+   * generator.
+   */
+  public void setParallelism( int parallelism)
+    {
+    parallelism_ = Math.max( 0, parallelism);
+    }
+
+  /**
+   * Returns the maximum number of test cases that are resolved concurrently. If 0, all test cases are resolved
+   * sequentially using a single random number generator.
+   */
+  public int getParallelism()
+    {
+    return parallelism_;
+    }
+
   /**
    * Repeats evaluation of the given <CODE>valueSupplier</CODE> until a result is present or until
    * the {@link #getMaxTries maximum tries} have been attempted. If the no more attempts are possible,
@@ -150,6 +171,12 @@ public class ResolverContext extends ExecutionNotifier<ResolverException>
       return this;
       }
 
+    public Builder parallelism( int parallelism)
+      {
+      resolverContext_.setParallelism( parallelism);
+      return this;
+      }
+
     public ResolverContext build()
       {
       return resolverContext_;
@@ -160,4 +187,5 @@ public class ResolverContext extends ExecutionNotifier<ResolverException>
 
   private Random random_;
   private int maxTries_;
+  private int parallelism_;
   }
@@ -0,0 +1,47 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Records conditions for later delivery to another {@link Notifier}.
+ */
+public class DeferredNotifier implements Notifier
+  {
+  /**
+   * Creates a new DeferredNotifier instance.
+   */
+  public DeferredNotifier()
+    {
+    }
+
+  @Override
+  public void warn( String[] location, String reason)
+    {
+    conditions_.add( notifier -> notifier.warn( location, reason));
+    }
+
+  @Override
+  public void error( String[] location, String reason, String resolution)
+    {
+    conditions_.add( notifier -> notifier.error( location, reason, resolution));
+    }
+
+  /**
+   * Delivers all recorded conditions to the given notifier.
+   */
+  public void deliverTo( Notifier notifier)
+    {
+    conditions_.forEach( condition -> condition.accept( notifier));
+    }
+
+  private final List<Consumer<Notifier>> conditions_ = new ArrayList<Consumer<Notifier>>();
+  }
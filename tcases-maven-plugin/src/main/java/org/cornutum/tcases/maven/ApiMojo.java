@@ -3,6 +3,7 @@ package org.cornutum.tcases.maven;
 import org.cornutum.tcases.openapi.ApiCommand.Options;
 import org.cornutum.tcases.openapi.ApiCommand.Options.TransformType;
 import org.cornutum.tcases.openapi.ApiCommand;
+import org.cornutum.tcases.openapi.Shard;
 import static org.cornutum.tcases.maven.MojoUtils.*;
 
 import org.apache.commons.lang3.StringUtils;
@@ -78,6 +79,9 @@ public class ApiMojo extends AbstractMojo
         options.setApiDef( apiDef);
         options.setSource( getSource());
         options.setContentType( getContentType());
+        options.setCacheDir( getCacheDirFile());
+        options.setShard( Optional.ofNullable( getShard()).map( Shard::parse).orElse( null));
+        options.setMaxAlternatives( getMaxAlternatives());
         options.setOutDir( new File( getOutDirFile(), getPath( inputFile)));
         if( isJunit())
           {
@@ -232,6 +236,62 @@ public class ApiMojo extends AbstractMojo
     return contentType;
     }
 
+  /**
+   * Changes the directory used to cache API models.
+   */
+  public void setCacheDir( String cacheDir)
+    {
+    this.cacheDir = cacheDir;
+    }
+
+  /**
+   * Returns the directory used to cache API models.
+   */
+  public String getCacheDir()
+    {
+    return cacheDir;
+    }
+
+  /**
+   * Returns the directory used to cache API models.
+   */
+  public File getCacheDirFile()
+    {
+    return cacheDir==null? null : getTargetDir( new File( cacheDir));
+    }
+
+  /**
+   * Changes the shard of API operations that are modelled, in the form "<CODE>N/M</CODE>".
+   */
+  public void setShard( String shard)
+    {
+    this.shard = shard;
+    }
+
+  /**
+   * Returns the shard of API operations that are modelled, in the form "<CODE>N/M</CODE>".
+   */
+  public String getShard()
+    {
+    return shard;
+    }
+
+  /**
+   * Changes the maximum number of alternatives created when expanding the combinations of schema assertions.
+   */
+  public void setMaxAlternatives( Integer maxAlternatives)
+    {
+    this.maxAlternatives = maxAlternatives;
+    }
+
+  /**
+   * Returns the maximum number of alternatives created when expanding the combinations of schema assertions.
+   */
+  public Integer getMaxAlternatives()
+    {
+    return maxAlternatives;
+    }
+
   /**
    * Changes the output directory for generated Tcases models.
    */
@@ -575,6 +635,32 @@ public class ApiMojo extends AbstractMojo
   @Parameter(property="contentType")
   private String contentType;
 
+  /**
+   * Defines the path to a directory where the models created for each API definition are cached. When an API definition
+   * and the options used to model it are unchanged, the cached models are reused. If omitted, no cache is used.
+   * A relative path is applied relative to the <B><CODE>${project.build.directory}</CODE></B> of
+   * the project.
+   */
+  @Parameter(property="cacheDir")
+  private String cacheDir;
+
+  /**
+   * Defines the shard of API operations that are modelled, in the form "<CODE>N/M</CODE>". When defined, the API operations are
+   * partitioned into <CODE>M</CODE> shards, based on a hash of the path and operation name, and only the operations
+   * in shard <CODE>N</CODE> are modelled. A manifest listing these operations is written to the output directory, so that
+   * the results for all shards can be verified to cover each operation exactly once. If omitted, all operations are modelled.
+   */
+  @Parameter(property="shard")
+  private String shard;
+
+  /**
+   * Defines the maximum number of alternatives created when expanding the combinations of "allOf", "anyOf", "oneOf",
+   * and "not" assertions for a schema. When this limit is exceeded, a warning is reported and the remaining alternatives
+   * are ignored, so some invalid inputs for the schema may not be modelled. If omitted, the number of alternatives is unlimited.
+   */
+  @Parameter(property="maxAlternatives")
+  private Integer maxAlternatives;
+
   /**
    * Defines the path to the directory where Tcases for OpenAPI output is written.
    * A relative path is applied relative to the <B><CODE>${project.build.directory}</CODE></B> of
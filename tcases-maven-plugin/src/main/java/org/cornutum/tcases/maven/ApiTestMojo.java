@@ -9,6 +9,7 @@ package org.cornutum.tcases.maven;
 
 import org.cornutum.tcases.openapi.ApiTestCommand.Options;
 import org.cornutum.tcases.openapi.ApiTestCommand;
+import org.cornutum.tcases.openapi.Shard;
 import static org.cornutum.tcases.maven.MojoUtils.*;
 
 import org.apache.commons.lang3.StringUtils;
@@ -93,8 +94,15 @@ public class ApiTestMojo extends AbstractMojo
         options.setTestPackage( getTestPackage());
         options.setBaseClass( getBaseClass());
         options.setTimeout( getTimeout());
+        options.setMaxTestCases( getMaxTestCases());
+        options.setMaxTestBytes( getMaxTestBytes());
+        options.setMaxInlineBodyBytes( getMaxInlineBodyBytes());
+        options.setParallelTests( getParallelTests());
+        options.setStubServer( getStubServer());
         options.setMocoTestConfig( getMocoTestConfigFile());
         options.setByPath( getByPath());
+        options.setParallelism( getParallelism());
+        options.setResolverParallelism( getResolverParallelism());
         options.setPaths( getPaths());
         options.setOperations( getOperations());
         options.setSuccessExcluded( isSuccessExcluded());
@@ -102,6 +110,9 @@ public class ApiTestMojo extends AbstractMojo
         options.setServerUri( getBaseUri());
         options.setServerTrusted( getTrustServer());
         options.setContentType( getContentType());
+        options.setCacheDir( getCacheDirFile());
+        options.setShard( Optional.ofNullable( getShard()).map( Shard::parse).orElse( null));
+        options.setMaxAlternatives( getMaxAlternatives());
         options.setOutDir( new File( getOutDirFile(), getPath( inputFile)));
         options.setResourceOutDir( getTestResourceDir());
         options.setOnModellingCondition( getOnModellingCondition());
@@ -267,6 +278,62 @@ public class ApiTestMojo extends AbstractMojo
     return contentType;
     }
 
+  /**
+   * Changes the directory used to cache API models.
+   */
+  public void setCacheDir( String cacheDir)
+    {
+    this.cacheDir = cacheDir;
+    }
+
+  /**
+   * Returns the directory used to cache API models.
+   */
+  public String getCacheDir()
+    {
+    return cacheDir;
+    }
+
+  /**
+   * Returns the directory used to cache API models.
+   */
+  public File getCacheDirFile()
+    {
+    return cacheDir==null? null : getTargetDir( new File( cacheDir));
+    }
+
+  /**
+   * Changes the shard of API operations for which tests are generated, in the form "<CODE>N/M</CODE>".
+   */
+  public void setShard( String shard)
+    {
+    this.shard = shard;
+    }
+
+  /**
+   * Returns the shard of API operations for which tests are generated, in the form "<CODE>N/M</CODE>".
+   */
+  public String getShard()
+    {
+    return shard;
+    }
+
+  /**
+   * Changes the maximum number of alternatives created when expanding the combinations of schema assertions.
+   */
+  public void setMaxAlternatives( Integer maxAlternatives)
+    {
+    this.maxAlternatives = maxAlternatives;
+    }
+
+  /**
+   * Returns the maximum number of alternatives created when expanding the combinations of schema assertions.
+   */
+  public Integer getMaxAlternatives()
+    {
+    return maxAlternatives;
+    }
+
   /**
    * Changes the output directory for generated test source files.
    */
@@ -518,6 +585,86 @@ public class ApiTestMojo extends AbstractMojo
     return timeout;
     }
 
+  /**
+   * Changes the maximum number of test cases written to a single test file.
+   */
+  public void setMaxTestCases( Integer maxTestCases)
+    {
+    this.maxTestCases = maxTestCases;
+    }
+
+  /**
+   * Returns the maximum number of test cases written to a single test file.
+   */
+  public Integer getMaxTestCases()
+    {
+    return maxTestCases;
+    }
+
+  /**
+   * Changes the maximum number of bytes of test case code written to a single test file.
+   */
+  public void setMaxTestBytes( Long maxTestBytes)
+    {
+    this.maxTestBytes = maxTestBytes;
+    }
+
+  /**
+   * Returns the maximum number of bytes of test case code written to a single test file.
+   */
+  public Long getMaxTestBytes()
+    {
+    return maxTestBytes;
+    }
+
+  /**
+   * Changes the maximum number of bytes of a request body written inline in test case code.
+   */
+  public void setMaxInlineBodyBytes( Integer maxInlineBodyBytes)
+    {
+    this.maxInlineBodyBytes = maxInlineBodyBytes;
+    }
+
+  /**
+   * Returns the maximum number of bytes of a request body written inline in test case code.
+   */
+  public Integer getMaxInlineBodyBytes()
+    {
+    return maxInlineBodyBytes;
+    }
+
+  /**
+   * Changes the number of threads used to run generated test methods concurrently.
+   */
+  public void setParallelTests( Integer parallelTests)
+    {
+    this.parallelTests = parallelTests;
+    }
+
+  /**
+   * Returns the number of threads used to run generated test methods concurrently.
+   */
+  public Integer getParallelTests()
+    {
+    return parallelTests;
+    }
+
+  /**
+   * If true, a generated data-driven test starts a stub server for its requests.
+   */
+  public void setStubServer( boolean stubServer)
+    {
+    this.stubServer = stubServer;
+    }
+
+  /**
+   * If true, a generated data-driven test starts a stub server for its requests.
+   */
+  public boolean getStubServer()
+    {
+    return stubServer;
+    }
+
   /**
    * Changes the Moco server test configuration file
    */
@@ -560,6 +707,42 @@ public class ApiTestMojo extends AbstractMojo
     return byPath;
     }
 
+  /**
+   * Changes the maximum number of API operations modelled concurrently and, if {@link #getByPath byPath} is true,
+   * the maximum number of test files written concurrently.
+   */
+  public void setParallelism( int parallelism)
+    {
+    this.parallelism = parallelism;
+    }
+
+  /**
+   * Returns the maximum number of API operations modelled concurrently and, if {@link #getByPath byPath} is true,
+   * the maximum number of test files written concurrently.
+   */
+  public int getParallelism()
+    {
+    return parallelism;
+    }
+
+  /**
+   * Changes the maximum number of request test cases resolved concurrently. If 0, all request test cases
+   * are resolved sequentially.
+   */
+  public void setResolverParallelism( int parallelism)
+    {
+    this.resolverParallelism = parallelism;
+    }
+
+  /**
+   * Returns the maximum number of request test cases resolved concurrently. If 0, all request test cases
+   * are resolved sequentially.
+   */
+  public int getResolverParallelism()
+    {
+    return resolverParallelism;
+    }
+
   /**
    * Changes request paths for which tests are generated.
    */
@@ -718,6 +901,32 @@ public class ApiTestMojo extends AbstractMojo
   @Parameter(property="contentType")
   private String contentType;
 
+  /**
+   * Defines the path to a directory where the models created for each API definition are cached. When an API definition
+   * and the options used to model it are unchanged, the cached models are reused. If omitted, no cache is used.
+   * A relative path is applied relative to the <B><CODE>${project.build.directory}</CODE></B> of
+   * the project.
+   */
+  @Parameter(property="cacheDir")
+  private String cacheDir;
+
+  /**
+   * Defines the shard of API operations for which tests are generated, in the form "<CODE>N/M</CODE>". When defined, the API operations are
+   * partitioned into <CODE>M</CODE> shards, based on a hash of the path and operation name, and only the operations
+   * in shard <CODE>N</CODE> are tested. A manifest listing these operations is written to the output directory, so that
+   * the results for all shards can be verified to cover each operation exactly once. If omitted, all operations are tested.
+   */
+  @Parameter(property="shard")
+  private String shard;
+
+  /**
+   * Defines the maximum number of alternatives created when expanding the combinations of "allOf", "anyOf", "oneOf",
+   * and "not" assertions for a schema. When this limit is exceeded, a warning is reported and the remaining alternatives
+   * are ignored, so some invalid inputs for the schema may not be tested. If omitted, the number of alternatives is unlimited.
+   */
+  @Parameter(property="maxAlternatives")
+  private Integer maxAlternatives;
+
   /**
    * Defines the path to the directory where generated tests are written.
    * A relative path is applied relative to the <B><CODE>${project.build.directory}</CODE></B> of
@@ -780,13 +989,16 @@ public class ApiTestMojo extends AbstractMojo
   private String source;
 
   /**
-   * Defines the test framework used to run API tests. Valid values are "junit", "testng", or "moco".
+   * Defines the test framework used to run API tests. Valid values are "junit", "testng", "junit-table",
+   * "testng-table", "moco", or "load". Use "load" to generate a main class that drives a continuous load of
+   * requests and reports the latency percentiles for each API operation.
    */
   @Parameter(property="testType",defaultValue="junit")
   private String testType;
 
   /**
-   * Defines the request execution interface used to run API tests. Valid values are "restassured".
+   * Defines the request execution interface used to run API tests. Valid values are "restassured" and "httpclient".
+   * The "httpclient" interface generates tests that use the <CODE>java.net.http.HttpClient</CODE> of the JDK (Java 11 or later).
    */
   @Parameter(property="execType",defaultValue="restassured")
   private String execType;
@@ -819,6 +1031,48 @@ public class ApiTestMojo extends AbstractMojo
   @Parameter(property="timeout")
   private Long timeout;
 
+  /**
+   * Defines the maximum number of test cases written to a single test file. If more test cases are generated, they are
+   * split among multiple test files, named by appending "<CODE>_</CODE><I>N</I>" to the test name for each part <I>N</I>.
+   * If omitted, the number of test cases in a test file is unlimited.
+   */
+  @Parameter(property="maxTestCases")
+  private Integer maxTestCases;
+
+  /**
+   * Defines the maximum size (in bytes) of the test case code written to a single test file. If more test case code
+   * is generated, test cases are split among multiple test files, as for <B><CODE>maxTestCases</CODE></B>.
+   * If omitted, the size of a test file is unlimited.
+   */
+  @Parameter(property="maxTestBytes")
+  private Long maxTestBytes;
+
+  /**
+   * Defines the maximum size (in bytes) of a request body written inline in test case code. Any larger request body
+   * is written to a resource file in the test resource directory, named for a hash of its content, and read from the
+   * classpath when the test runs. If omitted, all request bodies are written inline.
+   */
+  @Parameter(property="maxInlineBodyBytes")
+  private Integer maxInlineBodyBytes;
+
+  /**
+   * If defined, generated tests are safe to run test methods concurrently using the given number of threads, and all
+   * test methods share a single response validator. For a TestNG test, a
+   * "<CODE>&lt;<I>testClass</I>&gt;-testng.xml</CODE>" suite definition that runs test methods in parallel is written
+   * to the test resource directory. For a JUnit test, configure parallel execution using the Surefire
+   * <CODE>parallel</CODE> and <CODE>threadCount</CODE> options. If omitted, generated tests are run serially.
+   */
+  @Parameter(property="parallelTests")
+  private Integer parallelTests;
+
+  /**
+   * When the <B><CODE>testType</CODE></B> is "junit-table" or "testng-table", if true, the generated test starts an
+   * in-process stub server that returns stub responses for all of its requests, so the test runs without the API server.
+   * Otherwise, requests are sent to the API server.
+   */
+  @Parameter(property="stubServer",defaultValue="false")
+  private boolean stubServer;
+
   /**
    * When the <B><CODE>testType</CODE></B> is "moco", specifies the Moco server test configuration file.
    * A relative path is applied relative to the <B><CODE>${basedir}</CODE></B> of
@@ -834,6 +1088,21 @@ public class ApiTestMojo extends AbstractMojo
   @Parameter(property="byPath",defaultValue="false")
   private boolean byPath;
 
+  /**
+   * Defines the maximum number of API operations modelled concurrently and, if <B><CODE>byPath</CODE></B> is true,
+   * the maximum number of test files written concurrently. The tests generated are the same for any parallelism.
+   */
+  @Parameter(property="parallelism",defaultValue="1")
+  private int parallelism;
+
+  /**
+   * If greater than 0, defines the maximum number of request test cases resolved concurrently, each using its own
+   * random number generator, so the tests generated are the same for any resolver parallelism. But they differ from the
+   * tests generated when resolver parallelism is 0, in which case all request test cases are resolved sequentially.
+   */
+  @Parameter(property="resolverParallelism",defaultValue="0")
+  private int resolverParallelism;
+
   /**
    * If defined, tests are generated only for the specified API resource paths. 
    * If omitted, tests are generated for all resource paths.
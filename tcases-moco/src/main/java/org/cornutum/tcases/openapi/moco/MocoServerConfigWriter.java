@@ -26,6 +26,7 @@ import org.cornutum.tcases.resolve.NullValue;
 import org.cornutum.tcases.resolve.ObjectValue;
 import org.cornutum.tcases.resolve.StringValue;
 import org.cornutum.tcases.util.MapBuilder;
+import org.cornutum.tcases.util.ToString;
 import static org.cornutum.tcases.openapi.resolver.ParamDef.Location.*;
 import static org.cornutum.tcases.util.CollectionUtils.toStream;
 
@@ -40,15 +41,25 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 
 import javax.json.Json;
 import javax.json.JsonArray;
@@ -94,12 +105,24 @@ public class MocoServerConfigWriter implements Closeable
    */
   public void write( RequestTestDef requestCases)
     {
-    JsonWriterFactory writerFactory = Json.createWriterFactory( MapBuilder.of( PRETTY_PRINTING, true).build());
-    JsonWriter jsonWriter = writerFactory.createWriter( getWriter());
-
     try
       {
-      jsonWriter.write( expectedConfigs( requestCases));
+      List<Map.Entry<String,JsonObject>> expected = expectedConfigs( requestCases);
+      JsonArray fullConfigs = toJsonArray( expected.stream().map( Map.Entry::getValue));
+      JsonArray configs = isCompact()? compactConfigs( expected) : fullConfigs;
+
+      ByteCountingWriter counter = new ByteCountingWriter( getWriter());
+      writeJson( configs, !isCompact(), counter);
+
+      // For compact output, count the size of the full configuration without writing it.
+      ByteCountingWriter fullCounter = counter;
+      if( isCompact())
+        {
+        fullCounter = new ByteCountingWriter( null);
+        writeJson( fullConfigs, true, fullCounter);
+        }
+
+      sizeReport_ = new SizeReport( fullConfigs.size(), configs.size(), fullCounter.getBytes(), counter.getBytes());
       }
     catch( Exception e)
       {
@@ -107,6 +130,33 @@ public class MocoServerConfigWriter implements Closeable
       }
     }
 
+  /**
+   * Changes if this writer produces compact output. In compact output, identical expectations are written only once, all
+   * expectations for the same method and path are grouped together, and within each group the expectations with the most
+   * request matchers are written first, so that they are not hidden by less specific expectations. Compact output is not
+   * pretty-printed.
+   */
+  public void setCompact( boolean compact)
+    {
+    compact_ = compact;
+    }
+
+  /**
+   * Returns if this writer produces compact output.
+   */
+  public boolean isCompact()
+    {
+    return compact_;
+    }
+
+  /**
+   * Returns the size of the configuration produced by the last {@link #write write}. Returns null if nothing has been written.
+   */
+  public SizeReport getSizeReport()
+    {
+    return sizeReport_;
+    }
+
   /**
    * Flushes the writer.
    */
@@ -150,17 +200,68 @@ public class MocoServerConfigWriter implements Closeable
     }
 
   /**
-   * Returns a JSON object that represents expectations for the given request cases.
+   * Returns the JSON objects that represent expectations for the given request cases, each identified by its method and path.
    */
-  private JsonArray expectedConfigs( RequestTestDef requestCases)
+  private List<Map.Entry<String,JsonObject>> expectedConfigs( RequestTestDef requestCases)
     {
-    JsonArrayBuilder expected = Json.createArrayBuilder();
-
-    requestCases.getRequestCases().stream()
+    return
+      requestCases.getRequestCases().stream()
       .filter( rc -> !rc.isFailure())
-      .forEach( rc -> expected.add( expectedConfig( rc)));
-    
-    return expected.build();
+      .map( rc -> new SimpleEntry<String,JsonObject>( String.format( "%s %s", rc.getOperation(), rc.getPath()), expectedConfig( rc)))
+      .collect( toList());
+    }
+
+  /**
+   * Returns a compact JSON array containing the given expectations.
+   */
+  private JsonArray compactConfigs( List<Map.Entry<String,JsonObject>> expected)
+    {
+    Map<String,Set<JsonObject>> byOperation =
+      expected.stream()
+      .collect( groupingBy( Map.Entry::getKey, LinkedHashMap::new, mapping( Map.Entry::getValue, toCollection( LinkedHashSet::new))));
+
+    return
+      toJsonArray(
+        byOperation.values().stream()
+        .flatMap( configs -> configs.stream().sorted( comparingInt( MocoServerConfigWriter::specificityOf).reversed())));
+    }
+
+  /**
+   * Returns the number of request matchers defined by the given expectation.
+   */
+  private static int specificityOf( JsonObject config)
+    {
+    return
+      config.getJsonObject( "request").values().stream()
+      .mapToInt( matcher -> matcher.getValueType() == JsonValue.ValueType.OBJECT? ((JsonObject) matcher).size() : 1)
+      .sum();
+    }
+
+  /**
+   * Returns a JSON array containing the given values.
+   */
+  private static JsonArray toJsonArray( Stream<JsonObject> values)
+    {
+    JsonArrayBuilder array = Json.createArrayBuilder();
+    values.forEach( array::add);
+    return array.build();
+    }
+
+  /**
+   * Writes the JSON text for the given array to the given writer.
+   */
+  private static void writeJson( JsonArray array, boolean pretty, Writer writer)
+    {
+    // Note: any PRETTY_PRINTING setting, even false, enables pretty printing.
+    JsonWriterFactory writerFactory =
+      Json.createWriterFactory(
+        pretty
+        ? MapBuilder.of( PRETTY_PRINTING, (Object) true).build()
+        : emptyMap());
+    try( JsonWriter jsonWriter = writerFactory.createWriter( writer))
+      {
+      jsonWriter.write( array);
+      }
     }
 
   /**
@@ -374,9 +475,177 @@ public class MocoServerConfigWriter implements Closeable
     }
 
   private Writer writer_;
+  private boolean compact_;
+  private SizeReport sizeReport_;
 
   private static final Pattern pathParam_ = Pattern.compile( "\\{([^}]+)\\}");
 
+  /**
+   * Reports the size of a Moco server configuration.
+   */
+  public static class SizeReport
+    {
+    /**
+     * Creates a new SizeReport instance.
+     */
+    public SizeReport( int expectations, int expectationsWritten, long fullBytes, long bytesWritten)
+      {
+      expectations_ = expectations;
+      expectationsWritten_ = expectationsWritten;
+      fullBytes_ = fullBytes;
+      bytesWritten_ = bytesWritten;
+      }
+
+    /**
+     * Returns the number of expectations defined.
+     */
+    public int getExpectations()
+      {
+      return expectations_;
+      }
+
+    /**
+     * Returns the number of expectations written.
+     */
+    public int getExpectationsWritten()
+      {
+      return expectationsWritten_;
+      }
+
+    /**
+     * Returns the number of bytes in the full configuration, with all expectations pretty-printed.
+     */
+    public long getFullBytes()
+      {
+      return fullBytes_;
+      }
+
+    /**
+     * Returns the number of bytes written.
+     */
+    public long getBytesWritten()
+      {
+      return bytesWritten_;
+      }
+
+    /**
+     * Returns the percentage of the full configuration size that was saved.
+     */
+    public int getPercentSaved()
+      {
+      return
+        fullBytes_ == 0
+        ? 0
+        : (int) ((fullBytes_ - bytesWritten_) * 100 / fullBytes_);
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.getBuilder( this)
+        .append( "expectations", String.format( "%s/%s", getExpectationsWritten(), getExpectations()))
+        .append( "bytes", String.format( "%s/%s", getBytesWritten(), getFullBytes()))
+        .append( "saved", String.format( "%s%%", getPercentSaved()))
+        .build();
+      }
+
+    private final int expectations_;
+    private final int expectationsWritten_;
+    private final long fullBytes_;
+    private final long bytesWritten_;
+    }
+
+  /**
+   * Counts the bytes in the UTF-8 encoding of the characters written to another writer. If the other writer is null,
+   * characters are only counted. Closing this writer flushes the other writer but does not close it.
+   */
+  private static class ByteCountingWriter extends Writer
+    {
+    /**
+     * Creates a new ByteCountingWriter instance.
+     */
+    public ByteCountingWriter( Writer writer)
+      {
+      writer_ = writer;
+      }
+
+    @Override
+    public void write( int c) throws IOException
+      {
+      count( (char) c);
+      if( writer_ != null)
+        {
+        writer_.write( c);
+        }
+      }
+
+    @Override
+    public void write( char[] chars, int offset, int length) throws IOException
+      {
+      for( int i = offset, end = offset + length; i < end; i++)
+        {
+        count( chars[i]);
+        }
+      if( writer_ != null)
+        {
+        writer_.write( chars, offset, length);
+        }
+      }
+
+    @Override
+    public void write( String text, int offset, int length) throws IOException
+      {
+      for( int i = offset, end = offset + length; i < end; i++)
+        {
+        count( text.charAt( i));
+        }
+      if( writer_ != null)
+        {
+        writer_.write( text, offset, length);
+        }
+      }
+
+    @Override
+    public void flush() throws IOException
+      {
+      if( writer_ != null)
+        {
+        writer_.flush();
+        }
+      }
+
+    @Override
+    public void close() throws IOException
+      {
+      flush();
+      }
+
+    /**
+     * Returns the number of bytes counted.
+     */
+    public long getBytes()
+      {
+      return bytes_;
+      }
+
+    /**
+     * Adds the size of the UTF-8 encoding of the given character. Each character of a surrogate pair counts for half of
+     * the 4-byte encoding of the pair.
+     */
+    private void count( char c)
+      {
+      bytes_ +=
+        c < 0x80? 1 :
+        c < 0x800? 2 :
+        Character.isSurrogate( c)? 2 :
+        3;
+      }
+
+    private final Writer writer_;
+    private long bytes_;
+    }
+
   /**
    * Returns the expected JsonPath assertions for a {@link DataValue}.
    */
@@ -7,7 +7,38 @@
 
 package org.cornutum.tcases.openapi.moco;
 
+import org.cornutum.tcases.openapi.moco.MocoServerConfigWriter.SizeReport;
+
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import com.github.dreamhead.moco.HttpServer;
+import static com.github.dreamhead.moco.Moco.file;
+import static com.github.dreamhead.moco.MocoJsonRunner.jsonHttpServer;
+import static com.github.dreamhead.moco.Runner.running;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
 
 /**
  * Runs tests for {@link MocoServerConfigWriter}.
@@ -20,4 +51,111 @@ public class MocoServerConfigWriterTest extends MocoServerTest
     writeMocoServerConfig( "OpenApiTest");
     }
 
+  @Test
+  public void whenCompact() throws Exception
+    {
+    // Given...
+    StringWriter full = new StringWriter();
+    MocoServerConfigWriter fullWriter = new MocoServerConfigWriter( full);
+
+    StringWriter compact = new StringWriter();
+    MocoServerConfigWriter compactWriter = new MocoServerConfigWriter( compact);
+    compactWriter.setCompact( true);
+
+    // When...
+    fullWriter.write( stdRequestTestDef( "OpenApiTest"));
+    compactWriter.write( stdRequestTestDef( "OpenApiTest"));
+
+    // Then...
+    SizeReport fullReport = fullWriter.getSizeReport();
+    assertThat( "Full expectations written", fullReport.getExpectationsWritten(), is( fullReport.getExpectations()));
+    assertThat( "Full bytes written", fullReport.getBytesWritten(), is( fullReport.getFullBytes()));
+    assertThat( "Full percent saved", fullReport.getPercentSaved(), is( 0));
+    assertThat( "Full bytes", fullReport.getBytesWritten(), is( (long) full.toString().getBytes( StandardCharsets.UTF_8).length));
+
+    SizeReport compactReport = compactWriter.getSizeReport();
+    assertThat( "Compact expectations", compactReport.getExpectations(), is( fullReport.getExpectations()));
+    assertThat( "Compact full bytes", compactReport.getFullBytes(), is( fullReport.getBytesWritten()));
+    assertThat( "Compact bytes written", compactReport.getBytesWritten(), is( lessThan( compactReport.getFullBytes())));
+    assertThat( "Compact percent saved", compactReport.getPercentSaved(), is( greaterThan( 0)));
+    assertThat( "Compact bytes", compactReport.getBytesWritten(), is( (long) compact.toString().getBytes( StandardCharsets.UTF_8).length));
+
+    List<JsonObject> fullConfigs = readConfigs( full.toString());
+    List<JsonObject> compactConfigs = readConfigs( compact.toString());
+    Set<JsonObject> uniqueConfigs = new HashSet<JsonObject>( fullConfigs);
+    assertThat( "Compact configs", compactConfigs.size(), is( compactReport.getExpectationsWritten()));
+    assertThat( "Unique configs", new HashSet<JsonObject>( compactConfigs), is( uniqueConfigs));
+    assertThat( "Duplicate configs", compactConfigs.size(), is( uniqueConfigs.size()));
+
+    verifyTest( "OpenApiTest-Compact", compact.toString());
+    assertMocoServerRuns( "OpenApiTest-Compact", compact.toString());
+    }
+
+  /**
+   * Reports a failure if a Moco server can't load the configuration for the given test or doesn't respond to
+   * each GET request that is matched only by its URI and query parameters with the expected status.
+   */
+  private void assertMocoServerRuns( String testDefName, String config) throws Exception
+    {
+    File configFile = mocoServerConfigFile( testDefName);
+    FileUtils.write( configFile, config, "UTF-8");
+
+    HttpServer server = jsonHttpServer( file( configFile.getPath()));
+    Set<String> getMatchers = new HashSet<String>( asList( "method", "uri", "queries", "text"));
+    AtomicInteger checked = new AtomicInteger( 0);
+    running( server, () -> {
+      for( JsonObject expectation : readConfigs( config))
+        {
+        JsonObject request = expectation.getJsonObject( "request");
+        if( "GET".equals( request.getString( "method"))
+            && getMatchers.containsAll( request.keySet())
+            && Optional.ofNullable( request.get( "queries")).map( queries -> queries.getValueType() == JsonValue.ValueType.OBJECT).orElse( true))
+          {
+          String uri =
+            String.format(
+              "%s%s",
+              request.getString( "uri"),
+              Optional.ofNullable( request.getJsonObject( "queries"))
+              .map( queries -> queries.keySet().stream().map( name -> queryParam( name, queries.getString( name))).collect( joining( "&", "?", "")))
+              .orElse( ""));
+
+          HttpURLConnection connection = (HttpURLConnection) new URL( String.format( "http://localhost:%s%s", server.port(), uri)).openConnection();
+          assertThat( String.format( "GET %s", uri), connection.getResponseCode(), is( expectation.getJsonObject( "response").getInt( "status")));
+          checked.incrementAndGet();
+          }
+        }
+      });
+
+    assertThat( "Requests checked", checked.get(), is( greaterThan( 0)));
+    }
+
+  /**
+   * Returns the URL-encoded form of the given query parameter.
+   */
+  private String queryParam( String name, String value)
+    {
+    try
+      {
+      return String.format( "%s=%s", URLEncoder.encode( name, "UTF-8"), URLEncoder.encode( value, "UTF-8"));
+      }
+    catch( Exception e)
+      {
+      throw new IllegalArgumentException( String.format( "Can't encode query parameter=%s", name), e);
+      }
+    }
+
+  @Override
+  protected File getExpectedTestResults( String testDefName)
+    {
+    return new File( getResourceDir(), testDefName + "-Expected-Moco.json");
+    }
+
+  /**
+   * Returns the expectations defined by the given Moco server configuration.
+   */
+  private List<JsonObject> readConfigs( String config)
+    {
+    JsonArray configs = Json.createReader( new StringReader( config)).readArray();
+    return configs.stream().map( JsonObject.class::cast).collect( toList());
+    }
   }
@@ -0,0 +1,149 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import static org.cornutum.tcases.openapi.test.JsonUtils.readJson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of decoding response content with a {@link SimpleDecoder} or a {@link FormUrlDecoder}.
+ * <P/>
+ * Each benchmark measures both the cost of finding the first content alternative, which is all that is needed to
+ * validate conforming content, and the cost of finding all alternatives. These benchmarks are compiled only by
+ * builds using the <CODE>benchmark</CODE> profile, which skips all tests. To check that they still compile, use:
+ * <PRE>
+ * mvn -P benchmark test-compile
+ * </PRE>
+ * To run these benchmarks, use:
+ * <PRE>
+ * mvn -P benchmark test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.cornutum.tcases.openapi.test.DecoderBenchmark
+ * </PRE>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecoderBenchmark
+  {
+  @Setup
+  public void setUp() throws Exception
+    {
+    simpleDecoder_ = new SimpleDecoder( EncodingDefBuilder.simple().build());
+    simpleArray_ = "1,2,3,4,5,6,7,8,9,10,11,12";
+    simpleArraySchema_ = readJson( "{\"type\":\"array\",\"items\":{\"type\":\"integer\"}}");
+    simpleObject_ = "id,1234,name,widget,price,12.34,active,true";
+    simpleObjectSchema_ =
+      readJson(
+        "{"
+        + "  \"type\": \"object\","
+        + "  \"properties\": {"
+        + "    \"id\": {\"type\": \"integer\"},"
+        + "    \"name\": {\"type\": \"string\"},"
+        + "    \"price\": {\"type\": \"number\"},"
+        + "    \"active\": {\"type\": \"boolean\"}"
+        + "  }"
+        + "}");
+
+    ContentDef formDef =
+      ContentDefBuilder.forType( "application/x-www-form-urlencoded")
+      .schema(
+        "{"
+        + "  \"type\": \"object\","
+        + "  \"properties\": {"
+        + "    \"id\": {\"type\": \"integer\"},"
+        + "    \"name\": {\"type\": \"string\"},"
+        + "    \"tags\": {\"type\": \"array\", \"items\": {\"type\": \"string\"}},"
+        + "    \"active\": {\"type\": \"boolean\"}"
+        + "  }"
+        + "}")
+      .build();
+    formDecoder_ = new FormUrlDecoder( formDef);
+    formSchema_ = formDef.getSchema();
+    form_ =
+      FormUrlBuilder.with()
+      .field( "id", "1234")
+      .field( "name", "widget")
+      .field( "tags", "a")
+      .field( "tags", "b")
+      .field( "tags", "c")
+      .field( "active", "true")
+      .build();
+    }
+
+  @Benchmark
+  public void simpleArrayFirst( Blackhole blackhole)
+    {
+    blackhole.consume( simpleDecoder_.alternatives( simpleArray_, simpleArraySchema_).findFirst());
+    }
+
+  @Benchmark
+  public void simpleArrayAll( Blackhole blackhole)
+    {
+    simpleDecoder_.alternatives( simpleArray_).forEach( blackhole::consume);
+    }
+
+  @Benchmark
+  public void simpleObjectFirst( Blackhole blackhole)
+    {
+    blackhole.consume( simpleDecoder_.alternatives( simpleObject_, simpleObjectSchema_).findFirst());
+    }
+
+  @Benchmark
+  public void simpleObjectAll( Blackhole blackhole)
+    {
+    simpleDecoder_.alternatives( simpleObject_).forEach( blackhole::consume);
+    }
+
+  @Benchmark
+  public void formFirst( Blackhole blackhole)
+    {
+    blackhole.consume( formDecoder_.alternatives( form_, formSchema_).findFirst());
+    }
+
+  @Benchmark
+  public void formAll( Blackhole blackhole)
+    {
+    formDecoder_.alternatives( form_).forEach( blackhole::consume);
+    }
+
+  public static void main( String[] args) throws Exception
+    {
+    new Runner(
+      new OptionsBuilder()
+      .include( DecoderBenchmark.class.getSimpleName())
+      .build())
+      .run();
+    }
+
+  private SimpleDecoder simpleDecoder_;
+  private String simpleArray_;
+  private JsonNode simpleArraySchema_;
+  private String simpleObject_;
+  private JsonNode simpleObjectSchema_;
+  private FormUrlDecoder formDecoder_;
+  private JsonNode formSchema_;
+  private String form_;
+  }
@@ -15,19 +15,29 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.net.URLDecoder;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Base class for response content decoders.
+ * <P/>
+ * Content is decoded into a stream of possible JSON representations, or "alternatives". Alternatives are created
+ * lazily, as the stream is consumed, so that a consumer can stop as soon as it finds a satisfactory alternative.
+ * Given a schema for the content, a decoder creates only alternatives with the types admitted by the schema,
+ * unless no such alternative is possible.
  */
 public abstract class AbstractDecoder
-  {  
+  {
   /**
    * Creates a new AbstractDecoder instance.
    */
@@ -64,72 +74,157 @@ public abstract class AbstractDecoder
    * Returns the possible JSON representations of the given content.
    */
   public List<JsonNode> decode( String content)
+    {
+    return alternatives( content).collect( toList());
+    }
+
+  /**
+   * Returns the possible JSON representations of the given content.
+   */
+  public Stream<JsonNode> alternatives( CharSequence content)
+    {
+    return alternatives( content, ValueTypes.ANY);
+    }
+
+  /**
+   * Returns the possible JSON representations of the given content that could satisfy the given schema. If
+   * no such representation is possible, returns all possible JSON representations.
+   */
+  public Stream<JsonNode> alternatives( CharSequence content, JsonNode schema)
+    {
+    return alternatives( content, ValueTypes.of( schema));
+    }
+
+  /**
+   * Returns the possible JSON representations of the given content that have the given types. If
+   * no such representation is possible, returns all possible JSON representations.
+   */
+  protected Stream<JsonNode> alternatives( CharSequence content, ValueTypes types)
+    {
+    Stream<JsonNode> alternatives;
+    if( types.isAny())
+      {
+      alternatives = admittedAlternatives( content, types);
+      }
+    else
+      {
+      Iterator<JsonNode> admitted = admittedAlternatives( content, types).iterator();
+      alternatives =
+        admitted.hasNext()
+        ? streamOf( admitted)
+        : admittedAlternatives( content, ValueTypes.ANY);
+      }
+
+    return alternatives;
+    }
+
+  /**
+   * Returns the possible JSON representations of the given content that have the given types.
+   */
+  private Stream<JsonNode> admittedAlternatives( CharSequence content, ValueTypes types)
     {
     return
-      Arrays.asList( decodeObject( content), decodeArray( content), decodeValue( content))
-      .stream()
-      .flatMap( jsons -> jsons.stream())
-      .collect( toList());
+      Stream.concat(
+        types.admits( ValueTypes.OBJECT)? objectAlternatives( content, types) : Stream.empty(),
+        Stream.concat(
+          types.admits( ValueTypes.ARRAY)? arrayAlternatives( content, types) : Stream.empty(),
+          valueAlternatives( content, types)));
     }
 
   /**
    * Returns the possible JSON object representations of the given content.
    */
-  public abstract List<JsonNode> decodeObject( String content);
+  public List<JsonNode> decodeObject( String content)
+    {
+    return objectAlternatives( content, ValueTypes.ANY).collect( toList());
+    }
 
   /**
    * Returns the possible JSON array representations of the given content.
    */
-  public abstract List<JsonNode> decodeArray( String content);
+  public List<JsonNode> decodeArray( String content)
+    {
+    return arrayAlternatives( content, ValueTypes.ANY).collect( toList());
+    }
 
   /**
    * Returns the possible JSON value representations of the given content.
    */
   public List<JsonNode> decodeValue( String content)
+    {
+    return valueAlternatives( content, ValueTypes.ANY).collect( toList());
+    }
+
+  /**
+   * Returns the possible JSON object representations of the given content, using the given types for object properties.
+   */
+  protected abstract Stream<JsonNode> objectAlternatives( CharSequence content, ValueTypes types);
+
+  /**
+   * Returns the possible JSON array representations of the given content, using the given types for array items.
+   */
+  protected abstract Stream<JsonNode> arrayAlternatives( CharSequence content, ValueTypes types);
+
+  /**
+   * Returns the possible JSON value representations of the given content that have the given types.
+   */
+  protected Stream<JsonNode> valueAlternatives( CharSequence content, ValueTypes types)
     {
     return
-      Arrays.asList( decodeNumber( content), decodeBoolean( content), decodeString( content), decodeNull( content))
-      .stream()
-      .filter( Optional::isPresent)
-      .map( Optional::get)
-      .collect( toList());
+      content == null
+      ? (types.admits( ValueTypes.NULL)? Stream.of( NullNode.instance) : Stream.empty())
+      : valuesOf( content, 0, content.length(), types).stream();
     }
 
   /**
-   * Returns the JSON number representation of the given content.
+   * Returns the possible JSON value representations of the given range of content that have the given types.
    */
-  public Optional<JsonNode> decodeNumber( String content)
+  protected List<JsonNode> valuesOf( CharSequence content, int start, int end, ValueTypes types)
     {
-    JsonNode jsonNode;
+    List<JsonNode> values = new ArrayList<JsonNode>( 4);
 
-    try
+    JsonNode number;
+    if( types.admits( ValueTypes.NUMBER) && (number = numberOf( content, start, end)) != null)
       {
-      BigDecimal number = new BigDecimal( content);
-      BigInteger integer;
-      try
-        {
-        integer =
-          Optional.of( number)
-          .filter( decimal -> decimal.scale() == 0)
-          .map( BigDecimal::toBigIntegerExact)
-          .orElse( null);
-        }
-      catch( Exception e)
-        {
-        integer = null;
-        }
-
-      jsonNode =
-        Optional.ofNullable( integer)
-        .map( i -> (JsonNode) BigIntegerNode.valueOf(i))
-        .orElse( DecimalNode.valueOf( number));
+      values.add( number);
       }
-    catch( Exception e)
+    if( types.admits( ValueTypes.BOOLEAN) && (equalsRange( "true", content, start, end) || equalsRange( "false", content, start, end)))
       {
-      jsonNode = null;
+      values.add( BooleanNode.valueOf( end - start == 4));
       }
+    if( types.admits( ValueTypes.STRING))
+      {
+      values.add( TextNode.valueOf( content.subSequence( start, end).toString()));
+      }
+    if( types.admits( ValueTypes.NULL) && start == end)
+      {
+      values.add( NullNode.instance);
+      }
+
+    return values;
+    }
 
-    return Optional.ofNullable( jsonNode);
+  /**
+   * Returns the possible JSON value representations of the given range of content that have the given types. If
+   * no such representation is possible, returns all possible JSON value representations.
+   */
+  protected List<JsonNode> memberValuesOf( CharSequence content, int start, int end, ValueTypes types)
+    {
+    List<JsonNode> values = valuesOf( content, start, end, types);
+    return
+      values.isEmpty() && !types.isAny()
+      ? valuesOf( content, start, end, ValueTypes.ANY)
+      : values;
+    }
+
+  /**
+   * Returns the JSON number representation of the given content.
+   */
+  public Optional<JsonNode> decodeNumber( String content)
+    {
+    return
+      Optional.ofNullable( content)
+      .map( text -> numberOf( text, 0, text.length()));
     }
 
   /**
@@ -159,11 +254,143 @@ public abstract class AbstractDecoder
   public Optional<JsonNode> decodeNull( String content)
     {
     return
-      Optional.of( Objects.toString( content, ""))
-      .filter( String::isEmpty)
+      Optional.of( content == null || content.isEmpty())
+      .filter( empty -> empty)
       .map( empty -> NullNode.instance);
     }
 
+  /**
+   * Returns the JSON number represented by the given range of content. Returns <CODE>null</CODE> if the content
+   * is not a number.
+   */
+  private static JsonNode numberOf( CharSequence content, int start, int end)
+    {
+    JsonNode jsonNode = null;
+    if( isNumber( content, start, end))
+      {
+      try
+        {
+        BigDecimal number = new BigDecimal( content.subSequence( start, end).toString());
+        jsonNode =
+          number.scale() == 0
+          ? BigIntegerNode.valueOf( number.toBigIntegerExact())
+          : DecimalNode.valueOf( number);
+        }
+      catch( Exception e)
+        {
+        jsonNode = null;
+        }
+      }
+
+    return jsonNode;
+    }
+
+  /**
+   * Returns true if the given range of content has the form of a decimal number. This avoids the cost of failing to
+   * create a {@link BigDecimal} for content that is clearly not a number.
+   */
+  private static boolean isNumber( CharSequence content, int start, int end)
+    {
+    int i = start;
+    if( i < end && (content.charAt( i) == '+' || content.charAt( i) == '-'))
+      {
+      i++;
+      }
+
+    int digits = 0;
+    for( ; i < end && Character.isDigit( content.charAt( i)); i++, digits++);
+    if( i < end && content.charAt( i) == '.')
+      {
+      for( i++; i < end && Character.isDigit( content.charAt( i)); i++, digits++);
+      }
+
+    if( digits > 0 && i < end && (content.charAt( i) == 'e' || content.charAt( i) == 'E'))
+      {
+      i++;
+      if( i < end && (content.charAt( i) == '+' || content.charAt( i) == '-'))
+        {
+        i++;
+        }
+
+      int exponentDigits = 0;
+      for( ; i < end && Character.isDigit( content.charAt( i)); i++, exponentDigits++);
+      digits = exponentDigits == 0? 0 : digits;
+      }
+
+    return digits > 0 && i == end;
+    }
+
+  /**
+   * Returns true if the given range of content is equal to the given string.
+   */
+  protected static boolean equalsRange( String string, CharSequence content, int start, int end)
+    {
+    boolean equal = string.length() == end - start;
+    for( int i = 0; equal && i < string.length(); i++)
+      {
+      equal = string.charAt( i) == content.charAt( start + i);
+      }
+    return equal;
+    }
+
+  /**
+   * Returns the index of the first occurrence of the given character in the given range of content. Returns -1 if not found.
+   */
+  protected static int indexOf( char c, CharSequence content, int start, int end)
+    {
+    int i;
+    for( i = start; i < end && content.charAt( i) != c; i++);
+    return i < end? i : -1;
+    }
+
+  /**
+   * Returns the bounds of each member of the given content, which are separated by the given delimiter. Each pair
+   * of elements of the result gives the start and end of a member. Empty content has no members.
+   */
+  protected static int[] membersOf( CharSequence content, char delimiter)
+    {
+    int length = content.length();
+    int count = length == 0? 0 : 1;
+    for( int i = 0; i < length; i++)
+      {
+      if( content.charAt( i) == delimiter)
+        {
+        count++;
+        }
+      }
+
+    int[] bounds = new int[ 2 * count];
+    for( int member = 0, start = 0; member < count; member++)
+      {
+      int end = indexOf( delimiter, content, start, length);
+      end = end < 0? length : end;
+
+      bounds[ 2 * member] = start;
+      bounds[ 2 * member + 1] = end;
+      start = end + 1;
+      }
+
+    return bounds;
+    }
+
+  /**
+   * Returns a lazy stream of the JSON representations for all combinations of the given choices. Each combination
+   * contains one element of each choice, in order, and is converted into JSON using the given function.
+   * Combinations are created only as the stream is consumed.
+   */
+  protected static Stream<JsonNode> combinations( List<? extends Iterable<JsonNode>> choices, Function<JsonNode[],JsonNode> combine)
+    {
+    return streamOf( new Combinations( choices, combine));
+    }
+
+  /**
+   * Returns a stream of the elements of the given iterator.
+   */
+  protected static Stream<JsonNode> streamOf( Iterator<JsonNode> iterator)
+    {
+    return StreamSupport.stream( Spliterators.spliteratorUnknownSize( iterator, Spliterator.ORDERED), false);
+    }
+
   /**
    * Decodes an application/x-www-form-urlencoded string.
    */
@@ -183,4 +410,65 @@ public abstract class AbstractDecoder
     }
 
   private final EncodingDef encodingDef_;
+
+  /**
+   * Iterates over the JSON representations for all combinations of a list of choices. The last choice varies fastest.
+   */
+  private static class Combinations implements Iterator<JsonNode>
+    {
+    @SuppressWarnings("unchecked")
+    public Combinations( List<? extends Iterable<JsonNode>> choices, Function<JsonNode[],JsonNode> combine)
+      {
+      choices_ = choices;
+      combine_ = combine;
+      iterators_ = new Iterator[ choices.size()];
+      current_ = new JsonNode[ choices.size()];
+
+      hasNext_ = true;
+      for( int i = 0; hasNext_ && i < iterators_.length; i++)
+        {
+        iterators_[i] = choices.get(i).iterator();
+        if( (hasNext_ = iterators_[i].hasNext()))
+          {
+          current_[i] = iterators_[i].next();
+          }
+        }
+      }
+
+    @Override
+    public boolean hasNext()
+      {
+      return hasNext_;
+      }
+
+    @Override
+    public JsonNode next()
+      {
+      if( !hasNext_)
+        {
+        throw new NoSuchElementException();
+        }
+
+      JsonNode combination = combine_.apply( current_);
+
+      int i;
+      for( i = iterators_.length - 1; i >= 0 && !iterators_[i].hasNext(); i--)
+        {
+        iterators_[i] = choices_.get(i).iterator();
+        current_[i] = iterators_[i].next();
+        }
+      if( (hasNext_ = i >= 0))
+        {
+        current_[i] = iterators_[i].next();
+        }
+
+      return combination;
+      }
+
+    private final List<? extends Iterable<JsonNode>> choices_;
+    private final Function<JsonNode[],JsonNode> combine_;
+    private final Iterator<JsonNode>[] iterators_;
+    private final JsonNode[] current_;
+    private boolean hasNext_;
+    }
   }
@@ -0,0 +1,320 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents the content of a response that is decoded only as needed for validation.
+ * <P/>
+ * Content given as bytes is decoded as JSON directly by the JSON parser, without first creating a String.
+ * Other content is buffered as a String, up to a given maximum length.
+ */
+abstract class BodyContent implements AutoCloseable
+  {
+  /**
+   * Returns the given String content.
+   */
+  public static BodyContent of( String content)
+    {
+    return new StringContent( content);
+    }
+
+  /**
+   * Returns the content read from the given bytes using the given character set.
+   */
+  public static BodyContent of( byte[] content, Charset charset)
+    {
+    return
+      content == null
+      ? of( (InputStream) null, charset)
+      : new StreamContent( new ByteArrayInputStream( content), charset, content.length);
+    }
+
+  /**
+   * Returns the content read from the given stream using the given character set.
+   */
+  public static BodyContent of( InputStream content, Charset charset)
+    {
+    return new StreamContent( content, charset, -1);
+    }
+
+  /**
+   * Returns the character set defined by the given content type. Returns UTF-8 if no character set is defined.
+   */
+  public static Charset charsetFor( String contentType)
+    {
+    try
+      {
+      return
+        Optional.ofNullable( contentType)
+        .map( String::trim)
+        .filter( type -> !type.isEmpty())
+        .map( type -> MediaRange.of( type).parameters().get( "charset"))
+        .map( Charset::forName)
+        .orElse( StandardCharsets.UTF_8);
+      }
+    catch( Exception e)
+      {
+      return StandardCharsets.UTF_8;
+      }
+    }
+
+  /**
+   * Returns true if this content is empty or contains only whitespace. For stream content, this reads
+   * the content, which is not available afterward.
+   */
+  public abstract boolean isBlank() throws IOException;
+
+  /**
+   * Returns the JSON value represented by this content. Returns a {@link MissingNode} if this content is blank.
+   */
+  public abstract JsonNode asJson() throws IOException;
+
+  /**
+   * Returns this content as a String, with leading and trailing whitespace removed.
+   *
+   * @throws ContentTooLargeException if the length of this content exceeds the given number of bytes. If null,
+   * the length of this content is unlimited.
+   */
+  public abstract String asString( Integer maxBytes) throws IOException;
+
+  /**
+   * Returns the size of this content, in bytes. For stream content, returns the number of bytes read so far.
+   */
+  public abstract long getSize();
+
+  /**
+   * Releases any resources used to read this content.
+   */
+  @Override
+  public void close()
+    {
+    // By default, nothing to do.
+    }
+
+  /**
+   * Content given as a String.
+   */
+  private static class StringContent extends BodyContent
+    {
+    public StringContent( String content)
+      {
+      content_ = Objects.toString( content, "").trim();
+      }
+
+    @Override
+    public boolean isBlank()
+      {
+      return content_.isEmpty();
+      }
+
+    @Override
+    public JsonNode asJson() throws IOException
+      {
+      return readJson( content_);
+      }
+
+    @Override
+    public String asString( Integer maxBytes)
+      {
+      return content_;
+      }
+
+    @Override
+    public long getSize()
+      {
+      long size = 0;
+      for( int i = 0, length = content_.length(); i < length; i++)
+        {
+        char c = content_.charAt( i);
+        size +=
+          c < 0x80? 1 :
+          c < 0x800? 2 :
+          Character.isHighSurrogate( c)? 2 :
+          Character.isLowSurrogate( c)? 2 :
+          3;
+        }
+      return size;
+      }
+
+    private final String content_;
+    }
+
+  /**
+   * Content read from a byte stream.
+   */
+  private static class StreamContent extends BodyContent
+    {
+    public StreamContent( InputStream content, Charset charset, long size)
+      {
+      content_ =
+        content == null
+        ? null
+        : new BufferedInputStream(
+          new FilterInputStream( content)
+            {
+            @Override
+            public int read() throws IOException
+              {
+              int b = super.read();
+              if( b >= 0)
+                {
+                bytesRead_++;
+                }
+              return b;
+              }
+
+            @Override
+            public int read( byte[] bytes, int offset, int length) throws IOException
+              {
+              int count = super.read( bytes, offset, length);
+              if( count > 0)
+                {
+                bytesRead_ += count;
+                }
+              return count;
+              }
+            });
+      charset_ = charset;
+      size_ = size;
+      }
+
+    @Override
+    public boolean isBlank() throws IOException
+      {
+      if( content_ != null)
+        {
+        try( Reader reader = new InputStreamReader( content_, charset_))
+          {
+          int c;
+          while( (c = reader.read()) >= 0)
+            {
+            if( !Character.isWhitespace( c))
+              {
+              return false;
+              }
+            }
+          }
+        }
+
+      return true;
+      }
+
+    @Override
+    public JsonNode asJson() throws IOException
+      {
+      if( content_ == null)
+        {
+        return MissingNode.getInstance();
+        }
+
+      // The JSON parser detects UTF-8, UTF-16, and UTF-32 encodings itself. Otherwise, bytes must be decoded first.
+      try( InputStream content = content_)
+        {
+        JsonNode json =
+          isUnicode()
+          ? mapper().readTree( content)
+          : mapper().readTree( new InputStreamReader( content, charset_));
+
+        return Optional.ofNullable( json).orElse( MissingNode.getInstance());
+        }
+      }
+
+    @Override
+    public String asString( Integer maxBytes) throws IOException
+      {
+      if( content_ == null)
+        {
+        return "";
+        }
+
+      try( InputStream content = content_)
+        {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[ maxBytes == null? 8192 : Math.min( 8192, Math.max( 1, maxBytes + 1))];
+        int length;
+        while( (length = content.read( buffer)) >= 0)
+          {
+          bytes.write( buffer, 0, length);
+          if( maxBytes != null && bytes.size() > maxBytes)
+            {
+            throw new ContentTooLargeException( maxBytes);
+            }
+          }
+
+        return new String( bytes.toByteArray(), charset_).trim();
+        }
+      }
+
+    @Override
+    public long getSize()
+      {
+      return size_ >= 0? size_ : bytesRead_;
+      }
+
+    @Override
+    public void close()
+      {
+      if( content_ != null)
+        {
+        try
+          {
+          content_.close();
+          }
+        catch( IOException e)
+          {
+          // No more content needed.
+          }
+        }
+      }
+
+    /**
+     * Returns if this content uses a Unicode encoding recognized by the JSON parser.
+     */
+    private boolean isUnicode()
+      {
+      String name = charset_.name();
+      return name.startsWith( "UTF-8") || name.startsWith( "UTF-16") || name.startsWith( "UTF-32");
+      }
+
+    private final InputStream content_;
+    private final Charset charset_;
+    private final long size_;
+    private long bytesRead_;
+    }
+
+  /**
+   * Reports content that is too large to be buffered.
+   */
+  static class ContentTooLargeException extends IOException
+    {
+    public ContentTooLargeException( int maxBytes)
+      {
+      super( String.format( "Content exceeds maxBufferedBytes=%s", maxBytes));
+      }
+
+    private static final long serialVersionUID = 1L;
+    }
+  }
@@ -0,0 +1,98 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import java.util.List;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Defines the form of a response schema that is prepared for {@link ResponseAnalyzer#validate(CompiledSchema,List) validation}.
+ * <P/>
+ * A CompiledSchema is immutable, so it can be created once and shared by concurrent validations of any response
+ * defined by the same schema.
+ */
+public final class CompiledSchema
+  {
+  /**
+   * Creates a new CompiledSchema instance. If <CODE>writeOnlyInvalid</CODE> is true, validation reports an error
+   * for each occurrence of a "writeOnly" property.
+   */
+  public CompiledSchema( JsonNode schema, boolean writeOnlyInvalid) throws Exception
+    {
+    schema_ = schema;
+    writeOnlyInvalid_ = writeOnlyInvalid;
+    schemaWriteOnly_ =
+      writeOnlyInvalid
+      ? unmodifiableList( ResponseAnalyzer.schemaWriteOnly( schema))
+      : emptyList();
+    schemaWithoutWriteOnly_ = ResponseAnalyzer.schemaWithoutWriteOnly( schema, schemaWriteOnly_);
+    validator_ = new SchemaValidator( null, schemaWithoutWriteOnly_);
+    }
+
+  /**
+   * Returns the original schema.
+   */
+  public JsonNode getSchema()
+    {
+    return schema_;
+    }
+
+  /**
+   * Returns if validation reports an error for each occurrence of a "writeOnly" property.
+   */
+  public boolean isWriteOnlyInvalid()
+    {
+    return writeOnlyInvalid_;
+    }
+
+  /**
+   * Returns the location of each "writeOnly" object property checked by this schema.
+   */
+  public List<JsonPointer> getSchemaWriteOnly()
+    {
+    return schemaWriteOnly_;
+    }
+
+  /**
+   * Returns the schema applied to content after removing all "writeOnly" properties.
+   */
+  public JsonNode getSchemaWithoutWriteOnly()
+    {
+    return schemaWithoutWriteOnly_;
+    }
+
+  /**
+   * Returns the validator for content after removing all "writeOnly" properties.
+   */
+  SchemaValidator getValidator()
+    {
+    return validator_;
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( "writeOnlyInvalid", writeOnlyInvalid_)
+      .add( "writeOnly", schemaWriteOnly_.size())
+      .toString();
+    }
+
+  private final JsonNode schema_;
+  private final boolean writeOnlyInvalid_;
+  private final List<JsonPointer> schemaWriteOnly_;
+  private final JsonNode schemaWithoutWriteOnly_;
+  private final SchemaValidator validator_;
+  }
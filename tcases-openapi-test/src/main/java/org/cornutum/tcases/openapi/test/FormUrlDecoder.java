@@ -14,19 +14,21 @@ import static org.cornutum.tcases.openapi.test.CollectionUtils.toStream;
 import static org.cornutum.tcases.openapi.test.JsonUtils.createObjectNode;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -43,15 +45,6 @@ public class FormUrlDecoder extends AbstractDecoder
     contentDef_ = contentDef;
     }
 
-  /**
-   * Returns the possible JSON array representations of the given content.
-   */
-  @Override
-  public List<JsonNode> decodeArray( String content)
-    {
-    return emptyList();
-    }
-
   /**
    * Returns the JSON number representation of the given content.
    */
@@ -80,89 +73,98 @@ public class FormUrlDecoder extends AbstractDecoder
     }
 
   /**
-   * Returns the possible JSON object representations of the given content.
+   * Returns the possible JSON value representations of the given range of content that have the given types.
    */
   @Override
-  public List<JsonNode> decodeObject( String content)
+  protected List<JsonNode> valuesOf( CharSequence content, int start, int end, ValueTypes types)
     {
     return
-      // Is this a (possibly empty) list of property mappings?...
-      Optional.ofNullable( content)
-      .map( text -> text.isEmpty()? new String[0] : text.split( "&", -1))
-      .map( pairs -> {
-
-        List<String[]> mappings =
-          Arrays.stream( pairs)
-          .map( pair -> pair.split( "=", -1))
-          .collect( toList());
-
-        mappings.stream()
-          .filter( mapping -> mapping.length != 2)
-          .findFirst()
-          .ifPresent( mapping -> {
-            throw new IllegalStateException(
-              String.format(
-                "'%s' is not a valid key/value pair",
-                Arrays.stream( mapping).collect( joining( "="))));
-            });
-        
-        List<Map.Entry<Key,String>> bindings =
-          mappings.stream()
-          .map( mapping -> mapping( Key.of( getContentDef(), decodeUrl( mapping[0])), decodeUrl( mapping[1])))
-          .collect( toList());
-
-        // Return JSON representations for these form bindings.
-        return decodeObject( bindings);
-        })
+      start == end && types.admits( ValueTypes.NULL)
+      ? singletonList( NullNode.instance)
+      : emptyList();
+    }
 
-      // No, not recognizable as an object
-      .orElse( emptyList());
+  /**
+   * Returns the possible JSON array representations of the given content, using the given types for array items.
+   */
+  @Override
+  protected Stream<JsonNode> arrayAlternatives( CharSequence content, ValueTypes types)
+    {
+    return Stream.empty();
     }
 
   /**
-   * Returns the possible JSON object representations of the given form bindings.
+   * Returns the possible JSON object representations of the given content, using the given types for object properties.
    */
-  private List<JsonNode> decodeObject( List<Map.Entry<Key,String>> bindings)
+  @Override
+  protected Stream<JsonNode> objectAlternatives( CharSequence content, ValueTypes types)
     {
-    List<JsonNode> decoded;
+    Stream<JsonNode> alternatives;
 
-    if( bindings.isEmpty())
+    // Is this a (possibly empty) list of property mappings?...
+    if( content == null)
       {
-      decoded = singletonList( createObjectNode());
+      // No, not recognizable as an object
+      alternatives = Stream.empty();
       }
     else
       {
-      Key key = bindings.get(0).getKey();
+      int[] pairs = membersOf( content, '&');
+      int[] separators = new int[ pairs.length / 2];
+      for( int i = 0; i < separators.length; i++)
+        {
+        int start = pairs[ 2*i];
+        int end = pairs[ 2*i + 1];
+        separators[i] = indexOf( '=', content, start, end);
+        if( separators[i] < 0 || indexOf( '=', content, separators[i] + 1, end) >= 0)
+          {
+          throw new IllegalStateException(
+            String.format(
+              "'%s' is not a valid key/value pair",
+              content.subSequence( start, end)));
+          }
+        }
+
+      List<Map.Entry<Key,String>> bindings = new ArrayList<Map.Entry<Key,String>>( separators.length);
+      for( int i = 0; i < separators.length; i++)
+        {
+        bindings.add(
+          mapping(
+            keyOf( decodeUrl( content.subSequence( pairs[ 2*i], separators[i]).toString())),
+            decodeUrl( content.subSequence( separators[i] + 1, pairs[ 2*i + 1]).toString())));
+        }
+
+      // Return JSON representations for these form bindings.
+      alternatives = decodeObject( bindings, types);
+      }
 
-      List<Map.Entry<Key,String>> bindingsForProperty =
-        bindings.subList(
-          0,
-          IntStream.range( 1, bindings.size())
-          .filter( i -> !bindings.get(i).getKey().equalsFormProperty( key))
-          .findFirst()
-          .orElse( bindings.size()));
+    return alternatives;
+    }
 
-      String formProperty = key.getFormProperty();
+  /**
+   * Returns the possible JSON object representations of the given form bindings.
+   */
+  private Stream<JsonNode> decodeObject( List<Map.Entry<Key,String>> bindings, ValueTypes types)
+    {
+    List<String> properties = new ArrayList<String>();
+    List<List<JsonNode>> propertyValues = new ArrayList<List<JsonNode>>();
+    for( int start = 0, end; start < bindings.size(); start = end)
+      {
+      Key key = bindings.get( start).getKey();
+      for( end = start + 1; end < bindings.size() && bindings.get( end).getKey().equalsFormProperty( key); end++);
 
-      decoded =
-        decodeProperty( formProperty, bindingsForProperty).stream()
-        .map( propertyValue -> newObject( formProperty, propertyValue))
-        .flatMap( firstProperty -> {
-            return
-              decodeObject( bindings.subList( bindingsForProperty.size(), bindings.size())).stream()
-              .map( JsonUtils::expectObject)
-              .map( otherProperties -> appendObject( firstProperty, otherProperties));
-          })
-        .collect( toList());
+      String formProperty = key.getFormProperty();
+      properties.add( formProperty);
+      propertyValues.add( decodeProperty( formProperty, bindings.subList( start, end), types.property( formProperty)));
       }
 
-    return decoded;
+    return combinations( propertyValues, values -> objectOf( properties, values));
     }
 
   /**
    * Returns the possible JSON object representations for values of the given form property.
    */
-  private List<JsonNode> decodeProperty( String formProperty, List<Map.Entry<Key,String>> bindings)
+  private List<JsonNode> decodeProperty( String formProperty, List<Map.Entry<Key,String>> bindings, ValueTypes types)
     {
     EncodingDef encoding = getPropertyEncoding( formProperty);
 
@@ -174,7 +176,7 @@ public class FormUrlDecoder extends AbstractDecoder
       .map( binding -> {
         return
           forFormProperty( binding)
-          .map( property -> decodeValue( encoding.getStyle(), property.getValue()))
+          .map( property -> decodeValue( encoding.getStyle(), property.getValue(), types))
           .orElseThrow( () -> new IllegalStateException( String.format( "Unexpected value for %s", binding.getKey())));
         })
       .orElseThrow( () -> new IllegalStateException( String.format( "Expected explode=false for property='%s' but found %s bindings", formProperty, bindings.size()))) :
@@ -183,41 +185,29 @@ public class FormUrlDecoder extends AbstractDecoder
       decodeExplodedObject(
         Optional.of( bindings)
         .filter( deepBindings -> isExplodedObject( "deepObject", deepBindings))
-        .orElseThrow( () -> new IllegalStateException( String.format( "Expected style=deepObject for property='%s' not found", formProperty)))) :
+        .orElseThrow( () -> new IllegalStateException( String.format( "Expected style=deepObject for property='%s' not found", formProperty))),
+        types) :
 
-      decodeExploded( encoding.getStyle(), bindings);
+      decodeExploded( encoding.getStyle(), bindings, types);
     }
 
   /**
    * Returns the possible JSON object representations of the given exploded object value.
    */
-  private List<JsonNode> decodeExplodedObject( List<Map.Entry<Key,String>> bindings)
+  private List<JsonNode> decodeExplodedObject( List<Map.Entry<Key,String>> bindings, ValueTypes types)
     {
-    List<JsonNode> decoded;
-    
-    if( bindings.isEmpty())
-      {
-      decoded = singletonList( createObjectNode());
-      }
-    else
+    List<String> properties = new ArrayList<String>( bindings.size());
+    List<List<JsonNode>> propertyValues = new ArrayList<List<JsonNode>>( bindings.size());
+    for( Map.Entry<Key,String> binding : bindings)
       {
-      Key key = bindings.get(0).getKey();
-      String valueProperty = key.getValueProperty();
-      String valuePropertyContent = bindings.get(0).getValue();
-
-      decoded = 
-        decodeValue( "simple", valuePropertyContent).stream()
-        .map( json -> newObject( valueProperty, json))
-        .flatMap( firstProperty -> {
-          return
-            decodeExplodedObject( bindings.subList( 1, bindings.size())).stream()
-            .map( json -> expectObject( json))
-            .map( otherProperties -> appendObject( firstProperty, otherProperties));
-          })
-        .collect( toList());
+      String valueProperty = binding.getKey().getValueProperty();
+      properties.add( valueProperty);
+      propertyValues.add( decodeValue( "simple", binding.getValue(), types.property( valueProperty)));
       }
 
-    return decoded;
+    return
+      combinations( propertyValues, values -> objectOf( properties, values))
+      .collect( toList());
     }
 
   /**
@@ -282,57 +272,74 @@ public class FormUrlDecoder extends AbstractDecoder
   /**
    * Returns the possible JSON object representations of the given exploded property value.
    */
-  private List<JsonNode> decodeExploded( String style, List<Map.Entry<Key,String>> bindings)
+  private List<JsonNode> decodeExploded( String style, List<Map.Entry<Key,String>> bindings, ValueTypes types)
     {
     return
       bindings.isEmpty()?
       emptyList() :
 
       isExplodedObject( style, bindings)?
-      decodeExplodedObject( bindings) :
+      decodeExplodedObject( bindings, types) :
 
       bindings.size() == 1?
-      decodeValue( style, bindings.get(0).getValue()) :
+      decodeValue( style, bindings.get(0).getValue(), types) :
 
-      decodeExplodedArray( bindings);
+      decodeExplodedArray( bindings, types);
     }
 
   /**
    * Returns the possible JSON object representations of the given exploded array value.
    */
-  private List<JsonNode> decodeExplodedArray( List<Map.Entry<Key,String>> bindings)
+  private List<JsonNode> decodeExplodedArray( List<Map.Entry<Key,String>> bindings, ValueTypes types)
     {
-    List<JsonNode> decoded;
-    if( bindings.isEmpty())
+    ValueTypes itemTypes = types.items();
+    List<List<JsonNode>> elements = new ArrayList<List<JsonNode>>( bindings.size());
+    for( Map.Entry<Key,String> binding : bindings)
       {
-      decoded = singletonList( createArrayNode());
+      elements.add( decodeValue( "simple", binding.getValue(), itemTypes));
       }
-    else
-      {
-      String element = bindings.get(0).getValue();
-      List<JsonNode> decodedRest = decodeExplodedArray( bindings.subList( 1, bindings.size()));
 
-      decoded = 
-        decodeValue( "simple", element).stream()
-        .map( json -> newArray( json))
-        .flatMap( firstElement -> {
-          return
-            decodedRest.stream()
-            .map( json -> expectArray( json))
-            .map( otherElements -> appendArray( firstElement, otherElements));
-          })
-        .collect( toList());
-      }
+    return
+      combinations(
+        elements,
+        values -> {
+          ArrayNode array = createArrayNode();
+          for( JsonNode value : values)
+            {
+            array.add( value);
+            }
+          return array;
+        })
+      .collect( toList());
+    }
+
+  /**
+   * Returns the possible JSON object representations of the given property value that have the given types.
+   */
+  private List<JsonNode> decodeValue( String style, String content, ValueTypes types)
+    {
+    return getValueDecoder( EncodingDef.forSimpleValue( style, false)).alternatives( content, types).collect( toList());
+    }
 
-    return decoded;
+  /**
+   * Returns a new object with the given property values.
+   */
+  private static ObjectNode objectOf( List<String> properties, JsonNode[] values)
+    {
+    ObjectNode object = createObjectNode();
+    for( int i = 0; i < values.length; i++)
+      {
+      object.set( properties.get(i), values[i]);
+      }
+    return object;
     }
 
   /**
-   * Returns the possible JSON object representations of the given property value.
+   * Returns the form binding key represented by the given name.
    */
-  private List<JsonNode> decodeValue( String style, String content)
+  private Key keyOf( String name)
     {
-    return getValueDecoder( EncodingDef.forSimpleValue( style, false)).decode( content);
+    return keys_.computeIfAbsent( name, k -> Key.of( getContentDef(), k));
     }
 
   /**
@@ -370,6 +377,7 @@ public class FormUrlDecoder extends AbstractDecoder
     }
 
   private final ContentDef contentDef_;
+  private final Map<String,Key> keys_ = new HashMap<String,Key>();
 
   /**
    * Represents a form binding key.
@@ -0,0 +1,389 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Defines an API request executed by a {@link RequestRunner}. All parameter values are already serialized and, where
+ * necessary, URI-encoded, so that the request can be sent without further reference to the OpenAPI definition.
+ */
+public class RequestDef
+  {
+  /**
+   * Defines the expected response status for a request.
+   */
+  public enum Expect
+    {
+    /**
+     * Expect a 2xx status code.
+     */
+    SUCCESS,
+
+    /**
+     * Expect a 4xx status code.
+     */
+    BAD_REQUEST,
+
+    /**
+     * Expect a 401 status code.
+     */
+    UNAUTHORIZED
+    };
+
+  /**
+   * Defines the type of credentials supplied by an authentication parameter.
+   */
+  public enum AuthType
+    {
+    /**
+     * The value of the <CODE>tcasesApiKey</CODE> system property.
+     */
+    API_KEY,
+
+    /**
+     * HTTP Basic authentication using the <CODE>tcasesApiUser</CODE> and <CODE>tcasesApiPassword</CODE> system properties.
+     */
+    HTTP_BASIC,
+
+    /**
+     * HTTP Bearer authentication using the <CODE>tcasesApiBearer</CODE> system property.
+     */
+    HTTP_BEARER
+    };
+
+  /**
+   * Defines the location of an authentication parameter.
+   */
+  public enum AuthLocation
+    {
+    QUERY,
+    HEADER,
+    COOKIE
+    };
+
+  /**
+   * Creates a new RequestDef instance.
+   */
+  public RequestDef( String name, String operation, String path)
+    {
+    name_ = name;
+    operation_ = operation.toUpperCase();
+    path_ = path;
+    expect_ = Expect.SUCCESS;
+    }
+
+  /**
+   * Returns the name of this request.
+   */
+  public String getName()
+    {
+    return name_;
+    }
+
+  /**
+   * Returns the request operation.
+   */
+  public String getOperation()
+    {
+    return operation_;
+    }
+
+  /**
+   * Returns the request path.
+   */
+  public String getPath()
+    {
+    return path_;
+    }
+
+  /**
+   * Changes the API server URI for this request. If null, the server must be specified at runtime
+   * by the <CODE>tcasesApiServer</CODE> system property.
+   */
+  public void setServer( String server)
+    {
+    server_ = server;
+    }
+
+  /**
+   * Returns the API server URI for this request. If null, the server must be specified at runtime
+   * by the <CODE>tcasesApiServer</CODE> system property.
+   */
+  public String getServer()
+    {
+    return server_;
+    }
+
+  /**
+   * Adds a URI-encoded path parameter value.
+   */
+  public RequestDef addPathParam( String name, String value)
+    {
+    pathParams_.add( new Binding( name, value));
+    return this;
+    }
+
+  /**
+   * Returns the URI-encoded path parameter values.
+   */
+  public List<Binding> getPathParams()
+    {
+    return unmodifiableList( pathParams_);
+    }
+
+  /**
+   * Adds a URI-encoded query parameter binding. A null value adds a query parameter with no value.
+   */
+  public RequestDef addQueryParam( String name, String value)
+    {
+    queryParams_.add( new Binding( name, value));
+    return this;
+    }
+
+  /**
+   * Returns the URI-encoded query parameter bindings.
+   */
+  public List<Binding> getQueryParams()
+    {
+    return unmodifiableList( queryParams_);
+    }
+
+  /**
+   * Adds a header value.
+   */
+  public RequestDef addHeader( String name, String value)
+    {
+    headers_.add( new Binding( name, value));
+    return this;
+    }
+
+  /**
+   * Returns the header values.
+   */
+  public List<Binding> getHeaders()
+    {
+    return unmodifiableList( headers_);
+    }
+
+  /**
+   * Adds a cookie value.
+   */
+  public RequestDef addCookie( String name, String value)
+    {
+    cookies_.add( new Binding( name, value));
+    return this;
+    }
+
+  /**
+   * Returns the cookie values.
+   */
+  public List<Binding> getCookies()
+    {
+    return unmodifiableList( cookies_);
+    }
+
+  /**
+   * Adds an authentication parameter.
+   */
+  public RequestDef addAuth( AuthLocation location, String name, AuthType type)
+    {
+    auth_.add( new AuthParam( location, name, type));
+    return this;
+    }
+
+  /**
+   * Returns the authentication parameters.
+   */
+  public List<AuthParam> getAuth()
+    {
+    return unmodifiableList( auth_);
+    }
+
+  /**
+   * Changes the request body content.
+   */
+  public void setBody( String contentType, byte[] body)
+    {
+    contentType_ = contentType;
+    body_ = body;
+    }
+
+  /**
+   * Returns the request body content type.
+   */
+  public String getContentType()
+    {
+    return contentType_;
+    }
+
+  /**
+   * Returns the request body content.
+   */
+  public byte[] getBody()
+    {
+    return body_;
+    }
+
+  /**
+   * Changes the expected response status for this request.
+   */
+  public void setExpect( Expect expect)
+    {
+    expect_ = Optional.ofNullable( expect).orElse( Expect.SUCCESS);
+    }
+
+  /**
+   * Returns the expected response status for this request.
+   */
+  public Expect getExpect()
+    {
+    return expect_;
+    }
+
+  /**
+   * Changes the description of the invalid input for a failure request.
+   */
+  public void setInvalidInput( String invalidInput)
+    {
+    invalidInput_ = invalidInput;
+    }
+
+  /**
+   * Returns the description of the invalid input for a failure request.
+   */
+  public String getInvalidInput()
+    {
+    return invalidInput_;
+    }
+
+  /**
+   * Returns the name of this request, used to identify each execution of a data-driven test.
+   */
+  @Override
+  public String toString()
+    {
+    return getName();
+    }
+
+  /**
+   * Binds a name to a value.
+   */
+  public static class Binding
+    {
+    /**
+     * Creates a new Binding instance.
+     */
+    public Binding( String name, String value)
+      {
+      name_ = name;
+      value_ = value;
+      }
+
+    /**
+     * Returns the binding name.
+     */
+    public String getName()
+      {
+      return name_;
+      }
+
+    /**
+     * Returns the binding value.
+     */
+    public String getValue()
+      {
+      return value_;
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.builder( getClass())
+        .add( getName())
+        .add( getValue())
+        .toString();
+      }
+
+    private final String name_;
+    private final String value_;
+    }
+
+  /**
+   * Defines an authentication parameter.
+   */
+  public static class AuthParam
+    {
+    /**
+     * Creates a new AuthParam instance.
+     */
+    public AuthParam( AuthLocation location, String name, AuthType type)
+      {
+      location_ = location;
+      name_ = name;
+      type_ = type;
+      }
+
+    /**
+     * Returns the parameter location.
+     */
+    public AuthLocation getLocation()
+      {
+      return location_;
+      }
+
+    /**
+     * Returns the parameter name.
+     */
+    public String getName()
+      {
+      return name_;
+      }
+
+    /**
+     * Returns the type of credentials supplied.
+     */
+    public AuthType getType()
+      {
+      return type_;
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.builder( getClass())
+        .add( getLocation())
+        .add( getName())
+        .add( getType())
+        .toString();
+      }
+
+    private final AuthLocation location_;
+    private final String name_;
+    private final AuthType type_;
+    }
+
+  private final String name_;
+  private final String operation_;
+  private final String path_;
+  private String server_;
+  private final List<Binding> pathParams_ = new ArrayList<Binding>();
+  private final List<Binding> queryParams_ = new ArrayList<Binding>();
+  private final List<Binding> headers_ = new ArrayList<Binding>();
+  private final List<Binding> cookies_ = new ArrayList<Binding>();
+  private final List<AuthParam> auth_ = new ArrayList<AuthParam>();
+  private String contentType_;
+  private byte[] body_;
+  private Expect expect_;
+  private String invalidInput_;
+  }
@@ -0,0 +1,458 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import org.cornutum.tcases.openapi.test.RequestDef.AuthLocation;
+import org.cornutum.tcases.openapi.test.RequestDef.AuthType;
+import org.cornutum.tcases.openapi.test.RequestDef.Binding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Executes the {@link RequestDef requests} defined by a {@link RequestTable}, verifying the response status
+ * and, if {@link RequestTable#validateResponses enabled}, validating the response with a {@link ResponseValidator}.
+ * <P/>
+ * Requests are sent using {@link HttpURLConnection}. Because <CODE>HttpURLConnection</CODE> does not support
+ * the PATCH method, a PATCH request is sent as a POST request with an <CODE>X-HTTP-Method-Override: PATCH</CODE> header.
+ * To test an API server that does not recognize this header, override {@link #send send()} to use a different HTTP client.
+ */
+public class RequestRunner
+  {
+  /**
+   * Creates a new RequestRunner instance for the given request table of the given test class.
+   */
+  public RequestRunner( Class<?> testClass, RequestTable table)
+    {
+    this(
+      table,
+      table.validateResponses()
+      ? new ResponseValidator( testClass)
+      : null);
+    }
+
+  /**
+   * Creates a new RequestRunner instance for the given request table of the given test class, validating
+   * responses using the given {@link ResponsesDef} resource.
+   */
+  public RequestRunner( Class<?> testClass, RequestTable table, String responsesResource)
+    {
+    this(
+      table,
+      table.validateResponses()
+      ? new ResponseValidator( testClass, responsesResource)
+      : null);
+    }
+
+  /**
+   * Creates a new RequestRunner instance for the given request table. If non-null, the given
+   * <CODE>responseValidator</CODE> is used to validate each response.
+   */
+  public RequestRunner( RequestTable table, ResponseValidator responseValidator)
+    {
+    table_ = table;
+    responseValidator_ = responseValidator;
+    }
+
+  /**
+   * Changes the {@link StubServer} that receives all requests. If null, requests are sent to the API server.
+   */
+  public void setStubServer( StubServer stubServer)
+    {
+    stubServer_ = stubServer;
+    }
+
+  /**
+   * Returns the {@link StubServer} that receives all requests. If null, requests are sent to the API server.
+   */
+  public StubServer getStubServer()
+    {
+    return stubServer_;
+    }
+
+  /**
+   * Executes the given request. Completes successfully if the response has the expected status and, if
+   * {@link RequestTable#validateResponses enabled}, the response conforms to its OpenAPI definition.
+   */
+  public void run( RequestDef request)
+    {
+    Response response;
+    try
+      {
+      response = send( request);
+      }
+    catch( IOException e)
+      {
+      throw new IllegalStateException( String.format( "%s %s: can't send request=%s", request.getOperation(), request.getPath(), request), e);
+      }
+
+    assertStatusExpected( request, response.getStatusCode());
+
+    if( responseValidator_ != null)
+      {
+      responseValidator_.assertBodyValid( request.getOperation(), request.getPath(), response.getStatusCode(), response.getContentType(), response.getBody());
+      responseValidator_.assertHeadersValid( request.getOperation(), request.getPath(), response.getStatusCode(), response.getHeaders());
+      }
+    }
+
+  /**
+   * Sends the given request and returns the response received.
+   */
+  protected Response send( RequestDef request) throws IOException
+    {
+    HttpURLConnection connection = (HttpURLConnection) getUrl( request).openConnection();
+    if( table_.trustServer() && connection instanceof HttpsURLConnection)
+      {
+      HttpsURLConnection https = (HttpsURLConnection) connection;
+      https.setSSLSocketFactory( trustingSocketFactory());
+      https.setHostnameVerifier( (host, session) -> true);
+      }
+
+    if( "PATCH".equals( request.getOperation()))
+      {
+      connection.setRequestMethod( "POST");
+      connection.setRequestProperty( "X-HTTP-Method-Override", "PATCH");
+      }
+    else
+      {
+      connection.setRequestMethod( request.getOperation());
+      }
+
+    request.getHeaders().forEach( header -> connection.addRequestProperty( header.getName(), header.getValue()));
+    request.getAuth().stream()
+      .filter( auth -> auth.getLocation() == AuthLocation.HEADER)
+      .forEach( auth -> connection.addRequestProperty( auth.getName(), headerCredentials( auth.getType())));
+
+    List<String> cookies = new ArrayList<String>();
+    request.getCookies().forEach( cookie -> cookies.add( String.format( "%s=%s", cookie.getName(), cookie.getValue())));
+    request.getAuth().stream()
+      .filter( auth -> auth.getLocation() == AuthLocation.COOKIE)
+      .forEach( auth -> cookies.add( String.format( "%s=%s", auth.getName(), tcasesApiKey())));
+    if( !cookies.isEmpty())
+      {
+      connection.setRequestProperty( "Cookie", cookies.stream().collect( joining( "; ")));
+      }
+
+    if( request.getBody() != null)
+      {
+      Optional.ofNullable( request.getContentType()).ifPresent( contentType -> connection.setRequestProperty( "Content-Type", contentType));
+      connection.setDoOutput( true);
+      try( OutputStream body = connection.getOutputStream())
+        {
+        body.write( request.getBody());
+        }
+      }
+
+    int statusCode = connection.getResponseCode();
+
+    Map<String,List<String>> headers = new LinkedHashMap<String,List<String>>();
+    connection.getHeaderFields().forEach( (name, values) -> { if( name != null) headers.put( name, values); });
+
+    String body;
+    try( InputStream content = statusCode >= 400? connection.getErrorStream() : connection.getInputStream())
+      {
+      body = content == null? null : new String( readBytes( content), BodyContent.charsetFor( connection.getContentType()));
+      }
+
+    return new Response( statusCode, connection.getContentType(), headers, body);
+    }
+
+  /**
+   * Returns the URL for the given request.
+   */
+  protected URL getUrl( RequestDef request) throws IOException
+    {
+    String path = request.getPath();
+    for( Binding param : request.getPathParams())
+      {
+      path = path.replace( String.format( "{%s}", param.getName()), param.getValue());
+      }
+
+    List<String> query = new ArrayList<String>();
+    request.getQueryParams()
+      .forEach( param -> query.add( param.getValue() == null? param.getName() : String.format( "%s=%s", param.getName(), param.getValue())));
+    request.getAuth().stream()
+      .filter( auth -> auth.getLocation() == AuthLocation.QUERY)
+      .forEach( auth -> query.add( String.format( "%s=%s", uriEncoded( auth.getName()), uriEncoded( tcasesApiKey()))));
+
+    return
+      new URL(
+        String.format(
+          "%s%s%s",
+          getServer( request),
+          path,
+          query.isEmpty()? "" : query.stream().collect( joining( "&", "?", ""))));
+    }
+
+  /**
+   * Returns the API server URI for the given request. If a {@link #getStubServer stub server} is defined, returns
+   * the URI used by the stub server for this request.
+   */
+  protected String getServer( RequestDef request)
+    {
+    if( getStubServer() != null)
+      {
+      return getStubServer().getServer( request);
+      }
+
+    String testServer = Objects.toString( System.getProperty( "tcasesApiServer"), "").trim();
+    String server = testServer.isEmpty()? request.getServer() : testServer;
+    if( server == null)
+      {
+      throw new IllegalStateException( String.format( "%s %s: no API server defined -- use the 'tcasesApiServer' system property", request.getOperation(), request.getPath()));
+      }
+
+    return server.replaceAll( "/+$", "");
+    }
+
+  /**
+   * Reports a failure if the given status code is not expected for the given request.
+   */
+  private void assertStatusExpected( RequestDef request, int statusCode)
+    {
+    boolean expected;
+    switch( request.getExpect())
+      {
+      case BAD_REQUEST:
+        {
+        expected = statusCode >= 400 && statusCode < 500;
+        break;
+        }
+      case UNAUTHORIZED:
+        {
+        expected = statusCode == 401;
+        break;
+        }
+      default:
+        {
+        expected = statusCode >= 200 && statusCode < 300;
+        break;
+        }
+      }
+
+    if( !expected)
+      {
+      throw
+        new AssertionError(
+          String.format(
+            "%s %s, %s: expected %s%s, but statusCode=%s",
+            request.getOperation(),
+            request.getPath(),
+            request,
+            request.getExpect(),
+            Optional.ofNullable( request.getInvalidInput()).map( invalid -> String.format( " for %s", invalid)).orElse( ""),
+            statusCode));
+      }
+    }
+
+  /**
+   * Returns the header value for the given type of credentials.
+   */
+  private String headerCredentials( AuthType type)
+    {
+    switch( type)
+      {
+      case HTTP_BASIC:
+        {
+        String credentials = String.format( "%s:%s", systemProperty( "tcasesApiUser"), systemProperty( "tcasesApiPassword"));
+        return String.format( "Basic %s", Base64.getEncoder().encodeToString( credentials.getBytes( StandardCharsets.UTF_8)));
+        }
+      case HTTP_BEARER:
+        {
+        return String.format( "Bearer %s", systemProperty( "tcasesApiBearer"));
+        }
+      default:
+        {
+        return tcasesApiKey();
+        }
+      }
+    }
+
+  /**
+   * Returns the API key credentials specified at runtime.
+   */
+  private String tcasesApiKey()
+    {
+    return systemProperty( "tcasesApiKey");
+    }
+
+  /**
+   * Returns the value of the given system property, or "" if undefined.
+   */
+  private static String systemProperty( String name)
+    {
+    return Objects.toString( System.getProperty( name), "");
+    }
+
+  /**
+   * Returns the URI encoding of the given value.
+   */
+  private static String uriEncoded( String value)
+    {
+    try
+      {
+      return URLEncoder.encode( value, "UTF-8");
+      }
+    catch( Exception e)
+      {
+      throw new IllegalArgumentException( String.format( "Can't encode value=%s", value), e);
+      }
+    }
+
+  /**
+   * Returns the content of the given stream.
+   */
+  private static byte[] readBytes( InputStream input) throws IOException
+    {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    for( int length; (length = input.read( buffer)) >= 0; bytes.write( buffer, 0, length));
+    return bytes.toByteArray();
+    }
+
+  /**
+   * Returns a socket factory that accepts an untrusted API server.
+   */
+  private static synchronized SSLSocketFactory trustingSocketFactory()
+    {
+    if( trustingSocketFactory_ == null)
+      {
+      TrustManager trustAll =
+        new X509TrustManager()
+          {
+          @Override
+          public void checkClientTrusted( X509Certificate[] chain, String authType)
+            {
+            }
+
+          @Override
+          public void checkServerTrusted( X509Certificate[] chain, String authType)
+            {
+            }
+
+          @Override
+          public X509Certificate[] getAcceptedIssuers()
+            {
+            return new X509Certificate[0];
+            }
+          };
+
+      try
+        {
+        SSLContext context = SSLContext.getInstance( "TLS");
+        context.init( null, new TrustManager[]{ trustAll}, null);
+        trustingSocketFactory_ = context.getSocketFactory();
+        }
+      catch( Exception e)
+        {
+        throw new IllegalStateException( "Can't create SSL socket factory", e);
+        }
+      }
+
+    return trustingSocketFactory_;
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( table_)
+      .toString();
+    }
+
+  /**
+   * Describes the response to a request.
+   */
+  public static class Response
+    {
+    /**
+     * Creates a new Response instance.
+     */
+    public Response( int statusCode, String contentType, Map<String,List<String>> headers, String body)
+      {
+      statusCode_ = statusCode;
+      contentType_ = contentType;
+      headers_ = headers;
+      body_ = body;
+      }
+
+    /**
+     * Returns the response status code.
+     */
+    public int getStatusCode()
+      {
+      return statusCode_;
+      }
+
+    /**
+     * Returns the response content type.
+     */
+    public String getContentType()
+      {
+      return contentType_;
+      }
+
+    /**
+     * Returns the response headers.
+     */
+    public Map<String,List<String>> getHeaders()
+      {
+      return headers_;
+      }
+
+    /**
+     * Returns the response body.
+     */
+    public String getBody()
+      {
+      return body_;
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.builder( getClass())
+        .add( getStatusCode())
+        .add( getContentType())
+        .toString();
+      }
+
+    private final int statusCode_;
+    private final String contentType_;
+    private final Map<String,List<String>> headers_;
+    private final String body_;
+    }
+
+  private final RequestTable table_;
+  private final ResponseValidator responseValidator_;
+  private volatile StubServer stubServer_;
+
+  private static SSLSocketFactory trustingSocketFactory_;
+  }
@@ -0,0 +1,346 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import org.cornutum.tcases.openapi.test.RequestDef.AuthLocation;
+import org.cornutum.tcases.openapi.test.RequestDef.AuthType;
+import org.cornutum.tcases.openapi.test.RequestDef.Binding;
+import org.cornutum.tcases.openapi.test.RequestDef.Expect;
+import static org.cornutum.tcases.openapi.test.CollectionUtils.*;
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Defines the API requests executed by a data-driven test.
+ * <P/>
+ * Instead of a separate test method for each request, a data-driven test class contains a single test method
+ * that is executed by a {@link RequestRunner} for each {@link RequestDef} in the table, which is read from
+ * a JSON resource associated with the test class.
+ */
+public class RequestTable
+  {
+  /**
+   * Creates a new RequestTable instance.
+   */
+  public RequestTable()
+    {
+    setValidateResponses( true);
+    setTrustServer( false);
+    }
+
+  /**
+   * Returns the default RequestTable resource for the given test class.
+   */
+  public static RequestTable forTest( Class<?> testClass)
+    {
+    return forTest( testClass, String.format( "%s-Requests.json", testClass.getSimpleName()));
+    }
+
+  /**
+   * Returns the given RequestTable resource for the given test class.
+   */
+  public static RequestTable forTest( Class<?> testClass, String resourceName)
+    {
+    try( Reader reader = new InputStreamReader( ResponseValidator.streamFor( testClass, resourceName), StandardCharsets.UTF_8))
+      {
+      return read( reader);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't read request definitions for class=%s", testClass.getName()), e);
+      }
+    }
+
+  /**
+   * Adds a request to this table.
+   */
+  public RequestTable add( RequestDef request)
+    {
+    requests_.add( request);
+    return this;
+    }
+
+  /**
+   * Returns the requests in this table.
+   */
+  public List<RequestDef> getRequests()
+    {
+    return unmodifiableList( requests_);
+    }
+
+  /**
+   * Returns the parameters for each execution of a data-driven test, where each execution
+   * has a single parameter containing a {@link RequestDef}.
+   */
+  public List<Object[]> parameters()
+    {
+    return requests_.stream().map( request -> new Object[]{ request}).collect( toList());
+    }
+
+  /**
+   * Changes if request responses are validated.
+   */
+  public void setValidateResponses( boolean validateResponses)
+    {
+    validateResponses_ = validateResponses;
+    }
+
+  /**
+   * Returns if request responses are validated.
+   */
+  public boolean validateResponses()
+    {
+    return validateResponses_;
+    }
+
+  /**
+   * Changes if HTTPS requests will accept an untrusted API server.
+   */
+  public void setTrustServer( boolean trustServer)
+    {
+    trustServer_ = trustServer;
+    }
+
+  /**
+   * Returns if HTTPS requests will accept an untrusted API server.
+   */
+  public boolean trustServer()
+    {
+    return trustServer_;
+    }
+
+  /**
+   * Writes a JSON representation of the given request table to the given output stream.
+   */
+  public static void write( RequestTable table, Writer writer)
+    {
+    ObjectNode root = createObjectNode();
+    root.put( VALIDATE_RESPONSES, table.validateResponses());
+    root.put( TRUST_SERVER, table.trustServer());
+
+    ArrayNode requests = root.putArray( REQUESTS);
+    table.getRequests().forEach( request -> requests.add( toJson( request)));
+
+    try( JsonGenerator generator = mapper().writerWithDefaultPrettyPrinter().createGenerator( writer))
+      {
+      mapper().writeTree( generator, root);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( "Can't write JSON document", e);
+      }
+    }
+
+  /**
+   * Reads a JSON representation of a request table from the given input stream.
+   */
+  public static RequestTable read( Reader reader)
+    {
+    try
+      {
+      ObjectNode root =
+        Optional.of( readJson( reader))
+        .flatMap( json -> asObject( json))
+        .orElseThrow( () -> new IllegalStateException( "Expected JSON type=object"));
+
+      RequestTable table = new RequestTable();
+      table.setValidateResponses( root.path( VALIDATE_RESPONSES).asBoolean( true));
+      table.setTrustServer( root.path( TRUST_SERVER).asBoolean( false));
+      toStream( expectArray( root.path( REQUESTS)).elements())
+        .forEach( request -> table.add( asRequestDef( expectObject( request))));
+
+      return table;
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( "Can't read JSON document", e);
+      }
+    }
+
+  /**
+   * Returns the JSON representation of the given request.
+   */
+  private static ObjectNode toJson( RequestDef request)
+    {
+    ObjectNode json = createObjectNode();
+    json.put( NAME, request.getName());
+    json.put( OPERATION, request.getOperation());
+    json.put( PATH, request.getPath());
+    Optional.ofNullable( request.getServer()).ifPresent( server -> json.put( SERVER, server));
+
+    putBindings( json, PATH_PARAMS, request.getPathParams());
+    putBindings( json, QUERY_PARAMS, request.getQueryParams());
+    putBindings( json, HEADERS, request.getHeaders());
+    putBindings( json, COOKIES, request.getCookies());
+
+    if( !request.getAuth().isEmpty())
+      {
+      ArrayNode auth = json.putArray( AUTH);
+      request.getAuth()
+        .forEach( param -> {
+          ObjectNode paramJson = auth.addObject();
+          paramJson.put( LOCATION, param.getLocation().name());
+          paramJson.put( NAME, param.getName());
+          paramJson.put( TYPE, param.getType().name());
+          });
+      }
+
+    Optional.ofNullable( request.getContentType()).ifPresent( contentType -> json.put( CONTENT_TYPE, contentType));
+    Optional.ofNullable( request.getBody())
+      .ifPresent( body -> {
+        Optional<String> text = asText( body);
+        if( text.isPresent())
+          {
+          json.put( BODY, text.get());
+          }
+        else
+          {
+          json.put( BODY_BASE64, Base64.getEncoder().encodeToString( body));
+          }
+        });
+
+    if( request.getExpect() != Expect.SUCCESS)
+      {
+      json.put( EXPECT, request.getExpect().name());
+      }
+    Optional.ofNullable( request.getInvalidInput()).ifPresent( invalidInput -> json.put( INVALID_INPUT, invalidInput));
+
+    return json;
+    }
+
+  /**
+   * Returns the request represented by the given JSON object.
+   */
+  private static RequestDef asRequestDef( ObjectNode json)
+    {
+    RequestDef request = new RequestDef( json.path( NAME).asText( null), json.get( OPERATION).asText(), json.get( PATH).asText());
+    request.setServer( json.path( SERVER).asText( null));
+
+    forBindings( json, PATH_PARAMS, request::addPathParam);
+    forBindings( json, QUERY_PARAMS, request::addQueryParam);
+    forBindings( json, HEADERS, request::addHeader);
+    forBindings( json, COOKIES, request::addCookie);
+
+    asArray( json.get( AUTH))
+      .ifPresent( auth -> {
+        toStream( auth.elements())
+          .forEach( param -> {
+            request.addAuth(
+              AuthLocation.valueOf( param.get( LOCATION).asText()),
+              param.get( NAME).asText(),
+              AuthType.valueOf( param.get( TYPE).asText()));
+            });
+        });
+
+    String contentType = json.path( CONTENT_TYPE).asText( null);
+    Optional.ofNullable( json.get( BODY))
+      .map( body -> body.asText().getBytes( StandardCharsets.UTF_8))
+      .map( Optional::of)
+      .orElse( Optional.ofNullable( json.get( BODY_BASE64)).map( body -> Base64.getDecoder().decode( body.asText())))
+      .ifPresent( body -> request.setBody( contentType, body));
+
+    request.setExpect( Optional.ofNullable( json.get( EXPECT)).map( expect -> Expect.valueOf( expect.asText())).orElse( null));
+    request.setInvalidInput( json.path( INVALID_INPUT).asText( null));
+
+    return request;
+    }
+
+  /**
+   * Adds the JSON representation of the given bindings to the given object.
+   */
+  private static void putBindings( ObjectNode json, String field, List<Binding> bindings)
+    {
+    if( !bindings.isEmpty())
+      {
+      ArrayNode array = json.putArray( field);
+      bindings.forEach( binding -> array.addObject().put( NAME, binding.getName()).put( VALUE, binding.getValue()));
+      }
+    }
+
+  /**
+   * Delivers each of the bindings represented by the given object field to the given consumer.
+   */
+  private static void forBindings( ObjectNode json, String field, BiConsumer<String,String> consumer)
+    {
+    asArray( json.get( field))
+      .ifPresent( bindings -> {
+        toStream( bindings.elements())
+          .forEach( binding -> {
+            JsonNode value = binding.get( VALUE);
+            consumer.accept( binding.get( NAME).asText(), value == null || value.isNull()? null : value.asText());
+            });
+        });
+    }
+
+  /**
+   * If the given bytes represent UTF-8 text, returns the text. Otherwise, returns <CODE>Optional.empty()</CODE>.
+   */
+  private static Optional<String> asText( byte[] bytes)
+    {
+    try
+      {
+      return Optional.of( StandardCharsets.UTF_8.newDecoder().decode( ByteBuffer.wrap( bytes)).toString());
+      }
+    catch( CharacterCodingException e)
+      {
+      return Optional.empty();
+      }
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( "requests", requests_.size())
+      .toString();
+    }
+
+  private final List<RequestDef> requests_ = new ArrayList<RequestDef>();
+  private boolean validateResponses_;
+  private boolean trustServer_;
+
+  private static final String AUTH = "auth";
+  private static final String BODY = "body";
+  private static final String BODY_BASE64 = "bodyBase64";
+  private static final String CONTENT_TYPE = "contentType";
+  private static final String COOKIES = "cookies";
+  private static final String EXPECT = "expect";
+  private static final String HEADERS = "headers";
+  private static final String INVALID_INPUT = "invalidInput";
+  private static final String LOCATION = "location";
+  private static final String NAME = "name";
+  private static final String OPERATION = "operation";
+  private static final String PATH = "path";
+  private static final String PATH_PARAMS = "pathParams";
+  private static final String QUERY_PARAMS = "queryParams";
+  private static final String REQUESTS = "requests";
+  private static final String SERVER = "server";
+  private static final String TRUST_SERVER = "trustServer";
+  private static final String TYPE = "type";
+  private static final String VALIDATE_RESPONSES = "validateResponses";
+  private static final String VALUE = "value";
+  }
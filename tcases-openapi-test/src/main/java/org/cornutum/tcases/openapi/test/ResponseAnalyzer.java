@@ -18,6 +18,8 @@ import org.openapi4j.core.validation.ValidationSeverity;
 import org.openapi4j.schema.validator.ValidationData;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -140,16 +142,23 @@ public final class ResponseAnalyzer
     }
 
   /**
-   * Return the given schema after removing definitions for all "writeOnly" properties.
+   * Return a copy of the given schema after removing definitions for all "writeOnly" properties. The given schema
+   * is not changed, so it can be shared by concurrent validations.
    */
   public static JsonNode schemaWithoutWriteOnly( JsonNode schema, List<JsonPointer> schemaWriteOnly)
     {
+    if( schemaWriteOnly.isEmpty())
+      {
+      return schema;
+      }
+
+    JsonNode schemaCopy = schema.deepCopy();
     schemaWriteOnly
       .forEach( location -> {
         // Ensure writeOnly property not required.
         String property = tailOf( location);
         JsonPointer locationProperties = location.head();
-        ObjectNode objectSchema = expectObject( schema.at( locationProperties.head()));
+        ObjectNode objectSchema = expectObject( schemaCopy.at( locationProperties.head()));
         if( objectSchema.has( "required"))
           {
           objectSchema.set(
@@ -162,7 +171,7 @@ public final class ResponseAnalyzer
           }
         });
 
-    return schema;
+    return schemaCopy;
     }
 
   /**
@@ -188,60 +197,74 @@ public final class ResponseAnalyzer
    * error for each occurrence of a "writeOnly" property.
    */
   public static Optional<List<SchemaValidationError>> validate( JsonNode schema, List<JsonNode> contentAlternatives, boolean writeOnlyInvalid) throws Exception
+    {
+    return validate( new CompiledSchema( schema, writeOnlyInvalid), contentAlternatives);
+    }
+
+  /**
+   * If any content alternative satisfies the given compiled schema, returns {@link Optional#empty}. Otherwise, returns
+   * a list of validation errors.
+   */
+  public static Optional<List<SchemaValidationError>> validate( CompiledSchema schema, List<JsonNode> contentAlternatives)
+    {
+    return validate( schema, contentAlternatives.iterator());
+    }
+
+  /**
+   * If any content alternative satisfies the given compiled schema, returns {@link Optional#empty}. Otherwise, returns
+   * a list of validation errors.
+   * <P/>
+   * Content alternatives are consumed only until an alternative that satisfies the schema is found, so alternatives
+   * that are created lazily by the given iterator need not all be created.
+   */
+  public static Optional<List<SchemaValidationError>> validate( CompiledSchema schema, Iterator<JsonNode> contentAlternatives)
     {
     // Given a schema that may define "writeOnly" properties...
-    List<JsonPointer> schemaWriteOnly =
-      writeOnlyInvalid
-      ? schemaWriteOnly( schema)
-      : emptyList();
+    List<JsonPointer> schemaWriteOnly = schema.getSchemaWriteOnly();
 
     // ...apply a schema without "writeOnly" properties...
-    JsonNode schemaWithoutWriteOnly = schemaWithoutWriteOnly( schema, schemaWriteOnly);
-
-    // ... to content alternatives without "writeOnly" properties
-    Map<JsonNode,List<JsonPointer>> content =
-      contentAlternatives.stream()
-      .collect(
-        toOrderedMap(
-          json -> json,
-          json -> contentWriteOnly( json, schemaWriteOnly)))
-      .entrySet().stream()
-      .collect(
-        toOrderedMap(
-          e -> contentWithoutWriteOnly( e.getKey(), e.getValue()),
-          e -> e.getValue()));
-
-    // ... collecting any validation errors
-    SchemaValidator schemaValidator = new SchemaValidator( null, schemaWithoutWriteOnly);
-    Map<JsonNode,List<SchemaValidationError>> contentErrors =
-      content
-      .entrySet().stream()
-      .collect(
-        toOrderedMap(
-          e -> e.getKey(),
-          e -> {
-          ValidationData<Void> validation = new ValidationData<>();
-          schemaValidator.validate( e.getKey(), validation);
-          return validationErrors( validation);
-        }));
-
-    // Select the content alternative that best represents validation results from among...
+    SchemaValidator schemaValidator = schema.getValidator();
+
+    // ... to content alternatives without "writeOnly" properties...
+    Map<JsonNode,List<JsonPointer>> content = new LinkedHashMap<JsonNode,List<JsonPointer>>();
+    Map<JsonNode,List<SchemaValidationError>> contentErrors = new LinkedHashMap<JsonNode,List<SchemaValidationError>>();
+    boolean contentValid = false;
+    while( !contentValid && contentAlternatives.hasNext())
+      {
+      JsonNode json = contentAlternatives.next();
+      List<JsonPointer> writeOnly = contentWriteOnly( json, schemaWriteOnly);
+
+      // (Alternatives may share nested values, so remove "writeOnly" properties from a copy.)
+      JsonNode withoutWriteOnly =
+        writeOnly.isEmpty()
+        ? json
+        : contentWithoutWriteOnly( json.deepCopy(), writeOnly);
+
+      if( !content.containsKey( withoutWriteOnly))
+        {
+        // ... collecting any validation errors...
+        ValidationData<Void> validation = new ValidationData<>();
+        schemaValidator.validate( withoutWriteOnly, validation);
+        List<SchemaValidationError> errors = validationErrors( validation);
+
+        // ... until finding a content alternative with no errors of any type.
+        contentValid = errors.isEmpty() && writeOnly.isEmpty();
+        content.put( withoutWriteOnly, writeOnly);
+        contentErrors.put( withoutWriteOnly, errors);
+        }
+      }
+
+    // Otherwise, select the content alternative that best represents validation results from among...
     // ...those with only "writeOnly" errors...
-    List<JsonNode> contentWriteOnly =
+    Optional<JsonNode> contentWriteOnly =
       contentErrors
       .keySet().stream()
       .filter( json -> contentErrors.get( json).isEmpty())
-      .collect( toList());
-
-    // ...those with no errors of any type...
-    Optional<JsonNode> contentValid =
-      contentWriteOnly.stream()
-      .filter( json -> content.get( json).isEmpty())
       .findFirst();
 
     // ...and those with some errors of some type (fewest errors first)...
     List<JsonNode> contentInvalid =
-      contentValid.isPresent()?
+      contentValid?
       emptyList() :
 
       contentErrors.keySet().stream()
@@ -250,12 +273,12 @@ public final class ResponseAnalyzer
     
     JsonNode withErrors =
       // Is there a content alternative with no errors?
-      contentInvalid.isEmpty()?
+      contentValid || contentInvalid.isEmpty()?
       null :
 
       // Is there a content alternative with only "writeOnly" errors?
-      !contentWriteOnly.isEmpty()?
-      contentWriteOnly.get(0) :
+      contentWriteOnly.isPresent()?
+      contentWriteOnly.get() :
 
       // Is there an invalid content alternative that has the expected type?
       contentInvalid.stream()
@@ -275,7 +298,6 @@ public final class ResponseAnalyzer
             writeOnlyErrors( content.get( json)).stream())
           .collect( toList());
         });
-      
     }
 
   /**
@@ -0,0 +1,185 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import java.util.Optional;
+
+/**
+ * Describes the results of a call to {@link ResponseValidator#assertBodyValid assertBodyValid} or
+ * {@link ResponseValidator#assertHeadersValid assertHeadersValid}.
+ */
+public class ResponseValidationEvent
+  {
+  /**
+   * Defines the possible results of a response validation.
+   */
+  public enum Result
+    {
+    /**
+     * Response conforms to its OpenAPI definition.
+     */
+    VALID,
+
+    /**
+     * Response does not conform to its OpenAPI definition.
+     */
+    INVALID,
+
+    /**
+     * Response can't be validated.
+     */
+    UNVALIDATED
+    }
+
+  /**
+   * Creates a new ResponseValidationEvent instance.
+   */
+  public ResponseValidationEvent(
+    String op,
+    String path,
+    int statusCode,
+    String location,
+    String contentType,
+    long contentBytes,
+    long decodeNanos,
+    long validateNanos,
+    long elapsedNanos,
+    int errors,
+    Result result)
+    {
+    op_ = op;
+    path_ = path;
+    statusCode_ = statusCode;
+    location_ = location;
+    contentType_ = contentType;
+    contentBytes_ = contentBytes;
+    decodeNanos_ = decodeNanos;
+    validateNanos_ = validateNanos;
+    elapsedNanos_ = elapsedNanos;
+    errors_ = errors;
+    result_ = result;
+    }
+
+  /**
+   * Returns the request operation.
+   */
+  public String getOperation()
+    {
+    return op_;
+    }
+
+  /**
+   * Returns the API resource path.
+   */
+  public String getPath()
+    {
+    return path_;
+    }
+
+  /**
+   * Returns the response status code.
+   */
+  public int getStatusCode()
+    {
+    return statusCode_;
+    }
+
+  /**
+   * Returns the part of the response validated: either "body" or "headers".
+   */
+  public String getLocation()
+    {
+    return location_;
+    }
+
+  /**
+   * Returns the response content type. Returns <CODE>null</CODE> for headers or when no content type was received.
+   */
+  public String getContentType()
+    {
+    return contentType_;
+    }
+
+  /**
+   * Returns the number of bytes of response content validated.
+   */
+  public long getContentBytes()
+    {
+    return contentBytes_;
+    }
+
+  /**
+   * Returns the time spent decoding response content, in nanoseconds.
+   */
+  public long getDecodeNanos()
+    {
+    return decodeNanos_;
+    }
+
+  /**
+   * Returns the time spent validating decoded content with its schema, in nanoseconds.
+   */
+  public long getValidateNanos()
+    {
+    return validateNanos_;
+    }
+
+  /**
+   * Returns the total time spent for this validation, in nanoseconds.
+   */
+  public long getElapsedNanos()
+    {
+    return elapsedNanos_;
+    }
+
+  /**
+   * Returns the number of validation errors reported.
+   */
+  public int getErrors()
+    {
+    return errors_;
+    }
+
+  /**
+   * Returns the result of this validation.
+   */
+  public Result getResult()
+    {
+    return result_;
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( op_)
+      .add( path_)
+      .add( statusCode_)
+      .add( location_)
+      .addIf( "contentType", Optional.ofNullable( contentType_))
+      .add( "bytes", contentBytes_)
+      .add( "decodeNanos", decodeNanos_)
+      .add( "validateNanos", validateNanos_)
+      .addIf( "errors", Optional.of( errors_).filter( errors -> errors > 0))
+      .add( result_)
+      .toString();
+    }
+
+  private final String op_;
+  private final String path_;
+  private final int statusCode_;
+  private final String location_;
+  private final String contentType_;
+  private final long contentBytes_;
+  private final long decodeNanos_;
+  private final long validateNanos_;
+  private final long elapsedNanos_;
+  private final int errors_;
+  private final Result result_;
+  }
@@ -0,0 +1,23 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+/**
+ * Receives a {@link ResponseValidationEvent} for each response validation completed by a {@link ResponseValidator}.
+ * <P/>
+ * A listener is notified before any validation condition is handled, so that every validation is reported, whether
+ * or not the {@link ResponseValidationHandler} reports a failure. A listener may be notified concurrently by
+ * different tests.
+ */
+public interface ResponseValidationListener
+  {
+  /**
+   * Handles the results of a response validation.
+   */
+  public void validated( ResponseValidationEvent event);
+  }
@@ -0,0 +1,261 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ResponseValidationListener} that summarizes the response validations for each API operation.
+ * <P/>
+ * For each operation, the summary reports the number of validations, the number of invalid and unvalidated responses,
+ * the number of validation errors, the number of content bytes validated, and the time spent decoding and validating
+ * response content. Operations are listed in order of decreasing total validation time.
+ * <P/>
+ * When the <CODE>tcasesApiValidationMetrics</CODE> system property defines the path of a file, all
+ * {@link ResponseValidator validators} report to the {@link #forRuntime JVM-wide metrics}, which write their summary
+ * to this file when the JVM shuts down.
+ */
+public class ResponseValidationMetrics implements ResponseValidationListener
+  {
+  /**
+   * Creates a new ResponseValidationMetrics instance.
+   */
+  public ResponseValidationMetrics()
+    {
+    }
+
+  /**
+   * Returns the JVM-wide metrics specified at runtime, if any. These metrics are created when first requested and are written
+   * to the file defined by the <CODE>tcasesApiValidationMetrics</CODE> system property when the JVM shuts down.
+   */
+  public static Optional<ResponseValidationMetrics> forRuntime()
+    {
+    String metricsFile = Objects.toString( System.getProperty( "tcasesApiValidationMetrics"), "").trim();
+    return
+      metricsFile.isEmpty()
+      ? Optional.empty()
+      : Optional.of( runtimeMetrics( new File( metricsFile)));
+    }
+
+  /**
+   * Returns the JVM-wide metrics that are written to the given file when the JVM shuts down.
+   */
+  private static synchronized ResponseValidationMetrics runtimeMetrics( File metricsFile)
+    {
+    if( runtimeMetrics_ == null)
+      {
+      ResponseValidationMetrics metrics = new ResponseValidationMetrics();
+      Runtime.getRuntime().addShutdownHook(
+        new Thread(
+          () -> {
+            try
+              {
+              metrics.write( metricsFile);
+              }
+            catch( Exception e)
+              {
+              System.err.println( String.format( "Can't write response validation metrics to %s: %s", metricsFile, e));
+              }
+          },
+          "tcasesApiValidationMetrics"));
+
+      runtimeMetrics_ = metrics;
+      }
+
+    return runtimeMetrics_;
+    }
+
+  /**
+   * Handles the results of a response validation.
+   */
+  @Override
+  public void validated( ResponseValidationEvent event)
+    {
+    String key = String.format( "%s %s", event.getOperation().toUpperCase(), event.getPath());
+    OpMetrics opMetrics = opMetrics_.get( key);
+    if( opMetrics == null)
+      {
+      OpMetrics created = new OpMetrics( event.getOperation().toUpperCase(), event.getPath());
+      opMetrics = Optional.ofNullable( opMetrics_.putIfAbsent( key, created)).orElse( created);
+      }
+
+    opMetrics.add( event);
+    total_.add( event);
+    }
+
+  /**
+   * Returns the number of validations reported.
+   */
+  public long getValidations()
+    {
+    return total_.validations_.sum();
+    }
+
+  /**
+   * Returns a JSON summary of all validations reported.
+   */
+  public ObjectNode toJson()
+    {
+    ObjectNode json = total_.toJson( createObjectNode());
+
+    ArrayNode operations = createArrayNode();
+    opMetrics_.values().stream()
+      .sorted( Comparator.comparing( OpMetrics::getTotalNanos).reversed().thenComparing( OpMetrics::getKey))
+      .forEach( opMetrics -> {
+        ObjectNode opJson = createObjectNode();
+        opJson.put( "op", opMetrics.op_);
+        opJson.put( "path", opMetrics.path_);
+        operations.add( opMetrics.toJson( opJson));
+        });
+    json.set( "operations", operations);
+
+    return json;
+    }
+
+  /**
+   * Writes a JSON summary of all validations reported to the given file.
+   */
+  public void write( File file) throws IOException
+    {
+    Optional.ofNullable( file.getParentFile()).ifPresent( File::mkdirs);
+    try( Writer writer = new OutputStreamWriter( new FileOutputStream( file), "UTF-8"))
+      {
+      write( writer);
+      }
+    }
+
+  /**
+   * Writes a JSON summary of all validations reported to the given writer.
+   */
+  public void write( Writer writer) throws IOException
+    {
+    mapper().writerWithDefaultPrettyPrinter().writeValue( writer, toJson());
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( "validations", getValidations())
+      .add( "operations", opMetrics_.size())
+      .toString();
+    }
+
+  /**
+   * Accumulates the results of validations.
+   */
+  private static class Metrics
+    {
+    /**
+     * Adds the results of the given validation.
+     */
+    public void add( ResponseValidationEvent event)
+      {
+      validations_.increment();
+      if( event.getResult() == ResponseValidationEvent.Result.INVALID)
+        {
+        invalid_.increment();
+        }
+      else if( event.getResult() == ResponseValidationEvent.Result.UNVALIDATED)
+        {
+        unvalidated_.increment();
+        }
+      errors_.add( event.getErrors());
+      contentBytes_.add( event.getContentBytes());
+      decodeNanos_.add( event.getDecodeNanos());
+      validateNanos_.add( event.getValidateNanos());
+      elapsedNanos_.add( event.getElapsedNanos());
+      maxElapsedNanos_.accumulateAndGet( event.getElapsedNanos(), Math::max);
+      }
+
+    /**
+     * Returns the total time spent for all validations.
+     */
+    public long getTotalNanos()
+      {
+      return elapsedNanos_.sum();
+      }
+
+    /**
+     * Adds the JSON representation of these metrics to the given object.
+     */
+    public ObjectNode toJson( ObjectNode json)
+      {
+      json.put( "validations", validations_.sum());
+      json.put( "invalid", invalid_.sum());
+      json.put( "unvalidated", unvalidated_.sum());
+      json.put( "errors", errors_.sum());
+      json.put( "contentBytes", contentBytes_.sum());
+      json.put( "decodeMillis", millis( decodeNanos_.sum()));
+      json.put( "validateMillis", millis( validateNanos_.sum()));
+      json.put( "totalMillis", millis( elapsedNanos_.sum()));
+      json.put( "maxMillis", millis( maxElapsedNanos_.get()));
+      return json;
+      }
+
+    /**
+     * Returns the given nanoseconds as milliseconds, rounded to microseconds.
+     */
+    private static double millis( long nanos)
+      {
+      return Math.round( nanos / 1000.0) / 1000.0;
+      }
+
+    private final LongAdder validations_ = new LongAdder();
+    private final LongAdder invalid_ = new LongAdder();
+    private final LongAdder unvalidated_ = new LongAdder();
+    private final LongAdder errors_ = new LongAdder();
+    private final LongAdder contentBytes_ = new LongAdder();
+    private final LongAdder decodeNanos_ = new LongAdder();
+    private final LongAdder validateNanos_ = new LongAdder();
+    private final LongAdder elapsedNanos_ = new LongAdder();
+    private final AtomicLong maxElapsedNanos_ = new AtomicLong();
+    }
+
+  /**
+   * Accumulates the results of validations for an API operation.
+   */
+  private static class OpMetrics extends Metrics
+    {
+    public OpMetrics( String op, String path)
+      {
+      op_ = op;
+      path_ = path;
+      }
+
+    public String getKey()
+      {
+      return String.format( "%s %s", path_, op_);
+      }
+
+    private final String op_;
+    private final String path_;
+    }
+
+  private final Map<String,OpMetrics> opMetrics_ = new ConcurrentHashMap<String,OpMetrics>();
+  private final Metrics total_ = new Metrics();
+
+  private static ResponseValidationMetrics runtimeMetrics_;
+  }
@@ -18,21 +18,29 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import static java.util.Collections.emptyList;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import static java.util.Collections.emptyIterator;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.joining;
 
 /**
  * Verifies that request responses conform to the form described by an OpenAPI definition.
+ * <P/>
+ * Once configured, a ResponseValidator can be shared by tests that run concurrently.
  */
 public class ResponseValidator
   {
   /**
    * Creates a new ResponseValidator using the default {@link ResponsesDef} resource for the given test class.
+   * The {@link ResponsesDef} is shared with all other validators for the same resource, using the
+   * {@link ResponseValidatorRegistry}.
    */
   public ResponseValidator( Class<?> testClass)
     {
@@ -41,10 +49,12 @@ public class ResponseValidator
   
   /**
    * Creates a new ResponseValidator using the given {@link ResponsesDef} resource for the given test class.
+   * The {@link ResponsesDef} is shared with all other validators for the same resource, using the
+   * {@link ResponseValidatorRegistry}.
    */
   public ResponseValidator( Class<?> testClass, String resourceName)
     {
-    this( streamFor( testClass, resourceName));
+    this( ResponseValidatorRegistry.validatorFor( testClass, resourceName).getResponses());
     notifying( validationHandlerFor( testClass).orElse( null));
     }
   
@@ -60,24 +70,18 @@ public class ResponseValidator
    * Creates a new ResponseValidator using the {@link ResponsesDef} read from the given stream.
    */
   public ResponseValidator( Reader responses)
+    {
+    this( readResponses( responses));
+    }
+  
+  /**
+   * Creates a new ResponseValidator using the given {@link ResponsesDef}.
+   */
+  public ResponseValidator( ResponsesDef responses)
     {
     writeOnlyInvalid( writeOnlyInvalid().orElse( true));
-    
-    try
-      {
-      responses_ = ResponsesDef.read( responses);
-      }
-    finally
-      {
-      try
-        {
-        responses.close();
-        }
-      catch( Exception ignored)
-        {
-        // Don't care about this
-        }
-      }
+    ResponseValidationMetrics.forRuntime().ifPresent( this::reportingTo);
+    responses_ = responses;
     }
 
   /**
@@ -86,16 +90,28 @@ public class ResponseValidator
    */
   public ResponseValidator notifying( ResponseValidationHandler handler)
     {
+    assertNotShared();
     validationHandler_ = Optional.ofNullable( handler).orElse( ResponseValidationHandler.EXPECT_CONFORM);
     return this;
     }
 
+  /**
+   * Adds a listener that receives a {@link ResponseValidationEvent} for each validation.
+   */
+  public ResponseValidator reportingTo( ResponseValidationListener listener)
+    {
+    assertNotShared();
+    listeners_.add( listener);
+    return this;
+    }
+
   /**
    * Changes if a response containing a "writeOnly" object property is invalid. If false,
    * "writeOnly" properties are ignored during validation.
    */
   public ResponseValidator writeOnlyInvalid( boolean invalid)
     {
+    assertNotShared();
     writeOnlyInvalid_ = invalid;
     return this;
     }
@@ -109,6 +125,28 @@ public class ResponseValidator
     return writeOnlyInvalid_;
     }
 
+  /**
+   * Changes the maximum number of bytes of response content that can be buffered for validation. JSON content
+   * given as bytes is parsed as it is read, but other content given as bytes must be buffered before it is decoded.
+   * Such content longer than this maximum {@link ResponseValidationHandler#handleUnvalidated is not validated}.
+   * If null, the default, all such content is buffered and validated.
+   */
+  public ResponseValidator maxBufferedBytes( Integer maxBytes)
+    {
+    assertNotShared();
+    maxBufferedBytes_ = maxBytes;
+    return this;
+    }
+
+  /**
+   * Returns the maximum number of bytes of response content that can be buffered for validation.
+   * If null, all such content is buffered and validated.
+   */
+  public Integer getMaxBufferedBytes()
+    {
+    return maxBufferedBytes_;
+    }
+
   /**
    * Given a response with the given status code to the given operation on the API resource at the given path, completes
    * successfully if the response body conforms to its OpenAPI definition. Otherwise,
@@ -116,6 +154,77 @@ public class ResponseValidator
    */
   public void assertBodyValid( String op, String path, int statusCode, String contentType, String content)
     {
+    assertBodyValid( op, path, statusCode, contentType, content, validationHandler_, writeOnlyInvalid_);
+    }
+
+  /**
+   * Given a response with the given status code to the given operation on the API resource at the given path, completes
+   * successfully if the response body conforms to its OpenAPI definition. Otherwise, reports an invalid response
+   * condition to the given handler. If <CODE>writeOnlyInvalid</CODE> is true, a response containing a "writeOnly"
+   * object property is invalid.
+   */
+  public void assertBodyValid( String op, String path, int statusCode, String contentType, String content, ResponseValidationHandler handler, boolean writeOnlyInvalid)
+    {
+    assertBodyValid( op, path, statusCode, contentType, BodyContent.of( content), handler, writeOnlyInvalid);
+    }
+
+  /**
+   * Given a response with the given status code to the given operation on the API resource at the given path, completes
+   * successfully if the response body conforms to its OpenAPI definition. Otherwise,
+   * {@link ResponseValidationHandler#handleInvalid reports an invalid response condition}.
+   * <P/>
+   * The body content is decoded using the character set defined by the given content type, or UTF-8 by default.
+   */
+  public void assertBodyValid( String op, String path, int statusCode, String contentType, byte[] content)
+    {
+    assertBodyValid( op, path, statusCode, contentType, content, validationHandler_, writeOnlyInvalid_);
+    }
+
+  /**
+   * Given a response with the given status code to the given operation on the API resource at the given path, completes
+   * successfully if the response body conforms to its OpenAPI definition. Otherwise, reports an invalid response
+   * condition to the given handler. If <CODE>writeOnlyInvalid</CODE> is true, a response containing a "writeOnly"
+   * object property is invalid.
+   */
+  public void assertBodyValid( String op, String path, int statusCode, String contentType, byte[] content, ResponseValidationHandler handler, boolean writeOnlyInvalid)
+    {
+    assertBodyValid( op, path, statusCode, contentType, BodyContent.of( content, BodyContent.charsetFor( contentType)), handler, writeOnlyInvalid);
+    }
+
+  /**
+   * Given a response with the given status code to the given operation on the API resource at the given path, completes
+   * successfully if the response body conforms to its OpenAPI definition. Otherwise,
+   * {@link ResponseValidationHandler#handleInvalid reports an invalid response condition}.
+   * <P/>
+   * The body content is decoded using the character set defined by the given content type, or UTF-8 by default.
+   * JSON content is parsed directly from the given stream. The given stream is closed when validation is complete.
+   */
+  public void assertBodyValid( String op, String path, int statusCode, String contentType, InputStream content)
+    {
+    assertBodyValid( op, path, statusCode, contentType, content, validationHandler_, writeOnlyInvalid_);
+    }
+
+  /**
+   * Given a response with the given status code to the given operation on the API resource at the given path, completes
+   * successfully if the response body conforms to its OpenAPI definition. Otherwise, reports an invalid response
+   * condition to the given handler. If <CODE>writeOnlyInvalid</CODE> is true, a response containing a "writeOnly"
+   * object property is invalid.
+   */
+  public void assertBodyValid( String op, String path, int statusCode, String contentType, InputStream content, ResponseValidationHandler handler, boolean writeOnlyInvalid)
+    {
+    assertBodyValid( op, path, statusCode, contentType, BodyContent.of( content, BodyContent.charsetFor( contentType)), handler, writeOnlyInvalid);
+    }
+
+  /**
+   * Given a response with the given status code to the given operation on the API resource at the given path, completes
+   * successfully if the response body conforms to its OpenAPI definition. Otherwise,
+   * {@link ResponseValidationHandler#handleInvalid reports an invalid response condition}.
+   * The body content is closed when validation is complete.
+   */
+  private void assertBodyValid( String op, String path, int statusCode, String contentType, BodyContent bodyContent, ResponseValidationHandler handler, boolean writeOnlyInvalid)
+    {
+    Measure measure = new Measure();
+    ResponseValidationException condition = null;
     try
       {
       if( !responses_.defined( op, path, statusCode))
@@ -125,7 +234,6 @@ public class ResponseValidator
 
       // The actual body and content type must be defined if and only if an expected body content is defined.
       String bodyContentType = Objects.toString( contentType, "").trim();
-      String bodyContent = Objects.toString( content, "").trim();
       boolean bodyExpected = responses_.hasBody( op, path, statusCode);
       if( bodyExpected)
         {
@@ -140,7 +248,7 @@ public class ResponseValidator
           {
           throw new ResponseValidationException( op, path, statusCode, "body", "unexpected response Content-Type header received");
           }
-        if( !bodyContent.isEmpty())
+        if( !isBlank( op, path, statusCode, bodyContent))
           {
           throw new ResponseValidationException( op, path, statusCode, "body", "unexpected response body received");
           }
@@ -153,8 +261,10 @@ public class ResponseValidator
           .orElseThrow( () -> new ResponseValidationException( op, path, statusCode, "body", String.format( "unexpected response contentType=%s", bodyContentType)));
         
         // Compare actual body content...
-        List<JsonNode> bodyContentJson = bodyContentJson( op, path, statusCode, bodyContentDef, bodyContent);
-        if( bodyContentJson.isEmpty())
+        long decodeStart = System.nanoTime();
+        Iterator<JsonNode> bodyContentJson = bodyContentJson( op, path, statusCode, bodyContentDef, bodyContent);
+        measure.decodeNanos += System.nanoTime() - decodeStart;
+        if( !bodyContentJson.hasNext())
           {
           throw new ResponseUnvalidatedException( op, path, statusCode, "body", String.format( "contentType=%s can't be validated", bodyContentType));
           }
@@ -166,26 +276,35 @@ public class ResponseValidator
 
         // ...and report any non-conformance errors
         Optional<List<SchemaValidationError>> validationErrors;
+        long validateStart = System.nanoTime();
         try
           {
-          validationErrors = ResponseAnalyzer.validate( schema, bodyContentJson, isWriteOnlyInvalid());
+          validationErrors = ResponseAnalyzer.validate( responses_.compiledSchema( schema, writeOnlyInvalid), bodyContentJson);
           }
         catch( Exception e)
           {
           throw new ResponseValidationException( op, path, statusCode, "body", "can't validate content", e);
           }
+        finally
+          {
+          measure.validateNanos += System.nanoTime() - validateStart;
+          }
 
-        validationErrors.ifPresent( errors -> reportValidationErrors( op, path, statusCode, "body", "invalid response", errors));
+        validationErrors.ifPresent( errors -> reportValidationErrors( measure, op, path, statusCode, "body", "invalid response", errors));
         }
       }
-    catch( ResponseUnvalidatedException unvalidated)
+    catch( ResponseValidationException e)
       {
-      notify( unvalidated);
+      condition = e;
       }
-    catch( ResponseValidationException invalid)
+    finally
       {
-      notify( invalid);
+      bodyContent.close();
       }
+
+    measure.contentBytes = bodyContent.getSize();
+    report( measure, op, path, statusCode, "body", contentType, condition);
+    notify( handler, condition);
     }
 
   /**
@@ -197,6 +316,21 @@ public class ResponseValidator
    */
   public void assertHeadersValid( String op, String path, int statusCode, Map<String,List<String>> headers)
     {
+    assertHeadersValid( op, path, statusCode, headers, validationHandler_, writeOnlyInvalid_);
+    }
+
+  /**
+   * Given a response with the given status code to the given operation on the API resource at the given path, completes
+   * successfully if the response headers conform to its OpenAPI definition. Otherwise, reports an invalid response
+   * condition to the given handler. If <CODE>writeOnlyInvalid</CODE> is true, a response containing a "writeOnly"
+   * object property is invalid.
+   *
+   * @param headers Maps each header field name to the list of values given for that field name
+   */
+  public void assertHeadersValid( String op, String path, int statusCode, Map<String,List<String>> headers, ResponseValidationHandler handler, boolean writeOnlyInvalid)
+    {
+    Measure measure = new Measure();
+    ResponseValidationException condition = null;
     try
       {
       if( !responses_.defined( op, path, statusCode))
@@ -204,6 +338,9 @@ public class ResponseValidator
         throw new ResponseValidationException( op, path, String.format( "no response defined for statusCode=%s", statusCode));
         }
 
+      // Header field names are case-insensitive.
+      Map<String,List<String>> headersByName = headersByName( headers);
+
       // For each header defined for this response...
       responses_.headerDefs( op, path, statusCode)
         .forEach( headerDef -> {
@@ -211,7 +348,7 @@ public class ResponseValidator
           String headerName = headerDef.getName();
           if( !"Content-Type".equals( headerName))
             {
-            if( headers.containsKey( headerName))
+            if( headersByName.containsKey( headerName))
               {
               // ...compare expected content schema...
               ContentDef headerContentDef = headerDef.getContentDef();
@@ -221,25 +358,34 @@ public class ResponseValidator
                 .orElseThrow( () -> new ResponseUnvalidatedException( op, path, statusCode, headerName, "no schema defined"));
 
               // ...with actual header content...
-              String headerContent = headers.get( headerName).stream().collect( joining( ","));
-              List<JsonNode> headerContentJson = contentJson( op, path, statusCode, headerName, headerContentDef, headerContent);
-              if( headerContentJson.isEmpty())
+              String headerContent = headersByName.get( headerName).stream().collect( joining( ","));
+              BodyContent headerBodyContent = BodyContent.of( headerContent);
+              measure.contentBytes += headerBodyContent.getSize();
+              long decodeStart = System.nanoTime();
+              Iterator<JsonNode> headerContentJson = contentJson( op, path, statusCode, headerName, headerContentDef, headerBodyContent);
+              measure.decodeNanos += System.nanoTime() - decodeStart;
+              if( !headerContentJson.hasNext())
                 {
                 throw new ResponseUnvalidatedException( op, path, statusCode, headerName, String.format( "contentType=%s can't be validated", headerContentDef.getContentType()));
                 }
 
               // ...and report any non-conformance errors
               Optional<List<SchemaValidationError>> validationErrors;
+              long validateStart = System.nanoTime();
               try
                 {
-                validationErrors = ResponseAnalyzer.validate( schema, headerContentJson, isWriteOnlyInvalid());
+                validationErrors = ResponseAnalyzer.validate( responses_.compiledSchema( schema, writeOnlyInvalid), headerContentJson);
                 }
               catch( Exception e)
                 {
                 throw new ResponseValidationException( op, path, statusCode, headerName, "can't validate value", e);
                 }
+              finally
+                {
+                measure.validateNanos += System.nanoTime() - validateStart;
+                }
 
-              validationErrors.ifPresent( errors -> reportValidationErrors( op, path, statusCode, headerName, "invalid value", errors));
+              validationErrors.ifPresent( errors -> reportValidationErrors( measure, op, path, statusCode, headerName, "invalid value", errors));
               }
 
             else if ( headerDef.isRequired())
@@ -249,28 +395,60 @@ public class ResponseValidator
             }
           });
       }
-    catch( ResponseUnvalidatedException unvalidated)
-      {
-      notify( unvalidated);
-      }
-    catch( ResponseValidationException invalid)
+    catch( ResponseValidationException e)
       {
-      notify( invalid);
+      condition = e;
       }
+
+    report( measure, op, path, statusCode, "headers", null, condition);
+    notify( handler, condition);
+    }
+
+  /**
+   * Returns the given header values, indexed by case-insensitive header field name.
+   */
+  private static Map<String,List<String>> headersByName( Map<String,List<String>> headers)
+    {
+    Map<String,List<String>> byName = new TreeMap<String,List<String>>( String.CASE_INSENSITIVE_ORDER);
+    headers.forEach( (name, values) -> {
+      if( name != null)
+        {
+        byName.computeIfAbsent( name, n -> new ArrayList<String>()).addAll( values);
+        }
+      });
+
+    return byName;
     }
 
   /**
-   * Returns JSON representations of the given body content. Returns {@link Optional#empty} if no JSON representation is possible.
+   * Returns JSON representations of the given body content. Returns an empty iterator if no JSON representation is possible.
    */
-  private List<JsonNode> bodyContentJson( String op, String path, int statusCode, ContentDef contentDef, String bodyContent)
+  private Iterator<JsonNode> bodyContentJson( String op, String path, int statusCode, ContentDef contentDef, BodyContent bodyContent)
     {
     return contentJson( op, path, statusCode, "body", contentDef, bodyContent);
     }
 
   /**
-   * Returns JSON representations of the given content. Returns {@link Collections#emptyList} if no JSON representation is possible.
+   * Returns if the given body content is empty.
    */
-  private List<JsonNode> contentJson( String op, String path, int statusCode, String location, ContentDef contentDef, String content)
+  private boolean isBlank( String op, String path, int statusCode, BodyContent content)
+    {
+    try
+      {
+      return content.isBlank();
+      }
+    catch( Exception e)
+      {
+      throw new ResponseValidationException( op, path, statusCode, "body", "Can't read content", e);
+      }
+    }
+
+  /**
+   * Returns JSON representations of the given content. Returns an empty iterator if no JSON representation is possible.
+   * Content is read only if the given content type can be decoded. Alternative representations of decoded text content
+   * are created only as the iterator is consumed.
+   */
+  private Iterator<JsonNode> contentJson( String op, String path, int statusCode, String location, ContentDef contentDef, BodyContent content)
     {
     String contentType = contentDef.getContentType();
 
@@ -282,7 +460,8 @@ public class ResponseValidator
         Optional.ofNullable(
           ("application/json".equals( media.base()) || "json".equals( media.suffix()))?
           Optional.of( decodeJson( content))
-          .filter( json -> json.stream().noneMatch( JsonNode::isMissingNode))
+          .filter( json -> !json.isMissingNode())
+          .map( json -> singletonList( json).iterator())
           .orElseThrow( () -> new IllegalArgumentException( "No JSON content found")):
 
           "text/plain".equals( media.base())?
@@ -293,7 +472,11 @@ public class ResponseValidator
           
           null)
 
-        .orElse( emptyList());
+        .orElse( emptyIterator());
+      }
+    catch( BodyContent.ContentTooLargeException e)
+      {
+      throw new ResponseUnvalidatedException( op, path, statusCode, location, String.format( "contentType=%s: %s", contentType, e.getMessage()));
       }
     catch( Exception e)
       {
@@ -304,48 +487,96 @@ public class ResponseValidator
   /**
    * Returns the JSON representation of JSON-encoded content.
    */
-  private List<JsonNode> decodeJson( String content) throws Exception
+  private JsonNode decodeJson( BodyContent content) throws Exception
     {
-    return singletonList( readJson( content));
+    return content.asJson();
     }
 
   /**
    * Returns JSON representations of simple-encoded text content.
    */
-  private List<JsonNode> decodeSimple( String content, ContentDef contentDef) throws Exception
+  private Iterator<JsonNode> decodeSimple( BodyContent content, ContentDef contentDef) throws Exception
     {
-    return new SimpleDecoder( contentDef.getValueEncoding()).decode( content);
+    return
+      new SimpleDecoder( contentDef.getValueEncoding())
+      .alternatives( content.asString( getMaxBufferedBytes()), contentDef.getSchema())
+      .iterator();
     }
 
   /**
    * Returns JSON representation of application/x-www-form-urlencoded content.
    */
-  private List<JsonNode> decodeFormUrl( String content, ContentDef contentDef) throws Exception
+  private Iterator<JsonNode> decodeFormUrl( BodyContent content, ContentDef contentDef) throws Exception
     {
-    return new FormUrlDecoder( contentDef).decode( content);
+    return
+      new FormUrlDecoder( contentDef)
+      .alternatives( content.asString( getMaxBufferedBytes()), contentDef.getSchema())
+      .iterator();
     }
 
   /**
-   * Notifies a {@link ResponseUnvalidatedException} exception.
+   * Notifies the given handler of the given validation condition, if any.
    */
-  private void notify( ResponseUnvalidatedException unvalidated)
+  private void notify( ResponseValidationHandler handler, ResponseValidationException condition)
     {
-    validationHandler_.handleUnvalidated( unvalidated);
+    if( condition instanceof ResponseUnvalidatedException)
+      {
+      handlerOf( handler).handleUnvalidated( (ResponseUnvalidatedException) condition);
+      }
+    else if( condition != null)
+      {
+      handlerOf( handler).handleInvalid( condition);
+      }
+    }
+
+  /**
+   * Reports the results of a validation to all listeners.
+   */
+  private void report( Measure measure, String op, String path, int statusCode, String location, String contentType, ResponseValidationException condition)
+    {
+    if( !listeners_.isEmpty())
+      {
+      ResponseValidationEvent.Result result =
+        condition == null?
+        ResponseValidationEvent.Result.VALID :
+
+        condition instanceof ResponseUnvalidatedException?
+        ResponseValidationEvent.Result.UNVALIDATED :
+
+        ResponseValidationEvent.Result.INVALID;
+
+      ResponseValidationEvent event =
+        new ResponseValidationEvent(
+          op,
+          path,
+          statusCode,
+          location,
+          Optional.ofNullable( contentType).map( String::trim).filter( type -> !type.isEmpty()).orElse( null),
+          measure.contentBytes,
+          measure.decodeNanos,
+          measure.validateNanos,
+          System.nanoTime() - measure.start,
+          result == ResponseValidationEvent.Result.INVALID? Math.max( 1, measure.errors) : measure.errors,
+          result);
+
+      listeners_.forEach( listener -> listener.validated( event));
+      }
     }
 
   /**
-   * Notifies a {@link ResponseValidationException} exception.
+   * Returns the given handler or, if <CODE>null</CODE>, the default handler.
    */
-  private void notify( ResponseValidationException invalid)
+  private static ResponseValidationHandler handlerOf( ResponseValidationHandler handler)
     {
-    validationHandler_.handleInvalid( invalid);
+    return Optional.ofNullable( handler).orElse( ResponseValidationHandler.EXPECT_CONFORM);
     }
 
   /**
    * Returns a message describing the errors listed in the given schema validation results.
    */
-  private void reportValidationErrors( String op, String path, int statusCode, String location, String reason, List<SchemaValidationError> errors)
+  private void reportValidationErrors( Measure measure, String op, String path, int statusCode, String location, String reason, List<SchemaValidationError> errors)
     {
+    measure.errors += errors.size();
     throw
       new ResponseValidationException
       ( op,
@@ -355,6 +586,28 @@ public class ResponseValidator
         String.format( "%s\n%s", reason, errors.stream().map( Object::toString).collect( joining( "\n"))));
     }
 
+  /**
+   * Returns the {@link ResponsesDef} read from the given stream.
+   */
+  private static ResponsesDef readResponses( Reader responses)
+    {
+    try
+      {
+      return ResponsesDef.read( responses);
+      }
+    finally
+      {
+      try
+        {
+        responses.close();
+        }
+      catch( Exception ignored)
+        {
+        // Don't care about this
+        }
+      }
+    }
+
   /**
    * Returns a Reader for the given stream.
    */
@@ -371,14 +624,14 @@ public class ResponseValidator
     };
 
   /**
-   * Returns an input stream a {@link ResponsesDef} resource for the given test class.
+   * Returns an input stream for the given resource for the given test class.
    */
-  private static InputStream streamFor( Class<?> testClass, String resourceName)
+  static InputStream streamFor( Class<?> testClass, String resourceName)
     {
     InputStream responses;
 
     // Resource location specified at runtime?
-    String resourceDir = Objects.toString( System.getProperty( "tcasesApiResourceDir"), "").trim();
+    String resourceDir = resourceDir();
     if( !resourceDir.isEmpty())
       {
       // Yes, read specified resource file.
@@ -389,7 +642,7 @@ public class ResponseValidator
         }
       catch( Exception e)
         {
-        throw new IllegalArgumentException( "Can't read response definitions from " + resourceFile, e);
+        throw new IllegalArgumentException( "Can't read resource from " + resourceFile, e);
         }
       }
     else
@@ -403,10 +656,32 @@ public class ResponseValidator
     return responses;
     }
 
+  /**
+   * Returns the location of the given resource for the given test class.
+   */
+  static String resourceLocation( Class<?> testClass, String resourceName)
+    {
+    String resourceDir = resourceDir();
+    return
+      !resourceDir.isEmpty()
+      ? new File( resourceDir, resourceName).getAbsolutePath()
+      : Optional.ofNullable( testClass.getResource( resourceName))
+        .map( String::valueOf)
+        .orElseThrow( () -> new IllegalArgumentException( String.format( "Can't find resource=%s for class=%s", resourceName, testClass.getName())));
+    }
+
+  /**
+   * Returns the resource directory specified at runtime. Returns an empty string if no resource directory is specified.
+   */
+  private static String resourceDir()
+    {
+    return Objects.toString( System.getProperty( "tcasesApiResourceDir"), "").trim();
+    }
+
   /**
    * Returns the {@link ResponseValidationHandler} specified at runtime, if any.
    */
-  private Optional<ResponseValidationHandler> validationHandlerFor( Class<?> testClass)
+  static Optional<ResponseValidationHandler> validationHandlerFor( Class<?> testClass)
     {
     return
       // System property defines a handler class?
@@ -453,7 +728,7 @@ public class ResponseValidator
   /**
    * Returns the {@link #writeOnlyInvalid writeOnlyInvalid() setting} specified at runtime, if any.
    */
-  private Optional<Boolean> writeOnlyInvalid()
+  private static Optional<Boolean> writeOnlyInvalid()
     {
     return
       Optional.of( Objects.toString( System.getProperty( "tcasesApiWriteOnlyInvalid"), "").trim())
@@ -464,7 +739,7 @@ public class ResponseValidator
   /**
    * Returns a ResponseValidationHandler constructor for the given argument types.
    */
-  private Constructor<ResponseValidationHandler> handlerConstructor( Class<ResponseValidationHandler> handlerClass, Class<?>... argTypes)
+  private static Constructor<ResponseValidationHandler> handlerConstructor( Class<ResponseValidationHandler> handlerClass, Class<?>... argTypes)
     {
     try
       {
@@ -476,6 +751,51 @@ public class ResponseValidator
       }
     }
 
+  /**
+   * Returns the {@link ResponsesDef} for this validator.
+   */
+  ResponsesDef getResponses()
+    {
+    return responses_;
+    }
+
+  /**
+   * Returns the handler for validation conditions.
+   */
+  public ResponseValidationHandler getValidationHandler()
+    {
+    return validationHandler_;
+    }
+
+  /**
+   * Returns if this validator is shared by the {@link ResponseValidatorRegistry}. The settings of a shared validator
+   * can't be changed.
+   */
+  public boolean isShared()
+    {
+    return shared_;
+    }
+
+  /**
+   * Prevents any further change to the settings of this validator.
+   */
+  ResponseValidator share()
+    {
+    shared_ = true;
+    return this;
+    }
+
+  /**
+   * Reports an attempt to change the settings of a shared validator.
+   */
+  private void assertNotShared()
+    {
+    if( shared_)
+      {
+      throw new IllegalStateException( "Can't change the settings of a shared ResponseValidator -- use per-call settings instead");
+      }
+    }
+
   @Override
   public String toString()
     {
@@ -483,10 +803,27 @@ public class ResponseValidator
       ToString.builder( getClass())
       .add( validationHandler_)
       .addIf( "writeOnlyInvalid", Optional.of( writeOnlyInvalid_).filter( woi -> !woi))
+      .addIf( "maxBufferedBytes", Optional.ofNullable( maxBufferedBytes_))
+      .addIf( "shared", Optional.of( shared_).filter( shared -> shared))
       .toString();
     }
 
+  /**
+   * Accumulates measurements of a validation.
+   */
+  private static class Measure
+    {
+    private final long start = System.nanoTime();
+    private long decodeNanos;
+    private long validateNanos;
+    private long contentBytes;
+    private int errors;
+    }
+
   private final ResponsesDef responses_;
   private ResponseValidationHandler validationHandler_ = ResponseValidationHandler.EXPECT_CONFORM;
   private boolean writeOnlyInvalid_ = true;
+  private Integer maxBufferedBytes_;
+  private boolean shared_;
+  private final List<ResponseValidationListener> listeners_ = new CopyOnWriteArrayList<ResponseValidationListener>();
   }
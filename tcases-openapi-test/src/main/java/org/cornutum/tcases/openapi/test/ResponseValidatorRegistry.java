@@ -0,0 +1,89 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides {@link ResponseValidator validators} that are shared by all tests that run in the same JVM.
+ * <P/>
+ * The {@link ResponsesDef} for each resource is read only once, when first requested, and the resulting validator
+ * is shared by all later requests for the same resource. The settings of a shared validator can't be changed.
+ * Instead, a test can give its own {@link ResponseValidationHandler} and <CODE>writeOnlyInvalid</CODE> setting
+ * when it calls {@link ResponseValidator#assertBodyValid(String,String,int,String,String,ResponseValidationHandler,boolean) assertBodyValid}
+ * or {@link ResponseValidator#assertHeadersValid(String,String,int,Map,ResponseValidationHandler,boolean) assertHeadersValid}.
+ * For example:
+ * <PRE>
+ * ResponseValidator validator = ResponseValidatorRegistry.validatorFor( getClass());
+ * ResponseValidationHandler handler = ResponseValidatorRegistry.validationHandlerFor( getClass());
+ * ...
+ * validator.assertBodyValid( "GET", "/posts", statusCode, contentType, body, handler, false);
+ * </PRE>
+ */
+public final class ResponseValidatorRegistry
+  {
+  /**
+   * Creates a new ResponseValidatorRegistry instance.
+   */
+  private ResponseValidatorRegistry()
+    {
+    // Static methods only.
+    }
+
+  /**
+   * Returns the shared validator for the default {@link ResponsesDef} resource for the given test class.
+   */
+  public static ResponseValidator validatorFor( Class<?> testClass)
+    {
+    return validatorFor( testClass, String.format( "%s-Responses.json", testClass.getSimpleName()));
+    }
+
+  /**
+   * Returns the shared validator for the given {@link ResponsesDef} resource for the given test class. Validators
+   * are identified by the location of this resource, so test classes that use the same resource share the same validator.
+   */
+  public static ResponseValidator validatorFor( Class<?> testClass, String resourceName)
+    {
+    String location = ResponseValidator.resourceLocation( testClass, resourceName);
+    ResponseValidator validator = validators_.get( location);
+    return
+      validator != null
+      ? validator
+      : validators_.computeIfAbsent( location, l -> new ResponseValidator( ResponseValidator.streamFor( testClass, resourceName)).share());
+    }
+
+  /**
+   * Returns the {@link ResponseValidationHandler} specified at runtime for the given test class. Returns
+   * {@link ResponseValidationHandler#EXPECT_CONFORM} if no handler is specified. The handler for each test class is
+   * created only once, when first requested.
+   */
+  public static ResponseValidationHandler validationHandlerFor( Class<?> testClass)
+    {
+    ResponseValidationHandler handler = handlers_.get( testClass);
+    return
+      handler != null
+      ? handler
+      : handlers_.computeIfAbsent(
+        testClass,
+        c -> ResponseValidator.validationHandlerFor( c).orElse( ResponseValidationHandler.EXPECT_CONFORM));
+    }
+
+  /**
+   * Removes all shared validators and handlers. Later requests will read resources and create handlers again, using
+   * the current runtime settings.
+   */
+  public static void clear()
+    {
+    validators_.clear();
+    handlers_.clear();
+    }
+
+  private static final Map<String,ResponseValidator> validators_ = new ConcurrentHashMap<String,ResponseValidator>();
+  private static final Map<Class<?>,ResponseValidationHandler> handlers_ = new ConcurrentHashMap<Class<?>,ResponseValidationHandler>();
+  }
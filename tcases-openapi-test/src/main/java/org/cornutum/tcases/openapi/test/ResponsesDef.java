@@ -18,17 +18,26 @@ import java.io.Reader;
 import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Defines the responses for requests described by an OpenAPI definition.
+ * <P/>
+ * Response definitions are found using an index that is built when first used. The index does not change afterward,
+ * so a ResponsesDef can be shared by tests that run concurrently. Similarly, each response schema is compiled for
+ * validation when first used. Response definitions must not be changed after they
+ * are first used.
  */
 public class ResponsesDef
   {
@@ -148,7 +157,7 @@ public class ResponsesDef
    */
   public boolean hasBody( String op, String path, int statusCode)
     {
-    return opStatusContent( op, path, statusCode).isPresent();
+    return opStatusResponse( op, path, statusCode).map( StatusResponse::hasBody).orElse( false);
     }
 
   /**
@@ -157,8 +166,8 @@ public class ResponsesDef
   public Optional<ContentDef> bodyContentDef( String op, String path, int statusCode, String contentType)
     {
     return
-      opStatusContent( op, path, statusCode, contentType)
-      .map( content -> new ContentDef( contentType, expectObject( content.get( "schema")), null, contentEncodings( contentType, content)));
+      opStatusResponse( op, path, statusCode)
+      .flatMap( response -> response.contentDef( contentType));
     }
 
   /**
@@ -197,57 +206,21 @@ public class ResponsesDef
     {
     return
       opStatusResponse( op, path, statusCode)
-      .map( this::contentHeaders)
+      .map( StatusResponse::headerDefs)
       .orElse( emptyList());
     }
 
   /**
    * Returns the response definitions for the given operation on the API resource at the given path.
    */
-  private ObjectNode opResponses( String op, String path)
+  private OpResponses opResponses( String op, String path)
     {
     return
-      objectAt( path, op.toLowerCase())
+      Optional.ofNullable( index().get( path))
+      .map( ops -> ops.get( op.toLowerCase()))
       .orElseThrow( () -> new IllegalArgumentException( String.format( "%s %s: no OpenAPI response definitions found", op, path)));
     }
 
-  /**
-   * Returns the response definition for the given status code for the given operation on the API resource at the given path.
-   */
-  private Optional<ObjectNode> opStatusContent( String op, String path, int statusCode)
-    {
-    return
-      opStatusResponse( op, path, statusCode)
-      .flatMap( response -> Optional.ofNullable( expectObject( response.get( "content"))))
-      .filter( content -> content.size() > 0);
-    }
-
-  /**
-   * Returns the response definition for the given status code and content type for the given operation on the API resource at the given path.
-   */
-  private Optional<ObjectNode> opStatusContent( String op, String path, int statusCode, String contentType)
-    {
-    return
-      opStatusContent( op, path, statusCode)
-      .flatMap( content -> {
-        MediaRange media = MediaRange.of( contentType);
-
-        Object[] alternatives = new Object[]{
-          contentType,
-          media.baseStructured(),
-          MediaRange.anyOf( media.type(), media.suffix()),
-          media.base(),
-          MediaRange.anyOf( media.type()),
-          MediaRange.any()};
-
-        return
-          Arrays.stream( alternatives)
-          .map( type -> expectObject( content.get( String.valueOf( type))))
-          .filter( Objects::nonNull)
-          .findFirst();
-        });
-    }
-
   /**
    * Returns the header definitions for the given content.
    */
@@ -302,25 +275,67 @@ public class ResponsesDef
   /**
    * Returns the response definition for the given status code for the given operation on the API resource at the given path.
    */
-  private Optional<ObjectNode> opStatusResponse( String op, String path, int statusCode)
+  private Optional<StatusResponse> opStatusResponse( String op, String path, int statusCode)
     {
-    ObjectNode opResponses = opResponses( op, path);
-    String statusKey = String.valueOf( statusCode);
-    String statusRangeKey = String.format( "%sXX", statusKey.substring( 0, 1));
+    return Optional.ofNullable( opResponses( op, path).forStatus( statusCode));
+    }
 
-    return
-      Arrays.asList( statusKey, statusRangeKey, "default").stream()
-      .map( key -> expectObject( opResponses.get( key)))
-      .filter( Objects::nonNull)
-      .findFirst();
+  /**
+   * Returns the compiled form of the given schema. Each schema is compiled when first used and reused by all later
+   * validations. If <CODE>writeOnlyInvalid</CODE> is true, validation reports an error for each occurrence of a
+   * "writeOnly" property.
+   */
+  CompiledSchema compiledSchema( JsonNode schema, boolean writeOnlyInvalid) throws Exception
+    {
+    SchemaKey key = new SchemaKey( schema, writeOnlyInvalid);
+    CompiledSchema compiled = compiledSchemas_.get( key);
+    if( compiled == null)
+      {
+      // If the same schema is compiled concurrently, all results are equivalent, so keep the first one.
+      CompiledSchema created = new CompiledSchema( schema, writeOnlyInvalid);
+      compiled = Optional.ofNullable( compiledSchemas_.putIfAbsent( key, created)).orElse( created);
+      }
+
+    return compiled;
     }
 
   /**
-   * Returns the JSON object node at the given path.
+   * Returns the index of response definitions for each operation on each API resource path. The index is built when
+   * first used and does not change afterward.
    */
-  private Optional<ObjectNode> objectAt( String... path)
+  private Map<String,Map<String,OpResponses>> index()
     {
-    return Optional.ofNullable( expectObject( root_.at( pointer( path))));
+    Map<String,Map<String,OpResponses>> index = index_;
+    if( index == null)
+      {
+      // If the index is built concurrently, all results are equivalent, so any one can be kept.
+      index_ = index = createIndex();
+      }
+
+    return index;
+    }
+
+  /**
+   * Returns a new index of response definitions for each operation on each API resource path.
+   */
+  private Map<String,Map<String,OpResponses>> createIndex()
+    {
+    Map<String,Map<String,OpResponses>> index = new HashMap<String,Map<String,OpResponses>>();
+    toStream( root_.fields())
+      .forEach( pathDef -> {
+        Map<String,OpResponses> ops = new HashMap<String,OpResponses>();
+        Optional.ofNullable( expectObject( pathDef.getValue()))
+          .map( opsDef -> toStream( opsDef.fields()))
+          .orElse( Stream.empty())
+          .forEach( opDef -> {
+            Optional.ofNullable( expectObject( opDef.getValue()))
+              .ifPresent( opResponses -> ops.put( opDef.getKey(), new OpResponses( opResponses)));
+            });
+
+        index.put( pathDef.getKey(), unmodifiableMap( ops));
+        });
+
+    return unmodifiableMap( index);
     }
 
   /**
@@ -384,5 +399,210 @@ public class ResponsesDef
       ^ Objects.hashCode( root_);
     }
   
+  /**
+   * Indexes the response definitions for an operation by status code.
+   */
+  private class OpResponses
+    {
+    /**
+     * Creates a new OpResponses instance.
+     */
+    public OpResponses( ObjectNode responses)
+      {
+      toStream( responses.fields())
+        .forEach( responseDef -> {
+          String key = responseDef.getKey();
+          Optional.ofNullable( expectObject( responseDef.getValue()))
+            .map( StatusResponse::new)
+            .ifPresent( response -> {
+              if( "default".equals( key))
+                {
+                default_ = response;
+                }
+              else if( key.length() == 3 && key.endsWith( "XX") && Character.isDigit( key.charAt(0)))
+                {
+                byRange_[ key.charAt(0) - '0'] = response;
+                }
+              else
+                {
+                statusOf( key).ifPresent( status -> byStatus_.put( status, response));
+                }
+              });
+          });
+      }
+
+    /**
+     * Returns the response definition for the given status code. Returns null if no response is defined.
+     */
+    public StatusResponse forStatus( int statusCode)
+      {
+      StatusResponse response = byStatus_.get( statusCode);
+
+      if( response == null && statusCode >= 0)
+        {
+        int range = statusCode;
+        while( range >= 10)
+          {
+          range /= 10;
+          }
+        response = byRange_[ range];
+        }
+
+      return
+        response == null
+        ? default_
+        : response;
+      }
+
+    /**
+     * Returns the status code identified by the given key.
+     */
+    private Optional<Integer> statusOf( String key)
+      {
+      try
+        {
+        return
+          Optional.of( Integer.valueOf( key))
+          .filter( status -> String.valueOf( status).equals( key));
+        }
+      catch( NumberFormatException e)
+        {
+        return Optional.empty();
+        }
+      }
+
+    private final Map<Integer,StatusResponse> byStatus_ = new HashMap<Integer,StatusResponse>();
+    private final StatusResponse[] byRange_ = new StatusResponse[10];
+    private StatusResponse default_;
+    }
+
+  /**
+   * Defines the response for a specific status code.
+   */
+  private class StatusResponse
+    {
+    /**
+     * Creates a new StatusResponse instance.
+     */
+    public StatusResponse( ObjectNode response)
+      {
+      content_ =
+        Optional.ofNullable( expectObject( response.get( "content")))
+        .filter( content -> content.size() > 0)
+        .orElse( null);
+
+      headerDefs_ = unmodifiableList( contentHeaders( response));
+      }
+
+    /**
+     * Returns if a response body is expected.
+     */
+    public boolean hasBody()
+      {
+      return content_ != null;
+      }
+
+    /**
+     * Returns the header definitions for this response.
+     */
+    public List<HeaderDef> headerDefs()
+      {
+      return headerDefs_;
+      }
+
+    /**
+     * Returns the body content definition for the given content type.
+     */
+    public Optional<ContentDef> contentDef( String contentType)
+      {
+      Optional<ContentDef> contentDef = contentDefs_.get( contentType);
+      if( contentDef == null)
+        {
+        contentDef = createContentDef( contentType);
+
+        // Content types with unique parameters, such as a multipart boundary, must not grow this cache without limit.
+        if( contentDefs_.size() < MAX_CONTENT_TYPES)
+          {
+          contentDefs_.putIfAbsent( contentType, contentDef);
+          }
+        }
+
+      return contentDef;
+      }
+
+    /**
+     * Returns a new body content definition for the given content type.
+     */
+    private Optional<ContentDef> createContentDef( String contentType)
+      {
+      return
+        Optional.ofNullable( content_)
+        .flatMap( content -> {
+          MediaRange media = MediaRange.of( contentType);
+
+          Object[] alternatives = new Object[]{
+            contentType,
+            media.baseStructured(),
+            MediaRange.anyOf( media.type(), media.suffix()),
+            media.base(),
+            MediaRange.anyOf( media.type()),
+            MediaRange.any()};
+
+          return
+            Arrays.stream( alternatives)
+            .map( type -> expectObject( content.get( String.valueOf( type))))
+            .filter( Objects::nonNull)
+            .findFirst();
+          })
+        .map( content -> new ContentDef( contentType, expectObject( content.get( "schema")), null, contentEncodings( contentType, content)));
+      }
+
+    private final ObjectNode content_;
+    private final List<HeaderDef> headerDefs_;
+    private final Map<String,Optional<ContentDef>> contentDefs_ = new ConcurrentHashMap<String,Optional<ContentDef>>();
+    }
+
+  /**
+   * Identifies a compiled schema. Schemas are matched by identity, because each schema node belongs to the
+   * ResponsesDef and comparing schemas by value would be costly.
+   */
+  private static final class SchemaKey
+    {
+    SchemaKey( JsonNode schema, boolean writeOnlyInvalid)
+      {
+      this.schema = schema;
+      this.writeOnlyInvalid = writeOnlyInvalid;
+      }
+
+    @Override
+    public boolean equals( Object object)
+      {
+      SchemaKey other =
+        object instanceof SchemaKey
+        ? (SchemaKey) object
+        : null;
+
+      return
+        other != null
+        && other.schema == schema
+        && other.writeOnlyInvalid == writeOnlyInvalid;
+      }
+
+    @Override
+    public int hashCode()
+      {
+      return
+        System.identityHashCode( schema)
+        ^ Boolean.hashCode( writeOnlyInvalid);
+      }
+
+    private final JsonNode schema;
+    private final boolean writeOnlyInvalid;
+    }
+
   private final ObjectNode root_;
+  private volatile Map<String,Map<String,OpResponses>> index_;
+  private final Map<SchemaKey,CompiledSchema> compiledSchemas_ = new ConcurrentHashMap<SchemaKey,CompiledSchema>();
+
+  private static final int MAX_CONTENT_TYPES = 32;
   }
@@ -0,0 +1,343 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import static org.cornutum.tcases.openapi.test.CollectionUtils.*;
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+
+/**
+ * Creates an example value that satisfies a response schema.
+ * <P/>
+ * An example is taken from the "example", "default", or "enum" keywords, when defined. Otherwise, an example is created
+ * from the minimum requirements of the schema: only required object properties, the minimum number of array items, and
+ * the smallest number or string allowed. String "format" values are recognized but "pattern" is not, so an example
+ * for a schema that defines a pattern may not be valid.
+ */
+final class SchemaExamples
+  {
+  /**
+   * Creates a new SchemaExamples instance.
+   */
+  private SchemaExamples()
+    {
+    // Static methods only
+    }
+
+  /**
+   * Returns an example value for the given schema.
+   */
+  public static JsonNode exampleOf( JsonNode schema)
+    {
+    return exampleOf( schema, 0);
+    }
+
+  /**
+   * Returns an example value for the given schema. Values with different ordinals differ, where possible.
+   */
+  private static JsonNode exampleOf( JsonNode schema, int ordinal)
+    {
+    JsonNode example;
+
+    if( schema == null || !schema.isObject())
+      {
+      example = NullNode.instance;
+      }
+    else if( schema.has( "example"))
+      {
+      example = schema.get( "example").deepCopy();
+      }
+    else if( schema.has( "default"))
+      {
+      example = schema.get( "default").deepCopy();
+      }
+    else if( schema.path( "enum").size() > 0)
+      {
+      example = schema.get( "enum").get( Math.min( ordinal, schema.get( "enum").size() - 1)).deepCopy();
+      }
+    else if( schema.path( "allOf").size() > 0)
+      {
+      example = allOfExample( schema, ordinal);
+      }
+    else if( schema.path( "oneOf").size() > 0)
+      {
+      example = exampleOf( schema.get( "oneOf").get( 0), ordinal);
+      }
+    else if( schema.path( "anyOf").size() > 0)
+      {
+      example = exampleOf( schema.get( "anyOf").get( 0), ordinal);
+      }
+    else
+      {
+      switch( typeOf( schema))
+        {
+        case "object":
+          {
+          example = objectExample( schema);
+          break;
+          }
+        case "array":
+          {
+          example = arrayExample( schema);
+          break;
+          }
+        case "string":
+          {
+          example = stringExample( schema, ordinal);
+          break;
+          }
+        case "integer":
+          {
+          example = BigIntegerNode.valueOf( numberExample( schema, ordinal).setScale( 0, RoundingMode.CEILING).toBigInteger());
+          break;
+          }
+        case "number":
+          {
+          example = DecimalNode.valueOf( numberExample( schema, ordinal));
+          break;
+          }
+        case "boolean":
+          {
+          example = BooleanNode.valueOf( ordinal % 2 == 0);
+          break;
+          }
+        default:
+          {
+          example = NullNode.instance;
+          break;
+          }
+        }
+      }
+
+    return example;
+    }
+
+  /**
+   * Returns the type of value defined by the given schema.
+   */
+  private static String typeOf( JsonNode schema)
+    {
+    return
+      schema.has( "type")?
+      schema.get( "type").asText() :
+
+      schema.has( "properties") || schema.has( "additionalProperties")?
+      "object" :
+
+      schema.has( "items")?
+      "array" :
+
+      "";
+    }
+
+  /**
+   * Returns an example value for the given "allOf" schema.
+   */
+  private static JsonNode allOfExample( JsonNode schema, int ordinal)
+    {
+    JsonNode example = null;
+    for( JsonNode member : schema.get( "allOf"))
+      {
+      JsonNode memberExample = exampleOf( member, ordinal);
+      example =
+        example != null && example.isObject() && memberExample.isObject()
+        ? ((ObjectNode) example).setAll( (ObjectNode) memberExample)
+        : Optional.ofNullable( example).orElse( memberExample);
+      }
+
+    if( example.isObject() && "object".equals( typeOf( schema)))
+      {
+      ((ObjectNode) example).setAll( objectExample( schema));
+      }
+
+    return example;
+    }
+
+  /**
+   * Returns an example value for the given object schema.
+   */
+  private static ObjectNode objectExample( JsonNode schema)
+    {
+    ObjectNode example = createObjectNode();
+    JsonNode properties = schema.path( "properties");
+    JsonNode additional = schema.get( "additionalProperties");
+
+    // Add all required properties...
+    toStream( schema.path( "required").elements())
+      .map( JsonNode::asText)
+      .forEach( property -> {
+        JsonNode propertySchema = Optional.ofNullable( properties.get( property)).orElse( additional);
+        if( !isWriteOnly( propertySchema))
+          {
+          example.set( property, exampleOf( propertySchema));
+          }
+        });
+
+    // ...and any others needed for the minimum number of properties.
+    int minProperties = schema.path( "minProperties").asInt( 0);
+    toStream( properties.fields())
+      .filter( property -> example.size() < minProperties)
+      .filter( property -> !example.has( property.getKey()) && !isWriteOnly( property.getValue()))
+      .forEach( property -> example.set( property.getKey(), exampleOf( property.getValue())));
+
+    for( int i = 0; example.size() < minProperties && !(additional != null && additional.isBoolean() && !additional.asBoolean()); i++)
+      {
+      example.set( String.format( "additional%s", i), exampleOf( additional != null && additional.isObject()? additional : null, i));
+      }
+
+    return example;
+    }
+
+  /**
+   * Returns true if the given property schema is "writeOnly".
+   */
+  private static boolean isWriteOnly( JsonNode propertySchema)
+    {
+    return propertySchema != null && propertySchema.path( "writeOnly").asBoolean( false);
+    }
+
+  /**
+   * Returns an example value for the given array schema.
+   */
+  private static ArrayNode arrayExample( JsonNode schema)
+    {
+    ArrayNode example = createArrayNode();
+    JsonNode items = schema.get( "items");
+    int minItems = schema.path( "minItems").asInt( 0);
+    boolean unique = schema.path( "uniqueItems").asBoolean( false);
+    for( int i = 0; i < minItems; i++)
+      {
+      example.add( exampleOf( items, unique? i : 0));
+      }
+
+    return example;
+    }
+
+  /**
+   * Returns an example value for the given string schema.
+   */
+  private static TextNode stringExample( JsonNode schema, int ordinal)
+    {
+    String example;
+    switch( schema.path( "format").asText( ""))
+      {
+      case "date":
+        {
+        example = String.format( "2000-01-%02d", ordinal % 28 + 1);
+        break;
+        }
+      case "date-time":
+        {
+        example = String.format( "2000-01-%02dT00:00:00Z", ordinal % 28 + 1);
+        break;
+        }
+      case "uuid":
+        {
+        example = String.format( "00000000-0000-0000-0000-%012d", ordinal);
+        break;
+        }
+      case "email":
+        {
+        example = String.format( "user%s@example.com", ordinal);
+        break;
+        }
+      case "uri":
+        {
+        example = String.format( "http://localhost/%s", ordinal);
+        break;
+        }
+      case "hostname":
+        {
+        example = String.format( "host%s.example.com", ordinal);
+        break;
+        }
+      case "ipv4":
+        {
+        example = String.format( "127.0.0.%s", ordinal % 255 + 1);
+        break;
+        }
+      case "ipv6":
+        {
+        example = String.format( "::%s", ordinal % 255 + 1);
+        break;
+        }
+      case "byte":
+        {
+        example = "AAAA";
+        break;
+        }
+      default:
+        {
+        int minLength = schema.path( "minLength").asInt( 0);
+        int maxLength = schema.path( "maxLength").asInt( Integer.MAX_VALUE);
+        int length = Math.max( minLength, Math.min( 1, maxLength));
+        StringBuilder text = new StringBuilder( length);
+        for( int i = 0; i < length; i++)
+          {
+          text.append( (char) ('a' + ordinal % 26));
+          }
+        example = text.toString();
+        break;
+        }
+      }
+
+    return TextNode.valueOf( example);
+    }
+
+  /**
+   * Returns an example value for the given numeric schema.
+   */
+  private static BigDecimal numberExample( JsonNode schema, int ordinal)
+    {
+    BigDecimal offset = BigDecimal.valueOf( ordinal);
+    BigDecimal example;
+    if( schema.has( "minimum"))
+      {
+      example = schema.get( "minimum").decimalValue().add( offset);
+      if( schema.path( "exclusiveMinimum").asBoolean( false))
+        {
+        example = example.add( BigDecimal.ONE);
+        }
+      }
+    else if( schema.has( "maximum"))
+      {
+      example = schema.get( "maximum").decimalValue().subtract( offset);
+      if( schema.path( "exclusiveMaximum").asBoolean( false))
+        {
+        example = example.subtract( BigDecimal.ONE);
+        }
+      }
+    else
+      {
+      example = offset;
+      }
+
+    if( schema.has( "multipleOf"))
+      {
+      BigDecimal multipleOf = schema.get( "multipleOf").decimalValue();
+      example =
+        example
+        .divide( multipleOf, 0, schema.has( "minimum")? RoundingMode.CEILING : RoundingMode.FLOOR)
+        .multiply( multipleOf);
+      }
+
+    return example;
+    }
+  }
@@ -7,19 +7,15 @@
 
 package org.cornutum.tcases.openapi.test;
 
-import static org.cornutum.tcases.openapi.test.CollectionUtils.mapping;
 import static org.cornutum.tcases.openapi.test.JsonUtils.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.IntStream;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
 
 /**
  * Returns the JSON representation of simple-encoded content.
@@ -35,110 +31,122 @@ public class SimpleDecoder extends AbstractDecoder
 
     delimiter_ =
       "pipeDelimited".equals( getStyle())?
-      "\\|" :
+      '|' :
 
       "spaceDelimited".equals( getStyle())?
-      " " :
+      ' ' :
 
-      ",";
+      ',';
     }
 
   /**
-   * Returns the possible JSON object representations of the given content.
+   * Returns the possible JSON object representations of the given content, using the given types for object properties.
    */
   @Override
-  public List<JsonNode> decodeObject( String content)
+  protected Stream<JsonNode> objectAlternatives( CharSequence content, ValueTypes types)
     {
-    return
-      // Is this a (possibly empty) list of array elements?...
-      Optional.ofNullable( content)
-      .map( text -> text.isEmpty()? new String[0] : text.split( delimiter_, -1))
-
-      // ...either exploded key=value pairs or a sequence of key,value elements?
-      .filter( members -> isExploded() || members.length % 2 == 0)
-      
-      .map( members -> {
-        // Yes, return JSON representations for these object properties.
-        List<Map.Entry<String,String>> properties =
-          // Non-exploded property mappings?
-          !isExploded()?
-          IntStream.range( 0, members.length / 2)
-          .mapToObj( i -> mapping( members[ 2*i], members[ 2*i + 1]))
-          .collect( toList()) :
-
-          // Exploded property mappings?
-          Optional.of(
-            Arrays.stream( members)
-            .map( member -> member.split( "=", -1))
-            .collect( toList()))
-          .filter( pairs -> pairs.stream().allMatch( pair -> pair.length == 2))
-          .map( mappings -> mappings.stream().map( mapping -> mapping( mapping[0], mapping[1])).collect( toList()))
-
-          // Otherwise, no object recognized
-          .orElse( null);
-          
-        return
-          Optional.ofNullable( properties)
-          .map( mappings -> decodeObject( mappings))
-          .orElse( emptyList());
-        })
-
-      // No, not recognizable as an object
-      .orElse( emptyList());
-    }
+    // Is this a (possibly empty) list of members...
+    int[] members = content == null? null : membersOf( content, delimiter_);
+    int memberCount = members == null? 0 : members.length / 2;
+
+    // ...either exploded key=value pairs or a sequence of key,value elements?
+    int propertyCount =
+      members == null?
+      -1 :
+
+      !isExploded()?
+      (memberCount % 2 == 0? memberCount / 2 : -1) :
+
+      memberCount;
+
+    String[] names = new String[ Math.max( 0, propertyCount)];
+    List<List<JsonNode>> values = new ArrayList<List<JsonNode>>( names.length);
+    for( int i = 0; i < names.length; i++)
+      {
+      int nameStart;
+      int nameEnd;
+      int valueStart;
+      int valueEnd;
+      if( isExploded())
+        {
+        // Exploded property mapping?
+        nameStart = members[ 2*i];
+        valueEnd = members[ 2*i + 1];
+        nameEnd = indexOf( '=', content, nameStart, valueEnd);
+        valueStart = nameEnd + 1;
+        if( nameEnd < 0 || indexOf( '=', content, valueStart, valueEnd) >= 0)
+          {
+          // No, not recognizable as an object
+          propertyCount = -1;
+          break;
+          }
+        }
+      else
+        {
+        // Non-exploded property mapping
+        nameStart = members[ 4*i];
+        nameEnd = members[ 4*i + 1];
+        valueStart = members[ 4*i + 2];
+        valueEnd = members[ 4*i + 3];
+        }
+
+      names[i] = content.subSequence( nameStart, nameEnd).toString();
+      values.add( memberValuesOf( content, valueStart, valueEnd, types.property( names[i])));
+      }
 
-  /**
-   * Returns the possible JSON object representations of the given property mappings.
-   */
-  private List<JsonNode> decodeObject( List<Map.Entry<String,String>> properties)
-    {
     return
-      properties.isEmpty()?
-      singletonList( createObjectNode()) :
-
-      decodeValue( properties.get(0).getValue()).stream()
-      .map( jsonNode -> newObject( properties.get(0).getKey(), jsonNode))
-      .flatMap( firstProperty -> {
-        return
-          decodeObject( properties.subList( 1, properties.size())).stream()
-          .map( JsonUtils::expectObject)
-          .map( otherProperties -> appendObject( firstProperty, otherProperties));
-        })
-      .collect( toList());
+      propertyCount < 0?
+      Stream.empty() :
+
+      // Yes, return JSON representations for these object properties.
+      combinations(
+        values,
+        propertyValues -> {
+          ObjectNode object = createObjectNode();
+          for( int i = 0; i < propertyValues.length; i++)
+            {
+            object.set( names[i], propertyValues[i]);
+            }
+          return object;
+        });
     }
 
   /**
-   * Returns the possible JSON array representations of the given content.
+   * Returns the possible JSON array representations of the given content, using the given types for array items.
    */
   @Override
-  public List<JsonNode> decodeArray( String content)
-    {
-    return
-      Optional.ofNullable( content)
-      .map( text -> text.isEmpty()? new String[0] : text.split( delimiter_, -1))
-      .map( members -> decodeArray( members))
-      .orElse( emptyList());
-    }
-
-  /**
-   * Returns the possible JSON array representations of the given sequence of strings.
-   */
-  private List<JsonNode> decodeArray( String[] members)
+  protected Stream<JsonNode> arrayAlternatives( CharSequence content, ValueTypes types)
     {
-    return
-      members.length == 0?
-      singletonList( createArrayNode()) :
-
-      decodeValue( members[ 0]).stream()
-      .map( jsonNode -> newArray( jsonNode))
-      .flatMap( firstMember -> {
-          return
-            decodeArray( Arrays.copyOfRange( members, 1, members.length)).stream()
-            .map( JsonUtils::expectArray)
-            .map( otherMembers -> appendArray( firstMember, otherMembers));
-        })
-      .collect( toList());
+    Stream<JsonNode> alternatives;
+    if( content == null)
+      {
+      alternatives = Stream.empty();
+      }
+    else
+      {
+      int[] members = membersOf( content, delimiter_);
+      ValueTypes itemTypes = types.items();
+      List<List<JsonNode>> items = new ArrayList<List<JsonNode>>( members.length / 2);
+      for( int i = 0; i < members.length; i += 2)
+        {
+        items.add( memberValuesOf( content, members[i], members[i+1], itemTypes));
+        }
+
+      alternatives =
+        combinations(
+          items,
+          itemValues -> {
+            ArrayNode array = createArrayNode();
+            for( JsonNode item : itemValues)
+              {
+              array.add( item);
+              }
+            return array;
+          });
+      }
+
+    return alternatives;
     }
 
-  private final String delimiter_;
+  private final char delimiter_;
   }
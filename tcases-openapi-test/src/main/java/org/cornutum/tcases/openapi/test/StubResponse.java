@@ -0,0 +1,293 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import org.cornutum.tcases.openapi.test.RequestDef.Expect;
+import static org.cornutum.tcases.openapi.test.CollectionUtils.*;
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Defines the response returned by a {@link StubServer} for an expected request.
+ * <P/>
+ * A stub response is derived from the {@link ResponsesDef response definitions} for the request operation. The response
+ * status is the lowest status code defined for the expected result, and the response body and required headers
+ * are {@link SchemaExamples examples} of the values defined for this status.
+ */
+final class StubResponse
+  {
+  /**
+   * Creates a new StubResponse instance.
+   */
+  private StubResponse( int statusCode, Map<String,String> headers, String contentType, byte[] body)
+    {
+    statusCode_ = statusCode;
+    headers_ = unmodifiableMap( headers);
+    contentType_ = contentType;
+    body_ = body;
+    }
+
+  /**
+   * Returns the stub response to the given operation on the API resource at the given path, using the given response definitions.
+   * If <CODE>responses</CODE> is null, returns a response with only the default status code for the expected result.
+   */
+  public static StubResponse derive( ResponsesDef responses, String op, String path, Expect expect)
+    {
+    int min;
+    int max;
+    switch( expect)
+      {
+      case BAD_REQUEST:
+        {
+        min = 400;
+        max = 499;
+        break;
+        }
+      case UNAUTHORIZED:
+        {
+        min = 401;
+        max = 401;
+        break;
+        }
+      default:
+        {
+        min = 200;
+        max = 299;
+        break;
+        }
+      }
+
+    Optional<ObjectNode> opDef =
+      Optional.ofNullable( responses)
+      .flatMap( r -> Optional.ofNullable( r.pathDef( path)))
+      .flatMap( pathDef -> Optional.ofNullable( expectObject( pathDef.get( op.toLowerCase()))));
+
+    // Use the lowest status code defined for the expected result...
+    int statusCode =
+      opDef
+      .flatMap( def -> {
+        return
+          toStream( def.fieldNames())
+          .filter( status -> status.matches( "[1-5][0-9][0-9]"))
+          .map( Integer::valueOf)
+          .filter( status -> status >= min && status <= max)
+          .min( Integer::compare);
+        })
+      .orElse( min);
+
+    // ...and the definition for this status code.
+    Optional<ObjectNode> responseDef =
+      opDef
+      .flatMap( def -> {
+        return
+          Optional.ofNullable( expectObject( def.get( String.valueOf( statusCode))))
+          .map( Optional::of)
+          .orElseGet( () -> Optional.ofNullable( expectObject( def.get( String.format( "%sXX", statusCode / 100)))))
+          .map( Optional::of)
+          .orElseGet( () -> Optional.ofNullable( expectObject( def.get( "default"))));
+        });
+
+    Map<String,String> headers = new LinkedHashMap<String,String>();
+    responseDef
+      .flatMap( def -> Optional.ofNullable( expectObject( def.get( "headers"))))
+      .ifPresent( headerDefs -> {
+        toStream( headerDefs.fields())
+          .filter( header -> !"Content-Type".equalsIgnoreCase( header.getKey()))
+          .filter( header -> header.getValue().path( "required").asBoolean( false))
+          .forEach( header -> headers.put( header.getKey(), simpleText( SchemaExamples.exampleOf( headerSchema( header.getValue())))));
+        });
+
+    String contentType =
+      responseDef
+      .flatMap( def -> Optional.ofNullable( expectObject( def.get( "content"))))
+      .flatMap( content -> {
+        return
+          Optional.of( toStream( content.fieldNames()).filter( StubResponse::isJson).findFirst())
+          .filter( Optional::isPresent)
+          .orElseGet( () -> toStream( content.fieldNames()).findFirst());
+        })
+      .map( StubResponse::concreteType)
+      .orElse( null);
+
+    byte[] body =
+      Optional.ofNullable( contentType)
+      .map( type -> {
+        JsonNode example =
+          SchemaExamples.exampleOf(
+            responses.bodyContentDef( op, path, statusCode, type)
+            .map( ContentDef::getSchema)
+            .orElse( null));
+
+        return bodyOf( type, example);
+        })
+      .orElse( null);
+
+    return new StubResponse( statusCode, headers, contentType, body);
+    }
+
+  /**
+   * Returns the response status code.
+   */
+  public int getStatusCode()
+    {
+    return statusCode_;
+    }
+
+  /**
+   * Returns the response headers, excluding Content-Type.
+   */
+  public Map<String,String> getHeaders()
+    {
+    return headers_;
+    }
+
+  /**
+   * Returns the response content type. Returns null if no response body is defined.
+   */
+  public String getContentType()
+    {
+    return contentType_;
+    }
+
+  /**
+   * Returns the response body. Returns null if no response body is defined.
+   */
+  public byte[] getBody()
+    {
+    return body_;
+    }
+
+  /**
+   * Returns the schema for the given header definition.
+   */
+  private static JsonNode headerSchema( JsonNode headerDef)
+    {
+    return
+      Optional.ofNullable( headerDef.get( "schema"))
+      .orElseGet( () -> {
+        return
+          toStream( headerDef.path( "content").elements())
+          .findFirst()
+          .map( content -> content.get( "schema"))
+          .orElse( null);
+        });
+    }
+
+  /**
+   * Returns true if the given media type describes JSON content.
+   */
+  private static boolean isJson( String mediaType)
+    {
+    MediaRange media = MediaRange.of( mediaType);
+    return "application/json".equals( media.base()) || "json".equals( media.suffix());
+    }
+
+  /**
+   * Returns a concrete media type that matches the given media range.
+   */
+  private static String concreteType( String mediaType)
+    {
+    MediaRange media = MediaRange.of( mediaType);
+    return
+      isJson( mediaType) || "*/*".equals( media.base()) || "application/*".equals( media.base())?
+      "application/json" :
+
+      "text/*".equals( media.base())?
+      "text/plain" :
+
+      media.base().endsWith( "/*")?
+      media.base().replace( "*", "octet-stream") :
+
+      media.base();
+    }
+
+  /**
+   * Returns the given example value encoded as content of the given type.
+   */
+  private static byte[] bodyOf( String contentType, JsonNode example)
+    {
+    String body;
+    try
+      {
+      body =
+        isJson( contentType)?
+        mapper().writeValueAsString( example) :
+
+        "application/x-www-form-urlencoded".equals( contentType)?
+        toStream( example.fields())
+        .map( field -> String.format( "%s=%s", urlEncoded( field.getKey()), urlEncoded( simpleText( field.getValue()))))
+        .collect( joining( "&")) :
+
+        simpleText( example);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't encode example=%s as contentType=%s", example, contentType), e);
+      }
+
+    return body.getBytes( StandardCharsets.UTF_8);
+    }
+
+  /**
+   * Returns the simple-style text encoding of the given value.
+   */
+  private static String simpleText( JsonNode value)
+    {
+    return
+      value.isArray()?
+      toStream( value.elements()).map( StubResponse::simpleText).collect( joining( ",")) :
+
+      value.isObject()?
+      toStream( value.fields()).map( field -> String.format( "%s,%s", field.getKey(), simpleText( field.getValue()))).collect( joining( ",")) :
+
+      value.isNull()?
+      "" :
+
+      value.asText();
+    }
+
+  /**
+   * Returns the URL encoding of the given value.
+   */
+  private static String urlEncoded( String value)
+    {
+    try
+      {
+      return URLEncoder.encode( value, "UTF-8");
+      }
+    catch( Exception e)
+      {
+      throw new IllegalArgumentException( String.format( "Can't encode value=%s", value), e);
+      }
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( getStatusCode())
+      .addIf( Optional.ofNullable( getContentType()))
+      .toString();
+    }
+
+  private final int statusCode_;
+  private final Map<String,String> headers_;
+  private final String contentType_;
+  private final byte[] body_;
+  }
@@ -0,0 +1,198 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import static java.util.Collections.emptyList;
+
+/**
+ * Routes requests received by a {@link StubServer} to the stubs defined for each (method, path template).
+ * <P/>
+ * Path templates are compiled into a trie of path segments for each method, so that a request is routed by
+ * visiting each of its path segments once, regardless of the number of stubs defined. A template segment that
+ * contains a parameter matches any request segment, including the empty segment used to send an undefined path
+ * parameter, but a segment that matches a literal template segment is routed there first. For each path template,
+ * stubs are indexed by the exact request path they expect.
+ */
+final class StubRoutes<T>
+  {
+  /**
+   * Creates a new StubRoutes instance.
+   */
+  public StubRoutes()
+    {
+    }
+
+  /**
+   * Adds a stub for requests with the given method and path template that use the given request path.
+   */
+  public void add( String method, String template, String path, T stub)
+    {
+    Node<T> node = roots_.computeIfAbsent( method.toUpperCase(), m -> new Node<T>());
+    for( String segment : segmentsOf( template))
+      {
+      node =
+        segment.indexOf( '{') >= 0
+        ? node.paramChild()
+        : node.literalChild( segment);
+      }
+
+    node.add( template, path, stub);
+    }
+
+  /**
+   * Returns the route for a request with the given method and path. Returns {@link Optional#empty} if this path does not
+   * match any path template defined for this method.
+   */
+  public Optional<Route<T>> route( String method, String path)
+    {
+    String[] segments = segmentsOf( path);
+    return
+      Optional.ofNullable( roots_.get( method.toUpperCase()))
+      .map( root -> root.find( segments, 0))
+      .map( node -> node.routeFor( path));
+    }
+
+  /**
+   * Returns the segments of the given path.
+   */
+  private static String[] segmentsOf( String path)
+    {
+    String relative = path.startsWith( "/")? path.substring( 1) : path;
+    return relative.isEmpty()? new String[0] : relative.split( "/", -1);
+    }
+
+  private final Map<String,Node<T>> roots_ = new HashMap<String,Node<T>>();
+
+  /**
+   * Describes the stubs for a request path.
+   */
+  public static class Route<T>
+    {
+    /**
+     * Creates a new Route instance.
+     */
+    private Route( String template, List<T> stubs)
+      {
+      template_ = template;
+      stubs_ = stubs;
+      }
+
+    /**
+     * Returns the path template matched.
+     */
+    public String getTemplate()
+      {
+      return template_;
+      }
+
+    /**
+     * Returns the stubs for the request path, in the order they were added.
+     */
+    public List<T> getStubs()
+      {
+      return stubs_;
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.builder( getClass())
+        .add( getTemplate())
+        .add( "stubs", getStubs().size())
+        .toString();
+      }
+
+    private final String template_;
+    private final List<T> stubs_;
+    }
+
+  /**
+   * A node in the trie of path segments.
+   */
+  private static class Node<T>
+    {
+    /**
+     * Returns the child for the given literal segment, creating it if necessary.
+     */
+    public Node<T> literalChild( String segment)
+      {
+      if( literals_ == null)
+        {
+        literals_ = new HashMap<String,Node<T>>();
+        }
+      return literals_.computeIfAbsent( segment, s -> new Node<T>());
+      }
+
+    /**
+     * Returns the child for a parameter segment, creating it if necessary.
+     */
+    public Node<T> paramChild()
+      {
+      if( param_ == null)
+        {
+        param_ = new Node<T>();
+        }
+      return param_;
+      }
+
+    /**
+     * Adds a stub for the given path template that uses the given request path.
+     */
+    public void add( String template, String path, T stub)
+      {
+      if( template_ == null)
+        {
+        template_ = template;
+        }
+      stubs_.computeIfAbsent( path, p -> new ArrayList<T>()).add( stub);
+      }
+
+    /**
+     * Returns the node for the path template that matches the given path segments, starting with the given segment.
+     * Returns null if no path template matches.
+     */
+    public Node<T> find( String[] segments, int start)
+      {
+      Node<T> found;
+      if( start == segments.length)
+        {
+        found = template_ == null? null : this;
+        }
+      else
+        {
+        Node<T> literal = literals_ == null? null : literals_.get( segments[ start]);
+        found = literal == null? null : literal.find( segments, start + 1);
+        if( found == null && param_ != null)
+          {
+          found = param_.find( segments, start + 1);
+          }
+        }
+
+      return found;
+      }
+
+    /**
+     * Returns the route to the stubs for the given request path.
+     */
+    public Route<T> routeFor( String path)
+      {
+      return new Route<T>( template_, Optional.ofNullable( stubs_.get( path)).orElse( emptyList()));
+      }
+
+    private Map<String,Node<T>> literals_;
+    private Node<T> param_;
+    private String template_;
+    private final Map<String,List<T>> stubs_ = new HashMap<String,List<T>>();
+    }
+  }
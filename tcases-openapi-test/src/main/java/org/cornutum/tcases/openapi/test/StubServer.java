@@ -0,0 +1,487 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import org.cornutum.tcases.openapi.test.RequestDef.Binding;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An in-process HTTP server that returns stub responses for the {@link RequestDef requests} defined by a {@link RequestTable}.
+ * <P/>
+ * A StubServer can replace the API server for a data-driven test, without the startup cost of a separate mock server.
+ * Each request received is routed by method and path template and then matched with the expected requests for this path,
+ * in table order, comparing query parameters, headers, cookies, and body. Authentication parameters are not compared.
+ * The response to a matching request is derived from the {@link ResponsesDef response definitions} for its operation,
+ * using a status code for the {@link RequestDef#getExpect expected result} and example values for the response body
+ * and required headers. If no expected request matches, the server returns a 400 (Bad Request) response, or a
+ * 404 (Not Found) response if no path template matches. A POST request with an <CODE>X-HTTP-Method-Override</CODE>
+ * header is routed using the method given by the header, matching a PATCH request sent by a {@link RequestRunner}.
+ * <P/>
+ * Routes are compiled when the server is created. Responses are derived only when first needed and are then reused
+ * for all requests to the same operation with the same expected result.
+ * <P/>
+ * A generated data-driven test starts a stub server for its requests when the <CODE>stubServer</CODE> option of its
+ * test target is enabled. To run a stub server for each test, start it in a <CODE>@Before</CODE> method and stop it
+ * in an <CODE>@After</CODE> method. To share a stub server among all tests in a class, use <CODE>@BeforeClass</CODE>
+ * and <CODE>@AfterClass</CODE> instead. To send all requests to the stub server, use
+ * {@link RequestRunner#setStubServer RequestRunner.setStubServer()}. For example:
+ * <PRE>
+ * private StubServer stubServer = StubServer.forTest( MyDataDrivenTest.class);
+ *
+ * &#64;Before
+ * public void startStubServer()
+ *   {
+ *   stubServer.start();
+ *   requestRunner.setStubServer( stubServer);
+ *   }
+ *
+ * &#64;After
+ * public void stopStubServer()
+ *   {
+ *   stubServer.stop();
+ *   }
+ * </PRE>
+ */
+public class StubServer implements AutoCloseable
+  {
+  /**
+   * Creates a new StubServer instance for the given request table, using the port of the API server for these requests.
+   * If non-null, the given <CODE>responses</CODE> are used to derive the response to each request.
+   */
+  public StubServer( RequestTable table, ResponsesDef responses)
+    {
+    this( table, responses, defaultPort( table));
+    }
+
+  /**
+   * Creates a new StubServer instance for the given request table, using the given port. If <CODE>port</CODE> is 0,
+   * an ephemeral port is used. If non-null, the given <CODE>responses</CODE> are used to derive the response to each request.
+   */
+  public StubServer( RequestTable table, ResponsesDef responses, int port)
+    {
+    responses_ = responses;
+    port_ = port;
+    table.getRequests().forEach( request -> routes_.add( request.getOperation(), templateOf( request), pathOf( request), new Stub( request)));
+    }
+
+  /**
+   * Returns a StubServer for the default RequestTable resource for the given test class. If the default
+   * {@link ResponsesDef} resource for this test class is defined, it is used to derive the response to each request.
+   */
+  public static StubServer forTest( Class<?> testClass)
+    {
+    return new StubServer( RequestTable.forTest( testClass), responsesFor( testClass, defaultResponsesResource( testClass)));
+    }
+
+  /**
+   * Returns a StubServer for the given RequestTable of the given test class, using an ephemeral port. If the default
+   * {@link ResponsesDef} resource for this test class is defined, it is used to derive the response to each request.
+   */
+  public static StubServer forTest( Class<?> testClass, RequestTable table)
+    {
+    return forTest( testClass, table, defaultResponsesResource( testClass));
+    }
+
+  /**
+   * Returns a StubServer for the given RequestTable of the given test class, using an ephemeral port. If the given
+   * {@link ResponsesDef} resource is defined, it is used to derive the response to each request.
+   */
+  public static StubServer forTest( Class<?> testClass, RequestTable table, String responsesResource)
+    {
+    return new StubServer( table, responsesFor( testClass, responsesResource), 0);
+    }
+
+  /**
+   * Starts this server.
+   */
+  public synchronized void start()
+    {
+    if( server_ == null)
+      {
+      try
+        {
+        server_ = HttpServer.create( new InetSocketAddress( port_), 0);
+        }
+      catch( IOException e)
+        {
+        throw new IllegalStateException( String.format( "Can't start stub server on port=%s", port_), e);
+        }
+
+      executor_ = Executors.newCachedThreadPool( runnable -> {
+        Thread thread = new Thread( runnable, "tcases-stub-server");
+        thread.setDaemon( true);
+        return thread;
+        });
+
+      server_.setExecutor( executor_);
+      server_.createContext( "/", this::handle);
+      server_.start();
+      }
+    }
+
+  /**
+   * Stops this server.
+   */
+  public synchronized void stop()
+    {
+    if( server_ != null)
+      {
+      server_.stop( 0);
+      executor_.shutdownNow();
+      server_ = null;
+      executor_ = null;
+      }
+    }
+
+  @Override
+  public void close()
+    {
+    stop();
+    }
+
+  /**
+   * Returns the port used by this server.
+   */
+  public synchronized int getPort()
+    {
+    return
+      server_ == null
+      ? port_
+      : server_.getAddress().getPort();
+    }
+
+  /**
+   * Returns the URI for this server.
+   */
+  public String getUri()
+    {
+    return String.format( "http://localhost:%s", getPort());
+    }
+
+  /**
+   * Returns the URI of the API server for the given request when served by this server.
+   */
+  public String getServer( RequestDef request)
+    {
+    return getUri() + basePathOf( request);
+    }
+
+  /**
+   * Returns the response to the given exchange.
+   */
+  private void handle( HttpExchange exchange) throws IOException
+    {
+    try
+      {
+      String method =
+        Optional.ofNullable( exchange.getRequestHeaders().getFirst( "X-HTTP-Method-Override"))
+        .orElse( exchange.getRequestMethod())
+        .toUpperCase();
+      String path = exchange.getRequestURI().getRawPath();
+      byte[] body = readBytes( exchange.getRequestBody());
+
+      Optional<StubRoutes.Route<Stub>> route = routes_.route( method, path);
+      Optional<Stub> stub =
+        route.flatMap( r -> r.getStubs().stream().filter( s -> s.matches( exchange, body)).findFirst());
+
+      if( !route.isPresent())
+        {
+        exchange.sendResponseHeaders( 404, -1);
+        }
+      else if( !stub.isPresent())
+        {
+        exchange.sendResponseHeaders( 400, -1);
+        }
+      else
+        {
+        send( exchange, method, responseFor( stub.get().getRequest()));
+        }
+      }
+    finally
+      {
+      exchange.close();
+      }
+    }
+
+  /**
+   * Sends the given response.
+   */
+  private void send( HttpExchange exchange, String method, StubResponse response) throws IOException
+    {
+    Headers headers = exchange.getResponseHeaders();
+    response.getHeaders().forEach( headers::add);
+
+    byte[] body = response.getBody();
+    if( body != null && response.getStatusCode() != 204)
+      {
+      headers.set( "Content-Type", response.getContentType());
+      }
+
+    if( body == null || "HEAD".equals( method) || response.getStatusCode() == 204)
+      {
+      exchange.sendResponseHeaders( response.getStatusCode(), -1);
+      }
+    else
+      {
+      exchange.sendResponseHeaders( response.getStatusCode(), body.length == 0? -1 : body.length);
+      try( OutputStream content = exchange.getResponseBody())
+        {
+        content.write( body);
+        }
+      }
+    }
+
+  /**
+   * Returns the stub response for the given request.
+   */
+  private StubResponse responseFor( RequestDef request)
+    {
+    String key = String.format( "%s %s %s", request.getOperation(), request.getPath(), request.getExpect());
+    StubResponse response = responsesByKey_.get( key);
+    return
+      response != null
+      ? response
+      : responsesByKey_.computeIfAbsent( key, k -> StubResponse.derive( responses_, request.getOperation(), request.getPath(), request.getExpect()));
+    }
+
+  /**
+   * Returns the base path for the API server used by the given request.
+   */
+  private static String basePathOf( RequestDef request)
+    {
+    return
+      Optional.ofNullable( request.getServer())
+      .map( server -> Objects.toString( URI.create( server).getRawPath(), ""))
+      .orElse( "")
+      .replaceAll( "/+$", "");
+    }
+
+  /**
+   * Returns the path template for the given request.
+   */
+  private static String templateOf( RequestDef request)
+    {
+    return basePathOf( request) + request.getPath();
+    }
+
+  /**
+   * Returns the path used by the given request.
+   */
+  private static String pathOf( RequestDef request)
+    {
+    String path = templateOf( request);
+    for( Binding param : request.getPathParams())
+      {
+      path = path.replace( String.format( "{%s}", param.getName()), param.getValue());
+      }
+    return path;
+    }
+
+  /**
+   * Returns the name of the default {@link ResponsesDef} resource for the given test class.
+   */
+  private static String defaultResponsesResource( Class<?> testClass)
+    {
+    return String.format( "%s-Responses.json", testClass.getSimpleName());
+    }
+
+  /**
+   * Returns the response definitions in the given resource for the given test class, or null if this resource is undefined.
+   */
+  private static ResponsesDef responsesFor( Class<?> testClass, String responsesResource)
+    {
+    try
+      {
+      return ResponseValidatorRegistry.validatorFor( testClass, responsesResource).getResponses();
+      }
+    catch( IllegalArgumentException e)
+      {
+      return null;
+      }
+    }
+
+  /**
+   * Returns the default port for the given request table.
+   */
+  private static int defaultPort( RequestTable table)
+    {
+    return
+      table.getRequests().stream()
+      .map( RequestDef::getServer)
+      .filter( Objects::nonNull)
+      .map( server -> URI.create( server).getPort())
+      .filter( port -> port > 0)
+      .findFirst()
+      .orElse( DEFAULT_PORT);
+    }
+
+  /**
+   * Returns the content of the given stream.
+   */
+  private static byte[] readBytes( InputStream input) throws IOException
+    {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    for( int length; (length = input.read( buffer)) >= 0; bytes.write( buffer, 0, length));
+    return bytes.toByteArray();
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( getUri())
+      .toString();
+    }
+
+  private final ResponsesDef responses_;
+  private final int port_;
+  private final StubRoutes<Stub> routes_ = new StubRoutes<Stub>();
+  private final Map<String,StubResponse> responsesByKey_ = new ConcurrentHashMap<String,StubResponse>();
+  private HttpServer server_;
+  private ExecutorService executor_;
+
+  /**
+   * The default port for a stub server.
+   */
+  public static final int DEFAULT_PORT = 12306;
+
+  /**
+   * Matches a request received with an expected {@link RequestDef}.
+   */
+  private static class Stub
+    {
+    /**
+     * Creates a new Stub instance.
+     */
+    public Stub( RequestDef request)
+      {
+      request_ = request;
+      query_ =
+        request.getQueryParams().stream()
+        .map( param -> param.getValue() == null? param.getName() : String.format( "%s=%s", param.getName(), param.getValue()))
+        .collect( toList());
+      cookies_ =
+        request.getCookies().stream()
+        .map( cookie -> String.format( "%s=%s", cookie.getName(), cookie.getValue()))
+        .collect( toList());
+      contentType_ =
+        Optional.ofNullable( request.getContentType())
+        .map( contentType -> MediaRange.of( contentType).base())
+        .orElse( null);
+      }
+
+    /**
+     * Returns the expected request.
+     */
+    public RequestDef getRequest()
+      {
+      return request_;
+      }
+
+    /**
+     * Returns true if the given exchange matches the expected request.
+     */
+    public boolean matches( HttpExchange exchange, byte[] body)
+      {
+      Headers headers = exchange.getRequestHeaders();
+      return
+        queryMatches( exchange.getRequestURI().getRawQuery())
+        && request_.getHeaders().stream().allMatch( header -> headerMatches( headers, header))
+        && cookiesMatch( headers.get( "Cookie"))
+        && bodyMatches( headers.getFirst( "Content-Type"), body);
+      }
+
+    /**
+     * Returns true if the given query matches the expected request.
+     */
+    private boolean queryMatches( String query)
+      {
+      List<String> params =
+        query == null
+        ? new ArrayList<String>()
+        : new ArrayList<String>( Arrays.asList( query.split( "&")));
+
+      return query_.stream().allMatch( params::remove);
+      }
+
+    /**
+     * Returns true if the given headers match the given expected header.
+     */
+    private boolean headerMatches( Headers headers, Binding header)
+      {
+      return
+        Optional.ofNullable( headers.get( header.getName()))
+        .map( values -> values.contains( header.getValue()))
+        .orElse( false);
+      }
+
+    /**
+     * Returns true if the given cookie headers match the expected request.
+     */
+    private boolean cookiesMatch( List<String> cookieHeaders)
+      {
+      List<String> cookies =
+        cookieHeaders == null
+        ? new ArrayList<String>()
+        : cookieHeaders.stream()
+          .flatMap( cookieHeader -> Arrays.stream( cookieHeader.split( ";")))
+          .map( String::trim)
+          .collect( toList());
+
+      return cookies.containsAll( cookies_);
+      }
+
+    /**
+     * Returns true if the given body matches the expected request.
+     */
+    private boolean bodyMatches( String contentType, byte[] body)
+      {
+      return
+        request_.getBody() == null
+        ? body.length == 0
+        : Objects.equals( contentType_, Optional.ofNullable( contentType).map( type -> MediaRange.of( type).base()).orElse( null))
+          && Arrays.equals( request_.getBody(), body);
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.builder( getClass())
+        .add( request_)
+        .toString();
+      }
+
+    private final RequestDef request_;
+    private final List<String> query_;
+    private final List<String> cookies_;
+    private final String contentType_;
+    }
+  }
@@ -0,0 +1,138 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Identifies the types of JSON values that are admitted by a schema. Decoders use these types to avoid
+ * creating content alternatives that can't satisfy the schema.
+ * <P/>
+ * Only the "type" and "nullable" keywords of a schema are considered. If a schema defines any other way to
+ * combine types, such as "oneOf", all types are admitted.
+ */
+final class ValueTypes
+  {
+  /**
+   * Creates a new ValueTypes instance.
+   */
+  private ValueTypes( JsonNode schema, int types)
+    {
+    schema_ = schema;
+    types_ = types;
+    }
+
+  /**
+   * Returns the types of JSON values admitted by the given schema.
+   */
+  public static ValueTypes of( JsonNode schema)
+    {
+    int types =
+      schema == null || !schema.isObject() || COMBINATIONS.stream().anyMatch( schema::has)
+      ? ALL
+      : Optional.ofNullable( schema.get( "type")).filter( JsonNode::isTextual).map( type -> typeOf( type.asText())).orElse( ALL);
+
+    if( types != ALL && schema.path( "nullable").asBoolean( false))
+      {
+      types |= NULL;
+      }
+
+    return
+      types == ALL
+      ? ANY
+      : new ValueTypes( schema, types);
+    }
+
+  /**
+   * Returns true if all types of JSON values are admitted.
+   */
+  public boolean isAny()
+    {
+    return types_ == ALL;
+    }
+
+  /**
+   * Returns true if the given type of JSON value is admitted.
+   */
+  public boolean admits( int type)
+    {
+    return (types_ & type) != 0;
+    }
+
+  /**
+   * Returns the types of JSON values admitted for array items.
+   */
+  public ValueTypes items()
+    {
+    return
+      schema_ == null
+      ? ANY
+      : of( schema_.get( "items"));
+    }
+
+  /**
+   * Returns the types of JSON values admitted for the given object property.
+   */
+  public ValueTypes property( String name)
+    {
+    return
+      schema_ == null
+      ? ANY
+      : of(
+        Optional.ofNullable( schema_.path( "properties").get( name))
+        .orElse( schema_.get( "additionalProperties")));
+    }
+
+  /**
+   * Returns the type identified by the given schema type name.
+   */
+  private static int typeOf( String type)
+    {
+    switch( type)
+      {
+      case "object": return OBJECT;
+      case "array": return ARRAY;
+      case "integer": return NUMBER;
+      case "number": return NUMBER;
+      case "boolean": return BOOLEAN;
+      case "string": return STRING;
+      default: return ALL;
+      }
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( Integer.toBinaryString( types_))
+      .toString();
+    }
+
+  private final JsonNode schema_;
+  private final int types_;
+
+  public static final int OBJECT = 1;
+  public static final int ARRAY = 2;
+  public static final int NUMBER = 4;
+  public static final int BOOLEAN = 8;
+  public static final int STRING = 16;
+  public static final int NULL = 32;
+  private static final int ALL = OBJECT | ARRAY | NUMBER | BOOLEAN | STRING | NULL;
+
+  private static final List<String> COMBINATIONS = Arrays.asList( "allOf", "anyOf", "oneOf", "not");
+
+  /**
+   * Admits all types of JSON values.
+   */
+  public static final ValueTypes ANY = new ValueTypes( null, ALL);
+  }
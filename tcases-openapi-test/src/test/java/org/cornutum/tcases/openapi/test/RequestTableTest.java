@@ -0,0 +1,236 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import org.cornutum.tcases.openapi.test.RequestDef.Expect;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs tests for {@link RequestTable} and {@link RequestRunner}.
+ */
+public class RequestTableTest
+  {
+  @Before
+  public void startServer() throws Exception
+    {
+    received_ = new ArrayList<String>();
+    server_ = HttpServer.create( new InetSocketAddress( "localhost", 0), 0);
+    server_.createContext(
+      "/",
+      exchange -> {
+        String body;
+        try( InputStream content = exchange.getRequestBody())
+          {
+          ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+          byte[] buffer = new byte[1024];
+          for( int n; (n = content.read( buffer)) > 0; bytes.write( buffer, 0, n));
+          body = new String( bytes.toByteArray(), StandardCharsets.UTF_8);
+          }
+
+        received_.add(
+          String.format(
+            "%s%s %s cookie=%s x-my-header=%s content-type=%s body=%s",
+            exchange.getRequestMethod(),
+            Optional.ofNullable( exchange.getRequestHeaders().getFirst( "X-HTTP-Method-Override")).map( method -> String.format( " (%s)", method)).orElse( ""),
+            exchange.getRequestURI(),
+            exchange.getRequestHeaders().getFirst( "Cookie"),
+            exchange.getRequestHeaders().getFirst( "X-My-Header"),
+            exchange.getRequestHeaders().getFirst( "Content-Type"),
+            body));
+
+        if( exchange.getRequestURI().getPath().endsWith( "/latin"))
+          {
+          byte[] latin = "caf\u00e9".getBytes( StandardCharsets.ISO_8859_1);
+          exchange.getResponseHeaders().set( "Content-Type", "text/plain; charset=ISO-8859-1");
+          exchange.sendResponseHeaders( 200, latin.length);
+          exchange.getResponseBody().write( latin);
+          }
+        else
+          {
+          int status = exchange.getRequestURI().getPath().endsWith( "/bad")? 400 : 200;
+          exchange.sendResponseHeaders( status, -1);
+          }
+        exchange.close();
+        });
+    server_.start();
+    }
+
+  @After
+  public void stopServer()
+    {
+    server_.stop( 0);
+    }
+
+  @Test
+  public void whenTableRead() throws Exception
+    {
+    // Given...
+    RequestTable table = new RequestTable();
+    table.setValidateResponses( false);
+    table.setTrustServer( true);
+
+    RequestDef text = new RequestDef( "postText", "post", "/texts/{id}");
+    text.setServer( "http://localhost:8080/api");
+    text.addPathParam( "id", "123");
+    text.addQueryParam( "q", "a%20b");
+    text.addHeader( "X-My-Header", "yes");
+    text.addCookie( "c", "1");
+    text.setBody( "text/plain", "Hello, world".getBytes( StandardCharsets.UTF_8));
+    table.add( text);
+
+    RequestDef binary = new RequestDef( "putBinary", "put", "/binaries");
+    binary.setBody( "application/octet-stream", new byte[]{ (byte) 0xff, 0, (byte) 0xfe});
+    binary.setExpect( Expect.BAD_REQUEST);
+    binary.setInvalidInput( "Body.Value");
+    table.add( binary);
+
+    // When...
+    StringWriter json = new StringWriter();
+    RequestTable.write( table, json);
+    RequestTable tableRead = RequestTable.read( new StringReader( json.toString()));
+
+    // Then...
+    assertThat( "Validate responses", tableRead.validateResponses(), is( false));
+    assertThat( "Trust server", tableRead.trustServer(), is( true));
+    assertThat( "Requests", tableRead.getRequests().size(), is( 2));
+
+    RequestDef textRead = tableRead.getRequests().get(0);
+    assertThat( "Name", textRead.getName(), is( "postText"));
+    assertThat( "Operation", textRead.getOperation(), is( "POST"));
+    assertThat( "Path", textRead.getPath(), is( "/texts/{id}"));
+    assertThat( "Server", textRead.getServer(), is( "http://localhost:8080/api"));
+    assertThat( "Path params", String.valueOf( textRead.getPathParams()), is( String.valueOf( text.getPathParams())));
+    assertThat( "Query params", String.valueOf( textRead.getQueryParams()), is( String.valueOf( text.getQueryParams())));
+    assertThat( "Headers", String.valueOf( textRead.getHeaders()), is( String.valueOf( text.getHeaders())));
+    assertThat( "Cookies", String.valueOf( textRead.getCookies()), is( String.valueOf( text.getCookies())));
+    assertThat( "Content type", textRead.getContentType(), is( "text/plain"));
+    assertThat( "Body", textRead.getBody(), is( text.getBody()));
+    assertThat( "Expect", textRead.getExpect(), is( Expect.SUCCESS));
+
+    RequestDef binaryRead = tableRead.getRequests().get(1);
+    assertThat( "Name", binaryRead.getName(), is( "putBinary"));
+    assertThat( "Server", binaryRead.getServer(), is( nullValue()));
+    assertThat( "Body", binaryRead.getBody(), is( binary.getBody()));
+    assertThat( "Expect", binaryRead.getExpect(), is( Expect.BAD_REQUEST));
+    assertThat( "Invalid input", binaryRead.getInvalidInput(), is( "Body.Value"));
+    }
+
+  @Test
+  public void whenRequestRun()
+    {
+    // Given...
+    RequestTable table = new RequestTable();
+    table.setValidateResponses( false);
+
+    RequestDef request = new RequestDef( "patchText", "patch", "/texts/{id}");
+    request.setServer( getServerUri());
+    request.addPathParam( "id", "123");
+    request.addQueryParam( "q", "a%20b");
+    request.addQueryParam( "flag", null);
+    request.addHeader( "X-My-Header", "yes");
+    request.addCookie( "c", "1");
+    request.addCookie( "d", "2");
+    request.setBody( "text/plain", "Hello, world".getBytes( StandardCharsets.UTF_8));
+    table.add( request);
+
+    RequestRunner runner = new RequestRunner( getClass(), table);
+
+    // When...
+    runner.run( request);
+
+    // Then...
+    assertThat(
+      "Received",
+      received_,
+      contains( "POST (PATCH) /api/texts/123?q=a%20b&flag cookie=c=1; d=2 x-my-header=yes content-type=text/plain body=Hello, world"));
+    }
+
+  @Test
+  public void whenResponseCharsetDefined() throws Exception
+    {
+    // Given...
+    RequestTable table = new RequestTable();
+    table.setValidateResponses( false);
+
+    RequestDef request = new RequestDef( "getLatin", "get", "/latin");
+    request.setServer( getServerUri());
+    table.add( request);
+
+    RequestRunner runner = new RequestRunner( getClass(), table);
+
+    // When...
+    RequestRunner.Response response = runner.send( request);
+
+    // Then...
+    assertThat( "Content type", response.getContentType(), is( "text/plain; charset=ISO-8859-1"));
+    assertThat( "Body", response.getBody(), is( "caf\u00e9"));
+    }
+
+  @Test
+  public void whenStatusUnexpected()
+    {
+    // Given...
+    RequestTable table = new RequestTable();
+    table.setValidateResponses( false);
+
+    RequestDef failure = new RequestDef( "getBad", "get", "/bad");
+    failure.setServer( getServerUri());
+    failure.setExpect( Expect.BAD_REQUEST);
+    table.add( failure);
+
+    RequestDef success = new RequestDef( "getOk", "get", "/ok");
+    success.setServer( getServerUri());
+    success.setExpect( Expect.BAD_REQUEST);
+    table.add( success);
+
+    RequestRunner runner = new RequestRunner( getClass(), table);
+
+    // When...
+    runner.run( failure);
+
+    // Then...
+    AssertionError unexpected = null;
+    try
+      {
+      runner.run( success);
+      }
+    catch( AssertionError e)
+      {
+      unexpected = e;
+      }
+    assertThat( "Unexpected status", unexpected, is( notNullValue()));
+    assertThat( "Received", received_, contains( "GET /api/bad cookie=null x-my-header=null content-type=null body=", "GET /api/ok cookie=null x-my-header=null content-type=null body="));
+    }
+
+  /**
+   * Returns the URI for the test server.
+   */
+  private String getServerUri()
+    {
+    return String.format( "http://localhost:%s/api", server_.getAddress().getPort());
+    }
+
+  private HttpServer server_;
+  private List<String> received_;
+  }
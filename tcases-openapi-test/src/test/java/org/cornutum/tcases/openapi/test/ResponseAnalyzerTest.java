@@ -21,6 +21,7 @@ import static org.hamcrest.Matchers.*;
 
 import java.util.List;
 import java.util.Optional;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -62,6 +63,7 @@ public class ResponseAnalyzerTest extends ResponseTest
         "/properties/O/oneOf/1/allOf/1/anyOf/0/additionalProperties/properties/M",
         "/properties/O/oneOf/1/allOf/2/properties/Q",
         "/additionalProperties/properties/AP1"));
+    String schemaBefore = schema.toString();
 
     // When...
     JsonNode schemaWithoutWriteOnly = ResponseAnalyzer.schemaWithoutWriteOnly( schema, locations);
@@ -72,6 +74,7 @@ public class ResponseAnalyzerTest extends ResponseTest
         assertThat( location + " property defined", !schemaWithoutWriteOnly.at( location).isMissingNode(), is( true));
         assertThat( location + " property required", isRequired( schemaWithoutWriteOnly, location), is( false));
         });
+    assertThat( "Schema unchanged", schema.toString(), is( schemaBefore));
     }
 
   @Test
@@ -111,6 +114,50 @@ public class ResponseAnalyzerTest extends ResponseTest
         });
     }
 
+  @Test
+  public void validateCompiled() throws Exception
+    {
+    // Given...
+    ResponsesDef responses = readResponses( "responsesDef-writeOnly");
+    ObjectNode schema = expectResponseBodySchema( responses, "get", "/writeOnly", 201, "application/json");
+    String schemaBefore = schema.toString();
+    String[] contents =
+      {
+        "[{\"X\": 1, \"Z\": \"?\", \"W0\": 2}]",
+        "[{\"X\": true}]",
+        "[{\"Z\": 1, \"W2\": 3}, {\"W0\": \"?\"}]"
+      };
+
+    // When...
+    CompiledSchema compiled = new CompiledSchema( schema, true);
+
+    // Then...
+    assertThat(
+      "Write only",
+      compiled.getSchemaWriteOnly().stream().map( String::valueOf).collect( toList()),
+      containsMembers( "/items/properties/W0", "/items/oneOf/0/properties/W1", "/items/oneOf/1/properties/W2"));
+
+    for( int i = 0; i < 2; i++)
+      {
+      for( String content : contents)
+        {
+        assertThat(
+          "Errors for " + content,
+          String.valueOf( ResponseAnalyzer.validate( compiled, singletonList( toJson( content)))),
+          is( String.valueOf( ResponseAnalyzer.validate( schema, singletonList( toJson( content)), true))));
+        }
+      }
+    assertThat( "Schema unchanged", schema.toString(), is( schemaBefore));
+
+    // When...
+    compiled = new CompiledSchema( schema, false);
+
+    // Then...
+    assertThat( "Write only", compiled.getSchemaWriteOnly(), is( empty()));
+    assertThat( "Schema", compiled.getSchemaWithoutWriteOnly(), is( sameInstance( schema)));
+    assertThat( "Errors", ResponseAnalyzer.validate( compiled, singletonList( toJson( contents[0]))), is( Optional.empty()));
+    }
+
   @Test
   public void schemaWriteOnlyNone()
     {
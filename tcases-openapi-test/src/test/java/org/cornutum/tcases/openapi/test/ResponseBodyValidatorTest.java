@@ -10,8 +10,16 @@ package org.cornutum.tcases.openapi.test;
 import static org.cornutum.tcases.openapi.test.ResponseValidationHandler.FAIL_ALL;
 
 import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * Runs {@link ResponseValidator#assertBodyValid} tests.
  */
@@ -503,4 +511,164 @@ public class ResponseBodyValidatorTest extends ResponseValidatorTest
           "Ea#minItems: Min items is '2', found '1'.");
         });
     }
+  
+  @Test
+  public void whenContentBytes()
+    {
+    // Given...
+    ResponseValidator validator = validatorFor( "responsesDef-body", FAIL_ALL);
+
+    {
+    // When...
+    String op = "post";
+    String path = "/responses";
+    int statusCode = 200;
+    String bodyContentType = "application/json";
+    byte[] bodyContent = "12345".getBytes( UTF_8);
+
+    // Then...
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, bodyContent);
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, new ByteArrayInputStream( bodyContent));
+    }
+
+    {
+    // When...
+    String op = "post";
+    String path = "/responses";
+    int statusCode = 200;
+    String bodyContentType = "application/json; charset=UTF-16";
+    byte[] bodyContent = "  12345 ".getBytes( UTF_16);
+
+    // Then...
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, bodyContent);
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, new ByteArrayInputStream( bodyContent));
+    }
+
+    {
+    // When...
+    String op = "delete";
+    String path = "/responses";
+    int statusCode = 200;
+    String bodyContentType = null;
+    byte[] bodyContent = " \n ".getBytes( UTF_8);
+
+    // Then...
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, bodyContent);
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, (InputStream) null);
+    }
+
+    // Then...
+    expectFailure( ResponseValidationException.class)
+      .when( () -> {
+        validator.assertBodyValid( "delete", "/responses", 200, null, new ByteArrayInputStream( " ? ".getBytes( UTF_8)));
+        })
+      .then( failure -> {
+        assertValidationErrors(
+          failure,
+          "delete /responses (200), body: unexpected response body received");
+        });
+
+    // Then...
+    expectFailure( ResponseValidationException.class)
+      .when( () -> {
+        validator.assertBodyValid( "delete", "/responses", 500, "application/json", new ByteArrayInputStream( new byte[0]));
+        })
+      .then( failure -> {
+        assertValidationErrors(
+          failure,
+          "delete /responses (500), body: Can't decode as contentType=application/json",
+          "No JSON content found");
+        });
+
+    // Then...
+    expectFailure( ResponseValidationException.class)
+      .when( () -> {
+        validator.assertBodyValid( "delete", "/responses", 500, "application/json", "[]".getBytes( UTF_8));
+        })
+      .then( failure -> {
+        assertValidationErrors(
+          failure,
+          "delete /responses (500), body: invalid response",
+          "#type: Type expected 'object', found 'array'.");
+        });
+    }
+
+  @Test
+  public void whenStreamNotValidated()
+    {
+    // Given...
+    ResponseValidator validator = validatorFor( "responsesDef-body", FAIL_ALL);
+    AtomicBoolean closed = new AtomicBoolean( false);
+    InputStream content =
+      new ByteArrayInputStream( "{}".getBytes( UTF_8))
+        {
+        @Override
+        public void close()
+          {
+          closed.set( true);
+          }
+        };
+
+    // Then...
+    expectFailure( ResponseValidationException.class)
+      .when( () -> {
+        validator.assertBodyValid( "delete", "/responses", 201, "application/json", content);
+        })
+      .then( failure -> {
+        assertValidationErrors(
+          failure,
+          "delete /responses: no response defined for statusCode=201");
+        });
+
+    assertThat( "Closed", closed.get(), is( true));
+    }
+
+  @Test
+  public void whenContentTooLarge()
+    {
+    // Given...
+    ResponseValidator validator = validatorFor( "responsesDef-body", FAIL_ALL).maxBufferedBytes( 8);
+    String op = "put";
+    String path = "/responses";
+    int statusCode = 200;
+    String bodyContentType = "application/x-www-form-urlencoded";
+    String content =
+      FormUrlBuilder.with()
+      .field( "A", "A,B,C")
+      .field( "B", "true")
+      .build();
+
+    // When...
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, content);
+
+    // Then...
+    expectFailure( ResponseUnvalidatedException.class)
+      .when( () -> {
+        validator.assertBodyValid( op, path, statusCode, bodyContentType, content.getBytes( UTF_8));
+        })
+      .then( failure -> {
+        assertValidationErrors(
+          failure,
+          "put /responses (200), body: contentType=application/x-www-form-urlencoded: Content exceeds maxBufferedBytes=8");
+        });
+
+    // When...
+    validator.maxBufferedBytes( content.length());
+
+    // Then...
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, new ByteArrayInputStream( content.getBytes( UTF_8)));
+
+    // When...
+    String jsonContent = "{ \"id\": \"0123456789\"}";
+
+    // Then...
+    validator.assertBodyValid( "delete", "/responses", 500, "application/json", new ByteArrayInputStream( jsonContent.getBytes( UTF_8)));
+
+    // When...
+    ResponseValidator unlimited = validatorFor( "responsesDef-body", FAIL_ALL);
+
+    // Then...
+    assertThat( "Max buffered bytes", unlimited.getMaxBufferedBytes(), is( nullValue()));
+    unlimited.assertBodyValid( op, path, statusCode, bodyContentType, content.getBytes( UTF_8));
+    }
   }
@@ -0,0 +1,128 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+import static org.cornutum.tcases.openapi.test.ResponseValidationEvent.Result.*;
+import static org.cornutum.tcases.openapi.test.ResponseValidationHandler.IGNORE_ALL;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Runs tests for {@link ResponseValidationMetrics}.
+ */
+public class ResponseValidationMetricsTest extends ResponseValidatorTest
+  {
+  @Test
+  public void whenValidated() throws Exception
+    {
+    // Given...
+    List<ResponseValidationEvent> events = Collections.synchronizedList( new ArrayList<ResponseValidationEvent>());
+    ResponseValidationMetrics metrics = new ResponseValidationMetrics();
+    ResponseValidator validator =
+      validatorFor( "responsesDef-body", IGNORE_ALL)
+      .reportingTo( events::add)
+      .reportingTo( metrics);
+
+    // When...
+    validator.assertBodyValid( "post", "/responses", 200, "application/json", "12345");
+    validator.assertBodyValid( "delete", "/responses", 500, "application/json", "[]".getBytes( UTF_8));
+    validator.assertBodyValid( "get", "/responses", 200, "application/xml", "<hello>world</hello>");
+    validator.assertHeadersValid( "post", "/responses", 200, new HashMap<String,List<String>>());
+
+    // Then...
+    assertThat( "Events", events.size(), is( 4));
+
+    ResponseValidationEvent valid = events.get( 0);
+    assertThat( "Valid", valid.getResult(), is( VALID));
+    assertThat( "Valid op", valid.getOperation(), is( "post"));
+    assertThat( "Valid location", valid.getLocation(), is( "body"));
+    assertThat( "Valid content type", valid.getContentType(), is( "application/json"));
+    assertThat( "Valid bytes", valid.getContentBytes(), is( 5L));
+    assertThat( "Valid errors", valid.getErrors(), is( 0));
+    assertThat( "Valid elapsed", valid.getElapsedNanos(), is( greaterThanOrEqualTo( valid.getDecodeNanos() + valid.getValidateNanos())));
+
+    ResponseValidationEvent invalid = events.get( 1);
+    assertThat( "Invalid", invalid.getResult(), is( INVALID));
+    assertThat( "Invalid status", invalid.getStatusCode(), is( 500));
+    assertThat( "Invalid bytes", invalid.getContentBytes(), is( 2L));
+    assertThat( "Invalid errors", invalid.getErrors(), is( 1));
+
+    ResponseValidationEvent unvalidated = events.get( 2);
+    assertThat( "Unvalidated", unvalidated.getResult(), is( UNVALIDATED));
+    assertThat( "Unvalidated errors", unvalidated.getErrors(), is( 0));
+
+    ResponseValidationEvent headers = events.get( 3);
+    assertThat( "Headers", headers.getResult(), is( VALID));
+    assertThat( "Headers location", headers.getLocation(), is( "headers"));
+    assertThat( "Headers content type", headers.getContentType(), is( nullValue()));
+
+    ObjectNode summary = metrics.toJson();
+    assertThat( "Validations", summary.get( "validations").asLong(), is( 4L));
+    assertThat( "Invalid", summary.get( "invalid").asLong(), is( 1L));
+    assertThat( "Unvalidated", summary.get( "unvalidated").asLong(), is( 1L));
+    assertThat( "Errors", summary.get( "errors").asLong(), is( 1L));
+    assertThat( "Operations", summary.get( "operations").size(), is( 3));
+
+    JsonNode post = opSummary( summary, "POST", "/responses");
+    assertThat( "POST validations", post.get( "validations").asLong(), is( 2L));
+    assertThat( "POST content bytes", post.get( "contentBytes").asLong(), is( 5L));
+
+    StringWriter written = new StringWriter();
+    metrics.write( written);
+    JsonNode writtenSummary = readJson( written.toString());
+    assertThat( "Written validations", writtenSummary.get( "validations").asLong(), is( 4L));
+    assertThat( "Written operations", writtenSummary.get( "operations").size(), is( 3));
+    }
+
+  @Test
+  public void whenHandlerFails()
+    {
+    // Given...
+    ResponseValidationMetrics metrics = new ResponseValidationMetrics();
+    ResponseValidator validator =
+      validatorFor( "responsesDef-body", ResponseValidationHandler.FAIL_ALL)
+      .reportingTo( metrics);
+
+    // When...
+    expectFailure( ResponseValidationException.class)
+      .when( () -> validator.assertBodyValid( "delete", "/responses", 500, "application/json", "[]"));
+
+    // Then...
+    assertThat( "Validations", metrics.getValidations(), is( 1L));
+    assertThat( "Invalid", metrics.toJson().get( "invalid").asLong(), is( 1L));
+    }
+
+  /**
+   * Returns the summary for the given operation.
+   */
+  private JsonNode opSummary( ObjectNode summary, String op, String path)
+    {
+    for( JsonNode opSummary : summary.get( "operations"))
+      {
+      if( op.equals( opSummary.get( "op").asText()) && path.equals( opSummary.get( "path").asText()))
+        {
+        return opSummary;
+        }
+      }
+
+    throw new IllegalArgumentException( String.format( "No summary for %s %s", op, path));
+    }
+  }
@@ -0,0 +1,133 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import static org.cornutum.tcases.openapi.test.ResponseValidationHandler.EXPECT_CONFORM;
+import static org.cornutum.tcases.openapi.test.ResponseValidationHandler.FAIL_ALL;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.IntStream;
+
+/**
+ * Runs tests for {@link ResponseValidatorRegistry}.
+ */
+public class ResponseValidatorRegistryTest extends ResponseValidatorTest
+  {
+  @After
+  public void clearRegistry()
+    {
+    ResponseValidatorRegistry.clear();
+    }
+
+  @Test
+  public void whenShared()
+    {
+    // When...
+    ResponseValidator validator = ResponseValidatorRegistry.validatorFor( getClass(), "responsesDef-writeOnly.json");
+
+    // Then...
+    assertThat( "Shared", validator.isShared(), is( true));
+    assertThat( "Same resource", ResponseValidatorRegistry.validatorFor( getClass(), "responsesDef-writeOnly.json"), is( sameInstance( validator)));
+    assertThat( "Same resource, other class", ResponseValidatorRegistry.validatorFor( ResponseValidator.class, "responsesDef-writeOnly.json"), is( sameInstance( validator)));
+    assertThat( "Other resource", ResponseValidatorRegistry.validatorFor( getClass(), "responsesDef-body.json"), is( not( sameInstance( validator))));
+    assertThat( "Shared responses", new ResponseValidator( getClass(), "responsesDef-writeOnly.json").getResponses(), is( sameInstance( validator.getResponses())));
+
+    expectFailure( IllegalStateException.class)
+      .when( () -> validator.notifying( FAIL_ALL));
+
+    expectFailure( IllegalStateException.class)
+      .when( () -> validator.writeOnlyInvalid( false));
+
+    expectFailure( IllegalArgumentException.class)
+      .when( () -> ResponseValidatorRegistry.validatorFor( getClass(), "undefined.json"));
+    }
+
+  @Test
+  public void whenPerCallSettings()
+    {
+    // Given...
+    ResponseValidator validator = ResponseValidatorRegistry.validatorFor( getClass(), "responsesDef-writeOnly.json");
+    String op = "get";
+    String path = "/array";
+    int statusCode = 200;
+    String bodyContentType = "application/json";
+    String bodyContent = "[{\"W0\": 12345}, {\"W1\": 67890}]";
+
+    // When...
+    validator.assertBodyValid( op, path, statusCode, bodyContentType, bodyContent, FAIL_ALL, false);
+
+    // Then...
+    expectFailure( ResponseValidationException.class)
+      .when( () -> validator.assertBodyValid( op, path, statusCode, bodyContentType, bodyContent, FAIL_ALL, true))
+      .then( failure -> {
+        assertValidationErrors(
+          failure,
+          "get /array (200), body: invalid response",
+          "0/W0#writeOnly: 'writeOnly' property not allowed in response",
+          "1/W1#writeOnly: 'writeOnly' property not allowed in response");
+        });
+
+    // Given...
+    ResponseValidator bodyValidator = ResponseValidatorRegistry.validatorFor( getClass(), "responsesDef-body.json");
+
+    // Then...
+    expectFailure( ResponseUnvalidatedException.class)
+      .when( () -> bodyValidator.assertBodyValid( op, "/responses", statusCode, "application/xml", "<W0/>", FAIL_ALL, true));
+
+    // When...
+    bodyValidator.assertBodyValid( op, "/responses", statusCode, "application/xml", "<W0/>", EXPECT_CONFORM, true);
+    bodyValidator.assertBodyValid( op, "/responses", statusCode, "application/xml", "<W0/>");
+
+    // Then...
+    assertThat( "Handler", ResponseValidatorRegistry.validationHandlerFor( getClass()), is( sameInstance( EXPECT_CONFORM)));
+    }
+
+  @Test
+  public void whenConcurrent() throws Exception
+    {
+    // Given...
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool( threads);
+    Callable<ResponseValidator> getValidator = () -> ResponseValidatorRegistry.validatorFor( getClass(), "responsesDef-array.json");
+
+    try
+      {
+      // When...
+      List<Future<ResponseValidator>> results =
+        executor.invokeAll(
+          IntStream.range( 0, threads * 4)
+          .mapToObj( i -> getValidator)
+          .collect( toList()));
+
+      // Then...
+      Set<ResponseValidator> validators = new HashSet<ResponseValidator>();
+      for( Future<ResponseValidator> result : results)
+        {
+        validators.add( result.get());
+        }
+      assertThat( "Validators", validators.size(), is( 1));
+      }
+    finally
+      {
+      executor.shutdownNow();
+      }
+    }
+  }
@@ -7,6 +7,8 @@
 
 package org.cornutum.tcases.openapi.test;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import org.junit.Test;
 import static org.cornutum.hamcrest.Composites.*;
 import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
@@ -158,6 +160,53 @@ public class ResponsesDefTest extends ResponseTest
     assertThat( "Has body", responses.hasBody( "HEAD", "/responses", 200), is( false));
     }
 
+  @Test
+  public void responsesByStatus()
+    {
+    // Given...
+    ResponsesDef responses =
+      new ResponsesDef(
+        (ObjectNode)
+        toJson(
+          "{"
+          + "  \"/responses\": {"
+          + "    \"get\": {"
+          + "      \"200\": {\"content\": {\"application/json\": {\"schema\": {\"type\": \"integer\"}}}},"
+          + "      \"2XX\": {\"headers\": {\"X-Range\": {\"required\": true, \"schema\": {\"type\": \"string\"}}}},"
+          + "      \"404\": {\"content\": {\"text/*\": {\"schema\": {\"type\": \"string\"}}}},"
+          + "      \"default\": {\"content\": {\"application/json\": {\"schema\": {\"type\": \"object\"}}}}"
+          + "    }"
+          + "  }"
+          + "}"));
+
+    // Then...
+    assertThat( "Has body", responses.hasBody( "GET", "/responses", 200), is( true));
+    assertThat( "Headers", responses.headerDefs( "GET", "/responses", 200), is( empty()));
+
+    assertThat( "Defined", responses.defined( "GET", "/responses", 204), is( true));
+    assertThat( "Has body", responses.hasBody( "GET", "/responses", 204), is( false));
+    assertThat( "Headers", responses.headerDefs( "GET", "/responses", 204).get(0).getName(), is( "X-Range"));
+    assertThat( "Headers reused", responses.headerDefs( "GET", "/responses", 204) == responses.headerDefs( "GET", "/responses", 299), is( true));
+
+    assertThat( "Content type defined", responses.bodyContentDef( "GET", "/responses", 404, "text/plain; charset=UTF-8").isPresent(), is( true));
+    assertThat(
+      "Content type",
+      responses.bodyContentDef( "GET", "/responses", 404, "text/plain; charset=UTF-8").map( ContentDef::getContentType).orElse( null),
+      is( "text/plain; charset=UTF-8"));
+    assertThat( "Content type defined", responses.bodyContentDef( "GET", "/responses", 404, "application/json").isPresent(), is( false));
+
+    assertThat( "Defined", responses.defined( "GET", "/responses", 500), is( true));
+    assertThat(
+      "Default schema",
+      getResponseBodySchema( responses, "GET", "/responses", 500, "application/json").map( schema -> schema.get( "type").asText()).orElse( null),
+      is( "object"));
+    assertThat(
+      "Schema reused",
+      getResponseBodySchema( responses, "GET", "/responses", 500, "application/json").orElse( null)
+      == getResponseBodySchema( responses, "GET", "/responses", 400, "application/json").orElse( null),
+      is( true));
+    }
+
   @Test
   public void forPaths()
     {
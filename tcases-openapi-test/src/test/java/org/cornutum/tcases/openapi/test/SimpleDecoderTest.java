@@ -7,6 +7,8 @@
 
 package org.cornutum.tcases.openapi.test;
 
+import static org.cornutum.tcases.openapi.test.JsonUtils.readJson;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.Test;
 import static org.hamcrest.MatcherAssert.*;
@@ -14,7 +16,10 @@ import static org.hamcrest.Matchers.*;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs {@link SimpleDecoder} tests.u
@@ -559,4 +564,81 @@ public class SimpleDecoderTest extends AbstractDecoderTest
     jsonNode = decoder.decodeNumber( content);
     assertThat( "Number content", jsonNode.isPresent(), is( false));
     }
+
+  @Test
+  public void whenSchemaTyped() throws Exception
+    {
+    // Given...
+    EncodingDef encodingDef = EncodingDefBuilder.simple().build();
+    SimpleDecoder decoder = new SimpleDecoder( encodingDef);
+    String content;
+    JsonNode schema;
+
+    // When...
+    content = "1,-2.0,3";
+    schema = readJson( "{\"type\":\"array\",\"items\":{\"type\":\"number\"}}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.alternatives( content, schema).collect( toList()),
+      "[1,-2.0,3]");
+
+    // When...
+    content = "A,1,B,,C,true";
+    schema = readJson( "{\"type\":\"object\",\"properties\":{\"A\":{\"type\":\"string\"},\"B\":{\"type\":\"integer\",\"nullable\":true}}}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.alternatives( content, schema).collect( toList()),
+      "{\"A\":\"1\",\"B\":null,\"C\":true}",
+      "{\"A\":\"1\",\"B\":null,\"C\":\"true\"}");
+
+    // When...
+    content = "1,X,3";
+    schema = readJson( "{\"type\":\"array\",\"items\":{\"type\":\"integer\"}}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.alternatives( content, schema).collect( toList()),
+      "[1,\"X\",3]");
+
+    // When...
+    content = "A,B";
+    schema = readJson( "{\"type\":\"integer\"}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.alternatives( content, schema).collect( toList()),
+      decoder.decode( content).stream().map( String::valueOf).toArray( String[]::new));
+
+    // When...
+    content = "A,1,B,2,C,3";
+    schema = readJson( "{\"oneOf\":[{\"type\":\"object\"},{\"type\":\"string\"}]}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.alternatives( content, schema).collect( toList()),
+      decoder.decode( content).stream().map( String::valueOf).toArray( String[]::new));
+    }
+
+  @Test
+  public void whenAlternativesLazy()
+    {
+    // Given...
+    EncodingDef encodingDef = EncodingDefBuilder.simple().build();
+    SimpleDecoder decoder = new SimpleDecoder( encodingDef);
+
+    // When...
+    String content = String.join( ",", Collections.nCopies( 63, "1"));
+    Iterator<JsonNode> alternatives = decoder.alternatives( content).iterator();
+    
+    // Then...
+    assertThat( "First", alternatives.next().size(), is( 63));
+    assertThat( "Second", alternatives.next().get( 62).isTextual(), is( true));
+    }
   }
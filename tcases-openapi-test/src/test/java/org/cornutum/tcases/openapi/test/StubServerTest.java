@@ -0,0 +1,254 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import org.cornutum.tcases.openapi.test.RequestDef.Expect;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs tests for {@link StubServer}.
+ */
+public class StubServerTest
+  {
+  @Before
+  public void createTable()
+    {
+    table_ = new RequestTable();
+
+    RequestDef getPost = new RequestDef( "getPost", "get", "/posts/{id}");
+    getPost.setServer( "http://localhost/api");
+    getPost.addPathParam( "id", "123");
+    getPost.addQueryParam( "q", "a%20b");
+    getPost.addHeader( "X-My-Header", "yes");
+    getPost.addCookie( "c", "1");
+    table_.add( getPost);
+
+    RequestDef getPostBad = new RequestDef( "getPostBad", "get", "/posts/{id}");
+    getPostBad.setServer( "http://localhost/api");
+    getPostBad.addPathParam( "id", "123");
+    getPostBad.addQueryParam( "q", "-1");
+    getPostBad.setExpect( Expect.BAD_REQUEST);
+    table_.add( getPostBad);
+
+    RequestDef getLatest = new RequestDef( "getLatest", "get", "/posts/latest");
+    getLatest.setServer( "http://localhost/api");
+    table_.add( getLatest);
+
+    RequestDef patchPost = new RequestDef( "patchPost", "patch", "/posts/{id}");
+    patchPost.setServer( "http://localhost/api");
+    patchPost.addPathParam( "id", "123");
+    patchPost.setBody( "application/json", "{\"title\":\"Hello\"}".getBytes( StandardCharsets.UTF_8));
+    table_.add( patchPost);
+    }
+
+  @After
+  public void stopServer()
+    {
+    if( server_ != null)
+      {
+      server_.stop();
+      }
+    }
+
+  @Test
+  public void whenRequestsMatched() throws Exception
+    {
+    // Given...
+    ResponsesDef responses = ResponsesDef.read( new StringReader( RESPONSES));
+    server_ = new StubServer( table_, responses, 0);
+    server_.start();
+
+    ResponseValidator validator = new ResponseValidator( responses);
+    RequestRunner runner =
+      new RequestRunner( table_, validator)
+        {
+        @Override
+        protected String getServer( RequestDef request)
+          {
+          return server_.getUri() + "/api";
+          }
+        };
+
+    // When...
+    for( RequestDef request : table_.getRequests())
+      {
+      runner.run( request);
+      }
+
+    // Then...
+    RequestRunner.Response response = send( "GET", "/api/posts/123?q=a%20b", "c=1");
+    assertThat( "Status", response.getStatusCode(), is( 200));
+    assertThat( "Content type", response.getContentType(), is( "application/json"));
+    assertThat( "Body", response.getBody(), is( "{\"id\":1,\"title\":\"aaa\"}"));
+    assertThat( "Rate header", response.getHeaders().get( "X-rate"), contains( "0"));
+
+    response = send( "GET", "/api/posts/123?q=-1", null);
+    assertThat( "Status", response.getStatusCode(), is( 400));
+    assertThat( "Body", response.getBody(), is( "{\"message\":\"a\"}"));
+
+    response = send( "GET", "/api/posts/latest", null);
+    assertThat( "Status", response.getStatusCode(), is( 200));
+    }
+
+  @Test
+  public void whenRequestsRunWithStubServer() throws Exception
+    {
+    // Given...
+    server_ = StubServer.forTest( getClass(), table_);
+    server_.start();
+
+    RequestRunner runner = new RequestRunner( table_, null);
+    runner.setStubServer( server_);
+
+    // When...
+    for( RequestDef request : table_.getRequests())
+      {
+      runner.run( request);
+      }
+
+    // Then...
+    assertThat( "Port", server_.getPort(), is( not( StubServer.DEFAULT_PORT)));
+    assertThat( "Server", runner.getStubServer().getServer( table_.getRequests().get( 0)), is( server_.getUri() + "/api"));
+    }
+
+  @Test
+  public void whenPathParamUndefined() throws Exception
+    {
+    // Given...
+    RequestDef getPostUndefined = new RequestDef( "getPostUndefined", "get", "/posts/{id}");
+    getPostUndefined.setServer( "http://localhost/api");
+    getPostUndefined.addPathParam( "id", "");
+    getPostUndefined.setExpect( Expect.BAD_REQUEST);
+    table_.add( getPostUndefined);
+
+    RequestDef headLatest = new RequestDef( "headLatest", "head", "/posts/latest");
+    headLatest.setServer( "http://localhost/api");
+    table_.add( headLatest);
+
+    server_ = new StubServer( table_, ResponsesDef.read( new StringReader( RESPONSES)), 0);
+    server_.start();
+
+    // When...
+    RequestRunner.Response response = send( "GET", "/api/posts/", null);
+
+    // Then...
+    assertThat( "Status", response.getStatusCode(), is( 400));
+    assertThat( "Body", response.getBody(), is( "{\"message\":\"a\"}"));
+
+    // When...
+    response = send( "HEAD", "/api/posts/latest", null);
+
+    // Then...
+    assertThat( "Status", response.getStatusCode(), is( 200));
+    assertThat( "Content type", response.getContentType(), is( "text/plain"));
+    assertThat( "Body", response.getBody(), is( ""));
+    }
+
+  @Test
+  public void whenRequestsUnmatched() throws Exception
+    {
+    // Given...
+    server_ = new StubServer( table_, null, 0);
+    server_.start();
+
+    // Then...
+    assertThat( "Unknown path", send( "GET", "/api/users/123", null).getStatusCode(), is( 404));
+    assertThat( "Unknown method", send( "DELETE", "/api/posts/123", null).getStatusCode(), is( 404));
+    assertThat( "Unknown path param", send( "GET", "/api/posts/456?q=-1", null).getStatusCode(), is( 400));
+    assertThat( "Missing cookie", send( "GET", "/api/posts/123?q=a%20b", null).getStatusCode(), is( 400));
+    assertThat( "No responses defined", send( "GET", "/api/posts/latest", null).getStatusCode(), is( 200));
+    }
+
+  /**
+   * Sends a request to the stub server and returns the response.
+   */
+  private RequestRunner.Response send( String method, String path, String cookie) throws Exception
+    {
+    HttpURLConnection connection = (HttpURLConnection) new URL( server_.getUri() + path).openConnection();
+    connection.setRequestMethod( method);
+    connection.setRequestProperty( "X-My-Header", "yes");
+    if( cookie != null)
+      {
+      connection.setRequestProperty( "Cookie", cookie);
+      }
+
+    int statusCode = connection.getResponseCode();
+    Map<String,List<String>> headers = connection.getHeaderFields();
+    byte[] body;
+    try( InputStream content = statusCode >= 400? connection.getErrorStream() : connection.getInputStream())
+      {
+      body = content == null? new byte[0] : readBytes( content);
+      }
+
+    return new RequestRunner.Response( statusCode, connection.getContentType(), headers, new String( body, StandardCharsets.UTF_8));
+    }
+
+  /**
+   * Returns the content of the given stream.
+   */
+  private static byte[] readBytes( InputStream input) throws Exception
+    {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[1024];
+    for( int n; (n = input.read( buffer)) > 0; bytes.write( buffer, 0, n));
+    return bytes.toByteArray();
+    }
+
+  private RequestTable table_;
+  private StubServer server_;
+
+  private static final String RESPONSES =
+    "{"
+    + "\"/posts/{id}\": {"
+    + "  \"get\": {"
+    + "    \"200\": {"
+    + "      \"headers\": { \"X-Rate\": { \"required\": true, \"schema\": { \"type\": \"integer\", \"minimum\": 0 }}},"
+    + "      \"content\": { \"application/json\": { \"schema\": {"
+    + "        \"type\": \"object\","
+    + "        \"required\": [ \"id\", \"title\" ],"
+    + "        \"properties\": {"
+    + "          \"id\": { \"type\": \"integer\", \"minimum\": 1 },"
+    + "          \"title\": { \"type\": \"string\", \"minLength\": 3 },"
+    + "          \"secret\": { \"type\": \"string\", \"writeOnly\": true }"
+    + "        }}}}"
+    + "    },"
+    + "    \"4XX\": {"
+    + "      \"content\": { \"*/*\": { \"schema\": {"
+    + "        \"type\": \"object\","
+    + "        \"required\": [ \"message\" ],"
+    + "        \"properties\": { \"message\": { \"type\": \"string\" }}}}}"
+    + "    }"
+    + "  },"
+    + "  \"patch\": {"
+    + "    \"204\": { }"
+    + "  }"
+    + "},"
+    + "\"/posts/latest\": {"
+    + "  \"get\": {"
+    + "    \"default\": { \"content\": { \"text/plain\": { \"schema\": { \"type\": \"string\" }}}}"
+    + "  },"
+    + "  \"head\": {"
+    + "    \"default\": { \"content\": { \"text/plain\": { \"schema\": { \"type\": \"string\" }}}}"
+    + "  }"
+    + "}"
+    + "}";
+  }
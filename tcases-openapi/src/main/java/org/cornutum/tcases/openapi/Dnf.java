@@ -40,7 +40,7 @@ public class Dnf
   /**
    * Adds an alternative schema.
    */
-  private void addAlternative( Schema<?> alternative)
+  void addAlternative( Schema<?> alternative)
     {
     alternatives_.put( String.valueOf( alternative.getType()), alternative);
     }
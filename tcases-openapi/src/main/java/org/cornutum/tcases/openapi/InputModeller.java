@@ -12,7 +12,9 @@ import org.cornutum.tcases.resolve.DataValues;
 import org.cornutum.tcases.resolve.FormattedString;
 import org.cornutum.tcases.util.Characters;
 import org.cornutum.tcases.util.ContextHandler;
+import org.cornutum.tcases.util.DeferredNotifier;
 import org.cornutum.tcases.util.ListBuilder;
+import org.cornutum.tcases.util.MapBuilder;
 
 import static org.cornutum.tcases.DefUtils.toIdentifier;
 import static org.cornutum.tcases.conditions.Conditions.*;
@@ -50,6 +52,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -58,6 +61,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -97,13 +105,22 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
    */
   protected InputModeller( View view, ModelOptions options)
     {
-    super( new OpenApiContext());
+    this( view, options, new OpenApiContext());
+    }
+  
+  /**
+   * Creates a new InputModeller instance.
+   */
+  private InputModeller( View view, ModelOptions options, OpenApiContext context)
+    {
+    super( context);
     view_ = expectedValueOf( view, "Model view");
 
     options_ = Optional.ofNullable( options).orElse( new ModelOptions());
     setNotifier( getOptions().getConditionNotifier());
 
     analyzer_ = new SchemaAnalyzer( getContext());
+    analyzer_.setMaxAlternatives( getOptions().getMaxAlternatives());
     }
 
   /**
@@ -144,7 +161,7 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
           .has( "title", title)
           .has( "version", info.getVersion())
           .hasIf( "server", serverUriUsed( api.getServers()))
-          .functions( entriesOf( api.getPaths()).flatMap( path -> pathRequestDefs( api, path.getKey(), path.getValue())))
+          .functions( functionDefs( api, InputModeller::opRequestDef))
           .build();
 
         return
@@ -180,7 +197,7 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
           .has( "title", title)
           .has( "version", info.getVersion())
           .hasIf( "server", serverUriUsed( api.getServers()))
-          .functions( entriesOf( api.getPaths()).flatMap( path -> pathRequestExamples( api, path.getKey(), path.getValue())))
+          .functions( functionDefs( api, InputModeller::opRequestExamples))
           .build();
 
         return
@@ -191,49 +208,134 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
     }
 
   /**
-   * Returns a request {@link FunctionInputDef function input definition} for each of the API operations for the given path.
+   * Returns the {@link FunctionInputDef function input definitions} created by the given {@link OperationModeller}
+   * for all API operations.
    */
-  private Stream<FunctionInputDef> pathRequestDefs( OpenAPI api, String path, PathItem pathItem)
+  private Stream<FunctionInputDef> functionDefs( OpenAPI api, OperationModeller opModeller)
     {
     return
-      resultFor( path,
+      getOptions().getParallelism() > 1
+      ? concurrentFunctionDefs( api, opModeller)
+      : modelledPaths( api).flatMap( path -> pathFunctionDefs( api, path.getKey(), path.getValue(), opModeller));
+    }
 
-      () ->
-      Stream.of(
-        opRequestDef( api, path, pathItem, "GET", pathItem.getGet()),
-        opRequestDef( api, path, pathItem, "PUT", pathItem.getPut()),
-        opRequestDef( api, path, pathItem, "POST", pathItem.getPost()),
-        opRequestDef( api, path, pathItem, "DELETE", pathItem.getDelete()),
-        opRequestDef( api, path, pathItem, "OPTIONS", pathItem.getOptions()),
-        opRequestDef( api, path, pathItem, "HEAD", pathItem.getHead()),
-        opRequestDef( api, path, pathItem, "PATCH", pathItem.getPatch()),
-        opRequestDef( api, path, pathItem, "TRACE", pathItem.getTrace()))
+  /**
+   * Returns the API resource paths selected by the {@link ModelOptions#getPaths model options}.
+   */
+  private Stream<Map.Entry<String,PathItem>> modelledPaths( OpenAPI api)
+    {
+    return
+      entriesOf( api.getPaths())
+      .filter( path -> getOptions().isPathModelled( path.getKey()));
+    }
 
-      // Skip if operation not defined
-      .filter( Objects::nonNull));
+  /**
+   * Returns the operations for the given path selected by the {@link ModelOptions#getOperations model options}.
+   */
+  private Map<String,Operation> modelledOperations( String path, PathItem pathItem)
+    {
+    Map<String,Operation> operations = pathOperations( pathItem);
+    operations.keySet().removeIf( opName -> !getOptions().isOperationModelled( path, opName));
+    return operations;
     }
 
   /**
-   * Returns a request {@link FunctionInputDef function input definition} for the examples of each of the API operations for the given path.
+   * Returns the {@link FunctionInputDef function input definitions} created by the given {@link OperationModeller}
+   * for each of the API operations for the given path.
    */
-  private Stream<FunctionInputDef> pathRequestExamples( OpenAPI api, String path, PathItem pathItem)
+  private Stream<FunctionInputDef> pathFunctionDefs( OpenAPI api, String path, PathItem pathItem, OperationModeller opModeller)
     {
     return
       resultFor( path,
 
       () ->
-      Stream.of(
-        opRequestExamples( api, path, pathItem, "GET", pathItem.getGet()),
-        opRequestExamples( api, path, pathItem, "PUT", pathItem.getPut()),
-        opRequestExamples( api, path, pathItem, "POST", pathItem.getPost()),
-        opRequestExamples( api, path, pathItem, "DELETE", pathItem.getDelete()),
-        opRequestExamples( api, path, pathItem, "OPTIONS", pathItem.getOptions()),
-        opRequestExamples( api, path, pathItem, "HEAD", pathItem.getHead()),
-        opRequestExamples( api, path, pathItem, "PATCH", pathItem.getPatch()),
-        opRequestExamples( api, path, pathItem, "TRACE", pathItem.getTrace()))
+      modelledOperations( path, pathItem).entrySet().stream()
+      .map( op -> opModeller.functionDef( this, api, path, pathItem, op.getKey(), op.getValue()))
+      .collect( toList())
+      .stream());
+    }
+
+  /**
+   * Returns the {@link FunctionInputDef function input definitions} created by the given {@link OperationModeller}
+   * for all API operations, modelling up to {@link ModelOptions#getParallelism} operations concurrently.
+   * <P/>
+   * Each operation is modelled using a separate copy of the parts of the API definition that it uses. Conditions
+   * reported for each operation are delivered in the same order as sequential modelling. The analysis of component
+   * schemas is shared among all operations using a {@link SchemaAnalysisCache}.
+   */
+  private Stream<FunctionInputDef> concurrentFunctionDefs( OpenAPI api, OperationModeller opModeller)
+    {
+    SchemaAnalysisCache analysisCache = new SchemaAnalysisCache();
+    List<OperationTask> tasks =
+      modelledPaths( api)
+      .flatMap(
+        path ->
+        modelledOperations( path.getKey(), path.getValue()).keySet().stream()
+        .map( opName -> new OperationTask( api, path.getKey(), opName, opModeller, analysisCache)))
+      .collect( toList());
+
+    List<FunctionInputDef> functionDefs = new ArrayList<FunctionInputDef>();
+    if( !tasks.isEmpty())
+      {
+      ExecutorService executor = Executors.newFixedThreadPool( Math.min( getOptions().getParallelism(), tasks.size()));
+      try
+        {
+        List<Future<FunctionInputDef>> results = executor.invokeAll( tasks);
+        for( int i = 0; i < tasks.size(); i++)
+          {
+          OperationTask task = tasks.get(i);
+          try
+            {
+            functionDefs.add( results.get(i).get());
+            }
+          catch( ExecutionException e)
+            {
+            throw
+              Optional.of( e.getCause())
+              .filter( RuntimeException.class::isInstance)
+              .map( RuntimeException.class::cast)
+              .orElseGet( () -> new OpenApiException( task.getLocation(), e.getCause()));
+            }
+          finally
+            {
+            task.getConditions().deliverTo( getNotifier());
+            }
+          }
+        }
+      catch( InterruptedException e)
+        {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException( "Operation modelling interrupted", e);
+        }
+      finally
+        {
+        executor.shutdownNow();
+        }
+      }
+    
+    return functionDefs.stream();
+    }
 
-      // Skip if operation not defined
-      .filter( Objects::nonNull));
+  /**
+   * Returns the operations defined for the given path, in the standard order.
+   */
+  private static Map<String,Operation> pathOperations( PathItem pathItem)
+    {
+    Map<String,Operation> operations =
+      new MapBuilder<String,Operation>( LinkedHashMap.class)
+      .put( "GET", pathItem.getGet())
+      .put( "PUT", pathItem.getPut())
+      .put( "POST", pathItem.getPost())
+      .put( "DELETE", pathItem.getDelete())
+      .put( "OPTIONS", pathItem.getOptions())
+      .put( "HEAD", pathItem.getHead())
+      .put( "PATCH", pathItem.getPatch())
+      .put( "TRACE", pathItem.getTrace())
+      .build();
+
+    // Skip if operation not defined
+    operations.values().removeIf( Objects::isNull);
+    return operations;
     }
 
   /**
@@ -379,7 +481,7 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
           .has( "title", title)
           .has( "version", info.getVersion())
           .hasIf( "server", serverUriUsed( api.getServers()))
-          .functions( entriesOf( api.getPaths()).flatMap( path -> pathResponseDefs( api, path.getKey(), path.getValue())))
+          .functions( functionDefs( api, InputModeller::opResponseDef))
           .build();
 
         return
@@ -389,29 +491,6 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
         });
     }
 
-  /**
-   * Returns a response {@link FunctionInputDef function input definition} for each of the API operations for the given path.
-   */
-  private Stream<FunctionInputDef> pathResponseDefs( OpenAPI api, String path, PathItem pathItem)
-    {
-    return
-      resultFor( path,
-
-      () ->
-      Stream.of(
-        opResponseDef( api, path, pathItem, "GET", pathItem.getGet()),
-        opResponseDef( api, path, pathItem, "PUT", pathItem.getPut()),
-        opResponseDef( api, path, pathItem, "POST", pathItem.getPost()),
-        opResponseDef( api, path, pathItem, "DELETE", pathItem.getDelete()),
-        opResponseDef( api, path, pathItem, "OPTIONS", pathItem.getOptions()),
-        opResponseDef( api, path, pathItem, "HEAD", pathItem.getHead()),
-        opResponseDef( api, path, pathItem, "PATCH", pathItem.getPatch()),
-        opResponseDef( api, path, pathItem, "TRACE", pathItem.getTrace()))
-
-      // Skip if operation not defined
-      .filter( Objects::nonNull));
-    }
-
   /**
    * Returns the given {@link FunctionInputDef function input definition} after removing failure values for all variables.
    */
@@ -4019,6 +4098,69 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
     private boolean allRequired_;
     }
 
+  /**
+   * Creates the {@link FunctionInputDef function input definition} for an API operation.
+   */
+  @FunctionalInterface
+  private interface OperationModeller
+    {
+    public FunctionInputDef functionDef( InputModeller modeller, OpenAPI api, String path, PathItem pathItem, String opName, Operation op);
+    }
+
+  /**
+   * Models a single API operation, using a separate copy of the operation and the components that it references.
+   */
+  private class OperationTask implements Callable<FunctionInputDef>
+    {
+    public OperationTask( OpenAPI api, String path, String opName, OperationModeller opModeller, SchemaAnalysisCache analysisCache)
+      {
+      api_ = api;
+      path_ = path;
+      opName_ = opName;
+      opModeller_ = opModeller;
+      analysisCache_ = analysisCache;
+      location_ = Stream.concat( Arrays.stream( getContext().getLocation()), Stream.of( path)).toArray( String[]::new);
+      conditions_ = new DeferredNotifier();
+      }
+
+    @Override
+    public FunctionInputDef call()
+      {
+      OpenAPI api = OpenApiCopier.copyOf( api_, path_, pathOperations( api_.getPaths().get( path_)).get( opName_));
+      PathItem pathItem = api.getPaths().get( path_);
+
+      InputModeller modeller = new InputModeller( view_, getOptions(), new OpenApiContext( location_)) {};
+      modeller.setNotifier( conditions_);
+      modeller.analyzer_.setAnalysisCache( analysisCache_);
+
+      return opModeller_.functionDef( modeller, api, path_, pathItem, opName_, pathOperations( pathItem).get( opName_));
+      }
+
+    /**
+     * Returns the location of this operation.
+     */
+    public String[] getLocation()
+      {
+      return Stream.concat( Arrays.stream( location_), Stream.of( opName_)).toArray( String[]::new);
+      }
+
+    /**
+     * Returns the conditions reported for this operation.
+     */
+    public DeferredNotifier getConditions()
+      {
+      return conditions_;
+      }
+
+    private final OpenAPI api_;
+    private final String path_;
+    private final String opName_;
+    private final OperationModeller opModeller_;
+    private final SchemaAnalysisCache analysisCache_;
+    private final String[] location_;
+    private final DeferredNotifier conditions_;
+    }
+
   private final View view_;
   private final ModelOptions options_;
   private final SchemaAnalyzer analyzer_;
@@ -9,9 +9,14 @@ package org.cornutum.tcases.openapi;
 
 import org.cornutum.tcases.util.Notifier;
 import org.cornutum.tcases.util.ToString;
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Defines options used to generate Tcases models from OpenAPI models.
@@ -42,6 +47,7 @@ public class ModelOptions
     setConditionNotifier( ModelConditionNotifier.log());
     setSource( Source.SCHEMAS);
     setServerSelector( ServerSelector.atIndex(0));
+    setParallelism( 1);
     }
 
   /**
@@ -140,6 +146,132 @@ public class ModelOptions
     return serverSelector_;
     }
 
+  /**
+   * Changes the maximum number of API operations that are modelled concurrently. If less than or equal to 1,
+   * all operations are modelled sequentially.
+   */
+  public void setParallelism( int parallelism)
+    {
+    parallelism_ = Math.max( 1, parallelism);
+    }
+
+  /**
+   * Returns the maximum number of API operations that are modelled concurrently.
+   */
+  public int getParallelism()
+    {
+    return parallelism_;
+    }
+
+  /**
+   * Changes the maximum number of alternatives created when expanding the combinations of "allOf", "anyOf",
+   * "oneOf", and "not" assertions for a schema. If null, the number of alternatives is unlimited.
+   * <P/>
+   * When this limit is exceeded, a warning is reported and any remaining alternatives are ignored, so that the input
+   * model for the schema covers only a subset of its instances. An ignored alternative may be the only one that makes
+   * an input invalid, so a request case generated to fail may instead be a valid request.
+   */
+  public void setMaxAlternatives( Integer maxAlternatives)
+    {
+    maxAlternatives_ = Optional.ofNullable( maxAlternatives).map( max -> Math.max( 1, max)).orElse( null);
+    }
+
+  /**
+   * Returns the maximum number of alternatives created when expanding the combinations of "allOf", "anyOf",
+   * "oneOf", and "not" assertions for a schema. If null, the number of alternatives is unlimited.
+   */
+  public Integer getMaxAlternatives()
+    {
+    return maxAlternatives_;
+    }
+
+  /**
+   * Changes the API resource paths that are modelled. If null, all paths are modelled.
+   */
+  public void setPaths( Iterable<String> paths)
+    {
+    paths_ =
+      Optional.ofNullable( toStream( paths))
+      .map( s -> s.collect( toSet()))
+      .orElse( null);
+    }
+
+  /**
+   * Returns the API resource paths that are modelled or null if all paths are modelled.
+   */
+  public Set<String> getPaths()
+    {
+    return
+      Optional.ofNullable( paths_)
+      .map( Collections::unmodifiableSet)
+      .orElse( null);
+    }
+
+  /**
+   * Changes the API operations that are modelled. If null, all operations are modelled.
+   */
+  public void setOperations( Iterable<String> operations)
+    {
+    operations_ =
+      Optional.ofNullable( toStream( operations))
+      .map( s -> s.collect( toSet()))
+      .orElse( null);
+    }
+
+  /**
+   * Returns the API operations that are modelled or null if all operations are modelled.
+   */
+  public Set<String> getOperations()
+    {
+    return
+      Optional.ofNullable( operations_)
+      .map( Collections::unmodifiableSet)
+      .orElse( null);
+    }
+
+  /**
+   * Returns true if the given API resource path is modelled.
+   */
+  public boolean isPathModelled( String path)
+    {
+    return paths_ == null || paths_.stream().anyMatch( p -> p.equalsIgnoreCase( path));
+    }
+
+  /**
+   * Returns true if the given API operation is modelled.
+   */
+  public boolean isOperationModelled( String operation)
+    {
+    return operations_ == null || operations_.stream().anyMatch( op -> op.equalsIgnoreCase( operation));
+    }
+
+  /**
+   * Changes the shard of API operations that are modelled. If null, operations from all shards are modelled.
+   */
+  public void setShard( Shard shard)
+    {
+    shard_ = shard;
+    }
+
+  /**
+   * Returns the shard of API operations that are modelled or null if operations from all shards are modelled.
+   */
+  public Shard getShard()
+    {
+    return shard_;
+    }
+
+  /**
+   * Returns true if the given operation for the given API resource path is modelled.
+   */
+  public boolean isOperationModelled( String path, String operation)
+    {
+    return
+      isPathModelled( path)
+      && isOperationModelled( operation)
+      && (shard_ == null || shard_.contains( path, operation));
+    }
+
   /**
    * Returns a new ModelOptions builder.
    */
@@ -166,6 +298,11 @@ public class ModelOptions
       .append( "readOnlyEnforced", isReadOnlyEnforced())
       .append( "writeOnlyEnforced", isWriteOnlyEnforced())
       .append( "server", Optional.ofNullable( String.valueOf( getServerUri())).orElse( String.valueOf( getServerSelector())))
+      .append( "parallelism", getParallelism())
+      .append( "maxAlternatives", getMaxAlternatives())
+      .append( "paths", getPaths())
+      .append( "operations", getOperations())
+      .append( "shard", getShard())
       .toString();
     }
   
@@ -189,7 +326,12 @@ public class ModelOptions
         .writeOnlyEnforced( defaults.isWriteOnlyEnforced())
         .source( defaults.getSource())
         .serverUri( defaults.getServerUri())
-        .serverSelector( defaults.getServerSelector());
+        .serverSelector( defaults.getServerSelector())
+        .parallelism( defaults.getParallelism())
+        .maxAlternatives( defaults.getMaxAlternatives())
+        .paths( defaults.getPaths())
+        .operations( defaults.getOperations())
+        .shard( defaults.getShard());
         }
       }
 
@@ -239,6 +381,46 @@ public class ModelOptions
       return this;
       }
 
+    public Builder parallelism( int parallelism)
+      {
+      modelOptions_.setParallelism( parallelism);
+      return this;
+      }
+
+    public Builder maxAlternatives( Integer maxAlternatives)
+      {
+      modelOptions_.setMaxAlternatives( maxAlternatives);
+      return this;
+      }
+
+    public Builder paths( Iterable<String> paths)
+      {
+      modelOptions_.setPaths( paths);
+      return this;
+      }
+
+    public Builder paths( String... paths)
+      {
+      return paths( Arrays.asList( paths));
+      }
+
+    public Builder operations( Iterable<String> operations)
+      {
+      modelOptions_.setOperations( operations);
+      return this;
+      }
+
+    public Builder operations( String... operations)
+      {
+      return operations( Arrays.asList( operations));
+      }
+
+    public Builder shard( Shard shard)
+      {
+      modelOptions_.setShard( shard);
+      return this;
+      }
+
     public ModelOptions build()
       {
       return modelOptions_;
@@ -253,4 +435,9 @@ public class ModelOptions
   private Source source_;
   private URI serverUri_;
   private ServerSelector serverSelector_;
+  private int parallelism_;
+  private Integer maxAlternatives_;
+  private Set<String> paths_;
+  private Set<String> operations_;
+  private Shard shard_;
   }
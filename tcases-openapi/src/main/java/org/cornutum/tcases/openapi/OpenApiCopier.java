@@ -0,0 +1,373 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Creates a deep copy of an {@link OpenAPI} object graph.
+ * <P/>
+ * Analyzing an OpenAPI definition updates its schema objects, so concurrent analysis requires each thread to
+ * use its own copy. A copy preserves the sharing of objects -- for example, a component schema referenced by many
+ * operations -- and the cycles of the original graph. A copy of an OpenAPI definition contains none of the Tcases
+ * extensions created by a previous analysis of the original. A copy of a {@link Dnf} retains the results of schema analysis,
+ * so that it can be reused by another thread.
+ * <P/>
+ * To model a single operation, only the operation and the components that it references are needed. A copy made for
+ * a single operation leaves out everything else, so its cost depends on the size of the operation rather than the
+ * size of the whole definition.
+ */
+public final class OpenApiCopier
+  {
+  /**
+   * Creates a new OpenApiCopier instance.
+   */
+  private OpenApiCopier( Predicate<Object> excluded)
+    {
+    copies_ = new IdentityHashMap<Object,Object>();
+    copies_.put( Dnf.UNDEFINED, Dnf.UNDEFINED);
+    excluded_ = excluded;
+    }
+
+  /**
+   * Returns a deep copy of the given OpenAPI definition.
+   */
+  public static OpenAPI copyOf( OpenAPI api)
+    {
+    return (OpenAPI) new OpenApiCopier( OpenApiCopier::isTcasesExtension).copy( api);
+    }
+
+  /**
+   * Returns a deep copy of the given OpenAPI definition that contains only the given operation for the given path,
+   * along with the components that it references and all security schemes.
+   */
+  public static OpenAPI copyOf( OpenAPI api, String path, Operation op)
+    {
+    return new OpenApiCopier( OpenApiCopier::isTcasesExtension).copyOperation( api, path, op);
+    }
+
+  /**
+   * Returns a deep copy of the given {@link Dnf}, including the analysis results for all alternative schemas.
+   */
+  public static Dnf copyOf( Dnf dnf)
+    {
+    return (Dnf) new OpenApiCopier( MODELLING_EXTENSIONS::contains).copy( dnf);
+    }
+
+  /**
+   * Returns a copy of the given OpenAPI definition that contains only the given operation for the given path.
+   */
+  @SuppressWarnings("unchecked")
+  private OpenAPI copyOperation( OpenAPI api, String path, Operation op)
+    {
+    refs_ = new ArrayDeque<String>();
+
+    // Copy only the given operation for this path...
+    PathItem pathItem = api.getPaths().get( path);
+    pathItem.readOperations().stream().filter( other -> other != op).forEach( other -> copies_.put( other, null));
+
+    Paths paths = new Paths();
+    paths.addPathItem( path, (PathItem) copy( pathItem));
+    paths.setExtensions( (Map<String,Object>) copy( api.getPaths().getExtensions()));
+    copies_.put( api.getPaths(), paths);
+
+    // ... and only the components that it references.
+    Components components = api.getComponents();
+    if( components != null)
+      {
+      Map<String,Map<?,?>> componentMaps = componentMaps( components);
+
+      // Security schemes are referenced by name, not by "$ref", so all of them are copied.
+      copy( components.getSecuritySchemes());
+
+      Set<String> referenced = new HashSet<String>();
+      for( String ref; (ref = refs_.poll()) != null; )
+        {
+        if( referenced.add( ref))
+          {
+          copy( componentFor( componentMaps, ref));
+          }
+        }
+
+      componentMaps.forEach( (type, members) -> {
+        if( !copies_.containsKey( members))
+          {
+          Map<Object,Object> copyMembers = new LinkedHashMap<Object,Object>();
+          members.forEach( (name, member) -> {
+            // Include any component referenced, either by "$ref" or directly by a resolved object.
+            if( referenced.contains( String.format( "%s%s/%s", COMPONENTS_REF, type, name)) || copies_.containsKey( member))
+              {
+              copyMembers.put( name, copies_.get( member));
+              }
+            });
+          copies_.put( members, copyMembers);
+          }
+        });
+      }
+
+    refs_ = null;
+    return (OpenAPI) copy( api);
+    }
+
+  /**
+   * Returns the component maps of the given {@link Components}, indexed by the component type used in a <CODE>$ref</CODE>.
+   */
+  private static Map<String,Map<?,?>> componentMaps( Components components)
+    {
+    Map<String,Map<?,?>> componentMaps = new LinkedHashMap<String,Map<?,?>>();
+    for( Field field : Components.class.getDeclaredFields())
+      {
+      if( !(Modifier.isStatic( field.getModifiers()) || field.isSynthetic() || "extensions".equals( field.getName()))
+          && Map.class.isAssignableFrom( field.getType()))
+        {
+        try
+          {
+          field.setAccessible( true);
+          Optional.ofNullable( (Map<?,?>) field.get( components)).ifPresent( members -> componentMaps.put( field.getName(), members));
+          }
+        catch( Exception e)
+          {
+          throw new IllegalStateException( String.format( "Can't read Components.%s", field.getName()), e);
+          }
+        }
+      }
+
+    return componentMaps;
+    }
+
+  /**
+   * Returns the component identified by the given <CODE>$ref</CODE>. Returns null if no such component is defined.
+   */
+  private static Object componentFor( Map<String,Map<?,?>> componentMaps, String ref)
+    {
+    String[] typeAndName =
+      ref.startsWith( COMPONENTS_REF)
+      ? ref.substring( COMPONENTS_REF.length()).split( "/", 2)
+      : new String[0];
+
+    return
+      typeAndName.length == 2
+      ? Optional.ofNullable( componentMaps.get( typeAndName[0])).map( members -> members.get( typeAndName[1])).orElse( null)
+      : null;
+    }
+
+  /**
+   * Returns a copy of the given object.
+   */
+  private Object copy( Object original)
+    {
+    Object copy;
+
+    if( original == null)
+      {
+      copy = null;
+      }
+    else if( copies_.containsKey( original))
+      {
+      copy = copies_.get( original);
+      }
+    else if( original instanceof JsonNode)
+      {
+      copy = ((JsonNode) original).deepCopy();
+      copies_.put( original, copy);
+      }
+    else if( original instanceof Dnf)
+      {
+      copy = copyDnf( (Dnf) original);
+      }
+    else if( isModelObject( original))
+      {
+      copy = copyModelObject( original);
+      }
+    else if( original instanceof Map)
+      {
+      Map<?,?> originalMap = (Map<?,?>) original;
+      Map<Object,Object> copyMap = copyEntries( originalMap, new LinkedHashMap<Object,Object>());
+
+      // An extensions map that contains only excluded extensions is copied as undefined.
+      copy = copyMap.isEmpty() && !originalMap.isEmpty()? null : copyMap;
+      }
+    else if( original instanceof List)
+      {
+      copy = copyMembers( (List<?>) original, new ArrayList<Object>());
+      }
+    else if( original instanceof Set)
+      {
+      copy = copyMembers( (Set<?>) original, new LinkedHashSet<Object>());
+      }
+    else
+      {
+      // Otherwise, assume an immutable value that can be shared.
+      copy = original;
+      }
+
+    return copy;
+    }
+
+  /**
+   * Returns a copy of the given OpenAPI model object.
+   */
+  @SuppressWarnings("unchecked")
+  private Object copyModelObject( Object original)
+    {
+    Object copy;
+    try
+      {
+      copy = original.getClass().getConstructor().newInstance();
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't create a copy of %s", original.getClass().getName()), e);
+      }
+    copies_.put( original, copy);
+
+    // Some model objects are collections...
+    if( original instanceof Map)
+      {
+      copyEntries( (Map<Object,Object>) original, (Map<Object,Object>) copy);
+      }
+    else if( original instanceof Collection)
+      {
+      copyMembers( (Collection<Object>) original, (Collection<Object>) copy);
+      }
+
+    // ... with additional properties.
+    for( Class<?> type = original.getClass(); isModelType( type); type = type.getSuperclass())
+      {
+      for( Field field : type.getDeclaredFields())
+        {
+        if( !(Modifier.isStatic( field.getModifiers()) || field.isSynthetic()))
+          {
+          try
+            {
+            field.setAccessible( true);
+            Object value = field.get( original);
+            field.set( copy, copy( value));
+
+            if( refs_ != null && "$ref".equals( field.getName()) && value instanceof String)
+              {
+              refs_.add( (String) value);
+              }
+            }
+          catch( Exception e)
+            {
+            throw new IllegalStateException( String.format( "Can't copy %s.%s", type.getName(), field.getName()), e);
+            }
+          }
+        }
+      }
+
+    return copy;
+    }
+
+  /**
+   * Returns a copy of the given {@link Dnf}.
+   */
+  private Dnf copyDnf( Dnf original)
+    {
+    Dnf copy = new Dnf();
+    copies_.put( original, copy);
+    original.getAlternatives().forEach( alternative -> copy.addAlternative( (Schema<?>) copy( alternative)));
+
+    return copy;
+    }
+
+  /**
+   * Adds copies of the given original entries to the given map, excluding any excluded extensions.
+   */
+  private Map<Object,Object> copyEntries( Map<?,?> original, Map<Object,Object> copy)
+    {
+    copies_.put( original, copy);
+    original.forEach( (key, value) -> {
+      if( !excluded_.test( key))
+        {
+        copy.put( copy( key), copy( value));
+        }
+      });
+
+    return copy;
+    }
+
+  /**
+   * Adds copies of the given original members to the given collection.
+   */
+  private Collection<Object> copyMembers( Collection<?> original, Collection<Object> copy)
+    {
+    copies_.put( original, copy);
+    original.forEach( member -> copy.add( copy( member)));
+    return copy;
+    }
+
+  /**
+   * Returns true if the given object is an OpenAPI model object.
+   */
+  private static boolean isModelObject( Object object)
+    {
+    return isModelType( object.getClass()) && !(object instanceof Enum);
+    }
+
+  /**
+   * Returns true if the given class defines an OpenAPI model object.
+   */
+  private static boolean isModelType( Class<?> type)
+    {
+    return type != null && type.getName().startsWith( MODEL_PACKAGE);
+    }
+
+  /**
+   * Returns true if the given map key identifies a Tcases extension.
+   */
+  private static boolean isTcasesExtension( Object key)
+    {
+    return key instanceof String && ((String) key).startsWith( TCASES_EXTENSION);
+    }
+
+  private final Map<Object,Object> copies_;
+  private final Predicate<Object> excluded_;
+  private Deque<String> refs_;
+
+  private static final String MODEL_PACKAGE = "io.swagger.v3.oas.models.";
+  private static final String TCASES_EXTENSION = "x-tcases-";
+  private static final String COMPONENTS_REF = "#/components/";
+
+  /**
+   * Extensions that record the progress of input modelling, rather than the results of schema analysis.
+   */
+  private static final Set<Object> MODELLING_EXTENSIONS =
+    Stream.of(
+      SchemaExtensions.EXT_MAX_VALUES,
+      SchemaExtensions.EXT_MODELLING_INPUT,
+      SchemaExtensions.EXT_NULL_CHECKED,
+      SchemaExtensions.EXT_TYPE_CHECKED)
+    .collect( toSet());
+  }
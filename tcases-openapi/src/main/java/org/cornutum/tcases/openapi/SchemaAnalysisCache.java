@@ -0,0 +1,215 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.cornutum.tcases.util.Notifier;
+import org.cornutum.tcases.util.ToString;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Shares the results of analyzing component schemas among all of the operations modelled in a single run.
+ * <P/>
+ * The analysis of a component schema is identified by its <CODE>$ref</CODE> and the instance types that are valid
+ * in the context where it is used. The cache retains a private copy of each analysis result, so that a result can
+ * be reused by any thread, and each thread receives its own copy of a cached result. The conditions reported
+ * while analyzing a component schema are also retained, so that they can be reported again wherever the cached
+ * result is used.
+ */
+public class SchemaAnalysisCache
+  {
+  /**
+   * Creates a new SchemaAnalysisCache instance.
+   */
+  public SchemaAnalysisCache()
+    {
+    }
+
+  /**
+   * If a result has been cached for the given component schema and valid types, returns a copy of the cached result.
+   * Otherwise, returns <CODE>Optional.empty()</CODE>.
+   */
+  public Optional<Analysis> get( String ref, Set<String> validTypes)
+    {
+    return
+      Optional.ofNullable( analyses_.get( keyOf( ref, validTypes)))
+      .map( Analysis::copy);
+    }
+
+  /**
+   * Caches a copy of the result of analyzing the given component schema for the given valid types.
+   */
+  public void put( String ref, Set<String> validTypes, Analysis analysis)
+    {
+    analyses_.putIfAbsent( keyOf( ref, validTypes), analysis.copy());
+    }
+
+  /**
+   * Returns the number of results cached.
+   */
+  public int size()
+    {
+    return analyses_.size();
+    }
+
+  /**
+   * Returns the cache key for the given component schema and valid types.
+   */
+  private static Map.Entry<String,Set<String>> keyOf( String ref, Set<String> validTypes)
+    {
+    return new SimpleEntry<String,Set<String>>( ref, Optional.ofNullable( validTypes).map( TreeSet<String>::new).orElse( null));
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( "analyses", analyses_.size())
+      .toString();
+    }
+
+  private final Map<Map.Entry<String,Set<String>>,Analysis> analyses_ = new ConcurrentHashMap<Map.Entry<String,Set<String>>,Analysis>();
+
+  /**
+   * Represents the result of analyzing a component schema.
+   */
+  public static class Analysis
+    {
+    /**
+     * Creates a new Analysis instance.
+     */
+    public Analysis( Dnf dnf, Conditions conditions)
+      {
+      dnf_ = dnf;
+      conditions_ = conditions;
+      }
+
+    /**
+     * Returns the {@link Dnf} for the component schema.
+     */
+    public Dnf getDnf()
+      {
+      return dnf_;
+      }
+
+    /**
+     * Returns the conditions reported while analyzing the component schema.
+     */
+    public Conditions getConditions()
+      {
+      return conditions_;
+      }
+
+    /**
+     * Returns a copy of this analysis.
+     */
+    private Analysis copy()
+      {
+      return new Analysis( OpenApiCopier.copyOf( getDnf()), getConditions());
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.getBuilder( this)
+        .append( getDnf())
+        .toString();
+      }
+
+    private final Dnf dnf_;
+    private final Conditions conditions_;
+    }
+
+  /**
+   * Records the conditions reported while analyzing a component schema. Each condition is reported to the given
+   * {@link Notifier} and recorded with a location relative to the given base location.
+   */
+  public static class Conditions implements Notifier
+    {
+    /**
+     * Creates a new Conditions instance.
+     */
+    public Conditions( Notifier notifier, String[] baseLocation)
+      {
+      notifier_ = notifier;
+      base_ = baseLocation.length;
+      }
+
+    @Override
+    public void warn( String[] location, String reason)
+      {
+      notifier_.warn( location, reason);
+      String[] relative = relativeTo( location);
+      conditions_.add( notifier -> notifier.warn( relative, reason));
+      }
+
+    @Override
+    public void error( String[] location, String reason, String resolution)
+      {
+      notifier_.error( location, reason, resolution);
+      String[] relative = relativeTo( location);
+      conditions_.add( notifier -> notifier.error( relative, reason, resolution));
+      }
+
+    /**
+     * Reports all recorded conditions to the given {@link Notifier}, relative to the given location.
+     */
+    public void deliverTo( Notifier notifier, String[] location)
+      {
+      Notifier relocated =
+        new Notifier()
+          {
+          @Override
+          public void warn( String[] relative, String reason)
+            {
+            notifier.warn( locationOf( location, relative), reason);
+            }
+
+          @Override
+          public void error( String[] relative, String reason, String resolution)
+            {
+            notifier.error( locationOf( location, relative), reason, resolution);
+            }
+          };
+
+      conditions_.forEach( condition -> condition.accept( relocated));
+      }
+
+    /**
+     * Returns the given location relative to the base location.
+     */
+    private String[] relativeTo( String[] location)
+      {
+      return Arrays.copyOfRange( location, Math.min( base_, location.length), location.length);
+      }
+
+    /**
+     * Returns the given relative location appended to the given location.
+     */
+    private static String[] locationOf( String[] location, String[] relative)
+      {
+      return Stream.concat( Arrays.stream( location), Arrays.stream( relative)).toArray( String[]::new);
+      }
+
+    private final Notifier notifier_;
+    private final int base_;
+    private final List<Consumer<Notifier>> conditions_ = new ArrayList<Consumer<Notifier>>();
+    }
+  }
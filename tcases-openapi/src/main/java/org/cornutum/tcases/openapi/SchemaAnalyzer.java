@@ -18,18 +18,24 @@ import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.collections4.SetUtils;
 
+import org.cornutum.tcases.openapi.SchemaAnalysisCache.Analysis;
+import org.cornutum.tcases.openapi.SchemaAnalysisCache.Conditions;
 import org.cornutum.tcases.util.ContextHandler;
 import org.cornutum.tcases.util.MapBuilder;
+import org.cornutum.tcases.util.Notifier;
 
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -56,6 +62,8 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
    */
   public Schema<?> analyze( OpenAPI api, Schema<?> schema)
     {
+    setComponentRefs( api);
+
     Schema<?> resolved = resolve( api, schema);
     analyzeValidTypes( api, resolved);
     if( Dnf.unsatisfiable( analyzeDnf( resolved)))
@@ -356,19 +364,109 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
       Optional.ofNullable( getDnf( schema))
       .orElseGet( () -> {
 
-        setDnf(
-          schema,
-          withWarningIf(
-            toDnf( schema, validTypes),
-            Dnf::unsatisfiable,
-            String.format( "This schema can't be satisfied by any instance of types=%s", validTypes)));
-
-        analyzeSubDnfs( schema);
+        Optional<String> componentRef = getComponentRef( schema);
+        if( componentRef.isPresent())
+          {
+          analyzeComponentDnf( componentRef.get(), schema, validTypes);
+          }
+        else
+          {
+          analyzeDnfFor( schema, validTypes);
+          }
         
         return getDnf( schema);
         });
     }
 
+  /**
+   * Determines the disjunctive normal form for the given schema that validates the given instance types.
+   */
+  private void analyzeDnfFor( Schema<?> schema, Set<String> validTypes)
+    {
+    setDnf(
+      schema,
+      withWarningIf(
+        withExpansionLimit( () -> toDnf( schema, validTypes)),
+        Dnf::unsatisfiable,
+        String.format( "This schema can't be satisfied by any instance of types=%s", validTypes)));
+
+    analyzeSubDnfs( schema);
+    }
+
+  /**
+   * Determines the disjunctive normal form for the given component schema that validates the given instance types,
+   * reusing the result cached by the {@link #getAnalysisCache analysis cache}, if any.
+   */
+  private void analyzeComponentDnf( String componentRef, Schema<?> schema, Set<String> validTypes)
+    {
+    Optional<Analysis> cached = getAnalysisCache().get( componentRef, validTypes);
+    if( cached.isPresent())
+      {
+      setDnf( schema, cached.get().getDnf());
+      cached.get().getConditions().deliverTo( getContext().getNotifier(), getContext().getLocation());
+      }
+    else
+      {
+      Notifier notifier = getContext().getNotifier();
+      Conditions conditions = new Conditions( notifier, getContext().getLocation());
+      getContext().setNotifier( conditions);
+      try
+        {
+        analyzeDnfFor( schema, validTypes);
+        }
+      finally
+        {
+        getContext().setNotifier( notifier);
+        }
+
+      getAnalysisCache().put( componentRef, validTypes, new Analysis( getDnf( schema), conditions));
+      }
+    }
+
+  /**
+   * If the given schema is a component schema shared through the {@link #getAnalysisCache analysis cache}, returns
+   * its reference. Otherwise, returns <CODE>Optional.empty()</CODE>.
+   */
+  private Optional<String> getComponentRef( Schema<?> schema)
+    {
+    return
+      Optional.ofNullable( getAnalysisCache())
+      .flatMap( cache -> Optional.ofNullable( componentRefs_.get( schema)));
+    }
+
+  /**
+   * Identifies the component schemas defined by the given OpenAPI definition.
+   */
+  private void setComponentRefs( OpenAPI api)
+    {
+    if( getAnalysisCache() != null && componentsApi_ != api)
+      {
+      componentRefs_.clear();
+      Optional.ofNullable( api.getComponents())
+        .flatMap( components -> Optional.ofNullable( components.getSchemas()))
+        .ifPresent( schemas -> schemas.forEach( (name, schema) -> componentRefs_.put( schema, COMPONENTS_SCHEMAS_REF + name)));
+
+      componentsApi_ = api;
+      }
+    }
+
+  /**
+   * Changes the cache used to share the analysis of component schemas.
+   */
+  public void setAnalysisCache( SchemaAnalysisCache cache)
+    {
+    analysisCache_ = cache;
+    componentsApi_ = null;
+    }
+
+  /**
+   * Returns the cache used to share the analysis of component schemas.
+   */
+  public SchemaAnalysisCache getAnalysisCache()
+    {
+    return analysisCache_;
+    }
+
   /**
    * Returns the disjunctive normal form of the given schema.
    */
@@ -417,7 +515,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
         setDnf(
           schema,
           withWarningIf(
-            toNotDnf( schema, validTypes),
+            withExpansionLimit( () -> toNotDnf( schema, validTypes)),
             Dnf::unsatisfiable,
             String.format( "This schema can't be satisfied by any instance of types=%s", validTypes)));
 
@@ -592,7 +690,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
         Dnf.undefined( dnf2)?
         dnf2 :
 
-        Dnf.of(
+        boundedDnf(
           dnf1.getAlternatives().stream()
           .flatMap( a1 -> {
             List<Schema<?>> c2 = dnf2.getCompatibleAlternatives( a1.getType());
@@ -637,7 +735,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
       ? Dnf.NONEXISTENT
 
       // No, result is disjunction of exclusive choices
-      : Dnf.of( oneOfOnly.stream().flatMap( dnf -> dnf.getAlternatives().stream()));
+      : boundedDnf( oneOfOnly.stream().flatMap( dnf -> dnf.getAlternatives().stream()));
     }
 
   /**
@@ -727,7 +825,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
       oneOf( choices) :
 
       // Yes, include alternatives for...
-      Dnf.of(
+      boundedDnf(
         Stream.concat(
           // ... all paired schemas...
           pairs.stream()
@@ -756,7 +854,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
     return
       Optional.of( dnfs.stream().filter( Dnf::exists).collect( toList()))
       .filter( exist -> !exist.isEmpty())
-      .map( exist -> Dnf.of( exist.stream().flatMap( dnf -> dnf.getAlternatives().stream())))
+      .map( exist -> boundedDnf( exist.stream().flatMap( dnf -> dnf.getAlternatives().stream())))
       .orElse( Dnf.NONEXISTENT);
     }
 
@@ -1205,6 +1303,66 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
     return schema;
     }
 
+  /**
+   * Returns the disjunctive normal form with the given alternatives, limited to at most
+   * {@link #getMaxAlternatives maxAlternatives}, if defined. Any remaining alternatives are ignored.
+   */
+  private Dnf boundedDnf( Stream<Schema<?>> alternatives)
+    {
+    Integer maxAlternatives = getMaxAlternatives();
+    List<Schema<?>> bounded =
+      (maxAlternatives == null? alternatives : alternatives.limit( (long) maxAlternatives + 1))
+      .collect( toList());
+
+    if( maxAlternatives != null && bounded.size() > maxAlternatives)
+      {
+      bounded.remove( bounded.size() - 1);
+      expansionLimited_ = true;
+      }
+
+    return Dnf.of( bounded);
+    }
+
+  /**
+   * Returns the disjunctive normal form produced by the given supplier, notifying a warning if the
+   * number of alternatives was limited by {@link #getMaxAlternatives maxAlternatives}.
+   */
+  private Dnf withExpansionLimit( Supplier<Dnf> dnfSupplier)
+    {
+    boolean expansionLimited = expansionLimited_;
+    expansionLimited_ = false;
+    try
+      {
+      return
+        withWarningIf(
+          dnfSupplier.get(),
+          dnf -> expansionLimited_,
+          String.format( "Schema composition expands to more than maxAlternatives=%s -- ignoring remaining alternatives", getMaxAlternatives()));
+      }
+    finally
+      {
+      expansionLimited_ = expansionLimited;
+      }
+    }
+
+  /**
+   * Changes the maximum number of alternatives in the disjunctive normal form of a schema. If null, the number of
+   * alternatives is unlimited.
+   */
+  public void setMaxAlternatives( Integer maxAlternatives)
+    {
+    maxAlternatives_ = Optional.ofNullable( maxAlternatives).map( max -> Math.max( 1, max)).orElse( null);
+    }
+
+  /**
+   * Returns the maximum number of alternatives in the disjunctive normal form of a schema. If null, the number of
+   * alternatives is unlimited.
+   */
+  public Integer getMaxAlternatives()
+    {
+    return maxAlternatives_;
+    }
+
   /**
    * Returns the given result, notifying a warning if the given predicate is true.
    */
@@ -1216,4 +1374,12 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
       }
     return result;
     }
+  
+  private SchemaAnalysisCache analysisCache_;
+  private Integer maxAlternatives_;
+  private boolean expansionLimited_;
+  private OpenAPI componentsApi_;
+  private final Map<Schema<?>,String> componentRefs_ = new IdentityHashMap<Schema<?>,String>();
+
+  private static final String COMPONENTS_SCHEMAS_REF = "#/components/schemas/";
   }
@@ -1094,7 +1094,7 @@ public final class SchemaUtils
    */
   public static Schema<?> copySchema( Schema<?> schema)
     {
-    return combineSchemas( DEFAULT_CONTEXT, schema, EMPTY_SCHEMA);
+    return combineSchemas( new OpenApiContext(), schema, EMPTY_SCHEMA);
     }
 
   /**
@@ -1177,6 +1177,4 @@ public final class SchemaUtils
    * A schema that will invalidate any instance.
    */
   public static final Schema<?> FALSE_SCHEMA = falseSchema();
-
-  private static final OpenApiContext DEFAULT_CONTEXT = new OpenApiContext();
   }
@@ -0,0 +1,122 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Identifies one of a fixed number of disjoint partitions of the operations of an API.
+ * <P/>
+ * Each operation belongs to exactly one shard, determined by a hash of its resource path and operation name.
+ * This assignment is stable: it does not depend on the order or number of other operations in the API,
+ * so that each shard can be modelled independently, for example on a different build node.
+ */
+public class Shard
+  {
+  /**
+   * Creates a new Shard instance for shard <CODE>index</CODE> of <CODE>count</CODE> shards,
+   * where <CODE>1 &lt;= index &lt;= count</CODE>.
+   */
+  public Shard( int index, int count)
+    {
+    if( count < 1)
+      {
+      throw new IllegalArgumentException( String.format( "Invalid shard count=%s", count));
+      }
+    if( index < 1 || index > count)
+      {
+      throw new IllegalArgumentException( String.format( "Invalid shard index=%s -- must be in the range 1 to %s", index, count));
+      }
+
+    index_ = index;
+    count_ = count;
+    }
+
+  /**
+   * Returns the Shard defined by the given "<CODE>N/M</CODE>" string.
+   */
+  public static Shard parse( String shard)
+    {
+    Matcher matcher = SHARD_PATTERN.matcher( String.valueOf( shard).trim());
+    if( !matcher.matches())
+      {
+      throw new IllegalArgumentException( String.format( "Invalid shard='%s' -- must be of the form 'N/M'", shard));
+      }
+
+    return new Shard( Integer.parseInt( matcher.group(1)), Integer.parseInt( matcher.group(2)));
+    }
+
+  /**
+   * Returns the index of this shard, in the range 1 to {@link #getCount}.
+   */
+  public int getIndex()
+    {
+    return index_;
+    }
+
+  /**
+   * Returns the total number of shards.
+   */
+  public int getCount()
+    {
+    return count_;
+    }
+
+  /**
+   * Returns true if the given operation belongs to this shard.
+   */
+  public boolean contains( String path, String operation)
+    {
+    return indexOf( path, operation, getCount()) == getIndex();
+    }
+
+  /**
+   * Returns the index of the shard, from 1 to <CODE>count</CODE>, that contains the given operation.
+   */
+  public static int indexOf( String path, String operation, int count)
+    {
+    CRC32 crc = new CRC32();
+    crc.update( String.format( "%s %s", operation.toUpperCase(), path).getBytes( StandardCharsets.UTF_8));
+    return (int) (crc.getValue() % count) + 1;
+    }
+
+  @Override
+  public boolean equals( Object object)
+    {
+    Shard other =
+      object != null && object.getClass().equals( getClass())
+      ? (Shard) object
+      : null;
+
+    return
+      other != null
+      && other.getIndex() == getIndex()
+      && other.getCount() == getCount();
+    }
+
+  @Override
+  public int hashCode()
+    {
+    return Objects.hash( getClass(), getIndex(), getCount());
+    }
+
+  @Override
+  public String toString()
+    {
+    return String.format( "%s/%s", getIndex(), getCount());
+    }
+
+  private final int index_;
+  private final int count_;
+
+  private static final Pattern SHARD_PATTERN = Pattern.compile( "(\\d+)\\s*/\\s*(\\d+)");
+  }
@@ -0,0 +1,347 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.io;
+
+import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.Tcases;
+import org.cornutum.tcases.TcasesJson;
+import org.cornutum.tcases.io.SystemInputJsonReader;
+import org.cornutum.tcases.openapi.ModelOptions;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
+import org.cornutum.tcases.util.ToString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stores the models created for an OpenAPI definition, so that they can be reused when the same definition
+ * is modelled again.
+ * <P/>
+ * Cached models are stored as JSON documents in a cache directory. Models are identified by a key derived from
+ * the contents of the API definition file, the contents of any external files it references, the {@link ModelOptions}
+ * used, and the current Tcases version. A cached model is used only when all of these are unchanged.
+ * Note that conditions reported when a model is created are not reported again when the cached model is used.
+ */
+public class ModelCache
+  {
+  /**
+   * Creates a new ModelCache instance for the models of the given API definition file, stored in the given directory.
+   */
+  public ModelCache( File dir, File apiDef, String defaultDocType, ModelOptions options)
+    {
+    dir_ = Objects.requireNonNull( dir, "No cache directory defined");
+    key_ = keyFor( Objects.requireNonNull( apiDef, "No API definition file defined"), defaultDocType, options);
+    }
+
+  /**
+   * Returns the cached request input model, if any.
+   */
+  public Optional<SystemInputDef> getRequestInputModel()
+    {
+    return read( REQUESTS_INPUT, ModelCache::readInputModel);
+    }
+
+  /**
+   * Caches the given request input model.
+   */
+  public void putRequestInputModel( SystemInputDef inputDef)
+    {
+    write( REQUESTS_INPUT, output -> TcasesJson.writeInputModel( inputDef, output));
+    }
+
+  /**
+   * Returns the cached response input model, if any.
+   */
+  public Optional<SystemInputDef> getResponseInputModel()
+    {
+    return read( RESPONSES_INPUT, ModelCache::readInputModel);
+    }
+
+  /**
+   * Caches the given response input model.
+   */
+  public void putResponseInputModel( SystemInputDef inputDef)
+    {
+    write( RESPONSES_INPUT, output -> TcasesJson.writeInputModel( inputDef, output));
+    }
+
+  /**
+   * Returns the cached response definitions, if any.
+   */
+  public Optional<ResponsesDef> getResponsesDef()
+    {
+    return read( RESPONSES_DEF, ModelCache::readResponsesDef);
+    }
+
+  /**
+   * Caches the given response definitions.
+   */
+  public void putResponsesDef( ResponsesDef responses)
+    {
+    write( RESPONSES_DEF, output -> writeResponsesDef( responses, output));
+    }
+
+  /**
+   * Returns the cache directory.
+   */
+  public File getDir()
+    {
+    return dir_;
+    }
+
+  /**
+   * Returns the key that identifies the models in this cache.
+   */
+  public String getKey()
+    {
+    return key_;
+    }
+
+  /**
+   * Returns the cache file for the given type of model.
+   */
+  private File getFile( String model)
+    {
+    return new File( getDir(), String.format( "%s-%s.json", getKey(), model));
+    }
+
+  /**
+   * Returns the given type of model, if cached.
+   */
+  private <T> Optional<T> read( String model, Function<InputStream,T> reader)
+    {
+    File file = getFile( model);
+    T cached = null;
+    if( file.exists())
+      {
+      try( InputStream input = new FileInputStream( file))
+        {
+        cached = reader.apply( input);
+        logger_.info( "Using cached {} model from {}", model, file);
+        }
+      catch( Exception e)
+        {
+        logger_.warn( "Can't read cached {} model from {}, model will be recreated: {}", model, file, e.getMessage());
+        }
+      }
+
+    return Optional.ofNullable( cached);
+    }
+
+  /**
+   * Caches the given type of model.
+   */
+  private void write( String model, Consumer<OutputStream> writer)
+    {
+    File file = getFile( model);
+    File tempFile = null;
+    try
+      {
+      if( !getDir().exists() && !getDir().mkdirs())
+        {
+        throw new IllegalStateException( String.format( "Can't create cache directory=%s", getDir()));
+        }
+
+      // Write to a temporary file first, so that an incomplete model is never visible.
+      tempFile = File.createTempFile( getKey(), ".tmp", getDir());
+      try( OutputStream output = new FileOutputStream( tempFile))
+        {
+        writer.accept( output);
+        }
+      Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      logger_.info( "Cached {} model in {}", model, file);
+      }
+    catch( Exception e)
+      {
+      logger_.warn( "Can't cache {} model in {}: {}", model, file, e.getMessage());
+      Optional.ofNullable( tempFile).ifPresent( File::delete);
+      }
+    }
+
+  /**
+   * Returns the input model read from the given stream.
+   */
+  private static SystemInputDef readInputModel( InputStream input)
+    {
+    try( SystemInputJsonReader reader = new SystemInputJsonReader( input))
+      {
+      return reader.getSystemInputDef();
+      }
+    }
+
+  /**
+   * Returns the response definitions read from the given stream.
+   */
+  private static ResponsesDef readResponsesDef( InputStream input)
+    {
+    try( Reader reader = new InputStreamReader( input, StandardCharsets.UTF_8))
+      {
+      return ResponsesDef.read( reader);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( "Can't read response definitions", e);
+      }
+    }
+
+  /**
+   * Writes the response definitions to the given stream.
+   */
+  private static void writeResponsesDef( ResponsesDef responses, OutputStream output)
+    {
+    try( Writer writer = new OutputStreamWriter( output, StandardCharsets.UTF_8))
+      {
+      ResponsesDef.write( responses, writer);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( "Can't write response definitions", e);
+      }
+    }
+
+  /**
+   * Returns the key that identifies the models for the given API definition.
+   */
+  private static String keyFor( File apiDef, String defaultDocType, ModelOptions options)
+    {
+    try
+      {
+      MessageDigest digest = MessageDigest.getInstance( "SHA-256");
+
+      update( digest, getTcasesVersion());
+      update( digest, String.valueOf( defaultDocType));
+      update( digest, optionsKey( Optional.ofNullable( options).orElse( new ModelOptions())));
+
+      Set<File> files = new LinkedHashSet<File>();
+      addDefinitionFiles( apiDef.getCanonicalFile(), files);
+      for( File file : files)
+        {
+        update( digest, file.getName());
+        digest.update( Files.readAllBytes( file.toPath()));
+        }
+
+      return String.format( "%064x", new BigInteger( 1, digest.digest()));
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't create cache key for %s", apiDef), e);
+      }
+    }
+
+  /**
+   * Adds the given API definition file and all external files that it references.
+   */
+  private static void addDefinitionFiles( File file, Set<File> files) throws Exception
+    {
+    if( file.isFile() && files.add( file))
+      {
+      String content = new String( Files.readAllBytes( file.toPath()), StandardCharsets.UTF_8);
+      Matcher refMatcher = EXTERNAL_REF.matcher( content);
+      while( refMatcher.find())
+        {
+        String ref = refMatcher.group(1);
+        if( !ref.contains( "://"))
+          {
+          addDefinitionFiles( new File( file.getParentFile(), ref).getCanonicalFile(), files);
+          }
+        }
+      }
+    }
+
+  /**
+   * Returns the key that identifies the modelling results of the given options.
+   */
+  private static String optionsKey( ModelOptions options)
+    {
+    return
+      ToString.getBuilder( options)
+      .append( "source", options.getSource())
+      .append( "readOnlyEnforced", options.isReadOnlyEnforced())
+      .append( "writeOnlyEnforced", options.isWriteOnlyEnforced())
+      .append( "serverUri", options.getServerUri())
+      .append( "serverSelector", options.getServerSelector())
+      .append( "maxAlternatives", options.getMaxAlternatives())
+      .append( "paths", Optional.ofNullable( options.getPaths()).map( TreeSet<String>::new).orElse( null))
+      .append( "operations", Optional.ofNullable( options.getOperations()).map( TreeSet<String>::new).orElse( null))
+      .append( "shard", options.getShard())
+      .toString();
+    }
+
+  /**
+   * Updates the given digest with the given string.
+   */
+  private static void update( MessageDigest digest, String value)
+    {
+    digest.update( value.getBytes( StandardCharsets.UTF_8));
+    digest.update( (byte) 0);
+    }
+
+  /**
+   * Returns the current Tcases version identifier.
+   */
+  private static String getTcasesVersion()
+    {
+    Properties tcasesProperties = new Properties();
+    try( InputStream tcasesPropertyFile = Tcases.class.getResourceAsStream( "/tcases.properties"))
+      {
+      tcasesProperties.load( tcasesPropertyFile);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( "Can't read Tcases version", e);
+      }
+
+    return String.format( "%s (%s)", tcasesProperties.getProperty( "tcases.version"), tcasesProperties.getProperty( "tcases.date"));
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( getDir())
+      .append( getKey())
+      .toString();
+    }
+
+  private final File dir_;
+  private final String key_;
+
+  private static final String REQUESTS_INPUT = "Requests-Input";
+  private static final String RESPONSES_INPUT = "Responses-Input";
+  private static final String RESPONSES_DEF = "Responses";
+
+  private static final Pattern EXTERNAL_REF = Pattern.compile( "[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
+  private static final Logger logger_ = LoggerFactory.getLogger( ModelCache.class);
+  }
@@ -0,0 +1,272 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.io;
+
+import org.cornutum.tcases.FunctionInputDef;
+import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.openapi.Shard;
+import org.cornutum.tcases.util.MapBuilder;
+import org.cornutum.tcases.util.ToString;
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonWriter;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toSet;
+import static javax.json.stream.JsonGenerator.PRETTY_PRINTING;
+
+/**
+ * Lists the API operations modelled for a {@link Shard}.
+ * <P/>
+ * When the operations of an API are partitioned into shards that are modelled separately, the manifests for all
+ * shards can be {@link #verify verified} to show that every shard has been modelled, that every operation belongs
+ * to its own shard, and that no operation is modelled by more than one shard.
+ */
+public class ShardManifest
+  {
+  /**
+   * Creates a new ShardManifest instance.
+   */
+  public ShardManifest( String api, Shard shard, Iterable<String> operations)
+    {
+    api_ = api;
+    shard_ = Objects.requireNonNull( shard, "No shard defined");
+    operations_ = toStream( operations).collect( toCollection( TreeSet::new));
+    }
+
+  /**
+   * Returns the manifest for the given shard of the given input model.
+   */
+  public static ShardManifest of( Shard shard, SystemInputDef inputDef)
+    {
+    return
+      new ShardManifest(
+        inputDef.getAnnotation( "title"),
+        shard,
+        toStream( inputDef.getFunctionInputDefs())
+        .map( ShardManifest::operationOf)
+        .collect( toSet()));
+    }
+
+  /**
+   * Returns the title of the API, or null if no operations were modelled.
+   */
+  public String getApi()
+    {
+    return api_;
+    }
+
+  /**
+   * Returns the shard modelled.
+   */
+  public Shard getShard()
+    {
+    return shard_;
+    }
+
+  /**
+   * Returns the operations modelled, each of the form "<CODE>OPERATION path</CODE>".
+   */
+  public SortedSet<String> getOperations()
+    {
+    return Collections.unmodifiableSortedSet( operations_);
+    }
+
+  /**
+   * Returns the default name for the manifest file for the given shard of the given test suite.
+   */
+  public static String getFileName( String baseName, Shard shard)
+    {
+    return String.format( "%s-Shard-%s-of-%s.json", baseName, shard.getIndex(), shard.getCount());
+    }
+
+  /**
+   * Returns a description of each problem found in the given set of shard manifests. Returns an empty list
+   * if these manifests together cover all shards of the same API, with each operation belonging to exactly one shard.
+   */
+  public static List<String> verify( Collection<ShardManifest> manifests)
+    {
+    List<String> problems = new ArrayList<String>();
+
+    Set<String> apis = manifests.stream().map( ShardManifest::getApi).filter( Objects::nonNull).collect( toSet());
+    Set<Integer> counts = manifests.stream().map( m -> m.getShard().getCount()).collect( toSet());
+    if( manifests.isEmpty())
+      {
+      problems.add( "No shard manifests defined");
+      }
+    else if( apis.size() > 1)
+      {
+      problems.add( String.format( "Manifests for different APIs=%s", new TreeSet<String>( apis)));
+      }
+    else if( counts.size() > 1)
+      {
+      problems.add( String.format( "Manifests for different shard counts=%s", new TreeSet<Integer>( counts)));
+      }
+    else
+      {
+      int count = counts.iterator().next();
+      Map<Integer,Long> shardManifests = new HashMap<Integer,Long>();
+      manifests.forEach( m -> shardManifests.merge( m.getShard().getIndex(), 1L, Long::sum));
+      IntStream.rangeClosed( 1, count)
+        .forEach( index -> {
+          long found = shardManifests.getOrDefault( index, 0L);
+          if( found == 0)
+            {
+            problems.add( String.format( "Shard %s/%s: missing", index, count));
+            }
+          else if( found > 1)
+            {
+            problems.add( String.format( "Shard %s/%s: defined by %s manifests", index, count, found));
+            }
+          });
+
+      Map<String,Shard> operationShards = new HashMap<String,Shard>();
+      for( ShardManifest manifest : manifests)
+        {
+        for( String operation : manifest.getOperations())
+          {
+          Shard other = operationShards.putIfAbsent( operation, manifest.getShard());
+          if( other != null && !other.equals( manifest.getShard()))
+            {
+            problems.add( String.format( "%s: modelled by shard %s and shard %s", operation, other, manifest.getShard()));
+            }
+
+          String[] opPath = operation.split( " ", 2);
+          int opShard = Shard.indexOf( opPath.length > 1? opPath[1] : "", opPath[0], count);
+          if( opShard != manifest.getShard().getIndex())
+            {
+            problems.add( String.format( "%s: modelled by shard %s but belongs to shard %s/%s", operation, manifest.getShard(), opShard, count));
+            }
+          }
+        }
+      }
+
+    return problems;
+    }
+
+  /**
+   * Writes this manifest to the given file.
+   */
+  public void write( File file)
+    {
+    try( OutputStream output = new FileOutputStream( file))
+      {
+      write( output);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't write shard manifest to %s", file), e);
+      }
+    }
+
+  /**
+   * Writes this manifest to the given stream.
+   */
+  public void write( OutputStream output)
+    {
+    JsonArrayBuilder operations = Json.createArrayBuilder();
+    getOperations().forEach( operations::add);
+
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    Optional.ofNullable( getApi()).ifPresent( api -> builder.add( API, api));
+    JsonObject json =
+      builder
+      .add( SHARD, String.valueOf( getShard()))
+      .add( OPERATIONS, operations)
+      .build();
+
+    JsonWriter writer =
+      Json.createWriterFactory( MapBuilder.of( PRETTY_PRINTING, true).build())
+      .createWriter( output);
+    writer.write( json);
+    }
+
+  /**
+   * Returns the manifest read from the given file.
+   */
+  public static ShardManifest read( File file)
+    {
+    try( InputStream input = new FileInputStream( file))
+      {
+      return read( input);
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't read shard manifest from %s", file), e);
+      }
+    }
+
+  /**
+   * Returns the manifest read from the given stream.
+   */
+  public static ShardManifest read( InputStream input)
+    {
+    JsonObject json;
+    try( JsonReader reader = Json.createReader( input))
+      {
+      json = reader.readObject();
+      }
+
+    return
+      new ShardManifest(
+        json.getString( API, null),
+        Shard.parse( json.getString( SHARD)),
+        json.getJsonArray( OPERATIONS).getValuesAs( JsonString.class).stream()
+        .map( JsonString::getString)
+        .collect( toSet()));
+    }
+
+  /**
+   * Returns the operation modelled by the given function.
+   */
+  private static String operationOf( FunctionInputDef functionDef)
+    {
+    return String.format( "%s %s", functionDef.getAnnotation( "operation"), functionDef.getAnnotation( "path"));
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( getApi())
+      .append( getShard())
+      .append( "operations", getOperations().size())
+      .toString();
+    }
+
+  private final String api_;
+  private final Shard shard_;
+  private final SortedSet<String> operations_;
+
+  private static final String API = "api";
+  private static final String SHARD = "shard";
+  private static final String OPERATIONS = "operations";
+  }
@@ -20,6 +20,8 @@ import org.cornutum.tcases.openapi.resolver.io.RequestTestDefWriter;
 import org.cornutum.tcases.openapi.test.ResponsesDef;
 import org.cornutum.tcases.resolve.ResolverContext;
 
+import io.swagger.v3.oas.models.OpenAPI;
+
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -39,6 +41,17 @@ public final class TcasesOpenApiIO
     // Static methods only
     }
 
+  /**
+   * Returns the OpenAPI definition read from the given document. If <CODE>api</CODE> is null, reads from standard input.
+   */
+  public static OpenAPI readApi( File api, String defaultDocType)
+    {
+    try( OpenApiReader reader = new OpenApiReader( api, defaultDocType))
+      {
+      return reader.read();
+      }
+    }
+
   /**
    * Returns a {@link SystemInputDef system input definition} for the API requests defined by the
    * OpenAPI definition in the given JSON document. Returns null if the given definition defines no API requests to model.
@@ -327,7 +340,11 @@ public final class TcasesOpenApiIO
    */
   public static void writeRequestCases( SystemTestDef testDef, ResolverContext context, OutputStream outputStream)
     {
-    writeRequestCases( RequestCases.getRequestCases( testDef, context), outputStream);
+    try( RequestTestDefWriter writer = new RequestTestDefWriter( outputStream))
+      {
+      // Request cases are resolved while writing, so report any resolution failure as is.
+      writer.write( RequestCases.getRequestCaseStream( testDef, context));
+      }
     }
 
   /**
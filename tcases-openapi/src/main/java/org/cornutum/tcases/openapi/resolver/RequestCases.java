@@ -9,11 +9,15 @@ package org.cornutum.tcases.openapi.resolver;
 
 import org.cornutum.tcases.FunctionTestDef;
 import org.cornutum.tcases.SystemTestDef;
+import org.cornutum.tcases.TestCase;
 import org.cornutum.tcases.openapi.resolver.ParamDef.Location;
 import org.cornutum.tcases.openapi.test.MediaRange;
 import org.cornutum.tcases.resolve.DataValue;
 import org.cornutum.tcases.resolve.ObjectValue;
 import org.cornutum.tcases.resolve.ResolverContext;
+import org.cornutum.tcases.resolve.ResolverException;
+import org.cornutum.tcases.util.DeferredNotifier;
+import org.cornutum.tcases.util.ToString;
 
 import static org.cornutum.tcases.DefUtils.toIdentifier;
 import static org.cornutum.tcases.util.CollectionUtils.*;
@@ -23,6 +27,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -64,17 +74,105 @@ public final class RequestCases
 
   /**
    * Returns the request cases resolved for the given system test definition.
+   * <P/>
+   * If the {@link ResolverContext#getParallelism parallelism} of the given context is greater than 0, up to that many
+   * test cases are resolved concurrently. In this case, each test case is resolved using its own random number generator,
+   * seeded using the given context and the identity of the test case, so that the results do not depend on the order in
+   * which test cases are resolved or on the number of concurrent tasks.
    */
   public static RequestTestDef getRequestCases( SystemTestDef testDef, ResolverContext context)
     {
+    return
+      context.getParallelism() > 0
+      ? concurrentRequestCases( testDef, context)
+      : new RequestTestDef( sequentialRequestCases( testDef, context).collect( toList()));
+    }
+
+  /**
+   * Returns the request cases resolved for the given system test definition. If test cases are resolved
+   * sequentially, each request case is resolved only when it is consumed from the returned stream.
+   */
+  public static Stream<RequestCase> getRequestCaseStream( SystemTestDef testDef, ResolverContext context)
+    {
+    return
+      context.getParallelism() > 0
+      ? concurrentRequestCases( testDef, context).getRequestCases().stream()
+      : sequentialRequestCases( testDef, context);
+    }
+
+  /**
+   * Returns the request cases resolved sequentially for the given system test definition.
+   */
+  private static Stream<RequestCase> sequentialRequestCases( SystemTestDef testDef, ResolverContext context)
+    {
+    RequestCaseDefiner definer = new RequestCaseDefiner();
     RequestCaseResolver resolver = new RequestCaseResolver( context);
 
     return
-      new RequestTestDef(
-        getRequestCaseDefs( testDef).stream()
-        .map( requestCaseDef -> resolver.resolve( requestCaseDef))
-        .filter( Objects::nonNull)
-        .collect( toList()));
+      toStream( testDef.getFunctionTestDefs())
+      .flatMap(
+        function ->
+        toStream( function.getTestCases())
+        .map( testCase -> resolver.resolve( getRequestCaseDef( definer, function.getName(), testCase))))
+      .filter( Objects::nonNull);
+    }
+
+  /**
+   * Returns the request cases resolved concurrently for the given system test definition.
+   * Conditions reported for each test case are delivered in the same order as sequential resolution.
+   */
+  private static RequestTestDef concurrentRequestCases( SystemTestDef testDef, ResolverContext context)
+    {
+    RequestCaseDefiner definer = new RequestCaseDefiner();
+    long seed = context.getRandom().nextLong();
+    List<RequestCaseTask> tasks =
+      toStream( testDef.getFunctionTestDefs())
+      .flatMap(
+        function ->
+        toStream( function.getTestCases())
+        .map( testCase -> new RequestCaseTask( definer, function.getName(), testCase, context, seed)))
+      .collect( toList());
+
+    List<RequestCase> requestCases = new ArrayList<RequestCase>();
+    if( !tasks.isEmpty())
+      {
+      ExecutorService executor = Executors.newFixedThreadPool( Math.min( context.getParallelism(), tasks.size()));
+      try
+        {
+        List<Future<RequestCase>> results = executor.invokeAll( tasks);
+        for( int i = 0; i < tasks.size(); i++)
+          {
+          RequestCaseTask task = tasks.get(i);
+          try
+            {
+            Optional.ofNullable( results.get(i).get()).ifPresent( requestCases::add);
+            }
+          catch( ExecutionException e)
+            {
+            throw
+              Optional.of( e.getCause())
+              .filter( RuntimeException.class::isInstance)
+              .map( RuntimeException.class::cast)
+              .orElseGet( () -> new ResolverException( String.format( "Can't resolve %s", task), e.getCause()));
+            }
+          finally
+            {
+            task.getConditions().deliverTo( context.getNotifier());
+            }
+          }
+        }
+      catch( InterruptedException e)
+        {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException( "Request case resolution interrupted", e);
+        }
+      finally
+        {
+        executor.shutdownNow();
+        }
+      }
+
+    return new RequestTestDef( requestCases);
     }
 
   /**
@@ -103,19 +201,25 @@ public final class RequestCases
     {
     return
       toStream( testDef.getTestCases())
-      .map( testCase -> {
-        try
-          {
-          return definer.toRequestCaseDef( testCase);
-          }
-        catch( Exception e)
-          {
-          throw new RequestCaseException( String.format( "Can't get request case for function=%s, test case=%s", testDef.getName(), testCase.getId()), e);
-          }
-        })
+      .map( testCase -> getRequestCaseDef( definer, testDef.getName(), testCase))
       .collect( toList());
     }
 
+  /**
+   * Returns the request case definition for the given test case.
+   */
+  private static RequestCaseDef getRequestCaseDef( RequestCaseDefiner definer, String function, TestCase testCase)
+    {
+    try
+      {
+      return definer.toRequestCaseDef( testCase);
+      }
+    catch( Exception e)
+      {
+      throw new RequestCaseException( String.format( "Can't get request case for function=%s, test case=%s", function, testCase.getId()), e);
+      }
+    }
+
   /**
    * Returns true if the given request case is feasible when input data is serialized into an HTTP message.
    */
@@ -592,4 +696,54 @@ public final class RequestCases
   private static final Pattern ROOT_ID = bodyIdPattern( ANY_NAME);
   private static final Pattern URLENCODED_PROPERTY_ID = bodyIdPattern( "application-x-www-form-urlencoded", "Value", "Properties", ANY_NAME);
 
+  
+  /**
+   * Defines and resolves the request case for a single test case.
+   */
+  private static class RequestCaseTask implements Callable<RequestCase>
+    {
+    public RequestCaseTask( RequestCaseDefiner definer, String function, TestCase testCase, ResolverContext context, long seed)
+      {
+      definer_ = definer;
+      function_ = function;
+      testCase_ = testCase;
+      conditions_ = new DeferredNotifier();
+      context_ =
+        ResolverContext.builder( context.getLocation())
+        .random( new Random( seed ^ (((long) function.hashCode() << 32) | (testCase.getId() & 0xffffffffL))))
+        .notifier( conditions_)
+        .maxTries( context.getMaxTries())
+        .build();
+      }
+
+    @Override
+    public RequestCase call()
+      {
+      return new RequestCaseResolver( context_).resolve( getRequestCaseDef( definer_, function_, testCase_));
+      }
+
+    /**
+     * Returns the conditions reported for this test case.
+     */
+    public DeferredNotifier getConditions()
+      {
+      return conditions_;
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.getBuilder( this)
+        .append( "function", function_)
+        .append( "testCase", testCase_.getId())
+        .toString();
+      }
+
+    private final RequestCaseDefiner definer_;
+    private final String function_;
+    private final TestCase testCase_;
+    private final ResolverContext context_;
+    private final DeferredNotifier conditions_;
+    }
   }
@@ -28,11 +28,14 @@ import org.cornutum.tcases.resolve.UuidValue;
 
 import static org.cornutum.tcases.util.CollectionUtils.toStream;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
@@ -41,6 +44,7 @@ import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue.ValueType;
 import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -74,7 +78,7 @@ public final class RequestCaseJson
   /**
    * Returns the JSON object that represents the given request case.
    */
-  private static JsonObject toJson( RequestCase requestCase)
+  public static JsonObject toJson( RequestCase requestCase)
     {
     JsonObjectBuilder builder = Json.createObjectBuilder();
 
@@ -238,6 +242,49 @@ public final class RequestCaseJson
       .collect( toList());
     }
 
+  /**
+   * Returns the RequestCase instances represented by the JSON array read by the given parser. Each RequestCase is
+   * read from the parser only when it is consumed from the returned stream.
+   */
+  public static Stream<RequestCase> asRequestCases( JsonParser parser)
+    {
+    if( !(parser.hasNext() && parser.next() == JsonParser.Event.START_ARRAY))
+      {
+      throw new RequestCaseException( "Expected an array of request cases");
+      }
+
+    RequestCaseContext context = new RequestCaseContext();
+    Iterator<RequestCase> requestCases =
+      new Iterator<RequestCase>()
+        {
+        @Override
+        public boolean hasNext()
+          {
+          if( next_ == null && parser.hasNext() && parser.next() == JsonParser.Event.START_OBJECT)
+            {
+            next_ = asRequestCase( context, parser.getObject());
+            }
+          return next_ != null;
+          }
+
+        @Override
+        public RequestCase next()
+          {
+          if( !hasNext())
+            {
+            throw new NoSuchElementException();
+            }
+          RequestCase next = next_;
+          next_ = null;
+          return next;
+          }
+
+        private RequestCase next_;
+        };
+
+    return toStream( requestCases);
+    }
+
   /**
    * Returns the RequestCase represented by the given JSON object.
    */
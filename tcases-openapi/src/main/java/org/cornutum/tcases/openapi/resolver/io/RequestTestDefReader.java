@@ -7,6 +7,7 @@
 
 package org.cornutum.tcases.openapi.resolver.io;
 
+import org.cornutum.tcases.openapi.resolver.RequestCase;
 import org.cornutum.tcases.openapi.resolver.RequestCaseException;
 import org.cornutum.tcases.openapi.resolver.RequestTestDef;
 import org.apache.commons.io.IOUtils;
@@ -14,10 +15,15 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.ProblemHandler;
 
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
 import java.io.Closeable;
 import java.io.InputStream;
-import javax.json.JsonArray;
-import javax.json.JsonReader;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.json.JsonException;
+import javax.json.stream.JsonParser;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Reads a {@link RequestTestDef} object from a JSON document.
@@ -45,24 +51,61 @@ public class RequestTestDefReader implements Closeable
    * Returns a {@link RequestTestDef} instance.
    */
   public RequestTestDef getRequestTestDef()
+    {
+    try( Stream<RequestCase> requestCases = getRequestCases())
+      {
+      return new RequestTestDef( requestCases.collect( toList()));
+      }
+    }
+
+  /**
+   * Returns the {@link RequestCase request cases} read from the input stream. Each request case is read
+   * and validated only when it is consumed from the returned stream. Closing the returned stream
+   * closes the JSON parser.
+   */
+  public Stream<RequestCase> getRequestCases()
     {
     JsonValidationService service = JsonValidationService.newInstance();
     JsonSchema schema = service.readSchema( getClass().getResourceAsStream( "/schema/request-cases-schema.json"));
     ProblemHandler handler = ProblemHandler.throwing();
-    try( JsonReader reader = service.createReader( stream_, schema, handler))
+    JsonParser parser = service.createParser( stream_, schema, handler);
+
+    Iterator<RequestCase> requestCases;
+    try
       {
-      JsonArray json;
-      try
-        {
-        json = reader.readArray();
-        }
-      catch( Exception e)
+      requestCases = RequestCaseJson.asRequestCases( parser).iterator();
+      }
+    catch( JsonException e)
+      {
+      parser.close();
+      throw new RequestCaseException( "Invalid request case definition", e);
+      }
+
+    Iterator<RequestCase> validated =
+      new Iterator<RequestCase>()
         {
-        throw new RequestCaseException( "Invalid request case definition", e);
-        }
+        @Override
+        public boolean hasNext()
+          {
+          try
+            {
+            return requestCases.hasNext();
+            }
+          catch( JsonException e)
+            {
+            throw new RequestCaseException( "Invalid request case definition", e);
+            }
+          }
 
-      return new RequestTestDef( RequestCaseJson.asRequestCases( json));
-      }
+        @Override
+        public RequestCase next()
+          {
+          hasNext();
+          return requestCases.next();
+          }
+        };
+
+    return toStream( validated).onClose( parser::close);
     }
 
   /**
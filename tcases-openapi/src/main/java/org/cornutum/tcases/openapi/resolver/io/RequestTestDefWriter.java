@@ -7,6 +7,7 @@
 
 package org.cornutum.tcases.openapi.resolver.io;
 
+import org.cornutum.tcases.openapi.resolver.RequestCase;
 import org.cornutum.tcases.openapi.resolver.RequestTestDef;
 import org.cornutum.tcases.util.MapBuilder;
 
@@ -17,9 +18,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.util.stream.Stream;
 import javax.json.Json;
-import javax.json.JsonWriter;
-import javax.json.JsonWriterFactory;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
 import static javax.json.stream.JsonGenerator.PRETTY_PRINTING;
 
 /**
@@ -57,10 +59,22 @@ public class RequestTestDefWriter implements Closeable
    */
   public void write( RequestTestDef requestTestDef)
     {
-    JsonWriterFactory writerFactory = Json.createWriterFactory( MapBuilder.of( PRETTY_PRINTING, true).build());
-    JsonWriter jsonWriter = writerFactory.createWriter( getWriter());
+    write( requestTestDef.getRequestCases().stream());
+    }
+
+  /**
+   * Writes the given request cases in the form of a JSON document. Each request case is written
+   * as soon as it is produced by the given stream.
+   */
+  public void write( Stream<RequestCase> requestCases)
+    {
+    JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory( MapBuilder.of( PRETTY_PRINTING, true).build());
+    JsonGenerator generator = generatorFactory.createGenerator( getWriter());
 
-    jsonWriter.write( RequestCaseJson.toJson( requestTestDef));
+    generator.writeStartArray();
+    requestCases.forEach( requestCase -> generator.write( RequestCaseJson.toJson( requestCase)));
+    generator.writeEnd();
+    generator.flush();
     }
 
   /**
@@ -0,0 +1,109 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testrunner;
+
+import org.cornutum.tcases.openapi.testrunner.RequestResult.Status;
+import org.cornutum.tcases.util.ToString;
+
+import java.util.List;
+
+/**
+ * Reports the {@link RequestResult results} of executing a set of API requests.
+ */
+public class ApiTestReport
+  {
+  /**
+   * Creates a new ApiTestReport instance.
+   */
+  public ApiTestReport( String name, List<RequestResult> results, long elapsed)
+    {
+    name_ = name;
+    results_ = results;
+    elapsed_ = elapsed;
+    }
+
+  /**
+   * Returns the name of this report.
+   */
+  public String getName()
+    {
+    return name_;
+    }
+
+  /**
+   * Returns the result of each request, in the order given.
+   */
+  public List<RequestResult> getResults()
+    {
+    return results_;
+    }
+
+  /**
+   * Returns the total time (milliseconds) taken to execute all requests.
+   */
+  public long getElapsed()
+    {
+    return elapsed_;
+    }
+
+  /**
+   * Returns the number of requests that passed.
+   */
+  public int getPassed()
+    {
+    return getCount( Status.PASSED);
+    }
+
+  /**
+   * Returns the number of requests that failed.
+   */
+  public int getFailed()
+    {
+    return getCount( Status.FAILED);
+    }
+
+  /**
+   * Returns the number of requests that could not be executed.
+   */
+  public int getErrors()
+    {
+    return getCount( Status.ERROR);
+    }
+
+  /**
+   * Returns if all requests passed.
+   */
+  public boolean isPassed()
+    {
+    return getPassed() == getResults().size();
+    }
+
+  /**
+   * Returns the number of requests with the given status.
+   */
+  private int getCount( Status status)
+    {
+    return (int) getResults().stream().filter( result -> result.getStatus() == status).count();
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( getName())
+      .append( "passed", getPassed())
+      .append( "failed", getFailed())
+      .append( "errors", getErrors())
+      .toString();
+    }
+
+  private final String name_;
+  private final List<RequestResult> results_;
+  private final long elapsed_;
+  }
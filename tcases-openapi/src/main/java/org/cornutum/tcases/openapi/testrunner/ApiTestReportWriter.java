@@ -0,0 +1,214 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testrunner;
+
+import org.cornutum.tcases.io.XmlWriter;
+import org.cornutum.tcases.openapi.testrunner.RequestResult.Status;
+import org.cornutum.tcases.util.MapBuilder;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Locale;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import static javax.json.stream.JsonGenerator.PRETTY_PRINTING;
+
+/**
+ * Writes an {@link ApiTestReport}, either as a JSON document or as a JUnit XML report.
+ */
+public class ApiTestReportWriter implements Closeable
+  {
+  /**
+   * Creates a new ApiTestReportWriter object that writes to standard output.
+   */
+  public ApiTestReportWriter()
+    {
+    this( (Writer) null);
+    }
+
+  /**
+   * Creates a new ApiTestReportWriter object that writes to the given stream.
+   */
+  public ApiTestReportWriter( OutputStream stream)
+    {
+    this( writerFor( stream));
+    }
+
+  /**
+   * Creates a new ApiTestReportWriter object that writes to the given stream.
+   */
+  public ApiTestReportWriter( Writer writer)
+    {
+    setWriter( writer);
+    }
+
+  /**
+   * Writes the given report in the form of a JSON document.
+   */
+  public void writeJson( ApiTestReport report)
+    {
+    JsonArrayBuilder results = Json.createArrayBuilder();
+    report.getResults().forEach( result -> {
+      JsonObjectBuilder resultJson =
+        Json.createObjectBuilder()
+        .add( NAME, result.getName())
+        .add( OPERATION, result.getOperation())
+        .add( PATH, result.getPath())
+        .add( STATUS, result.getStatus().toString())
+        .add( ELAPSED, result.getElapsed());
+
+      if( result.getMessage() != null)
+        {
+        resultJson.add( MESSAGE, result.getMessage());
+        }
+
+      results.add( resultJson);
+      });
+
+    JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory( MapBuilder.of( PRETTY_PRINTING, true).build());
+    JsonGenerator generator = generatorFactory.createGenerator( getWriter());
+    generator.write(
+      Json.createObjectBuilder()
+      .add( NAME, report.getName())
+      .add( TESTS, report.getResults().size())
+      .add( PASSED, report.getPassed())
+      .add( FAILED, report.getFailed())
+      .add( ERRORS, report.getErrors())
+      .add( ELAPSED, report.getElapsed())
+      .add( RESULTS, results)
+      .build());
+    generator.flush();
+    }
+
+  /**
+   * Writes the given report in the form of a JUnit XML report. Each request is reported as a test case
+   * for a "class" named by the request operation and path.
+   */
+  public void writeJUnit( ApiTestReport report)
+    {
+    XmlWriter xmlWriter = new XmlWriter( getWriter());
+    xmlWriter.writeDeclaration();
+    xmlWriter
+      .element( "testsuite")
+      .attribute( "name", report.getName())
+      .attribute( "tests", String.valueOf( report.getResults().size()))
+      .attribute( "failures", String.valueOf( report.getFailed()))
+      .attribute( "errors", String.valueOf( report.getErrors()))
+      .attribute( "time", secondsOf( report.getElapsed()))
+      .content( () -> {
+        report.getResults().forEach( result -> {
+          xmlWriter
+            .element( "testcase")
+            .attribute( "classname", String.format( "%s %s", result.getOperation(), result.getPath()))
+            .attribute( "name", result.getName())
+            .attribute( "time", secondsOf( result.getElapsed()))
+            .contentIf(
+              result.getStatus() != Status.PASSED,
+              () -> {
+                xmlWriter
+                  .element( result.getStatus() == Status.FAILED? "failure" : "error")
+                  .attribute( "message", String.valueOf( result.getMessage()))
+                  .write();
+              })
+            .write();
+          });
+        })
+      .write();
+    xmlWriter.flush();
+    }
+
+  /**
+   * Returns the JUnit report form of the given elapsed time.
+   */
+  private static String secondsOf( long millis)
+    {
+    return String.format( Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+
+  /**
+   * Flushes the writer.
+   */
+  public void flush()
+    {
+    try
+      {
+      getWriter().flush();
+      }
+    catch( IOException ignore)
+      {
+      }
+    }
+
+  /**
+   * Closes the writer.
+   */
+  @Override
+  public void close()
+    {
+    IOUtils.closeQuietly( getWriter(), null);
+    }
+
+  /**
+   * Changes the output stream for this writer.
+   */
+  protected void setWriter( Writer writer)
+    {
+    writer_ =
+      writer == null
+      ? writerFor( System.out)
+      : writer;
+    }
+
+  /**
+   * Returns the output stream for this writer.
+   */
+  protected Writer getWriter()
+    {
+    return writer_;
+    }
+
+  /**
+   * Returns a Writer for the given output stream;
+   */
+  private static Writer writerFor( OutputStream stream)
+    {
+    try
+      {
+      return
+        stream == null
+        ? null
+        : new OutputStreamWriter( stream, "UTF-8");
+      }
+    catch( Exception e)
+      {
+      throw new RuntimeException( "Can't create writer", e);
+      }
+    }
+
+  private Writer writer_;
+
+  private static final String ELAPSED = "elapsed";
+  private static final String ERRORS = "errors";
+  private static final String FAILED = "failed";
+  private static final String MESSAGE = "message";
+  private static final String NAME = "name";
+  private static final String OPERATION = "operation";
+  private static final String PASSED = "passed";
+  private static final String PATH = "path";
+  private static final String RESULTS = "results";
+  private static final String STATUS = "status";
+  private static final String TESTS = "tests";
+  }
@@ -0,0 +1,266 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testrunner;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.test.RequestDef;
+import org.cornutum.tcases.openapi.test.RequestRunner;
+import org.cornutum.tcases.openapi.test.RequestTable;
+import org.cornutum.tcases.openapi.test.ResponseValidationException;
+import org.cornutum.tcases.openapi.test.ResponseValidator;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
+import org.cornutum.tcases.openapi.testrunner.RequestResult.Status;
+import org.cornutum.tcases.openapi.testwriter.BaseTestCaseWriter;
+import org.cornutum.tcases.openapi.testwriter.RequestTableWriter;
+import org.cornutum.tcases.util.ToString;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Executes {@link RequestCase request cases} directly against an API server, without generating test source code.
+ * <P/>
+ * Each request case is serialized using the same encoders used by generated tests. The response to each request is checked for
+ * the expected status and, if {@link #setResponses response definitions} are given, validated using a {@link ResponseValidator}.
+ * Up to {@link #setConcurrency concurrency} requests are executed at the same time.
+ * <P/>
+ * As for generated tests, authentication credentials are specified at runtime using system properties such as
+ * <CODE>tcasesApiKey</CODE>.
+ */
+public class ApiTestRunner
+  {
+  /**
+   * Creates a new ApiTestRunner instance.
+   */
+  public ApiTestRunner()
+    {
+    setConcurrency( 1);
+    setTrustServer( false);
+    }
+
+  /**
+   * Changes the URI of the API server used for all requests. If null, the server defined by each request case is used.
+   */
+  public void setTestServer( URI testServer)
+    {
+    testServer_ = testServer;
+    }
+
+  /**
+   * Returns the URI of the API server used for all requests. If null, the server defined by each request case is used.
+   */
+  public URI getTestServer()
+    {
+    return testServer_;
+    }
+
+  /**
+   * Changes the maximum number of requests executed concurrently.
+   */
+  public void setConcurrency( int concurrency)
+    {
+    if( concurrency < 1)
+      {
+      throw new IllegalArgumentException( String.format( "Invalid concurrency=%s", concurrency));
+      }
+    concurrency_ = concurrency;
+    }
+
+  /**
+   * Returns the maximum number of requests executed concurrently.
+   */
+  public int getConcurrency()
+    {
+    return concurrency_;
+    }
+
+  /**
+   * Changes the response definitions used to validate responses. If null, responses are not validated.
+   */
+  public void setResponses( ResponsesDef responses)
+    {
+    responses_ = responses;
+    }
+
+  /**
+   * Returns the response definitions used to validate responses. If null, responses are not validated.
+   */
+  public ResponsesDef getResponses()
+    {
+    return responses_;
+    }
+
+  /**
+   * Changes if the API server is trusted. If true, server certificates are not verified.
+   */
+  public void setTrustServer( boolean trustServer)
+    {
+    trustServer_ = trustServer;
+    }
+
+  /**
+   * Returns if the API server is trusted. If true, server certificates are not verified.
+   */
+  public boolean trustServer()
+    {
+    return trustServer_;
+    }
+
+  /**
+   * Executes the given request cases and returns a report of the results.
+   */
+  public ApiTestReport run( String name, List<RequestCase> requestCases)
+    {
+    RequestSerializer serializer = new RequestSerializer();
+    serializer.setValidateResponses( getResponses() != null);
+    serializer.setTrustServer( trustServer());
+    RequestTableWriter tableWriter = new RequestTableWriter( serializer);
+
+    // Once created, the validator is shared by all requests.
+    RequestRunner runner =
+      new RequestRunner(
+        tableWriter.createRequestTable(),
+        Optional.ofNullable( getResponses()).map( ResponseValidator::new).orElse( null));
+
+    List<Callable<RequestResult>> tasks =
+      requestCases.stream()
+      .map( requestCase -> (Callable<RequestResult>) () -> run( tableWriter, runner, requestCase))
+      .collect( toList());
+
+    long start = System.currentTimeMillis();
+    List<RequestResult> results = new ArrayList<RequestResult>();
+    ExecutorService executor = Executors.newFixedThreadPool( Math.max( 1, Math.min( getConcurrency(), tasks.size())));
+    try
+      {
+      for( Future<RequestResult> result : executor.invokeAll( tasks))
+        {
+        results.add( result.get());
+        }
+      }
+    catch( InterruptedException e)
+      {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException( "Test run interrupted", e);
+      }
+    catch( ExecutionException e)
+      {
+      throw new IllegalStateException( String.format( "Can't run %s", name), e.getCause());
+      }
+    finally
+      {
+      executor.shutdownNow();
+      }
+
+    return new ApiTestReport( name, results, System.currentTimeMillis() - start);
+    }
+
+  /**
+   * Executes the given request case and returns the result.
+   */
+  private RequestResult run( RequestTableWriter tableWriter, RequestRunner runner, RequestCase requestCase)
+    {
+    String name = getRequestName( requestCase);
+    Status status;
+    String message;
+
+    long start = System.currentTimeMillis();
+    try
+      {
+      RequestDef request = tableWriter.getRequestDef( name, getTestServer(), requestCase);
+      runner.run( request);
+      status = Status.PASSED;
+      message = null;
+      }
+    catch( AssertionError | ResponseValidationException e)
+      {
+      status = Status.FAILED;
+      message = e.getMessage();
+      }
+    catch( Exception e)
+      {
+      status = Status.ERROR;
+      message = messageFor( e);
+      }
+
+    return new RequestResult( name, requestCase.getOperation(), requestCase.getPath(), status, message, System.currentTimeMillis() - start);
+    }
+
+  /**
+   * Returns the name reported for the given request case.
+   */
+  private String getRequestName( RequestCase requestCase)
+    {
+    return
+      Optional.ofNullable( requestCase.getName())
+      .map( name -> String.format( "%s: %s", requestCase.getId(), name))
+      .orElse( String.valueOf( requestCase.getId()));
+    }
+
+  /**
+   * Returns a message describing the given exception and its causes.
+   */
+  private String messageFor( Throwable e)
+    {
+    StringBuilder message = new StringBuilder( String.valueOf( e.getMessage()));
+    for( Throwable cause = e.getCause(); cause != null; cause = cause.getCause())
+      {
+      message.append( ": ").append( cause.getMessage());
+      }
+    return message.toString();
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( getTestServer())
+      .append( "concurrency", getConcurrency())
+      .toString();
+    }
+
+  /**
+   * Serializes request cases for execution. No test source code is written.
+   */
+  private static class RequestSerializer extends BaseTestCaseWriter
+    {
+    @Override
+    public void writeDependencies( String testName, IndentedWriter targetWriter)
+      {
+      }
+
+    @Override
+    public void writeDeclarations( String testName, IndentedWriter targetWriter)
+      {
+      }
+
+    @Override
+    public void writeTestCase( String testName, URI testServer, RequestCase requestCase, IndentedWriter targetWriter)
+      {
+      }
+
+    @Override
+    public void writeClosing( String testName, IndentedWriter targetWriter)
+      {
+      }
+    }
+
+  private URI testServer_;
+  private int concurrency_;
+  private ResponsesDef responses_;
+  private boolean trustServer_;
+  }
@@ -0,0 +1,117 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testrunner;
+
+import org.cornutum.tcases.util.ToString;
+
+/**
+ * Describes the result of executing a single API request.
+ */
+public class RequestResult
+  {
+  /**
+   * Defines the possible outcomes for an API request.
+   */
+  public enum Status
+    {
+    /**
+     * The response had the expected status and conformed to its OpenAPI definition.
+     */
+    PASSED,
+
+    /**
+     * The response had an unexpected status or did not conform to its OpenAPI definition.
+     */
+    FAILED,
+
+    /**
+     * The request could not be executed.
+     */
+    ERROR
+    };
+
+  /**
+   * Creates a new RequestResult instance.
+   */
+  public RequestResult( String name, String operation, String path, Status status, String message, long elapsed)
+    {
+    name_ = name;
+    operation_ = operation;
+    path_ = path;
+    status_ = status;
+    message_ = message;
+    elapsed_ = elapsed;
+    }
+
+  /**
+   * Returns the name of this request.
+   */
+  public String getName()
+    {
+    return name_;
+    }
+
+  /**
+   * Returns the operation for this request.
+   */
+  public String getOperation()
+    {
+    return operation_;
+    }
+
+  /**
+   * Returns the API resource path for this request.
+   */
+  public String getPath()
+    {
+    return path_;
+    }
+
+  /**
+   * Returns the outcome of this request.
+   */
+  public Status getStatus()
+    {
+    return status_;
+    }
+
+  /**
+   * Returns a description of any failure or error for this request.
+   */
+  public String getMessage()
+    {
+    return message_;
+    }
+
+  /**
+   * Returns the time (milliseconds) taken to execute this request.
+   */
+  public long getElapsed()
+    {
+    return elapsed_;
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( getOperation())
+      .append( getPath())
+      .append( getName())
+      .append( getStatus())
+      .toString();
+    }
+
+  private final String name_;
+  private final String operation_;
+  private final String path_;
+  private final Status status_;
+  private final String message_;
+  private final long elapsed_;
+  }
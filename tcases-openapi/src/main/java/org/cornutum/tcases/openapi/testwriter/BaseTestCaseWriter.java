@@ -21,6 +21,12 @@ import org.cornutum.tcases.util.MapBuilder;
 import org.cornutum.tcases.util.ToString;
 import static org.cornutum.tcases.util.CollectionUtils.toStream;
 
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -75,6 +81,42 @@ public abstract class BaseTestCaseWriter implements TestCaseWriter
     return trustServer_;
     }
 
+  /**
+   * Changes if generated test cases are safe to run concurrently.
+   */
+  public void setThreadSafe( boolean threadSafe)
+    {
+    threadSafe_ = threadSafe;
+    }
+
+  /**
+   * Returns if generated test cases are safe to run concurrently.
+   */
+  public boolean threadSafe()
+    {
+    return threadSafe_;
+    }
+
+  /**
+   * Changes the maximum size (in bytes) of a request body written inline in test case code. If non-null, any larger
+   * request body is written to a {@link #getBodyResource resource file} in the test resource directory. If null,
+   * all request bodies are written inline.
+   */
+  public void setMaxInlineBodyBytes( Integer maxBytes)
+    {
+    maxInlineBodyBytes_ = maxBytes;
+    }
+
+  /**
+   * Returns the maximum size (in bytes) of a request body written inline in test case code. If non-null, any larger
+   * request body is written to a {@link #getBodyResource resource file} in the test resource directory. If null,
+   * all request bodies are written inline.
+   */
+  public Integer getMaxInlineBodyBytes()
+    {
+    return maxInlineBodyBytes_;
+    }
+
   /**
    * Changes the test case dependencies used by this writer.
    */
@@ -101,6 +143,7 @@ public abstract class BaseTestCaseWriter implements TestCaseWriter
 
     getDepends().setValidateResponses( validateResponses());
     getDepends().setTrustServer( trustServer());
+    getDepends().setThreadSafe( threadSafe());
 
     AuthDependsVisitor authDependsVisitor = new AuthDependsVisitor();
     requestCases.stream()
@@ -124,6 +167,86 @@ public abstract class BaseTestCaseWriter implements TestCaseWriter
       .ifPresent( multipart -> getDepends().setDependsMultipart());
     }
 
+  /**
+   * Prepare this writer to write any test resources to the given directory.
+   */
+  @Override
+  public void prepareTestResources( File resourceDir)
+    {
+    resourceDir_ = resourceDir;
+    }
+
+  /**
+   * Returns the directory for any test resources written by this writer. Returns null if no test resources can be written.
+   */
+  protected File getResourceDir()
+    {
+    return resourceDir_;
+    }
+
+  /**
+   * Prepare this writer to validate responses using the given response definitions resource.
+   */
+  @Override
+  public void prepareResponsesResource( String responsesResource)
+    {
+    responsesResource_ = responsesResource;
+    }
+
+  /**
+   * Returns the response definitions resource used to validate responses. Returns null if each test uses its
+   * default response definitions resource.
+   */
+  protected String getResponsesResource()
+    {
+    return responsesResource_;
+    }
+
+  /**
+   * If the given request body content is too {@link #getMaxInlineBodyBytes large} to write inline, writes it
+   * to a resource file in the test resource directory and returns the resource name. Otherwise, returns
+   * <CODE>Optional.empty()</CODE>.
+   * <P/>
+   * Each resource file is named for a hash of its content, so the same request body is written only once,
+   * no matter how many test cases use it.
+   */
+  protected Optional<String> getBodyResource( byte[] content)
+    {
+    return
+      Optional.ofNullable( getMaxInlineBodyBytes())
+      .filter( maxBytes -> getResourceDir() != null && content.length > maxBytes)
+      .map( maxBytes -> writeBodyResource( content));
+    }
+
+  /**
+   * Writes the given request body content to a resource file and returns the resource name.
+   */
+  private String writeBodyResource( byte[] content)
+    {
+    File resourceFile = null;
+    try
+      {
+      MessageDigest digest = MessageDigest.getInstance( "SHA-256");
+      String resource = String.format( "body-%064x.bin", new BigInteger( 1, digest.digest( content)));
+      resourceFile = new File( getResourceDir(), resource);
+
+      if( !resourceFile.exists())
+        {
+        // Write to a temporary file first, so that a resource shared by tests written concurrently is never incomplete.
+        Path resourceDir = Files.createDirectories( getResourceDir().toPath());
+        Path tempFile = Files.createTempFile( resourceDir, "body-", ".tmp");
+        Files.write( tempFile, content);
+        Files.move( tempFile, resourceFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+      return resource;
+      }
+    catch( Exception e)
+      {
+      throw new TestWriterException( String.format( "Can't write request body to resource file=%s", resourceFile), e);
+      }
+    }
+
   /**
    * Returns the default {@link #getConverter(String) converters} for this test case writer.
    */
@@ -212,6 +335,10 @@ public abstract class BaseTestCaseWriter implements TestCaseWriter
   private final Map<String,DataValueConverter<String>> converters_ = new HashMap<String,DataValueConverter<String>>();
   private boolean validateResponses_;
   private boolean trustServer_;
+  private boolean threadSafe_;
+  private Integer maxInlineBodyBytes_;
+  private File resourceDir_;
+  private String responsesResource_;
   private Depends depends_;
 
   /**
@@ -260,6 +387,22 @@ public abstract class BaseTestCaseWriter implements TestCaseWriter
       return trustServer_;
       }
 
+    /**
+     * Changes if generated test cases are safe to run concurrently.
+     */
+    public void setThreadSafe( boolean threadSafe)
+      {
+      threadSafe_ = threadSafe;
+      }
+
+    /**
+     * Returns if generated test cases are safe to run concurrently.
+     */
+    public boolean threadSafe()
+      {
+      return threadSafe_;
+      }
+
     /**
      * Registers a dependency on a runtime API server definition.
      */
@@ -393,10 +536,27 @@ public abstract class BaseTestCaseWriter implements TestCaseWriter
       return dependsMultipart_;
       }
 
+    /**
+     * Registers a dependency on request body resources.
+     */
+    public void setDependsBodyResource()
+      {
+      dependsBodyResource_ = true;
+      }
+    
+    /**
+     * Returns if there is a dependency on request body resources.
+     */
+    public boolean dependsBodyResource()
+      {
+      return dependsBodyResource_;
+      }
+
     private boolean dependsApiKey_;
     private boolean dependsAuthFailure_;
     private boolean dependsAuthHttp_;
     private boolean dependsAuth_;
+    private boolean dependsBodyResource_;
     private boolean dependsFailure_;
     private boolean dependsHttpBasic_;
     private boolean dependsHttpBearer_;
@@ -404,6 +564,7 @@ public abstract class BaseTestCaseWriter implements TestCaseWriter
     private boolean dependsServer_;
     private boolean validateResponses_;
     private boolean trustServer_;
+    private boolean threadSafe_;
     }
 
   /**
@@ -0,0 +1,124 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testwriter;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+
+import java.util.Optional;
+
+/**
+ * Writes Java source code for a data-driven JUnit test that executes API requests.
+ */
+@ApiTestWriter( name="junit-table", target="java")
+public class JUnitTableTestWriter extends TableJavaTestWriter
+  {
+  /**
+   * Creates a new JUnitTableTestWriter instance.
+   */
+  public JUnitTableTestWriter( TestCaseWriter testCaseWriter)
+    {
+    super( testCaseWriter);
+    }
+
+  /**
+   * Writes the target test annotation dependencies to the given stream.
+   */
+  @Override
+  protected void writeTestAnnotationDependencies( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println( "import java.util.List;");
+    targetWriter.println();
+    if( target.isStubServer())
+      {
+      targetWriter.println( "import org.junit.AfterClass;");
+      targetWriter.println( "import org.junit.BeforeClass;");
+      }
+    targetWriter.println( "import org.junit.Test;");
+    targetWriter.println( "import org.junit.runner.RunWith;");
+    targetWriter.println( "import org.junit.runners.Parameterized;");
+    targetWriter.println( "import org.junit.runners.Parameterized.Parameter;");
+    targetWriter.println( "import org.junit.runners.Parameterized.Parameters;");
+    }
+
+  /**
+   * Writes the annotations for the target test class to the given stream.
+   */
+  @Override
+  protected void writeClassAnnotations( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println( "@RunWith(Parameterized.class)");
+    }
+
+  /**
+   * Writes the definition of the parameters for each execution of the test method to the given stream.
+   */
+  @Override
+  protected void writeParametersDef( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println( "@Parameters(name=\"{0}\")");
+    targetWriter.println( "public static List<Object[]> requests() {");
+    targetWriter.indent();
+    targetWriter.println( "return requestTable.parameters();");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+
+    targetWriter.println();
+    targetWriter.println( "@Parameter");
+    targetWriter.println( "public RequestDef request;");
+    }
+
+  /**
+   * Writes the methods that start and stop the stub server for the test class to the given stream.
+   */
+  @Override
+  protected void writeStubServerLifecycle( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println( "@BeforeClass");
+    targetWriter.println( "public static void startStubServer() {");
+    targetWriter.indent();
+    targetWriter.println( "stubServer.start();");
+    targetWriter.println( "requestRunner.setStubServer( stubServer);");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+
+    targetWriter.println();
+    targetWriter.println( "@AfterClass");
+    targetWriter.println( "public static void stopStubServer() {");
+    targetWriter.indent();
+    targetWriter.println( "stubServer.stop();");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    }
+
+  /**
+   * Returns the parameter declarations for the test method.
+   */
+  @Override
+  protected String getTestMethodParams()
+    {
+    return "";
+    }
+
+  /**
+   * Writes the annotation for the target test method to the given stream.
+   */
+  @Override
+  protected void writeTestAnnotation( JavaTestTarget target, String testName, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    targetWriter.println(
+      String.format(
+        "@Test%s",
+        Optional.ofNullable( target.getTimeout())
+        .filter( timeout -> timeout > 0)
+        .map( timeout -> String.format( "(timeout=%s)", timeout))
+        .orElse( "")));
+    }
+  }
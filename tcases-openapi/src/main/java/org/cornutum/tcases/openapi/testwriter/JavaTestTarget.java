@@ -9,6 +9,8 @@ package org.cornutum.tcases.openapi.testwriter;
 
 import org.cornutum.tcases.util.ToString;
 
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
 import static org.apache.commons.lang3.StringUtils.abbreviateMiddle;
 import static org.apache.commons.lang3.StringUtils.trimToNull;
 
@@ -111,6 +113,44 @@ public class JavaTestTarget extends TestTarget
       .orElse( null);
     }
 
+  /**
+   * Changes the number of threads used to run test methods concurrently. If non-null, the test is written to be safe
+   * for parallel execution and, where the test framework allows, configured to run test methods in parallel.
+   * If null, test methods are run serially.
+   */
+  public void setParallel( Integer threads)
+    {
+    parallel_ = threads;
+    }
+
+  /**
+   * Returns the number of threads used to run test methods concurrently. If non-null, the test is written to be safe
+   * for parallel execution and, where the test framework allows, configured to run test methods in parallel.
+   * If null, test methods are run serially.
+   */
+  public Integer getParallel()
+    {
+    return parallel_;
+    }
+
+  /**
+   * Changes if a data-driven test starts a {@link org.cornutum.tcases.openapi.test.StubServer StubServer} that returns
+   * stub responses for its requests. If true, the test runs without the API server.
+   */
+  public void setStubServer( boolean stubServer)
+    {
+    stubServer_ = stubServer;
+    }
+
+  /**
+   * Returns if a data-driven test starts a {@link org.cornutum.tcases.openapi.test.StubServer StubServer} that returns
+   * stub responses for its requests. If true, the test runs without the API server.
+   */
+  public boolean isStubServer()
+    {
+    return stubServer_;
+    }
+
   /**
    * Returns the Java package for this target.
    */
@@ -156,9 +196,22 @@ public class JavaTestTarget extends TestTarget
   @Override
   public String toString()
     {
-    return
+    ToStringBuilder builder =
       ToString.getBuilder( this)
-      .append( "package", abbreviateMiddle( getPackage(), "...", 20))
+      .append( "package", abbreviateMiddle( getPackage(), "...", 20));
+
+    if( getParallel() != null)
+      {
+      builder.append( "parallel", getParallel());
+      }
+
+    if( isStubServer())
+      {
+      builder.append( "stubServer", isStubServer());
+      }
+
+    return
+      builder
       .appendSuper( super.toString())
       .toString();
     }
@@ -181,6 +234,8 @@ public class JavaTestTarget extends TestTarget
   
   private String package_;
   private String baseClass_;
+  private Integer parallel_;
+  private boolean stubServer_;
 
   /**
    * Builds a {@link TestTarget} instance.
@@ -230,6 +285,18 @@ public class JavaTestTarget extends TestTarget
       target_.setBaseClass( baseClass);
       return this;
       }
+
+    public Builder parallel( Integer threads)
+      {
+      target_.setParallel( threads);
+      return this;
+      }
+
+    public Builder stubServer( boolean stubServer)
+      {
+      target_.setStubServer( stubServer);
+      return this;
+      }
     
     /**
      * Returns the {@link JavaTestTarget} instance for this builder.
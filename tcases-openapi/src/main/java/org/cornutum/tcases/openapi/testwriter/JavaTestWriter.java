@@ -54,6 +54,16 @@ public abstract class JavaTestWriter extends TestWriter<TestSource,JavaTestTarge
    */
   protected abstract String getClassName( String testName);
 
+  /**
+   * Returns the file for the given part of a test written to the given target file.
+   */
+  @Override
+  protected File getPartFile( File targetFile, String partName)
+    {
+    // Each part is a separate public class, so its file name must match its class name.
+    return new File( targetFile.getParentFile(), String.format( "%s.java", getClassName( partName)));
+    }
+
   /**
    * Writes the target test opening to the given stream.
    */
@@ -94,10 +104,19 @@ public abstract class JavaTestWriter extends TestWriter<TestSource,JavaTestTarge
     classDecl.append( " {");
     
     targetWriter.println();
+    writeClassAnnotations( target, testName, targetWriter);
     targetWriter.println( classDecl.toString());
     targetWriter.indent();
     }
 
+  /**
+   * Writes the annotations for the target test class to the given stream.
+   */
+  protected void writeClassAnnotations( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    // By default, none.
+    }
+
   /**
    * Writes the target test closing to the given stream.
    */
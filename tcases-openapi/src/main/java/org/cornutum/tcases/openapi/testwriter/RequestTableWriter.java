@@ -0,0 +1,321 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testwriter;
+
+import org.cornutum.tcases.openapi.resolver.ApiKeyDef;
+import org.cornutum.tcases.openapi.resolver.AuthDef;
+import org.cornutum.tcases.openapi.resolver.AuthDefVisitor;
+import org.cornutum.tcases.openapi.resolver.EncodingData;
+import org.cornutum.tcases.openapi.resolver.HttpBasicDef;
+import org.cornutum.tcases.openapi.resolver.HttpBearerDef;
+import org.cornutum.tcases.openapi.resolver.MessageData;
+import org.cornutum.tcases.openapi.resolver.ParamData;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.test.MediaRange;
+import org.cornutum.tcases.openapi.test.RequestDef;
+import org.cornutum.tcases.openapi.test.RequestDef.AuthLocation;
+import org.cornutum.tcases.openapi.test.RequestDef.AuthType;
+import org.cornutum.tcases.openapi.test.RequestDef.Expect;
+import org.cornutum.tcases.openapi.test.RequestTable;
+import org.cornutum.tcases.openapi.testwriter.encoder.DataValueBinary;
+import org.cornutum.tcases.openapi.testwriter.encoder.DataValueConverter;
+import org.cornutum.tcases.openapi.testwriter.encoder.FormUrlEncoder;
+import org.cornutum.tcases.openapi.testwriter.encoder.SimpleValueEncoder;
+import org.cornutum.tcases.resolve.DataValue;
+import org.cornutum.tcases.resolve.ObjectValue;
+import org.cornutum.tcases.util.ToString;
+import static org.cornutum.tcases.openapi.testwriter.TestWriterUtils.*;
+import static org.cornutum.tcases.openapi.testwriter.java.TestCaseWriterUtils.serverUri;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Converts {@link RequestCase request cases} into the {@link RequestDef request definitions} of a {@link RequestTable}
+ * executed by a data-driven test.
+ * <P/>
+ * All request inputs are serialized when the test is written, using the media type converters and options of the
+ * given {@link BaseTestCaseWriter}, so that each request can be sent at runtime without reference to the OpenAPI definition.
+ */
+public class RequestTableWriter
+  {
+  /**
+   * Creates a new RequestTableWriter instance.
+   */
+  public RequestTableWriter( TestCaseWriter testCaseWriter)
+    {
+    testCaseWriter_ =
+      Optional.ofNullable( testCaseWriter)
+      .filter( tcw -> tcw instanceof BaseTestCaseWriter)
+      .map( tcw -> (BaseTestCaseWriter) tcw)
+      .orElseThrow( () -> new TestWriterException( String.format( "Can't serialize request cases using testCaseWriter=%s", testCaseWriter)));
+    }
+
+  /**
+   * Returns a new empty request table.
+   */
+  public RequestTable createRequestTable()
+    {
+    RequestTable table = new RequestTable();
+    table.setValidateResponses( testCaseWriter_.validateResponses());
+    table.setTrustServer( testCaseWriter_.trustServer());
+    return table;
+    }
+
+  /**
+   * Returns the definition of the given request case. If non-null, the specified <CODE>testServer</CODE> supersedes
+   * the URI for the API server defined by the <CODE>requestCase</CODE>.
+   */
+  public RequestDef getRequestDef( String name, URI testServer, RequestCase requestCase)
+    {
+    try
+      {
+      RequestDef request = new RequestDef( name, requestCase.getOperation(), requestCase.getPath());
+      request.setServer( serverUri( testServer, requestCase).orElse( null));
+
+      for( ParamData param : requestCase.getParams())
+        {
+        addParam( request, param);
+        }
+
+      for( AuthDef authDef : requestCase.getAuthDefs())
+        {
+        request.addAuth( AuthLocation.valueOf( authDef.getLocation().name()), authDef.getName(), AuthTypeVisitor.typeOf( authDef));
+        }
+
+      Optional.ofNullable( requestCase.getBody())
+        .filter( body -> body.getValue() != null)
+        .ifPresent( body -> setBody( request, body));
+
+      if( requestCase.isFailure())
+        {
+        request.setExpect( requestCase.isAuthFailure()? Expect.UNAUTHORIZED : Expect.BAD_REQUEST);
+        request.setInvalidInput( requestCase.getInvalidInput());
+        }
+
+      return request;
+      }
+    catch( Exception e)
+      {
+      throw new TestWriterException( String.format( "Can't get request definition for test case=%s", requestCase), e);
+      }
+    }
+
+  /**
+   * Writes the given request table to the given resource file.
+   */
+  public void writeRequestTable( RequestTable table, File resourceFile)
+    {
+    File resourceDir = resourceFile.getAbsoluteFile().getParentFile();
+    if( !(resourceDir.exists() || resourceDir.mkdirs()))
+      {
+      throw new TestWriterException( String.format( "Can't create resourceDir=%s", resourceDir));
+      }
+
+    try( OutputStreamWriter writer = new OutputStreamWriter( new FileOutputStream( resourceFile), "UTF-8"))
+      {
+      RequestTable.write( table, writer);
+      }
+    catch( Exception e)
+      {
+      throw new TestWriterException( String.format( "Can't write request definitions to resourceFile=%s", resourceFile), e);
+      }
+    }
+
+  /**
+   * Adds the given request parameter to the given request definition.
+   */
+  private void addParam( RequestDef request, ParamData param)
+    {
+    switch( param.getLocation())
+      {
+      case QUERY:
+        {
+        getQueryParameters( param, true).forEach( entry -> request.addQueryParam( entry.getKey(), entry.getValue()));
+        break;
+        }
+
+      case PATH:
+        {
+        request.addPathParam( param.getName(), getPathParameterValue( param, true));
+        break;
+        }
+
+      case HEADER:
+        {
+        getHeaderParameterValue( param).ifPresent( value -> request.addHeader( param.getName(), value));
+        break;
+        }
+
+      case COOKIE:
+        {
+        getCookieParameters( param).forEach( entry -> request.addCookie( entry.getKey(), entry.getValue()));
+        break;
+        }
+      }
+    }
+
+  /**
+   * Changes the body of the given request definition.
+   */
+  private void setBody( RequestDef request, MessageData body)
+    {
+    MediaRange mediaType = MediaRange.of( body.getMediaType());
+
+    if( "application/octet-stream".equals( mediaType.base()))
+      {
+      request.setBody( String.valueOf( mediaType), DataValueBinary.toBytes( body.getValue()));
+      }
+
+    else if( "application/x-www-form-urlencoded".equals( mediaType.base()))
+      {
+      String form =
+        FormUrlEncoder.encode( body.getValue(), body.getEncodings(), true).stream()
+        .map( entry -> Optional.ofNullable( entry.getValue()).map( value -> String.format( "%s=%s", entry.getKey(), value)).orElse( entry.getKey()))
+        .collect( joining( "&"));
+
+      request.setBody( String.valueOf( mediaType), form.getBytes( StandardCharsets.UTF_8));
+      }
+
+    else if( "multipart/form-data".equals( mediaType.base()))
+      {
+      request.setBody( String.format( "%s; boundary=%s", mediaType.base(), MULTIPART_BOUNDARY), getMultipartBytes( body));
+      }
+
+    else
+      {
+      request.setBody(
+        String.valueOf( mediaType),
+        getConverter( mediaType).convert( body.getValue()).getBytes( StandardCharsets.UTF_8));
+      }
+    }
+
+  /**
+   * Returns the <CODE>multipart/form-data</CODE> content for the given body.
+   */
+  private byte[] getMultipartBytes( MessageData body)
+    {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    // Multipart forms apply only to object values. Non-object values, which may be supplied by failure test cases, are all
+    // handled as "empty body".
+    if( body.getValue().getType() == DataValue.Type.OBJECT)
+      {
+      ObjectValue objectValue = (ObjectValue) body.getValue();
+      objectValue.getValue()
+        .forEach( (property, value) -> {
+          EncodingData encoding = body.getEncodings().get( property);
+          MediaRange contentType = MediaRange.of( encoding.getContentType());
+
+          StringBuilder partHeaders = new StringBuilder();
+          partHeaders.append( String.format( "--%s\r\n", MULTIPART_BOUNDARY));
+          partHeaders.append( String.format( "Content-Disposition: form-data; name=\"%s\"; filename=\"\"\r\n", property));
+          partHeaders.append( String.format( "Content-Type: %s\r\n", contentType));
+          encoding.getHeaders()
+            .forEach( header -> {
+              partHeaders.append(
+                String.format(
+                  "%s: %s\r\n",
+                  header.getName(),
+                  SimpleValueEncoder.encode( header.getValue(), header.isExploded())));
+              });
+          partHeaders.append( "\r\n");
+
+          byte[] partData =
+            "application/octet-stream".equals( contentType.base())?
+            DataValueBinary.toBytes( value) :
+
+            "application/x-www-form-urlencoded".equals( contentType.base())?
+            FormUrlEncoder.toForm( value).getBytes( StandardCharsets.UTF_8) :
+
+            getConverter( contentType).convert( value).getBytes( StandardCharsets.UTF_8);
+
+          writeBytes( bytes, partHeaders.toString().getBytes( StandardCharsets.UTF_8));
+          writeBytes( bytes, partData);
+          writeBytes( bytes, "\r\n".getBytes( StandardCharsets.UTF_8));
+          });
+
+      writeBytes( bytes, String.format( "--%s--\r\n", MULTIPART_BOUNDARY).getBytes( StandardCharsets.UTF_8));
+      }
+
+    return bytes.toByteArray();
+    }
+
+  /**
+   * Returns the serializer for the given media type.
+   */
+  private DataValueConverter<String> getConverter( MediaRange mediaType)
+    {
+    return
+      testCaseWriter_.getConverter( mediaType)
+      .orElseThrow( () -> new TestWriterException( String.format( "No serializer defined for mediaType=%s", mediaType)));
+    }
+
+  /**
+   * Appends the given bytes to the given stream.
+   */
+  private static void writeBytes( ByteArrayOutputStream stream, byte[] bytes)
+    {
+    stream.write( bytes, 0, bytes.length);
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( testCaseWriter_)
+      .toString();
+    }
+
+  /**
+   * Returns the type of credentials for an authentication definition.
+   */
+  private static class AuthTypeVisitor implements AuthDefVisitor
+    {
+    /**
+     * Returns the type of credentials for the given authentication definition.
+     */
+    private static AuthType typeOf( AuthDef authDef)
+      {
+      AuthTypeVisitor visitor = new AuthTypeVisitor();
+      authDef.accept( visitor);
+      return visitor.type_;
+      }
+
+    @Override
+    public void visit( ApiKeyDef authDef)
+      {
+      type_ = AuthType.API_KEY;
+      }
+
+    @Override
+    public void visit( HttpBasicDef authDef)
+      {
+      type_ = AuthType.HTTP_BASIC;
+      }
+
+    @Override
+    public void visit( HttpBearerDef authDef)
+      {
+      type_ = AuthType.HTTP_BEARER;
+      }
+
+    private AuthType type_;
+    }
+
+  private final BaseTestCaseWriter testCaseWriter_;
+
+  private static final String MULTIPART_BOUNDARY = "tcases-e9f1c1a3b7d24f0c8a5b";
+  }
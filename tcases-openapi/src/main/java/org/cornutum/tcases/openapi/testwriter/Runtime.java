@@ -118,7 +118,8 @@ public final class Runtime
     return
       new AnnotationFinder()
       .inPackage( "org.cornutum.tcases.openapi.testwriter")
-      .inPackage( "org.cornutum.tcases.openapi.restassured");
+      .inPackage( "org.cornutum.tcases.openapi.restassured")
+      .inPackage( "org.cornutum.tcases.openapi.httpclient");
     }
 
   }
@@ -0,0 +1,169 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testwriter;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.test.RequestTable;
+import static org.cornutum.tcases.openapi.testwriter.TestWriterUtils.stringLiteral;
+
+import static org.apache.commons.io.FilenameUtils.getBaseName;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base class for {@link JavaTestWriter} implementations that write a data-driven test.
+ * <P/>
+ * Instead of a separate test method for each request case, a data-driven test contains a single test method that is
+ * executed for each request defined by a {@link RequestTable}. The request table is written to a
+ * "<CODE>&lt;<I>testClass</I>&gt;-Requests.json</CODE>" resource file, and each request is executed by a
+ * {@link org.cornutum.tcases.openapi.test.RequestRunner RequestRunner} at runtime. The {@link TestCaseWriter} supplies
+ * only the options and serializers used to define each request.
+ * <P/>
+ * If the {@link JavaTestTarget#isStubServer stubServer} option is enabled, the test also starts a
+ * {@link org.cornutum.tcases.openapi.test.StubServer StubServer} that returns stub responses for all requests in
+ * the request table, so the test runs without the API server.
+ */
+public abstract class TableJavaTestWriter extends AnnotatedJavaTestWriter
+  {
+  /**
+   * Creates a new TableJavaTestWriter instance.
+   */
+  protected TableJavaTestWriter( TestCaseWriter testCaseWriter)
+    {
+    super( testCaseWriter);
+    }
+
+  /**
+   * Writes the definition of the parameters for each execution of the test method to the given stream.
+   */
+  protected abstract void writeParametersDef( JavaTestTarget target, String testName, IndentedWriter targetWriter);
+
+  /**
+   * Returns the parameter declarations for the test method.
+   */
+  protected abstract String getTestMethodParams();
+
+  /**
+   * Writes the methods that start and stop the stub server for the test class to the given stream.
+   */
+  protected abstract void writeStubServerLifecycle( JavaTestTarget target, String testName, IndentedWriter targetWriter);
+
+  /**
+   * Writes the target test prolog to the given stream.
+   */
+  @Override
+  protected void writeProlog( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    // Requests are executed by the RequestRunner, so no test case dependencies or declarations are written.
+    writeOpening( target, testName, targetWriter);
+    writeDependencies( target, testName, targetWriter);
+    writeDeclarations( target, testName, targetWriter);
+    }
+
+  /**
+   * Writes the target test dependencies to the given stream.
+   */
+  @Override
+  protected void writeDependencies( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    super.writeDependencies( target, testName, targetWriter);
+
+    targetWriter.println();
+    targetWriter.println( "import org.cornutum.tcases.openapi.test.RequestDef;");
+    targetWriter.println( "import org.cornutum.tcases.openapi.test.RequestRunner;");
+    targetWriter.println( "import org.cornutum.tcases.openapi.test.RequestTable;");
+    if( target.isStubServer())
+      {
+      targetWriter.println( "import org.cornutum.tcases.openapi.test.StubServer;");
+      }
+    }
+
+  /**
+   * Writes the target test declarations to the given stream.
+   */
+  @Override
+  protected void writeDeclarations( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    super.writeDeclarations( target, testName, targetWriter);
+
+    String className = getClassName( testName);
+    String responsesResource =
+      Optional.ofNullable( getResponsesResource())
+      .map( resource -> String.format( ", %s", stringLiteral( resource)))
+      .orElse( "");
+
+    targetWriter.println();
+    targetWriter.println( String.format( "private static final RequestTable requestTable = RequestTable.forTest( %s.class);", className));
+    targetWriter.println(
+      String.format(
+        "private static final RequestRunner requestRunner = new RequestRunner( %s.class, requestTable%s);",
+        className,
+        responsesResource));
+
+    if( target.isStubServer())
+      {
+      targetWriter.println(
+        String.format(
+          "private static final StubServer stubServer = StubServer.forTest( %s.class, requestTable%s);",
+          className,
+          responsesResource));
+      }
+    }
+
+  /**
+   * Writes the target test cases to the given stream.
+   */
+  @Override
+  protected void writeTestCases( JavaTestTarget target, String testName, List<RequestCase> requestCases, IndentedWriter targetWriter)
+    {
+    writeParametersDef( target, testName, targetWriter);
+
+    if( target.isStubServer())
+      {
+      writeStubServerLifecycle( target, testName, targetWriter);
+      }
+
+    targetWriter.println();
+    writeTestAnnotation( target, testName, null, targetWriter);
+    targetWriter.println( String.format( "public void execute(%s) {", getTestMethodParams()));
+    targetWriter.indent();
+    targetWriter.println( "requestRunner.run( request);");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    }
+
+  /**
+   * Writes the target test epilog to the given stream.
+   */
+  @Override
+  protected void writeEpilog( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    writeClosing( target, testName, targetWriter);
+    }
+
+  /**
+   * Writes the request table for the given request test cases to the given resource directory.
+   */
+  @Override
+  protected void writeTestResources( JavaTestTarget target, String testName, File targetFile, File resourceDir, List<RequestCase> requestCases)
+    {
+    if( resourceDir == null)
+      {
+      throw new TestWriterException( String.format( "Can't write request definitions for test=%s -- no resource directory defined", testName));
+      }
+
+    RequestTableWriter tableWriter = new RequestTableWriter( getTestCaseWriter());
+    RequestTable table = tableWriter.createRequestTable();
+    requestCases.forEach( requestCase -> table.add( tableWriter.getRequestDef( getMethodName( requestCase), getTestServer( requestCase), requestCase)));
+
+    tableWriter.writeRequestTable( table, new File( resourceDir, String.format( "%s-Requests.json", getBaseName( targetFile.getName()))));
+    }
+  }
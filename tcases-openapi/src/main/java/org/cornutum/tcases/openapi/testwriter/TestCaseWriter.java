@@ -10,6 +10,7 @@ package org.cornutum.tcases.openapi.testwriter;
 import org.cornutum.tcases.io.IndentedWriter;
 import org.cornutum.tcases.openapi.resolver.RequestCase;
 
+import java.io.File;
 import java.net.URI;
 import java.util.List;
 
@@ -25,6 +26,24 @@ public interface TestCaseWriter
     {
     // By default, nothing to do.
     }
+
+  /**
+   * Prepare this writer to write any test resources to the given directory. If <CODE>resourceDir</CODE> is null,
+   * no test resources can be written.
+   */
+  default void prepareTestResources( File resourceDir)
+    {
+    // By default, nothing to do.
+    }
+
+  /**
+   * Prepare this writer to validate responses using the given response definitions resource. If <CODE>responsesResource</CODE>
+   * is null, each test uses its default response definitions resource.
+   */
+  default void prepareResponsesResource( String responsesResource)
+    {
+    // By default, nothing to do.
+    }
   
   /**
    * Writes the dependencies for target test cases to the given stream.
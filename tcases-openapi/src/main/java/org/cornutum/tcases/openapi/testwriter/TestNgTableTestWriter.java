@@ -0,0 +1,111 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testwriter;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+
+import java.util.Optional;
+
+/**
+ * Writes Java source code for a data-driven TestNG test that executes API requests.
+ */
+@ApiTestWriter( name="testng-table", target="java")
+public class TestNgTableTestWriter extends TableJavaTestWriter
+  {
+  /**
+   * Creates a new TestNgTableTestWriter instance.
+   */
+  public TestNgTableTestWriter( TestCaseWriter testCaseWriter)
+    {
+    super( testCaseWriter);
+    }
+
+  /**
+   * Writes the target test annotation dependencies to the given stream.
+   */
+  @Override
+  protected void writeTestAnnotationDependencies( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println( "import java.util.Iterator;");
+    targetWriter.println();
+    if( target.isStubServer())
+      {
+      targetWriter.println( "import org.testng.annotations.AfterClass;");
+      targetWriter.println( "import org.testng.annotations.BeforeClass;");
+      }
+    targetWriter.println( "import org.testng.annotations.DataProvider;");
+    targetWriter.println( "import org.testng.annotations.Test;");
+    }
+
+  /**
+   * Writes the definition of the parameters for each execution of the test method to the given stream.
+   */
+  @Override
+  protected void writeParametersDef( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println(
+      String.format(
+        "@DataProvider(name=\"requests\"%s)",
+        Optional.ofNullable( target.getParallel()).map( threads -> ",parallel=true").orElse( "")));
+    targetWriter.println( "public static Iterator<Object[]> requests() {");
+    targetWriter.indent();
+    targetWriter.println( "return requestTable.parameters().iterator();");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    }
+
+  /**
+   * Writes the methods that start and stop the stub server for the test class to the given stream.
+   */
+  @Override
+  protected void writeStubServerLifecycle( JavaTestTarget target, String testName, IndentedWriter targetWriter)
+    {
+    targetWriter.println();
+    targetWriter.println( "@BeforeClass");
+    targetWriter.println( "public void startStubServer() {");
+    targetWriter.indent();
+    targetWriter.println( "stubServer.start();");
+    targetWriter.println( "requestRunner.setStubServer( stubServer);");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+
+    targetWriter.println();
+    targetWriter.println( "@AfterClass(alwaysRun=true)");
+    targetWriter.println( "public void stopStubServer() {");
+    targetWriter.indent();
+    targetWriter.println( "stubServer.stop();");
+    targetWriter.unindent();
+    targetWriter.println( "}");
+    }
+
+  /**
+   * Returns the parameter declarations for the test method.
+   */
+  @Override
+  protected String getTestMethodParams()
+    {
+    return " RequestDef request";
+    }
+
+  /**
+   * Writes the annotation for the target test method to the given stream.
+   */
+  @Override
+  protected void writeTestAnnotation( JavaTestTarget target, String testName, RequestCase requestCase, IndentedWriter targetWriter)
+    {
+    targetWriter.println(
+      String.format(
+        "@Test(dataProvider=\"requests\"%s)",
+        Optional.ofNullable( target.getTimeout())
+        .filter( timeout -> timeout > 0)
+        .map( timeout -> String.format( ",timeOut=%s", timeout))
+        .orElse( "")));
+    }
+  }
@@ -10,6 +10,11 @@ package org.cornutum.tcases.openapi.testwriter;
 import org.cornutum.tcases.io.IndentedWriter;
 import org.cornutum.tcases.openapi.resolver.RequestCase;
 
+import static org.apache.commons.io.FilenameUtils.getBaseName;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -49,4 +54,52 @@ public class TestNgTestWriter extends AnnotatedJavaTestWriter
         .map( timeout -> String.format( "(timeOut=%s)", timeout))
         .orElse( "")));
     }
+
+  /**
+   * If the target runs test methods in {@link JavaTestTarget#getParallel parallel}, writes a
+   * "<CODE>&lt;<I>testClass</I>&gt;-testng.xml</CODE>" suite definition that runs the test methods
+   * concurrently to the given resource directory.
+   */
+  @Override
+  protected void writeTestResources( JavaTestTarget target, String testName, File targetFile, File resourceDir, List<RequestCase> requestCases)
+    {
+    Integer threads = target.getParallel();
+    if( threads != null && resourceDir != null)
+      {
+      if( !(resourceDir.exists() || resourceDir.mkdirs()))
+        {
+        throw new TestWriterException( String.format( "Can't create resourceDir=%s", resourceDir));
+        }
+
+      String className = getBaseName( targetFile.getName());
+      String classFqn =
+        Optional.ofNullable( target.getTargetPackage())
+        .map( packageName -> String.format( "%s.%s", packageName, className))
+        .orElse( className);
+      File suiteFile = new File( resourceDir, String.format( "%s-testng.xml", className));
+
+      try( IndentedWriter suiteWriter = new IndentedWriter( new FileOutputStream( suiteFile)))
+        {
+        suiteWriter.setIndent( 2);
+        suiteWriter.println( "<!DOCTYPE suite SYSTEM \"https://testng.org/testng-1.0.dtd\">");
+        suiteWriter.println( String.format( "<suite name=\"%s\" parallel=\"methods\" thread-count=\"%s\">", className, threads));
+        suiteWriter.indent();
+        suiteWriter.println( String.format( "<test name=\"%s\">", className));
+        suiteWriter.indent();
+        suiteWriter.println( "<classes>");
+        suiteWriter.indent();
+        suiteWriter.println( String.format( "<class name=\"%s\"/>", classFqn));
+        suiteWriter.unindent();
+        suiteWriter.println( "</classes>");
+        suiteWriter.unindent();
+        suiteWriter.println( "</test>");
+        suiteWriter.unindent();
+        suiteWriter.println( "</suite>");
+        }
+      catch( Exception e)
+        {
+        throw new TestWriterException( String.format( "Can't write TestNG suite definition to resourceFile=%s", suiteFile), e);
+        }
+      }
+    }
   }
@@ -133,6 +133,38 @@ public class TestTarget
     return timeout_;
     }
 
+  /**
+   * Changes the maximum number of test cases written to a single test. If null, the number of test cases is unlimited.
+   */
+  public void setMaxTestCases( Integer maxCases)
+    {
+    maxTestCases_ = maxCases;
+    }
+
+  /**
+   * Returns the maximum number of test cases written to a single test. If null, the number of test cases is unlimited.
+   */
+  public Integer getMaxTestCases()
+    {
+    return maxTestCases_;
+    }
+
+  /**
+   * Changes the maximum number of bytes of test case code written to a single test. If null, the size of a test is unlimited.
+   */
+  public void setMaxTestBytes( Long maxBytes)
+    {
+    maxTestBytes_ = maxBytes;
+    }
+
+  /**
+   * Returns the maximum number of bytes of test case code written to a single test. If null, the size of a test is unlimited.
+   */
+  public Long getMaxTestBytes()
+    {
+    return maxTestBytes_;
+    }
+
   @Override
   public String toString()
     {
@@ -169,6 +201,16 @@ public class TestTarget
       builder.append( "timeout", getTimeout());
       }
 
+    if( getMaxTestCases() != null)
+      {
+      builder.append( "maxTestCases", getMaxTestCases());
+      }
+
+    if( getMaxTestBytes() != null)
+      {
+      builder.append( "maxTestBytes", getMaxTestBytes());
+      }
+
     return builder.toString();    
     }
 
@@ -200,6 +242,8 @@ public class TestTarget
   private File dir_;
   private File resourceDir_;
   private Long timeout_;
+  private Integer maxTestCases_;
+  private Long maxTestBytes_;
 
   /**
    * Builds a {@link TestTarget} instance.
@@ -286,5 +330,17 @@ public class TestTarget
       getTestTarget().setTimeout( timeout);
       return (T) this;
       }
+
+    public T maxTestCases( Integer maxCases)
+      {
+      getTestTarget().setMaxTestCases( maxCases);
+      return (T) this;
+      }
+
+    public T maxTestBytes( Long maxBytes)
+      {
+      getTestTarget().setMaxTestBytes( maxBytes);
+      return (T) this;
+      }
     }
   }
@@ -13,6 +13,7 @@ import org.cornutum.tcases.openapi.test.ResponsesDef;
 import org.cornutum.tcases.util.ToString;
 
 import static org.apache.commons.io.FilenameUtils.getBaseName;
+import static org.apache.commons.io.FilenameUtils.getExtension;
 import static org.apache.commons.io.IOUtils.closeQuietly;
 
 import java.io.File;
@@ -20,6 +21,7 @@ import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +41,11 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
   /**
    * Creates a test that executes the request test cases defined by the given {@link TestSource source}
    * and writes the result to the given {@link TestTarget target}.
+   * <P/>
+   * If the target limits the {@link TestTarget#getMaxTestCases number} or {@link TestTarget#getMaxTestBytes size}
+   * of test cases in a single test, the test cases are split among multiple tests, each with the same declarations.
+   * Each part is written to a separate test with a name derived from the test name and the index of the part.
+   * All parts share a single response definitions resource, named for the whole test.
    */
   public void writeTest( S source, T target)
     {
@@ -48,8 +55,44 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
       }
     
     String testName = getTestName( source, target);
-    File targetFile = getTargetFile( target, testName);
+    getTestCaseWriter().prepareTestResources( getTestResourceDir( getTargetFile( target, testName), target.getResourceDir()));
+
+    List<List<RequestCase>> parts = getTestParts( target, testName, source.getRequestCases());
+    if( parts.size() == 1)
+      {
+      writeTest( source, target, testName, getTargetFile( target, testName), parts.get(0));
+      }
+    else
+      {
+      File targetFile = getTargetFile( target, testName);
+      File resourceDir = getTestResourceDir( targetFile, target.getResourceDir());
+      prepareResponsesResource(
+        Optional.ofNullable( source.getResponses())
+        .filter( responses -> resourceDir != null)
+        .map( responses -> writeResponsesDef( responses, targetFile, resourceDir))
+        .orElse( null));
+
+      try
+        {
+        for( int i = 0; i < parts.size(); i++)
+          {
+          String partName = getPartName( testName, i + 1);
+          writeTest( source, target, partName, Optional.ofNullable( targetFile).map( file -> getPartFile( file, partName)).orElse( null), parts.get(i));
+          }
+        }
+      finally
+        {
+        prepareResponsesResource( null);
+        }
+      }
+    }
 
+  /**
+   * Writes a test that executes the given request test cases to the given target file. If the target file is null,
+   * writes the test to the target output stream.
+   */
+  private void writeTest( S source, T target, String testName, File targetFile, List<RequestCase> requestCases)
+    {
     File targetDir =
       Optional.ofNullable( targetFile)
       .flatMap( file -> Optional.ofNullable( file.getParentFile()))
@@ -78,9 +121,9 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
       targetWriter = new IndentedWriter( targetStream);
       targetWriter.setIndent( 4);
 
-      prepareTestCases( source.getRequestCases());
+      prepareTestCases( requestCases);
       writeProlog( target, testName, targetWriter);
-      writeTestCases( target, testName, source.getRequestCases(), targetWriter);
+      writeTestCases( target, testName, requestCases, targetWriter);
       writeEpilog( target, testName, targetWriter);
       }
     catch( Exception e)
@@ -98,7 +141,87 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
       }
 
     Optional.ofNullable( source.getResponses())
+      .filter( responses -> getResponsesResource() == null)
       .ifPresent( responses -> writeResponsesDef( responses, targetFile, getTestResourceDir( targetFile, target.getResourceDir())));
+
+    writeTestResources( target, testName, targetFile, getTestResourceDir( targetFile, target.getResourceDir()), requestCases);
+    }
+
+  /**
+   * Returns the given request cases, split into parts that satisfy the test size limits defined by the given target.
+   */
+  protected List<List<RequestCase>> getTestParts( T target, String testName, List<RequestCase> requestCases)
+    {
+    Integer maxCases = target.getMaxTestCases();
+    Long maxBytes = target.getMaxTestBytes();
+
+    if( maxBytes != null)
+      {
+      prepareTestCases( requestCases);
+      }
+
+    List<List<RequestCase>> parts = new ArrayList<List<RequestCase>>();
+    List<RequestCase> part = new ArrayList<RequestCase>();
+    long partBytes = 0;
+    for( RequestCase requestCase : requestCases)
+      {
+      long bytes = maxBytes == null? 0 : getTestCaseBytes( target, testName, requestCase);
+      boolean partFull =
+        !part.isEmpty()
+        && ((maxCases != null && part.size() >= maxCases) || (maxBytes != null && partBytes + bytes > maxBytes));
+
+      if( partFull)
+        {
+        parts.add( part);
+        part = new ArrayList<RequestCase>();
+        partBytes = 0;
+        }
+
+      part.add( requestCase);
+      partBytes += bytes;
+      }
+    if( !part.isEmpty() || parts.isEmpty())
+      {
+      parts.add( part);
+      }
+
+    return parts;
+    }
+
+  /**
+   * Returns the size of the given test case, measured by the number of bytes of test code written for it.
+   */
+  protected long getTestCaseBytes( T target, String testName, RequestCase requestCase)
+    {
+    ByteCounter counter = new ByteCounter();
+    IndentedWriter counterWriter = new IndentedWriter( counter);
+    counterWriter.setIndent( 4);
+    writeTestCase( target, testName, requestCase, counterWriter);
+    counterWriter.flush();
+
+    return counter.getBytes();
+    }
+
+  /**
+   * Returns the name of the given part of a test that is split into multiple parts.
+   */
+  protected String getPartName( String testName, int part)
+    {
+    return String.format( "%s_%s", testName, part);
+    }
+
+  /**
+   * Returns the file for the given part of a test written to the given target file.
+   */
+  protected File getPartFile( File targetFile, String partName)
+    {
+    return
+      new File(
+        targetFile.getParentFile(),
+        Optional.of( getExtension( targetFile.getName()))
+        .filter( extension -> !extension.isEmpty())
+        .map( extension -> String.format( "%s.%s", partName, extension))
+        .orElse( partName));
     }
 
   /**
@@ -257,10 +380,12 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
   protected abstract void writeClosing( T target, String testName, IndentedWriter targetWriter);
 
   /**
-   * Writes the given responses definitions to a resource file associated with the test target file.
+   * Writes the given responses definitions to a resource file associated with the test target file
+   * and returns the resource name. Returns null if no resource directory is defined.
    */
-  protected void writeResponsesDef( ResponsesDef responses, File targetFile, File resourceDir)
+  protected String writeResponsesDef( ResponsesDef responses, File targetFile, File resourceDir)
     {
+    String resource = null;
     if( resourceDir != null)
       {
       if( !(resourceDir.exists() || resourceDir.mkdirs()))
@@ -268,7 +393,8 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
         throw new TestWriterException( String.format( "Can't create resourceDir=%s", resourceDir));
         }
 
-      File resourceFile = new File( resourceDir, String.format( "%s-Responses.json", getBaseName( targetFile.getName())));
+      resource = String.format( "%s-Responses.json", getBaseName( targetFile.getName()));
+      File resourceFile = new File( resourceDir, resource);
 
       try( OutputStreamWriter writer = new OutputStreamWriter( new FileOutputStream( resourceFile), "UTF-8"))
         {
@@ -279,6 +405,36 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
         throw new TestWriterException( String.format( "Can't write responses definition to resourceFile=%s", resourceFile), e);
         }
       }
+
+    return resource;
+    }
+
+  /**
+   * Prepare this writer to validate responses using the given response definitions resource, shared by all parts
+   * of a test. If <CODE>responsesResource</CODE> is null, each test uses its own response definitions resource.
+   */
+  protected void prepareResponsesResource( String responsesResource)
+    {
+    responsesResource_ = responsesResource;
+    getTestCaseWriter().prepareResponsesResource( responsesResource);
+    }
+
+  /**
+   * Returns the response definitions resource shared by all parts of the current test. Returns null if
+   * each test uses its own response definitions resource.
+   */
+  protected String getResponsesResource()
+    {
+    return responsesResource_;
+    }
+
+  /**
+   * Writes any other resources used to execute the given request test cases to the given resource directory.
+   * If the <CODE>targetFile</CODE> is null, the test is written to a stream and no resource directory is defined.
+   */
+  protected void writeTestResources( T target, String testName, File targetFile, File resourceDir, List<RequestCase> requestCases)
+    {
+    // By default, none needed.
     }
 
   /**
@@ -308,4 +464,33 @@ public abstract class TestWriter<S extends TestSource, T extends TestTarget>
     }
 
   private final TestCaseWriter testCaseWriter_;
+  private String responsesResource_;
+
+  /**
+   * Counts the bytes written to an output stream, discarding the output.
+   */
+  private static class ByteCounter extends OutputStream
+    {
+    @Override
+    public void write( int b)
+      {
+      bytes_++;
+      }
+
+    @Override
+    public void write( byte[] b, int off, int len)
+      {
+      bytes_ += len;
+      }
+
+    /**
+     * Returns the number of bytes written.
+     */
+    public long getBytes()
+      {
+      return bytes_;
+      }
+
+    private long bytes_;
+    }
   }
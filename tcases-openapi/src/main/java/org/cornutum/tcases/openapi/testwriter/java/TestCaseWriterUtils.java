@@ -20,8 +20,12 @@ import static org.cornutum.tcases.openapi.testwriter.TestWriterUtils.stringLiter
 import org.apache.commons.lang3.StringUtils;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Defines common methods for generating standard Java methods used by {@link org.cornutum.tcases.openapi.testwriter.TestCaseWriter} implementations.
@@ -45,6 +49,40 @@ public final class TestCaseWriterUtils
     targetWriter.println( "private ResponseValidator responseValidator = new ResponseValidator( getClass());");
     }
 
+  /**
+   * Writes the definition of a response validator to the given stream. If the given dependencies are
+   * {@link Depends#threadSafe thread-safe}, a single validator is shared by all test cases, including any
+   * that run concurrently. In this case, the test must import <CODE>java.lang.invoke.MethodHandles</CODE>.
+   */
+  public static void writeResponseValidatorDef( String testName, IndentedWriter targetWriter, Depends dependencies)
+    {
+    writeResponseValidatorDef( testName, targetWriter, dependencies, null);
+    }
+
+  /**
+   * Writes the definition of a response validator to the given stream, using the given response definitions resource.
+   * If <CODE>responsesResource</CODE> is null, the validator uses the default response definitions resource for the test.
+   * If the given dependencies are {@link Depends#threadSafe thread-safe}, a single validator is shared by all test cases,
+   * including any that run concurrently. In this case, the test must import <CODE>java.lang.invoke.MethodHandles</CODE>.
+   */
+  public static void writeResponseValidatorDef( String testName, IndentedWriter targetWriter, Depends dependencies, String responsesResource)
+    {
+    String resourceArg =
+      Optional.ofNullable( responsesResource)
+      .map( resource -> String.format( ", %s", stringLiteral( resource)))
+      .orElse( "");
+
+    targetWriter.println();
+    if( dependencies.threadSafe())
+      {
+      targetWriter.println( String.format( "private static final ResponseValidator responseValidator = new ResponseValidator( MethodHandles.lookup().lookupClass()%s);", resourceArg));
+      }
+    else
+      {
+      targetWriter.println( String.format( "private ResponseValidator responseValidator = new ResponseValidator( getClass()%s);", resourceArg));
+      }
+    }
+
   /**
    * Writes the definition of standard status code matcher methods to the given stream. Note: this generates a runtime dependency
    * on <A href="http://hamcrest.org/JavaHamcrest/distributables#previous-versions-of-hamcrest">hamcrest.jar</A>.
@@ -187,6 +225,28 @@ public final class TestCaseWriterUtils
       }
     }
 
+  /**
+   * Writes the definition of standard methods to read request body resources to the given stream.
+   */
+  public static void writeBodyResourceDef( String testName, IndentedWriter targetWriter, Depends dependencies)
+    {
+    if( dependencies.dependsBodyResource())
+      {
+      targetWriter.println();
+      targetWriter.println( "private java.io.InputStream bodyResource( String resource) {");
+      targetWriter.indent();
+      targetWriter.println( "java.io.InputStream body = getClass().getResourceAsStream( resource);");
+      targetWriter.println( "if( body == null) {");
+      targetWriter.indent();
+      targetWriter.println( "throw new IllegalStateException( String.format( \"Can't find request body resource=%s\", resource));");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      targetWriter.println( "return body;");
+      targetWriter.unindent();
+      targetWriter.println( "}");
+      }
+    }
+
   /**
    * Returns the base URI defined for the given test case, if any.
    */
@@ -211,6 +271,36 @@ public final class TestCaseWriterUtils
         serverUri.map( uri -> String.format( " %s", stringLiteral( uri))) .orElse( ""));
     }
 
+  /**
+   * Returns the initializer code for the given byte array, split into segments of up to 16 bytes each.
+   */
+  public static List<String> byteInitializerFor( byte[] bytes)
+    {
+    final int lineSize = 16;
+
+    List<String> segments = new ArrayList<String>();
+
+    int from;
+    for( from = 0; bytes.length - from > lineSize; from += lineSize)
+      {
+      segments.add( String.format( "%s,", byteInitializerFor( bytes, from, from + lineSize)));
+      }
+    segments.add( byteInitializerFor( bytes, from, bytes.length));
+
+    return segments;
+    }
+
+  /**
+   * Returns the initializer code for the given byte array segment.
+   */
+  private static String byteInitializerFor( byte[] bytes, int start, int end)
+    {
+    return
+      IntStream.range( start, end)
+      .mapToObj( i -> StringUtils.leftPad( String.valueOf( bytes[i]), 4))
+      .collect( joining( ","));
+    }
+
   /**
    * Returns the Java expression that provides the header value for the given authentication definition.
    */
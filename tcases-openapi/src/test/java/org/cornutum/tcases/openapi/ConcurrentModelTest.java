@@ -0,0 +1,140 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.cornutum.tcases.util.ConditionRecorder;
+import org.cornutum.tcases.util.Notifier;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Runs tests for input models created by modelling API operations concurrently.
+ */
+public class ConcurrentModelTest extends OpenApiTest
+  {
+  @Test
+  public void whenRequestSchemas()
+    {
+    verifyRequestInputModel( "petstore-expanded", "petstore-requests");
+    verifyRequestInputModel( "operations-1");
+    verifyRequestInputModel( "string-locations");
+    }
+
+  @Test
+  public void whenRequestExamples()
+    {
+    verifyRequestExamplesModel( "examples-0");
+    }
+
+  @Test
+  public void whenResponses()
+    {
+    verifyResponseInputModel( "petstore-expanded", "petstore-responses");
+    verifyResponseInputModel( "responses-6");
+    }
+
+  @Test
+  public void whenSharedComponents()
+    {
+    verifiedInputModel( "niem-vehicle", "niem-vehicle", api -> getResponseInputModel( api));
+    }
+
+  @Test
+  public void whenOperationCopied()
+    {
+    // Given...
+    OpenAPI api = readApi( "petstore-expanded");
+    PathItem pathItem = api.getPaths().get( "/pets/{id}");
+
+    // When...
+    OpenAPI getCopy = OpenApiCopier.copyOf( api, "/pets/{id}", pathItem.getGet());
+    OpenAPI deleteCopy = OpenApiCopier.copyOf( api, "/pets/{id}", pathItem.getDelete());
+
+    // Then...
+    assertThat( "Get paths", getCopy.getPaths().keySet(), contains( "/pets/{id}"));
+    assertThat( "Get operation", getCopy.getPaths().get( "/pets/{id}").getGet(), is( notNullValue()));
+    assertThat( "Delete operation", getCopy.getPaths().get( "/pets/{id}").getDelete(), is( nullValue()));
+    assertThat( "Get schemas", getCopy.getComponents().getSchemas().keySet(), contains( "Pet", "NewPet", "Error"));
+    assertThat( "Get servers", getCopy.getServers().get(0).getUrl(), is( "http://petstore.swagger.io/api"));
+
+    assertThat( "Delete paths", deleteCopy.getPaths().keySet(), contains( "/pets/{id}"));
+    assertThat( "Get operation", deleteCopy.getPaths().get( "/pets/{id}").getGet(), is( nullValue()));
+    assertThat( "Delete operation", deleteCopy.getPaths().get( "/pets/{id}").getDelete(), is( notNullValue()));
+    assertThat( "Delete schemas", deleteCopy.getComponents().getSchemas().keySet(), contains( "Error"));
+    }
+
+  @Test
+  public void whenFailure()
+    {
+    // Given...
+    OpenAPI api = readApi( "errors-0");
+
+    // When...
+    OpenApiException sequential = getFailure( api, ModelConditionNotifier.fail(), 1);
+    OpenApiException concurrent = getFailure( api, ModelConditionNotifier.fail(), 4);
+
+    // Then...
+    assertThat( "Failure", concurrent.getMessage(), is( sequential.getMessage()));
+    }
+
+  @Test
+  public void whenConditions()
+    {
+    // Given...
+    ConditionRecorder sequential = getConditions( "styles", 1);
+
+    // When...
+    ConditionRecorder concurrent = getConditions( "styles", 4);
+
+    // Then...
+    assertThat( "Warnings", concurrent.getWarnings(), is( sequential.getWarnings()));
+    assertThat( "Errors", concurrent.getErrors(), is( sequential.getErrors()));
+    }
+
+  /**
+   * Returns the conditions reported when modelling requests for the given API.
+   */
+  private ConditionRecorder getConditions( String apiName, int parallelism)
+    {
+    ConditionRecorder conditions = new ConditionRecorder();
+    TcasesOpenApi.getRequestInputModel( readApi( apiName), ModelOptions.builder().notifier( conditions).parallelism( parallelism).build());
+
+    assertThat( "Warnings", conditions.getWarnings().isEmpty(), is( false));
+
+    return conditions;
+    }
+
+  /**
+   * Returns the failure reported when modelling requests for the given API.
+   */
+  private OpenApiException getFailure( OpenAPI api, Notifier notifier, int parallelism)
+    {
+    try
+      {
+      TcasesOpenApi.getRequestInputModel( api, ModelOptions.builder().notifier( notifier).parallelism( parallelism).build());
+      throw new IllegalStateException( "Expected failure not reported");
+      }
+    catch( OpenApiException e)
+      {
+      return e;
+      }
+    }
+
+  /**
+   * Returns the {@link ModelOptions} used for this test.
+   */
+  @Override
+  protected ModelOptions getModelOptions()
+    {
+    return ModelOptions.builder().parallelism( 4).build();
+    }
+  }
@@ -7,7 +7,16 @@
 
 package org.cornutum.tcases.openapi;
 
+import org.cornutum.tcases.FunctionInputDef;
+import org.cornutum.tcases.SystemInputDef;
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
 import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs tests for {@link TcasesOpenApi#getRequestInputModel getRequestInputModel} using
@@ -666,4 +675,54 @@ public class OperationsTest extends OpenApiTest
     // Given...
     verifyRequestInputModel( "operations-13");
     }
+  
+  @Test
+  public void whenPathsSelected()
+    {
+    // Given...
+    ModelOptions options = ModelOptions.builder().paths( "/OPERATIONNEW").build();
+
+    // When...
+    SystemInputDef inputDef = TcasesOpenApi.getRequestInputModel( readApi( "operations-1"), options);
+
+    // Then...
+    assertThat( "Functions", functionNames( inputDef), contains( "POST_operationNew", "PATCH_operationNew", "TRACE_operationNew"));
+    }
+
+  @Test
+  public void whenOperationsSelected()
+    {
+    // Given...
+    ModelOptions options = ModelOptions.builder().operations( "patch", "Trace").parallelism( 4).build();
+
+    // When...
+    SystemInputDef inputDef = TcasesOpenApi.getRequestInputModel( readApi( "operations-1"), options);
+
+    // Then...
+    assertThat( "Functions", functionNames( inputDef), contains( "PATCH_operations", "PATCH_operationNew", "TRACE_operationNew"));
+    }
+
+  @Test
+  public void whenNoneSelected()
+    {
+    // Given...
+    ModelOptions options = ModelOptions.builder().paths( "/operations").operations( "TRACE").build();
+
+    // When...
+    SystemInputDef inputDef = TcasesOpenApi.getRequestInputModel( readApi( "operations-1"), options);
+
+    // Then...
+    assertThat( "Input model", inputDef, is( nullValue()));
+    }
+
+  /**
+   * Returns the names of the functions defined by the given input model.
+   */
+  private List<String> functionNames( SystemInputDef inputDef)
+    {
+    return
+      toStream( inputDef.getFunctionInputDefs())
+      .map( FunctionInputDef::getName)
+      .collect( toList());
+    }
   }
@@ -7,8 +7,16 @@
 
 package org.cornutum.tcases.openapi;
 
+import static org.cornutum.tcases.openapi.SchemaExtensions.getDnf;
+import org.cornutum.tcases.util.ConditionRecorder;
+import org.cornutum.tcases.util.Notifier;
+
 import org.junit.Test;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 
 /**
  * Runs tests for {@link SchemaAnalyzer}.
@@ -149,6 +157,116 @@ public class SchemaAnalyzerTest extends OpenApiTest
       "Can't create an input model for a schema that references itself");
     }
 
+  @Test
+  public void whenComponentAnalysisShared()
+    {
+    // Given...
+    OpenAPI api =
+      new OpenAPI()
+      .components(
+        new Components()
+        .addSchemas(
+          "Choice",
+          SchemaBuilder.composed( "string")
+          .oneOf(
+            SchemaBuilder.ofType( "string").minLength( 1).build(),
+            SchemaBuilder.ofType( "integer").build())
+          .build()));
+
+    OpenAPI other = OpenApiCopier.copyOf( api);
+    SchemaAnalysisCache cache = new SchemaAnalysisCache();
+    ConditionRecorder first = new ConditionRecorder();
+    ConditionRecorder second = new ConditionRecorder();
+
+    // When...
+    Dnf firstDnf = getDnf( analyzerFor( cache, first, "First").analyze( api, api.getComponents().getSchemas().get( "Choice")));
+    Dnf secondDnf = getDnf( analyzerFor( cache, second, "Second").analyze( other, other.getComponents().getSchemas().get( "Choice")));
+
+    // Then...
+    assertThat( "Cached", cache.size(), is( 1));
+    assertThat( "Shared DNF", String.valueOf( secondDnf), is( String.valueOf( firstDnf)));
+    assertThat( "Shared alternative", secondDnf.getAlternatives().get(0), not( sameInstance( firstDnf.getAlternatives().get(0))));
+
+    assertThat(
+      "First warnings",
+      first.getWarnings(),
+      contains( "First,oneOf,oneOf[1]: Ignoring this schema -- not applicable when only instance types=[string] can be valid."));
+    assertThat(
+      "Second warnings",
+      second.getWarnings(),
+      contains( "Second,oneOf,oneOf[1]: Ignoring this schema -- not applicable when only instance types=[string] can be valid."));
+    }
+
+  @Test
+  public void whenExpansionLimited()
+    {
+    // Given...
+    ConditionRecorder unlimited = new ConditionRecorder();
+    ConditionRecorder limited = new ConditionRecorder();
+
+    // When...
+    Dnf unlimitedDnf = getDnf( analyzerFor( unlimited, "Unlimited", null).analyze( new OpenAPI(), nestedChoices()));
+    Dnf limitedDnf = getDnf( analyzerFor( limited, "Limited", 3).analyze( new OpenAPI(), nestedChoices()));
+
+    // Then...
+    assertThat( "Default limit", new ModelOptions().getMaxAlternatives(), is( nullValue()));
+    assertThat( "Unlimited alternatives", unlimitedDnf.getAlternatives().size(), greaterThan( 3));
+    assertThat( "Unlimited warnings", unlimited.getWarnings(), is( empty()));
+
+    assertThat( "Limited alternatives", limitedDnf.getAlternatives().size(), is( 3));
+    assertThat(
+      "Limited warnings",
+      limited.getWarnings(),
+      contains( "Limited: Schema composition expands to more than maxAlternatives=3 -- ignoring remaining alternatives."));
+    }
+
+  /**
+   * Returns a schema composed of nested "oneOf" choices.
+   */
+  private Schema<?> nestedChoices()
+    {
+    return
+      SchemaBuilder.composed( "string")
+      .allOf(
+        SchemaBuilder.composed( "string")
+        .oneOf(
+          SchemaBuilder.ofType( "string").maxLength( 3).build(),
+          SchemaBuilder.ofType( "string").minLength( 8).build())
+        .build(),
+        SchemaBuilder.composed( "string")
+        .oneOf(
+          SchemaBuilder.ofType( "string").patterns( "^A").build(),
+          SchemaBuilder.ofType( "string").patterns( "^B").build())
+        .build())
+      .build();
+    }
+
+  /**
+   * Returns a {@link SchemaAnalyzer} that expands at most the given number of alternatives.
+   */
+  private SchemaAnalyzer analyzerFor( Notifier notifier, String location, Integer maxAlternatives)
+    {
+    OpenApiContext context = new OpenApiContext( location);
+    context.setNotifier( notifier);
+
+    SchemaAnalyzer analyzer = new SchemaAnalyzer( context);
+    analyzer.setMaxAlternatives( maxAlternatives);
+    return analyzer;
+    }
+
+  /**
+   * Returns a {@link SchemaAnalyzer} that uses the given analysis cache.
+   */
+  private SchemaAnalyzer analyzerFor( SchemaAnalysisCache cache, Notifier notifier, String location)
+    {
+    OpenApiContext context = new OpenApiContext( location);
+    context.setNotifier( notifier);
+
+    SchemaAnalyzer analyzer = new SchemaAnalyzer( context);
+    analyzer.setAnalysisCache( cache);
+    return analyzer;
+    }
+
   /**
    * Returns the {@link ModelOptions} used for this test.
    */
@@ -0,0 +1,141 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.openapi.io.ShardManifest;
+
+import org.junit.Test;
+import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * Runs tests for input models created for a {@link Shard} of API operations.
+ */
+public class ShardTest extends OpenApiTest
+  {
+  @Test
+  public void whenShardsModelled()
+    {
+    verifyShards( "operations-1", 1);
+    verifyShards( "operations-1", 3);
+    verifyShards( "petstore-expanded", 2);
+    verifyShards( "petstore-expanded", 8);
+    }
+
+  @Test
+  public void whenShardsIncomplete()
+    {
+    // Given...
+    List<ShardManifest> manifests = manifestsFor( "operations-1", 3);
+
+    // When...
+    List<String> missing = ShardManifest.verify( manifests.subList( 0, 2));
+
+    // Then...
+    assertThat( "Missing", missing, contains( "Shard 3/3: missing"));
+
+    // Given...
+    ShardManifest first = manifests.get( 0);
+    ShardManifest extra = new ShardManifest( first.getApi(), manifests.get( 1).getShard(), first.getOperations());
+    manifests.set( 1, extra);
+
+    // When...
+    List<String> overlapping = ShardManifest.verify( manifests);
+
+    // Then...
+    assertThat( "Overlapping", overlapping.isEmpty(), is( false));
+    first.getOperations().forEach(
+      op -> {
+        assertThat( "Overlapping", overlapping, hasItem( String.format( "%s: modelled by shard 1/3 and shard 2/3", op)));
+        assertThat( "Overlapping", overlapping, hasItem( String.format( "%s: modelled by shard 2/3 but belongs to shard 1/3", op)));
+      });
+
+    // When...
+    List<String> none = ShardManifest.verify( emptyList());
+
+    // Then...
+    assertThat( "None", none, contains( "No shard manifests defined"));
+    }
+
+  @Test
+  public void whenShardParsed()
+    {
+    assertThat( "Shard", Shard.parse( "2/5"), is( new Shard( 2, 5)));
+    assertThat( "Shard", Shard.parse( " 1 / 1 ").toString(), is( "1/1"));
+
+    expectFailure( IllegalArgumentException.class)
+      .when( () -> Shard.parse( "0/2"))
+      .then( failure -> assertThat( "Failure", failure.getMessage(), is( "Invalid shard index=0 -- must be in the range 1 to 2")));
+
+    expectFailure( IllegalArgumentException.class)
+      .when( () -> Shard.parse( "3/2"))
+      .then( failure -> assertThat( "Failure", failure.getMessage(), is( "Invalid shard index=3 -- must be in the range 1 to 2")));
+
+    expectFailure( IllegalArgumentException.class)
+      .when( () -> Shard.parse( "2"))
+      .then( failure -> assertThat( "Failure", failure.getMessage(), is( "Invalid shard='2' -- must be of the form 'N/M'")));
+    }
+
+  /**
+   * Verifies that the given number of shards partition the operations of the given API.
+   */
+  private void verifyShards( String apiName, int count)
+    {
+    // Given...
+    SystemInputDef all = TcasesOpenApi.getRequestInputModel( readApi( apiName));
+
+    // When...
+    List<ShardManifest> manifests = manifestsFor( apiName, count);
+
+    // Then...
+    Set<String> modelled = new HashSet<String>();
+    manifests.forEach( manifest -> manifest.getOperations().forEach( op -> assertThat( apiName + ", " + op, modelled.add( op), is( true))));
+    assertThat( apiName + ", operations", modelled, is( new HashSet<String>( ShardManifest.of( new Shard( 1, 1), all).getOperations())));
+    assertThat( apiName + ", manifests", ShardManifest.verify( manifests), is( empty()));
+
+    manifests.forEach( manifest -> {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      manifest.write( bytes);
+      ShardManifest copy = ShardManifest.read( new ByteArrayInputStream( bytes.toByteArray()));
+
+      assertThat( apiName + ", " + manifest.getShard() + ", api", copy.getApi(), is( manifest.getApi()));
+      assertThat( apiName + ", " + manifest.getShard() + ", shard", copy.getShard(), is( manifest.getShard()));
+      assertThat( apiName + ", " + manifest.getShard() + ", operations", copy.getOperations(), is( manifest.getOperations()));
+      });
+    }
+
+  /**
+   * Returns the manifests for the given number of shards of the given API.
+   */
+  private List<ShardManifest> manifestsFor( String apiName, int count)
+    {
+    return
+      IntStream.rangeClosed( 1, count)
+      .mapToObj( index -> {
+        Shard shard = new Shard( index, count);
+        SystemInputDef inputDef = TcasesOpenApi.getRequestInputModel( readApi( apiName), ModelOptions.builder().shard( shard).build());
+        return
+          inputDef == null
+          ? new ShardManifest( null, shard, emptyList())
+          : ShardManifest.of( shard, inputDef);
+        })
+      .collect( toCollection( ArrayList::new));
+    }
+  }
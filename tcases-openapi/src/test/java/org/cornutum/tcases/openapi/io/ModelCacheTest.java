@@ -0,0 +1,124 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.io;
+
+import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.SystemInputDefMatcher;
+import org.cornutum.tcases.openapi.ModelOptions;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Test;
+import static org.cornutum.hamcrest.Composites.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Runs tests for {@link ModelCache}
+ */
+public class ModelCacheTest
+  {
+  @Before
+  public void setUp() throws Exception
+    {
+    FileUtils.deleteQuietly( testDir_);
+    cacheDir_ = new File( testDir_, "cache");
+    apiDef_ = new File( testDir_, "operations-1.json");
+    try( InputStream api = getClass().getResourceAsStream( "../operations-1.json"))
+      {
+      FileUtils.copyInputStreamToFile( api, apiDef_);
+      }
+    }
+
+  @Test
+  public void whenInputModelCached()
+    {
+    // Given...
+    ModelCache cache = new ModelCache( cacheDir_, apiDef_, null, null);
+    SystemInputDef requestModel = TcasesOpenApiIO.getRequestInputModel( apiDef_);
+    SystemInputDef responseModel = TcasesOpenApiIO.getResponseInputModel( apiDef_);
+
+    // When...
+    Optional<SystemInputDef> requestsBefore = cache.getRequestInputModel();
+    cache.putRequestInputModel( requestModel);
+    cache.putResponseInputModel( responseModel);
+
+    // Then...
+    ModelCache reused = new ModelCache( cacheDir_, apiDef_, null, null);
+    assertThat( "Key", reused.getKey(), is( cache.getKey()));
+    assertThat( "Requests before", requestsBefore.isPresent(), is( false));
+    assertThat( "Requests after", reused.getRequestInputModel().orElse( null), matches( new SystemInputDefMatcher( requestModel)));
+    assertThat( "Responses after", reused.getResponseInputModel().orElse( null), matches( new SystemInputDefMatcher( responseModel)));
+    }
+
+  @Test
+  public void whenResponsesDefCached()
+    {
+    // Given...
+    ModelCache cache = new ModelCache( cacheDir_, apiDef_, null, null);
+    ResponsesDef responses = TcasesOpenApiIO.getResponsesDef( apiDef_);
+
+    // When...
+    cache.putResponsesDef( responses);
+
+    // Then...
+    ResponsesDef cached = new ModelCache( cacheDir_, apiDef_, null, null).getResponsesDef().orElse( null);
+    assertThat( "Responses", cached, is( responses));
+    }
+
+  @Test
+  public void whenOptionsChanged()
+    {
+    // Given...
+    ModelCache cache = new ModelCache( cacheDir_, apiDef_, null, null);
+    cache.putRequestInputModel( TcasesOpenApiIO.getRequestInputModel( apiDef_));
+
+    // When...
+    ModelCache examples = new ModelCache( cacheDir_, apiDef_, null, ModelOptions.builder().source( ModelOptions.Source.EXAMPLES).build());
+    ModelCache readOnly = new ModelCache( cacheDir_, apiDef_, null, ModelOptions.builder().readOnlyEnforced().build());
+    ModelCache parallel = new ModelCache( cacheDir_, apiDef_, null, ModelOptions.builder().parallelism( 4).build());
+
+    // Then...
+    assertThat( "Examples", examples.getRequestInputModel().isPresent(), is( false));
+    assertThat( "Read-only", readOnly.getRequestInputModel().isPresent(), is( false));
+    assertThat( "Parallel", parallel.getRequestInputModel().isPresent(), is( true));
+    }
+
+  @Test
+  public void whenDefinitionChanged() throws Exception
+    {
+    // Given...
+    File refDef = new File( testDir_, "Refs.json");
+    File mainDef = new File( testDir_, "Main.json");
+    FileUtils.writeStringToFile( refDef, "{ \"Id\": { \"type\": \"integer\" }}", "UTF-8");
+    FileUtils.writeStringToFile( mainDef, "{ \"schema\": { \"$ref\": \"Refs.json#/Id\" }}", "UTF-8");
+    String mainKey = new ModelCache( cacheDir_, mainDef, null, null).getKey();
+
+    // When...
+    FileUtils.writeStringToFile( refDef, "{ \"Id\": { \"type\": \"string\" }}", "UTF-8");
+
+    // Then...
+    assertThat( "Referenced file changed", new ModelCache( cacheDir_, mainDef, null, null).getKey(), is( not( mainKey)));
+
+    // When...
+    String apiKey = new ModelCache( cacheDir_, apiDef_, null, null).getKey();
+    FileUtils.writeStringToFile( apiDef_, " ", "UTF-8", true);
+
+    // Then...
+    assertThat( "API definition changed", new ModelCache( cacheDir_, apiDef_, null, null).getKey(), is( not( apiKey)));
+    }
+
+  private final File testDir_ = new File( "target/ModelCacheTest");
+  private File cacheDir_;
+  private File apiDef_;
+  }
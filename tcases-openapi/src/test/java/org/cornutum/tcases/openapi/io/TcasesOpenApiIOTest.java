@@ -11,14 +11,32 @@ import org.cornutum.tcases.SystemTestDef;
 import org.cornutum.tcases.SystemTestDefMatcher;
 import org.cornutum.tcases.io.SystemTestDocReader;
 import org.cornutum.tcases.io.SystemTestJsonReader;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.resolver.RequestCaseException;
+import org.cornutum.tcases.openapi.resolver.RequestCaseMatcher;
+import org.cornutum.tcases.openapi.resolver.RequestCases;
+import org.cornutum.tcases.openapi.resolver.RequestTestDef;
+import org.cornutum.tcases.openapi.resolver.io.RequestCaseJson;
+import org.cornutum.tcases.openapi.resolver.io.RequestTestDefReader;
+import org.cornutum.tcases.resolve.ResolverContext;
+import org.cornutum.tcases.util.MapBuilder;
 
 import org.junit.Test;
 import static org.cornutum.hamcrest.Composites.*;
 import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import javax.json.Json;
+import javax.json.JsonWriter;
+import static java.util.stream.Collectors.toList;
+import static javax.json.stream.JsonGenerator.PRETTY_PRINTING;
 
 /**
  * Runs tests for {@link TcasesOpenApiIO}
@@ -63,4 +81,53 @@ public class TcasesOpenApiIOTest
     assertThat( apiResource + ", test cases", testDef, matches( new SystemTestDefMatcher( expectedTestDef)));
     }
 
+  @Test
+  public void writeRequestCases() throws Exception
+    {
+    // Given...
+    SystemTestDef testDef = TcasesOpenApiIO.getRequestTests( getClass().getResourceAsStream( "../petstore-expanded.yaml"), "yaml", null);
+    RequestTestDef expected = RequestCases.getRequestCases( testDef, ResolverContext.builder().random( new Random( 12345L)).build());
+
+    // When...
+    ByteArrayOutputStream requestCasesOut = new ByteArrayOutputStream();
+    TcasesOpenApiIO.writeRequestCases( testDef, ResolverContext.builder().random( new Random( 12345L)).build(), requestCasesOut);
+
+    // Then...
+    ByteArrayOutputStream documentOut = new ByteArrayOutputStream();
+    try( JsonWriter writer = Json.createWriterFactory( MapBuilder.of( PRETTY_PRINTING, true).build()).createWriter( documentOut, StandardCharsets.UTF_8))
+      {
+      writer.write( RequestCaseJson.toJson( expected));
+      }
+    assertThat( "Request cases document", new String( requestCasesOut.toByteArray(), "UTF-8"), is( new String( documentOut.toByteArray(), "UTF-8")));
+
+    List<RequestCase> requestCases;
+    try( RequestTestDefReader reader = new RequestTestDefReader( new ByteArrayInputStream( requestCasesOut.toByteArray()));
+         Stream<RequestCase> requestCaseStream = reader.getRequestCases())
+      {
+      requestCases = requestCaseStream.collect( toList());
+      }
+    assertThat( "Request cases", requestCases, listsMembers( RequestCaseMatcher::new, expected.getRequestCases()));
+    }
+
+  @Test
+  public void readRequestCasesInvalid()
+    {
+    // Given...
+    String document = "[ { \"id\": 0, \"path\": \"/pets\" }, { \"id\": \"one\", \"path\": \"/pets\" } ]";
+
+    // When...
+    RequestCaseException failure;
+    try( RequestTestDefReader reader = new RequestTestDefReader( new ByteArrayInputStream( document.getBytes( StandardCharsets.UTF_8))))
+      {
+      reader.getRequestTestDef();
+      throw new IllegalStateException( "Expected failure not reported");
+      }
+    catch( RequestCaseException e)
+      {
+      failure = e;
+      }
+
+    // Then...
+    assertThat( "Failure", failure.getMessage(), is( "Invalid request case definition"));
+    }
   }
@@ -0,0 +1,109 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.resolver;
+
+import org.cornutum.tcases.SystemTestDef;
+import org.cornutum.tcases.io.SystemTestResource;
+import org.cornutum.tcases.resolve.ResolverContext;
+import org.cornutum.tcases.util.ConditionRecorder;
+
+import org.junit.Test;
+import static org.cornutum.hamcrest.Composites.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Random;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs tests for request cases resolved concurrently by {@link RequestCases#getRequestCases RequestCases.getRequestCases}.
+ */
+public class ConcurrentRequestCasesTest extends RequestCaseTest
+  {
+  @Test
+  public void whenRequests()
+    {
+    verifyConcurrentRequestCases( "petstore-requests");
+    }
+
+  @Test
+  public void whenComposedSchemas()
+    {
+    verifyConcurrentRequestCases( "allOf-1");
+    verifyConcurrentRequestCases( "oneOf-1");
+    }
+
+  @Test
+  public void whenSeedChanged()
+    {
+    // Given...
+    SystemTestDef testDef = SystemTestResource.of( getTestDefFile( "petstore-requests")).getSystemTestDef();
+
+    // When...
+    RequestTestDef requestCases = RequestCases.getRequestCases( testDef, contextFor( getSeed(), 4, new ConditionRecorder()));
+    RequestTestDef otherCases = RequestCases.getRequestCases( testDef, contextFor( getSeed() + 1, 4, new ConditionRecorder()));
+
+    // Then...
+    assertThat( "Request cases", idsOf( otherCases), is( idsOf( requestCases)));
+    assertThat( "Request values", otherCases.getRequestCases(), not( listsMembers( RequestCaseMatcher::new, requestCases.getRequestCases())));
+    }
+
+  /**
+   * Verifies that the request cases resolved concurrently for the given test definition do not depend on
+   * the number of concurrent tasks.
+   */
+  private void verifyConcurrentRequestCases( String baseName)
+    {
+    // Given...
+    SystemTestDef testDef = SystemTestResource.of( getTestDefFile( baseName)).getSystemTestDef();
+    ConditionRecorder sequentialConditions = new ConditionRecorder();
+    ConditionRecorder oneConditions = new ConditionRecorder();
+    ConditionRecorder fewConditions = new ConditionRecorder();
+    ConditionRecorder manyConditions = new ConditionRecorder();
+
+    // When...
+    RequestTestDef sequential = RequestCases.getRequestCases( testDef, contextFor( getSeed(), 0, sequentialConditions));
+    RequestTestDef one = RequestCases.getRequestCases( testDef, contextFor( getSeed(), 1, oneConditions));
+    RequestTestDef few = RequestCases.getRequestCases( testDef, contextFor( getSeed(), 2, fewConditions));
+    RequestTestDef many = RequestCases.getRequestCases( testDef, contextFor( getSeed(), 8, manyConditions));
+
+    // Then...
+    assertThat( baseName, idsOf( few), is( idsOf( sequential)));
+    assertThat( baseName, one.getRequestCases(), listsMembers( RequestCaseMatcher::new, few.getRequestCases()));
+    assertThat( baseName, many.getRequestCases(), listsMembers( RequestCaseMatcher::new, few.getRequestCases()));
+    assertThat( baseName + " warnings", oneConditions.getWarnings(), is( fewConditions.getWarnings()));
+    assertThat( baseName + " warnings", manyConditions.getWarnings(), is( fewConditions.getWarnings()));
+    assertThat( baseName + " errors", oneConditions.getErrors(), is( fewConditions.getErrors()));
+    assertThat( baseName + " errors", manyConditions.getErrors(), is( fewConditions.getErrors()));
+    }
+
+  /**
+   * Returns a {@link ResolverContext} for the given seed and parallelism.
+   */
+  private ResolverContext contextFor( long seed, int parallelism, ConditionRecorder conditions)
+    {
+    return
+      ResolverContext.builder()
+      .random( new Random( seed))
+      .parallelism( parallelism)
+      .notifier( conditions)
+      .build();
+    }
+
+  /**
+   * Returns the ids of the given request cases.
+   */
+  private List<String> idsOf( RequestTestDef requestCases)
+    {
+    return
+      requestCases.getRequestCases().stream()
+      .map( rc -> String.format( "%s:%s:%s", rc.getPath(), rc.getOperation(), rc.getId()))
+      .collect( toList());
+    }
+  }
@@ -0,0 +1,231 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testrunner;
+
+import org.cornutum.tcases.Tcases;
+import org.cornutum.tcases.openapi.OpenApiUtils;
+import org.cornutum.tcases.openapi.TcasesOpenApi;
+import org.cornutum.tcases.openapi.io.TcasesOpenApiIO;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.resolver.RequestCases;
+import org.cornutum.tcases.openapi.testrunner.RequestResult.Status;
+import org.cornutum.tcases.resolve.ResolverContext;
+
+import com.sun.net.httpserver.HttpServer;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs tests for {@link ApiTestRunner}.
+ */
+public class ApiTestRunnerTest
+  {
+  @Before
+  public void startServer() throws Exception
+    {
+    invalidBody_ = false;
+    server_ = HttpServer.create( new InetSocketAddress( "localhost", 0), 0);
+    server_.createContext(
+      "/api/items",
+      exchange -> {
+        String[] segments = exchange.getRequestURI().getPath().split( "/");
+        Integer id;
+        try
+          {
+          id = Integer.valueOf( segments[ segments.length - 1]);
+          }
+        catch( Exception e)
+          {
+          id = null;
+          }
+
+        if( id == null || id < 0)
+          {
+          exchange.sendResponseHeaders( 400, -1);
+          }
+        else
+          {
+          byte[] body = String.format( "{\"id\": %s}", invalidBody_? "\"?\"" : id).getBytes( StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add( "Content-Type", "application/json");
+          exchange.sendResponseHeaders( 200, body.length);
+          try( OutputStream content = exchange.getResponseBody())
+            {
+            content.write( body);
+            }
+          }
+        exchange.close();
+        });
+    server_.start();
+    }
+
+  @After
+  public void stopServer()
+    {
+    server_.stop( 0);
+    }
+
+  @Test
+  public void whenAllPassed() throws Exception
+    {
+    // Given...
+    OpenAPI api = readApi();
+    List<RequestCase> requestCases = getRequestCases( api);
+
+    ApiTestRunner runner = new ApiTestRunner();
+    runner.setTestServer( getServerUri());
+    runner.setResponses( OpenApiUtils.responsesDef( api));
+    runner.setConcurrency( 4);
+
+    // When...
+    ApiTestReport report = runner.run( "Items", requestCases);
+
+    // Then...
+    assertThat( "Results", report.getResults().size(), is( requestCases.size()));
+    assertThat( "Failures", report.getResults().stream().filter( result -> result.getStatus() != Status.PASSED).collect( toList()), is( empty()));
+    assertThat( "Passed", report.isPassed(), is( true));
+    assertThat( "Failure cases", requestCases.stream().filter( RequestCase::isFailure).count(), is( greaterThan( 0L)));
+    assertThat(
+      "Result names",
+      report.getResults().stream().map( RequestResult::getName).collect( toList()),
+      is( requestCases.stream().map( requestCase -> String.format( "%s: %s", requestCase.getId(), requestCase.getName())).collect( toList())));
+    }
+
+  @Test
+  public void whenResponseInvalid() throws Exception
+    {
+    // Given...
+    OpenAPI api = readApi();
+    List<RequestCase> requestCases = getRequestCases( api);
+    invalidBody_ = true;
+
+    ApiTestRunner runner = new ApiTestRunner();
+    runner.setTestServer( getServerUri());
+    runner.setResponses( OpenApiUtils.responsesDef( api));
+
+    // When...
+    ApiTestReport report = runner.run( "Items", requestCases);
+
+    // Then...
+    assertThat( "Passed", report.getPassed(), is( (int) requestCases.stream().filter( RequestCase::isFailure).count()));
+    assertThat( "Failed", report.getFailed(), is( (int) requestCases.stream().filter( requestCase -> !requestCase.isFailure()).count()));
+    assertThat( "Errors", report.getErrors(), is( 0));
+
+    RequestResult failed = report.getResults().stream().filter( result -> result.getStatus() == Status.FAILED).findFirst().get();
+    assertThat( "Failure", failed.getMessage(), containsString( "GET /items/{id}"));
+
+    // Given...
+    runner.setResponses( null);
+
+    // When...
+    report = runner.run( "Items", requestCases);
+
+    // Then...
+    assertThat( "Passed", report.isPassed(), is( true));
+    }
+
+  @Test
+  public void whenServerUnavailable() throws Exception
+    {
+    // Given...
+    OpenAPI api = readApi();
+    List<RequestCase> requestCases = getRequestCases( api);
+
+    ApiTestRunner runner = new ApiTestRunner();
+    runner.setTestServer( getServerUri());
+    server_.stop( 0);
+
+    // When...
+    ApiTestReport report = runner.run( "Items", requestCases);
+
+    // Then...
+    assertThat( "Errors", report.getErrors(), is( requestCases.size()));
+    assertThat( "Message", report.getResults().get(0).getMessage(), containsString( "can't send request"));
+    }
+
+  @Test
+  public void whenReportWritten() throws Exception
+    {
+    // Given...
+    OpenAPI api = readApi();
+    List<RequestCase> requestCases = getRequestCases( api);
+    invalidBody_ = true;
+
+    ApiTestRunner runner = new ApiTestRunner();
+    runner.setTestServer( getServerUri());
+    runner.setResponses( OpenApiUtils.responsesDef( api));
+    ApiTestReport report = runner.run( "Items", requestCases);
+
+    // When...
+    StringWriter json = new StringWriter();
+    try( ApiTestReportWriter writer = new ApiTestReportWriter( json))
+      {
+      writer.writeJson( report);
+      }
+
+    StringWriter junit = new StringWriter();
+    try( ApiTestReportWriter writer = new ApiTestReportWriter( junit))
+      {
+      writer.writeJUnit( report);
+      }
+
+    // Then...
+    assertThat( "JSON", json.toString(), containsString( String.format( "\"tests\": %s", requestCases.size())));
+    assertThat( "JSON", json.toString(), containsString( String.format( "\"failed\": %s", report.getFailed())));
+    assertThat( "JSON", json.toString(), containsString( "\"status\": \"FAILED\""));
+    assertThat( "JUnit", junit.toString(), startsWith( "<?xml version=\"1.0\"?>"));
+    assertThat( "JUnit", junit.toString(), containsString( String.format( "<testsuite name=\"Items\" tests=\"%s\" failures=\"%s\" errors=\"0\"", requestCases.size(), report.getFailed())));
+    assertThat( "JUnit", junit.toString(), containsString( "<testcase classname=\"GET /items/{id}\" name=\"0: "));
+    assertThat( "JUnit", junit.toString(), containsString( "<failure message=\""));
+    }
+
+  /**
+   * Returns the OpenAPI definition for this test.
+   */
+  private OpenAPI readApi() throws Exception
+    {
+    return TcasesOpenApiIO.readApi( new File( getClass().getResource( "items.json").toURI()), null);
+    }
+
+  /**
+   * Returns the request cases for the given OpenAPI definition.
+   */
+  private List<RequestCase> getRequestCases( OpenAPI api)
+    {
+    return
+      RequestCases.realizeRequestCases(
+        RequestCases.getRequestCases(
+          Tcases.getTests( TcasesOpenApi.getRequestInputModel( api), null, null),
+          ResolverContext.builder().random( new Random( 12345)).build()))
+      .getRequestCases();
+    }
+
+  /**
+   * Returns the URI for the test server.
+   */
+  private URI getServerUri()
+    {
+    return URI.create( String.format( "http://localhost:%s/api", server_.getAddress().getPort()));
+    }
+
+  private HttpServer server_;
+  private volatile boolean invalidBody_;
+  }
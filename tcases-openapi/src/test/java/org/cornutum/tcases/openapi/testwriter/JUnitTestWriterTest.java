@@ -7,6 +7,8 @@
 
 package org.cornutum.tcases.openapi.testwriter;
 
+import org.cornutum.tcases.openapi.test.ResponsesDef;
+
 import org.apache.commons.io.FileUtils;
 import org.junit.Test;
 import static org.hamcrest.MatcherAssert.*;
@@ -14,8 +16,13 @@ import static org.hamcrest.Matchers.*;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs tests for {@link JUnitTestWriter}.
@@ -688,4 +695,127 @@ public class JUnitTestWriterTest extends TestWriterTest
       () -> testWriter.writeTest( source, target),
       "Test source must include either success or failure cases");
     }
+
+  @Test
+  public void whenTestSplitByCases() throws Exception
+    {
+    List<String> parts = writeTestParts( "testDef-0", JavaTestTarget.builder().maxTestCases( 5));
+    assertThat( "Parts", parts.size(), greaterThan( 1));
+    parts.forEach( part -> assertThat( "Part cases", testMethodsOf( part).count(), allOf( greaterThan( 0L), lessThanOrEqualTo( 5L))));
+
+    List<String> whole = writeTestParts( "testDef-0", JavaTestTarget.builder().maxTestCases( 1000));
+    assertThat( "Parts", whole.size(), is( 1));
+    }
+
+  @Test
+  public void whenTestSplitByBytes() throws Exception
+    {
+    List<String> parts = writeTestParts( "testDef-0", JavaTestTarget.builder().maxTestBytes( 1L));
+    parts.forEach( part -> assertThat( "Part cases", testMethodsOf( part).count(), is( 1L)));
+
+    List<String> some = writeTestParts( "testDef-0", JavaTestTarget.builder().maxTestBytes( 4096L));
+    assertThat( "Parts", some.size(), allOf( greaterThan( 1), lessThan( parts.size())));
+    }
+
+  @Test
+  public void whenTestSplitWithResponses() throws Exception
+    {
+    // Given...
+    TestSource source =
+      TestSource.from( requestTestDefFor( "testDef-0"))
+      .responses( ResponsesDef.read( new StringReader( "{}")))
+      .build();
+
+    File outDir = new File( getResourceDir(), "testDef-0-responses");
+    File resourceDir = new File( outDir, "resources");
+    FileUtils.deleteQuietly( outDir);
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "ApiParts")
+      .inDir( outDir)
+      .withResourcesIn( resourceDir)
+      .inPackage( "org.examples")
+      .maxTestCases( 5)
+      .build();
+
+    JUnitTestWriter testWriter = new JUnitTestWriter( new MockTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    assertThat( "Parts", new File( outDir, "ApiParts_2Test.java").exists(), is( true));
+    assertThat( "Responses", Arrays.asList( resourceDir.list()), containsInAnyOrder( "ApiPartsTest-Responses.json"));
+    }
+
+  /**
+   * Writes the tests for the given test definition to the given target and returns the test parts written.
+   * Verifies that the parts written contain all tests in order, each part in a separate class with the same declarations.
+   */
+  private List<String> writeTestParts( String testDefName, JavaTestTarget.Builder targetBuilder) throws Exception
+    {
+    // Given...
+    TestSource source = TestSource.from( requestTestDefFor( testDefName)).build();
+    File outDir = new File( getResourceDir(), testDefName + "-parts");
+    FileUtils.deleteQuietly( outDir);
+
+    JavaTestTarget target =
+      targetBuilder
+      .named( "ApiParts")
+      .inDir( outDir)
+      .inPackage( "org.examples")
+      .extending( "org.examples.util.BaseClass")
+      .build();
+
+    JUnitTestWriter testWriter = new JUnitTestWriter( new MockTestCaseWriter());
+    String unsplit =
+      toStdOut(
+        () -> testWriter.writeTest(
+          source,
+          JavaTestTarget.builder().named( "ApiParts").inPackage( "org.examples").extending( "org.examples.util.BaseClass").build()));
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    List<String> parts = new ArrayList<String>();
+    File[] partFiles = outDir.listFiles();
+    if( partFiles.length == 1)
+      {
+      assertThat( testDefName + ", file", partFiles[0], is( new File( outDir, "ApiPartsTest.java")));
+      parts.add( FileUtils.readFileToString( partFiles[0], "UTF-8"));
+      }
+    else
+      {
+      for( int i = 1; i <= partFiles.length; i++)
+        {
+        File partFile = new File( outDir, String.format( "ApiParts_%sTest.java", i));
+        assertThat( partFile + " exists", partFile.exists(), is( true));
+
+        String part = FileUtils.readFileToString( partFile, "UTF-8");
+        assertThat( partFile + ", class", part, containsString( String.format( "public class ApiParts_%sTest extends BaseClass {", i)));
+        assertThat( partFile + ", package", part, startsWith( "package org.examples;"));
+        parts.add( part);
+        }
+      }
+
+    assertThat(
+      testDefName + ", tests",
+      parts.stream().flatMap( this::testMethodsOf).collect( toList()),
+      is( testMethodsOf( unsplit).collect( toList())));
+
+    return parts;
+    }
+
+  /**
+   * Returns the declarations of the test methods in the given test class.
+   */
+  private Stream<String> testMethodsOf( String testClass)
+    {
+    return
+      Arrays.stream( testClass.split( "\\R"))
+      .map( String::trim)
+      .filter( line -> line.startsWith( "public void "));
+    }
   }
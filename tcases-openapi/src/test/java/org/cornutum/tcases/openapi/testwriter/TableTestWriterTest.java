@@ -0,0 +1,272 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2026, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.testwriter;
+
+import org.cornutum.tcases.io.IndentedWriter;
+import org.cornutum.tcases.openapi.resolver.RequestCase;
+import org.cornutum.tcases.openapi.resolver.RequestTestDef;
+import org.cornutum.tcases.openapi.test.RequestDef;
+import org.cornutum.tcases.openapi.test.RequestDef.Expect;
+import org.cornutum.tcases.openapi.test.RequestTable;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Runs tests for {@link TableJavaTestWriter} implementations.
+ */
+public class TableTestWriterTest extends TestWriterTest
+  {
+  @Test
+  public void whenJUnitTable() throws Exception
+    {
+    // Given...
+    String testDefName = "testDef-0";
+    RequestTestDef requestTestDef = requestTestDefFor( testDefName);
+    TestSource source = TestSource.from( requestTestDef).build();
+    File outDir = new File( getResourceDir(), "junit-table");
+    FileUtils.deleteQuietly( outDir);
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "ApiTable")
+      .inDir( outDir)
+      .inPackage( "org.examples")
+      .extending( "org.examples.util.BaseClass")
+      .timeout( 1000L)
+      .build();
+
+    JUnitTableTestWriter testWriter = new JUnitTableTestWriter( new SerializingTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    String test = FileUtils.readFileToString( new File( outDir, "ApiTableTest.java"), "UTF-8");
+    assertThat( "Class", test, containsString( String.format( "@RunWith(Parameterized.class)%npublic class ApiTableTest extends BaseClass {")));
+    assertThat( "Table", test, containsString( "RequestTable requestTable = RequestTable.forTest( ApiTableTest.class);"));
+    assertThat( "Parameters", test, containsString( "@Parameters(name=\"{0}\")"));
+    assertThat( "Test", test, containsString( String.format( "@Test(timeout=1000)%n    public void execute() {")));
+    assertThat( "Test methods", test.split( "public void ").length, is( 2));
+    assertThat( "Stub server", test, not( containsString( "StubServer")));
+
+    verifyRequestTable( testWriter, requestTestDef, new File( outDir, "ApiTableTest-Requests.json"));
+    }
+
+  @Test
+  public void whenTestNgTable() throws Exception
+    {
+    // Given...
+    String testDefName = "testDef-0";
+    RequestTestDef requestTestDef = requestTestDefFor( testDefName);
+    TestSource source = TestSource.from( requestTestDef).build();
+    File outDir = new File( getResourceDir(), "testng-table");
+    FileUtils.deleteQuietly( outDir);
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "ApiTable")
+      .inDir( outDir)
+      .inPackage( "org.examples")
+      .build();
+
+    TestNgTableTestWriter testWriter = new TestNgTableTestWriter( new SerializingTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    String test = FileUtils.readFileToString( new File( outDir, "ApiTableTest.java"), "UTF-8");
+    assertThat( "Class", test, containsString( "public class ApiTableTest {"));
+    assertThat( "Data provider", test, containsString( "@DataProvider(name=\"requests\")"));
+    assertThat( "Test", test, containsString( String.format( "@Test(dataProvider=\"requests\")%n    public void execute( RequestDef request) {")));
+    assertThat( "Test methods", test.split( "public void ").length, is( 2));
+
+    verifyRequestTable( testWriter, requestTestDef, new File( outDir, "ApiTableTest-Requests.json"));
+    }
+
+  @Test
+  public void whenTestNgTableParallel() throws Exception
+    {
+    // Given...
+    TestSource source = TestSource.from( requestTestDefFor( "testDef-0")).build();
+    File outDir = new File( getResourceDir(), "testng-table-parallel");
+    FileUtils.deleteQuietly( outDir);
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "ApiTable")
+      .inDir( outDir)
+      .inPackage( "org.examples")
+      .parallel( 4)
+      .build();
+
+    TestNgTableTestWriter testWriter = new TestNgTableTestWriter( new SerializingTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    String test = FileUtils.readFileToString( new File( outDir, "ApiTableTest.java"), "UTF-8");
+    assertThat( "Data provider", test, containsString( "@DataProvider(name=\"requests\",parallel=true)"));
+    }
+
+  @Test
+  public void whenJUnitTableStubServer() throws Exception
+    {
+    // Given...
+    TestSource source = TestSource.from( requestTestDefFor( "testDef-0")).build();
+    File outDir = new File( getResourceDir(), "junit-table-stub");
+    FileUtils.deleteQuietly( outDir);
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "ApiTable")
+      .inDir( outDir)
+      .inPackage( "org.examples")
+      .stubServer( true)
+      .build();
+
+    JUnitTableTestWriter testWriter = new JUnitTableTestWriter( new SerializingTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    String test = FileUtils.readFileToString( new File( outDir, "ApiTableTest.java"), "UTF-8");
+    assertThat( "Import", test, containsString( "import org.cornutum.tcases.openapi.test.StubServer;"));
+    assertThat( "Stub server", test, containsString( "StubServer stubServer = StubServer.forTest( ApiTableTest.class, requestTable);"));
+    assertThat( "Start", test, containsString( String.format( "@BeforeClass%n    public static void startStubServer() {")));
+    assertThat( "Runner", test, containsString( "requestRunner.setStubServer( stubServer);"));
+    assertThat( "Stop", test, containsString( String.format( "@AfterClass%n    public static void stopStubServer() {")));
+    assertThat( "Test methods", test.split( "public void ").length, is( 2));
+    }
+
+  @Test
+  public void whenTestNgTableStubServer() throws Exception
+    {
+    // Given...
+    TestSource source = TestSource.from( requestTestDefFor( "testDef-0")).build();
+    File outDir = new File( getResourceDir(), "testng-table-stub");
+    FileUtils.deleteQuietly( outDir);
+
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "ApiTable")
+      .inDir( outDir)
+      .inPackage( "org.examples")
+      .stubServer( true)
+      .build();
+
+    TestNgTableTestWriter testWriter = new TestNgTableTestWriter( new SerializingTestCaseWriter());
+
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    String test = FileUtils.readFileToString( new File( outDir, "ApiTableTest.java"), "UTF-8");
+    assertThat( "Import", test, containsString( "import org.testng.annotations.BeforeClass;"));
+    assertThat( "Start", test, containsString( String.format( "@BeforeClass%n    public void startStubServer() {")));
+    assertThat( "Stop", test, containsString( String.format( "@AfterClass(alwaysRun=true)%n    public void stopStubServer() {")));
+    }
+
+  @Test
+  public void whenTableToStream()
+    {
+    // Given...
+    TestSource source = TestSource.from( requestTestDefFor( "testDef-0")).build();
+    JavaTestTarget target = JavaTestTarget.builder().named( "ApiTable").inPackage( "org.examples").build();
+    JUnitTableTestWriter testWriter = new JUnitTableTestWriter( new SerializingTestCaseWriter());
+
+    // Then...
+    assertTestWriterException(
+      () -> testWriter.writeTest( source, target),
+      "Can't write request definitions for test=ApiTable -- no resource directory defined");
+    }
+
+  /**
+   * Verifies that the given request table file defines requests for all of the given request cases.
+   */
+  private void verifyRequestTable( TableJavaTestWriter testWriter, RequestTestDef requestTestDef, File tableFile) throws Exception
+    {
+    RequestTable table;
+    try( Reader reader = new InputStreamReader( new FileInputStream( tableFile), StandardCharsets.UTF_8))
+      {
+      table = RequestTable.read( reader);
+      }
+
+    List<RequestCase> requestCases = requestTestDef.getRequestCases();
+    assertThat( "Validate responses", table.validateResponses(), is( false));
+    assertThat(
+      "Requests",
+      table.getRequests().stream().map( RequestDef::getName).collect( toList()),
+      containsInAnyOrder( requestCases.stream().map( testWriter::getMethodName).toArray( String[]::new)));
+
+    Map<String,RequestDef> requests = table.getRequests().stream().collect( toMap( RequestDef::getName, request -> request));
+    for( RequestCase requestCase : requestCases)
+      {
+      RequestDef request = requests.get( testWriter.getMethodName( requestCase));
+
+      assertThat( request + ", operation", request.getOperation(), is( requestCase.getOperation().toUpperCase()));
+      assertThat( request + ", path", request.getPath(), is( requestCase.getPath()));
+      assertThat(
+        request + ", expect",
+        request.getExpect(),
+        is( requestCase.isAuthFailure()? Expect.UNAUTHORIZED : requestCase.isFailure()? Expect.BAD_REQUEST : Expect.SUCCESS));
+      assertThat( request + ", invalid input", request.getInvalidInput(), is( requestCase.getInvalidInput()));
+      assertThat(
+        request + ", body",
+        request.getBody() != null,
+        is( requestCase.getBody() != null && requestCase.getBody().getValue() != null));
+      }
+    }
+
+  /**
+   * A {@link BaseTestCaseWriter} that supplies only the serializers used to define request table entries.
+   */
+  private static class SerializingTestCaseWriter extends BaseTestCaseWriter
+    {
+    public SerializingTestCaseWriter()
+      {
+      setValidateResponses( false);
+      }
+
+    @Override
+    public void writeDependencies( String testName, IndentedWriter targetWriter)
+      {
+      }
+
+    @Override
+    public void writeDeclarations( String testName, IndentedWriter targetWriter)
+      {
+      }
+
+    @Override
+    public void writeTestCase( String testName, URI testServer, RequestCase requestCase, IndentedWriter targetWriter)
+      {
+      }
+
+    @Override
+    public void writeClosing( String testName, IndentedWriter targetWriter)
+      {
+      }
+    }
+  }
@@ -7,7 +7,10 @@
 
 package org.cornutum.tcases.openapi.testwriter;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 
 import java.io.File;
 
@@ -40,6 +43,41 @@ public class TestNgTestWriterTest extends TestWriterTest
     // Then
     verifyTest( testDefName, results);
     }
+
+  @Test
+  public void writeTest_parallel() throws Exception
+    {
+    // Given...
+    String testDefName = "testDef-0";
+    
+    TestSource source =
+      TestSource.from( requestTestDefFor( testDefName))
+      .build();
+
+    File outDir = new File( getResourceDir(), "testng-parallel");
+    FileUtils.deleteQuietly( outDir);
+    
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "Parallel")
+      .inDir( outDir)
+      .inPackage( "org.examples")
+      .parallel( 4)
+      .build();
+
+    TestNgTestWriter testWriter = new TestNgTestWriter( new MockTestCaseWriter());
+    
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    File suiteFile = new File( outDir, "ParallelTest-testng.xml");
+    assertThat( "Suite written", suiteFile.exists(), is( true));
+
+    String suite = FileUtils.readFileToString( suiteFile, "UTF-8");
+    assertThat( "Suite", suite, containsString( "<suite name=\"ParallelTest\" parallel=\"methods\" thread-count=\"4\">"));
+    assertThat( "Class", suite, containsString( "<class name=\"org.examples.ParallelTest\"/>"));
+    }
   
   /**
    * Returns the expected test writer results for the specified {@link RequestTestDef}.
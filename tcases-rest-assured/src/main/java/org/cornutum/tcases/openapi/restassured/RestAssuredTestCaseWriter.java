@@ -26,14 +26,10 @@ import org.cornutum.tcases.resolve.ObjectValue;
 import static org.cornutum.tcases.openapi.testwriter.TestWriterUtils.*;
 import static org.cornutum.tcases.openapi.testwriter.java.TestCaseWriterUtils.*;
 
-import org.apache.commons.lang3.StringUtils;
-
 import java.net.URI;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
-import static java.util.stream.Collectors.joining;
 
 /**
  * Writes the source code for REST Assured test cases that execute API requests.
@@ -57,6 +53,10 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
     targetWriter.println();
     if( getDepends().validateResponses())
       {
+      if( getDepends().threadSafe())
+        {
+        targetWriter.println( "import java.lang.invoke.MethodHandles;");
+        }
       targetWriter.println( "import java.util.List;");
       targetWriter.println( "import java.util.Map;");
       targetWriter.println( "import static java.util.stream.Collectors.*;");
@@ -85,7 +85,7 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
     {
     if( validateResponses())
       {
-      writeResponseValidatorDef( testName, targetWriter);
+      writeResponseValidatorDef( testName, targetWriter, getDepends(), getResponsesResource());
       }
     }
   
@@ -139,7 +139,7 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
         targetWriter.println();
         targetWriter.println(
           String.format(
-            "responseValidator.assertBodyValid( %s, %s, response.statusCode(), response.getContentType(), response.asString());",
+            "responseValidator.assertBodyValid( %s, %s, response.statusCode(), response.getContentType(), response.asByteArray());",
             stringLiteral( requestCase.getOperation().toUpperCase()),
             stringLiteral( requestCase.getPath())));
         
@@ -166,6 +166,7 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
     writeTestServerDef( testName, targetWriter, getDepends());
     writeAuthCredentialsDef( testName, targetWriter, getDepends());
     writeResponseHeadersDef( testName, targetWriter, getDepends());
+    writeBodyResourceDef( testName, targetWriter, getDepends());
     }
 
   /**
@@ -383,13 +384,15 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
             else
               {
               // No, serialize body value according to media type
+              String content =
+                getConverter( mediaType)
+                .orElseThrow( () -> new TestWriterException( String.format( "No serializer defined for mediaType=%s", mediaType)))
+                .convert( value);
+
               targetWriter.println(
                 String.format(
                   ".request().body( %s)",
-                  stringLiteral(
-                    getConverter( mediaType)
-                    .orElseThrow( () -> new TestWriterException( String.format( "No serializer defined for mediaType=%s", mediaType)))
-                    .convert( value))));
+                  bodyResourceFor( content.getBytes( StandardCharsets.UTF_8)).orElse( stringLiteral( content))));
               }
             });
         });
@@ -400,10 +403,19 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
    */
   protected void writeBodyBinary( String testName, DataValue<?> value, IndentedWriter targetWriter)
     {
-    List<String> segments = byteInitializerFor( value);
+    byte[] bytes = DataValueBinary.toBytes( value);
+    Optional<String> resource = bodyResourceFor( bytes);
+    List<String> segments = byteInitializerFor( bytes);
+
+    // If large value...
+    if( resource.isPresent())
+      {
+      // ... read from a resource file
+      targetWriter.println( String.format( ".request().body( %s)", resource.get()));
+      }
 
     // If small value...
-    if( segments.size() == 1)
+    else if( segments.size() == 1)
       {
       // ... write a single line
       targetWriter.println( String.format( ".request().body( new byte[]{%s})", segments.get(0)));
@@ -474,10 +486,19 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
 
     if( "application/octet-stream".equals( contentType.base()))
       {
-      List<String> segments = byteInitializerFor( value);
+      byte[] bytes = DataValueBinary.toBytes( value);
+      Optional<String> resource = bodyResourceFor( bytes);
+      List<String> segments = byteInitializerFor( bytes);
+
+      // If large value...
+      if( resource.isPresent())
+        {
+        // ... read from a resource file
+        targetWriter.println( String.format( "new MultiPartSpecBuilder( %s)", resource.get()));
+        }
 
       // If small value...
-      if( segments.size() == 1)
+      else if( segments.size() == 1)
         {
         // ... write a single line
         targetWriter.println( String.format( "new MultiPartSpecBuilder( new byte[]{%s})", segments.get(0)));
@@ -516,7 +537,10 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
           .convert( value);
         }
 
-      targetWriter.println( String.format( "new MultiPartSpecBuilder( %s)", stringLiteral( partData)));      
+      targetWriter.println(
+        String.format(
+          "new MultiPartSpecBuilder( %s)",
+          bodyResourceFor( partData.getBytes( StandardCharsets.UTF_8)).orElse( stringLiteral( partData))));
       }
     
     targetWriter.println( String.format( ".controlName( %s)", stringLiteral( property)));
@@ -537,34 +561,15 @@ public class RestAssuredTestCaseWriter extends BaseTestCaseWriter
     }
 
   /**
-   * Returns the initializer code for the byte array representing the given data value.
+   * If the given request body content is too large to write inline, returns the code that reads it from a resource file.
+   * Otherwise, returns <CODE>Optional.empty()</CODE>.
    */
-  private List<String> byteInitializerFor( DataValue<?> value)
+  private Optional<String> bodyResourceFor( byte[] content)
     {
-    final int lineSize = 16;
+    Optional<String> resource = getBodyResource( content);
+    resource.ifPresent( r -> getDepends().setDependsBodyResource());
 
-    List<String> segments = new ArrayList<String>();
-    byte[] bytes = DataValueBinary.toBytes( value);
-
-    int from;
-    for( from = 0; bytes.length - from > lineSize; from += lineSize)
-      {
-      segments.add( String.format( "%s,", byteInitializerFor( bytes, from, from + lineSize)));
-      }
-    segments.add( byteInitializerFor( bytes, from, bytes.length));
-
-    return segments;
-    }
-
-  /**
-   * Returns the initializer code for the given byte array segment.
-   */
-  private String byteInitializerFor( byte[] bytes, int start, int end)
-    {
-    return
-      IntStream.range( start, end)
-      .mapToObj( i -> StringUtils.leftPad( String.valueOf( bytes[i]), 4))
-      .collect( joining( ","));
+    return resource.map( r -> String.format( "bodyResource( %s)", stringLiteral( r)));
     }
 
   /**
@@ -22,6 +22,14 @@ import static org.cornutum.tcases.openapi.resolver.RequestCases.realizeRequestCa
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static java.util.stream.Collectors.toSet;
+
 /**
  * Runs tests for {@link RestAssuredTestCaseWriter}
  */
@@ -155,6 +163,59 @@ public class RestAssuredTestCaseWriterTest extends MocoServerTest
     verifyRealized( "normalize-simple");
     }
 
+  @Test
+  public void writeBodyResources() throws Exception
+    {
+    // Given...
+    String testDefName = "OpenApiEncodings";
+    
+    TestSource source =
+      TestSource.from( stdRequestTestDef( testDefName))
+      .build();
+
+    File outDir = new File( getResourceDir(), "body-resources");
+    FileUtils.deleteQuietly( outDir);
+    
+    JavaTestTarget target =
+      JavaTestTarget.builder()
+      .named( "OpenApiBodyResources")
+      .inPackage( "org.examples")
+      .inDir( outDir)
+      .build();
+
+    RestAssuredTestCaseWriter testCaseWriter = new RestAssuredTestCaseWriter();
+    testCaseWriter.setMaxInlineBodyBytes( 16);
+    JUnitTestWriter testWriter = new JUnitTestWriter( testCaseWriter);
+    
+    // When...
+    testWriter.writeTest( source, target);
+
+    // Then
+    String test = FileUtils.readFileToString( testWriter.getTestFile( source, target), "UTF-8");
+    assertTrue( "Body resource method defined", test.contains( "private java.io.InputStream bodyResource( String resource) {"));
+
+    Matcher bodyResources = Pattern.compile( "bodyResource\\( \"(body-[0-9a-f]{64}\\.bin)\"\\)").matcher( test);
+    Set<String> resources = new HashSet<String>();
+    int references;
+    for( references = 0; bodyResources.find(); references++)
+      {
+      resources.add( bodyResources.group(1));
+      }
+    assertTrue( "Body resources referenced", references > resources.size());
+
+    File resourceDir = testWriter.getTestResourceDir( source, target);
+    Set<String> resourceFiles =
+      Arrays.stream( resourceDir.listFiles( (dir, name) -> name.startsWith( "body-")))
+      .map( File::getName)
+      .collect( toSet());
+    assertEquals( "Body resource files", resources, resourceFiles);
+
+    for( String resource : resources)
+      {
+      assertTrue( resource + " size", new File( resourceDir, resource).length() > 16);
+      }
+    }
+
   @Test
   public void whenGetConverter()
     {
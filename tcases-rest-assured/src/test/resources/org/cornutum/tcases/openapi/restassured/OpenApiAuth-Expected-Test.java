@@ -35,7 +35,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -54,7 +54,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -73,7 +73,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -93,7 +93,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -113,7 +113,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -133,7 +133,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -151,7 +151,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -170,7 +170,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -189,7 +189,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "DELETE", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "DELETE", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -206,7 +206,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -226,7 +226,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -246,7 +246,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -265,7 +265,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -286,7 +286,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -307,7 +307,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -328,7 +328,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -349,7 +349,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
@@ -369,7 +369,7 @@ public class OpenApiAuthTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/resource", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/resource", response.statusCode(), responseHeaders( response));
     }
 
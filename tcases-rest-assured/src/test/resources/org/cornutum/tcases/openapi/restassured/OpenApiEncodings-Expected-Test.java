@@ -36,7 +36,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -82,7 +82,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -106,7 +106,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -152,7 +152,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -176,7 +176,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -216,7 +216,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -246,7 +246,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -286,7 +286,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -304,7 +304,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -324,7 +324,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -343,7 +343,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -362,7 +362,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -393,7 +393,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -424,7 +424,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -449,7 +449,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -474,7 +474,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -499,7 +499,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -524,7 +524,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -549,7 +549,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -574,7 +574,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -605,7 +605,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -636,7 +636,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -667,7 +667,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -698,7 +698,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -729,7 +729,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -760,7 +760,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -791,7 +791,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -822,7 +822,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -853,7 +853,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -884,7 +884,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -915,7 +915,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -946,7 +946,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -977,7 +977,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1008,7 +1008,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1039,7 +1039,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1070,7 +1070,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1101,7 +1101,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1132,7 +1132,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1167,7 +1167,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1202,7 +1202,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1239,7 +1239,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_contentTypes", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_contentTypes", response.statusCode(), responseHeaders( response));
     }
 
@@ -1257,7 +1257,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1303,7 +1303,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1327,7 +1327,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1373,7 +1373,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1397,7 +1397,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1437,7 +1437,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1467,7 +1467,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1507,7 +1507,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1525,7 +1525,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1545,7 +1545,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1564,7 +1564,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1583,7 +1583,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1614,7 +1614,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1645,7 +1645,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1670,7 +1670,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1695,7 +1695,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1720,7 +1720,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1745,7 +1745,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1770,7 +1770,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1795,7 +1795,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1826,7 +1826,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1857,7 +1857,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1888,7 +1888,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1919,7 +1919,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1950,7 +1950,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -1981,7 +1981,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2012,7 +2012,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2043,7 +2043,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2074,7 +2074,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2105,7 +2105,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2136,7 +2136,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2167,7 +2167,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2198,7 +2198,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2229,7 +2229,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2260,7 +2260,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2291,7 +2291,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2322,7 +2322,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2353,7 +2353,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2388,7 +2388,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2423,7 +2423,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2460,7 +2460,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -2478,7 +2478,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2527,7 +2527,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2551,7 +2551,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2597,7 +2597,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2622,7 +2622,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2671,7 +2671,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2696,7 +2696,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2743,7 +2743,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2769,7 +2769,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2815,7 +2815,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2833,7 +2833,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2853,7 +2853,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2872,7 +2872,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2891,7 +2891,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2916,7 +2916,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2941,7 +2941,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2966,7 +2966,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -2991,7 +2991,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3017,7 +3017,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3043,7 +3043,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3069,7 +3069,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3095,7 +3095,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3121,7 +3121,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3147,7 +3147,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3173,7 +3173,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3199,7 +3199,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3224,7 +3224,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3249,7 +3249,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3276,7 +3276,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3303,7 +3303,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3330,7 +3330,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3357,7 +3357,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3384,7 +3384,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3411,7 +3411,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3438,7 +3438,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3465,7 +3465,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3492,7 +3492,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3519,7 +3519,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3546,7 +3546,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3573,7 +3573,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3600,7 +3600,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3627,7 +3627,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3654,7 +3654,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3681,7 +3681,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3708,7 +3708,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3735,7 +3735,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3762,7 +3762,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3789,7 +3789,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3816,7 +3816,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3843,7 +3843,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3870,7 +3870,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3897,7 +3897,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3922,7 +3922,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3947,7 +3947,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -3976,7 +3976,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -4005,7 +4005,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -4040,7 +4040,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/multipart_headers", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/multipart_headers", response.statusCode(), responseHeaders( response));
     }
 
@@ -4058,7 +4058,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4080,7 +4080,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4099,7 +4099,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4124,7 +4124,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4144,7 +4144,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4165,7 +4165,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4188,7 +4188,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4209,7 +4209,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4227,7 +4227,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4247,7 +4247,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4266,7 +4266,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4286,7 +4286,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4308,7 +4308,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4330,7 +4330,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4350,7 +4350,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4370,7 +4370,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4390,7 +4390,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4412,7 +4412,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4433,7 +4433,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4454,7 +4454,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4476,7 +4476,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4498,7 +4498,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4521,7 +4521,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4544,7 +4544,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4567,7 +4567,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4590,7 +4590,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4613,7 +4613,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4636,7 +4636,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4660,7 +4660,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4684,7 +4684,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4708,7 +4708,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4732,7 +4732,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4756,7 +4756,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4780,7 +4780,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4804,7 +4804,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4830,7 +4830,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4852,7 +4852,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4875,7 +4875,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4897,7 +4897,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4919,7 +4919,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4941,7 +4941,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_default", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_default", response.statusCode(), responseHeaders( response));
     }
 
@@ -4959,7 +4959,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -4981,7 +4981,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5000,7 +5000,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5025,7 +5025,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5045,7 +5045,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5066,7 +5066,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5089,7 +5089,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5110,7 +5110,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5128,7 +5128,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5148,7 +5148,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5167,7 +5167,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5187,7 +5187,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5209,7 +5209,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5231,7 +5231,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5251,7 +5251,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5271,7 +5271,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5291,7 +5291,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5313,7 +5313,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5334,7 +5334,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5355,7 +5355,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5377,7 +5377,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5399,7 +5399,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5422,7 +5422,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5445,7 +5445,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5468,7 +5468,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5491,7 +5491,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5514,7 +5514,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5537,7 +5537,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5561,7 +5561,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5585,7 +5585,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5609,7 +5609,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5633,7 +5633,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5657,7 +5657,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5681,7 +5681,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5705,7 +5705,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5729,7 +5729,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5751,7 +5751,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5774,7 +5774,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5796,7 +5796,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5818,7 +5818,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5840,7 +5840,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_exploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_exploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5858,7 +5858,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5880,7 +5880,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5899,7 +5899,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5921,7 +5921,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5940,7 +5940,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5961,7 +5961,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -5981,7 +5981,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6002,7 +6002,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6020,7 +6020,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6040,7 +6040,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6059,7 +6059,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6079,7 +6079,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6100,7 +6100,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6121,7 +6121,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6141,7 +6141,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6161,7 +6161,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6181,7 +6181,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6201,7 +6201,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6221,7 +6221,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6241,7 +6241,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6262,7 +6262,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6283,7 +6283,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6304,7 +6304,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6325,7 +6325,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6346,7 +6346,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6367,7 +6367,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6388,7 +6388,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6409,7 +6409,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6430,7 +6430,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6451,7 +6451,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6472,7 +6472,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6493,7 +6493,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6514,7 +6514,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6535,7 +6535,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6556,7 +6556,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6577,7 +6577,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6598,7 +6598,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6619,7 +6619,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6640,7 +6640,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6661,7 +6661,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -6682,7 +6682,7 @@ public class OpenApiEncodingsTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "POST", "/urlencoded_unexploded", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "POST", "/urlencoded_unexploded", response.statusCode(), responseHeaders( response));
     }
 
@@ -39,7 +39,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -64,7 +64,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -105,7 +105,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -147,7 +147,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -184,7 +184,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -223,7 +223,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -248,7 +248,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -283,7 +283,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -317,7 +317,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -351,7 +351,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -387,7 +387,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -418,7 +418,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -445,7 +445,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -468,7 +468,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -500,7 +500,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -546,7 +546,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -577,7 +577,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -619,7 +619,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -665,7 +665,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -704,7 +704,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -744,7 +744,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -787,7 +787,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -832,7 +832,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -861,7 +861,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -882,7 +882,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -906,7 +906,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -928,7 +928,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -954,7 +954,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -976,7 +976,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1001,7 +1001,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1029,7 +1029,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1056,7 +1056,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1085,7 +1085,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1113,7 +1113,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1142,7 +1142,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1171,7 +1171,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1199,7 +1199,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1225,7 +1225,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1251,7 +1251,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1280,7 +1280,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1305,7 +1305,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1331,7 +1331,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1355,7 +1355,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1380,7 +1380,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1405,7 +1405,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1432,7 +1432,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1459,7 +1459,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1486,7 +1486,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1514,7 +1514,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1539,7 +1539,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1566,7 +1566,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1590,7 +1590,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1618,7 +1618,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1645,7 +1645,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1672,7 +1672,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1699,7 +1699,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1719,7 +1719,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1739,7 +1739,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1759,7 +1759,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1779,7 +1779,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1800,7 +1800,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1820,7 +1820,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1841,7 +1841,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1862,7 +1862,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1882,7 +1882,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/cookie/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/cookie/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1905,7 +1905,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -1940,7 +1940,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -1981,7 +1981,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2022,7 +2022,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2055,7 +2055,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2098,7 +2098,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2129,7 +2129,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2155,7 +2155,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2186,7 +2186,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2220,7 +2220,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2263,7 +2263,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2287,7 +2287,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2318,7 +2318,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2345,7 +2345,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2380,7 +2380,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2412,7 +2412,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2453,7 +2453,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2494,7 +2494,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2528,7 +2528,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2564,7 +2564,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2607,7 +2607,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2655,7 +2655,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2689,7 +2689,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -2719,7 +2719,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2740,7 +2740,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2766,7 +2766,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2788,7 +2788,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2816,7 +2816,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2838,7 +2838,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2863,7 +2863,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2889,7 +2889,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2915,7 +2915,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2942,7 +2942,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2969,7 +2969,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -2995,7 +2995,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3025,7 +3025,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3050,7 +3050,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3079,7 +3079,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3105,7 +3105,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3133,7 +3133,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3160,7 +3160,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3188,7 +3188,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3210,7 +3210,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3236,7 +3236,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3261,7 +3261,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3289,7 +3289,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3317,7 +3317,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3345,7 +3345,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3372,7 +3372,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3396,7 +3396,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3421,7 +3421,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3446,7 +3446,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3473,7 +3473,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3502,7 +3502,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3530,7 +3530,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3556,7 +3556,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -3576,7 +3576,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3596,7 +3596,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3616,7 +3616,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3636,7 +3636,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3657,7 +3657,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3677,7 +3677,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3698,7 +3698,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3719,7 +3719,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -3739,7 +3739,7 @@ public class NormalizeFormTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/query/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/query/string", response.statusCode(), responseHeaders( response));
     }
 
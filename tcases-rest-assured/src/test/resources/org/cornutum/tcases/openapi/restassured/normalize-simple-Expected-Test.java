@@ -38,7 +38,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -60,7 +60,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -82,7 +82,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -104,7 +104,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -126,7 +126,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -148,7 +148,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -170,7 +170,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -192,7 +192,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -214,7 +214,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -237,7 +237,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -260,7 +260,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -283,7 +283,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -305,7 +305,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -328,7 +328,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -351,7 +351,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -374,7 +374,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -397,7 +397,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -419,7 +419,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -442,7 +442,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -465,7 +465,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -487,7 +487,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -510,7 +510,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -533,7 +533,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -555,7 +555,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -578,7 +578,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -601,7 +601,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -624,7 +624,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/array", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/array", response.statusCode(), responseHeaders( response));
     }
 
@@ -644,7 +644,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -664,7 +664,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -684,7 +684,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -704,7 +704,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -724,7 +724,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -744,7 +744,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -764,7 +764,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -785,7 +785,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -806,7 +806,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -827,7 +827,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -848,7 +848,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -869,7 +869,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -890,7 +890,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -910,7 +910,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -931,7 +931,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -952,7 +952,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -973,7 +973,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -994,7 +994,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1015,7 +1015,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1035,7 +1035,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1056,7 +1056,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1077,7 +1077,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1098,7 +1098,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1119,7 +1119,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1140,7 +1140,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1161,7 +1161,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/object", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/object", response.statusCode(), responseHeaders( response));
     }
 
@@ -1182,7 +1182,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1203,7 +1203,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1224,7 +1224,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1245,7 +1245,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1267,7 +1267,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1288,7 +1288,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1310,7 +1310,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1332,7 +1332,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1353,7 +1353,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1374,7 +1374,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/header/string", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/header/string", response.statusCode(), responseHeaders( response));
     }
 
@@ -1395,7 +1395,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1416,7 +1416,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1437,7 +1437,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1458,7 +1458,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1480,7 +1480,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1502,7 +1502,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1524,7 +1524,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1546,7 +1546,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1568,7 +1568,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1590,7 +1590,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1612,7 +1612,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1634,7 +1634,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1656,7 +1656,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1678,7 +1678,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1700,7 +1700,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1722,7 +1722,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1744,7 +1744,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/array/{empty}/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1764,7 +1764,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1784,7 +1784,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1804,7 +1804,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1824,7 +1824,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1844,7 +1844,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1865,7 +1865,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1886,7 +1886,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1907,7 +1907,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1928,7 +1928,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1949,7 +1949,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1970,7 +1970,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -1991,7 +1991,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2012,7 +2012,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2033,7 +2033,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2054,7 +2054,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2075,7 +2075,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2096,7 +2096,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2117,7 +2117,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2138,7 +2138,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2159,7 +2159,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2180,7 +2180,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2201,7 +2201,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2222,7 +2222,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/object/{nonEmpty}/{nullable}/{exploded}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2242,7 +2242,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2262,7 +2262,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2283,7 +2283,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2304,7 +2304,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2325,7 +2325,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), responseHeaders( response));
     }
 
@@ -2346,7 +2346,7 @@ public class NormalizeSimpleTest {
                 .response()
                 ;
 
-        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asString());
+        responseValidator.assertBodyValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), response.getContentType(), response.asByteArray());
         responseValidator.assertHeadersValid( "GET", "/path/string/{empty}/{nonEmpty}/{nullable}", response.statusCode(), responseHeaders( response));
     }
 